@@ -19,10 +19,11 @@
 
 package com.marvelution.hudson.plugins.apiv2;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
@@ -40,19 +41,36 @@ import org.kohsuke.stapler.QueryParameter;
 import org.kohsuke.stapler.StaplerRequest;
 
 import com.google.common.collect.Lists;
+import com.marvelution.hudson.plugins.apiv2.cache.CacheBackfill;
+import com.marvelution.hudson.plugins.apiv2.cache.JobKeyedCache;
 import com.marvelution.hudson.plugins.apiv2.cache.activity.ActivitiesCache;
 import com.marvelution.hudson.plugins.apiv2.cache.activity.BuildActivityCache;
 import com.marvelution.hudson.plugins.apiv2.cache.activity.JobActivityCache;
+import com.marvelution.hudson.plugins.apiv2.cache.build.BuildSummariesCache;
+import com.marvelution.hudson.plugins.apiv2.cache.build.BuildSummary;
 import com.marvelution.hudson.plugins.apiv2.cache.issue.IssueCache;
 import com.marvelution.hudson.plugins.apiv2.cache.issue.IssueKey;
 import com.marvelution.hudson.plugins.apiv2.cache.issue.IssuesCache;
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobNameIndex;
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobStatusCache;
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobStatusesCache;
+import com.marvelution.hudson.plugins.apiv2.cache.permission.PermissionCache;
+import com.marvelution.hudson.plugins.apiv2.cache.statistics.DurationSketch;
+import com.marvelution.hudson.plugins.apiv2.cache.statistics.JobStatisticsCache;
+import com.marvelution.hudson.plugins.apiv2.cache.statistics.StatisticsCache;
+import com.marvelution.hudson.plugins.apiv2.cache.test.FlakyTestsCache;
+import com.marvelution.hudson.plugins.apiv2.cache.test.TestHistoryCache;
+import com.marvelution.hudson.plugins.apiv2.cache.trend.TrendPointCache;
+import com.marvelution.hudson.plugins.apiv2.cache.trend.TrendsCache;
 import com.marvelution.hudson.plugins.apiv2.servlet.filter.HudsonAPIV2ServletFilter;
 import com.marvelution.hudson.plugins.apiv2.utils.JiraKeyUtils;
+import com.marvelution.hudson.plugins.apiv2.warmup.WarmUp;
 import com.thoughtworks.xstream.XStream;
 
 import hudson.Plugin;
 import hudson.model.Hudson;
 import hudson.model.Descriptor.FormException;
+import hudson.util.AtomicFileWriter;
 import hudson.util.CopyOnWriteList;
 import hudson.util.FormValidation;
 import hudson.util.PluginServletFilter;
@@ -72,6 +90,11 @@ public class APIv2Plugin extends Plugin {
 	private static final String APIV2_DIRECTORY_NAME = "APIv2";
 	private static final String ACTIVITIES_CACHE_FILE = "activities-cache.xml";
 	private static final String ISSUES_CACHE_FILE = "issues-cache.xml";
+	private static final String BUILD_SUMMARIES_CACHE_FILE = "build-summaries-cache.xml";
+	private static final String JOB_STATUSES_CACHE_FILE = "job-statuses-cache.xml";
+	private static final String TRENDS_CACHE_FILE = "trends-cache.xml";
+	private static final String STATISTICS_CACHE_FILE = "statistics-cache.xml";
+	private static final String FLAKY_TESTS_CACHE_FILE = "flaky-tests-cache.xml";
 	private static final String APIV2_ISSUE_KEY_PATTERN = "apiv2.issue.key.pattern";
 	private static final String APIV2_PATTERN_KEY = "apiv2.pattern";
 
@@ -80,6 +103,15 @@ public class APIv2Plugin extends Plugin {
 	private transient List<Filter> filters = Lists.newArrayList();
 	private transient ActivitiesCache activitiesCache = new ActivitiesCache();
 	private transient IssuesCache issuesCache = new IssuesCache();
+	private transient BuildSummariesCache buildSummariesCache = new BuildSummariesCache();
+	private transient JobStatusesCache jobStatusesCache = new JobStatusesCache();
+	private transient TrendsCache trendsCache = new TrendsCache();
+	private transient StatisticsCache statisticsCache = new StatisticsCache();
+	private transient FlakyTestsCache flakyTestsCache = new FlakyTestsCache();
+	private transient JobNameIndex jobNameIndex = new JobNameIndex();
+	private transient PermissionCache permissionCache = new PermissionCache();
+	private transient WarmUp warmUp = new WarmUp();
+	private transient CacheBackfill cacheBackfill = new CacheBackfill();
 	private final CopyOnWriteList<String> patterns = new CopyOnWriteList<String>();
 
 	/**
@@ -88,30 +120,20 @@ public class APIv2Plugin extends Plugin {
 	public void start() throws Exception {
 		plugin = this;
 		load();
+		LOGGER.log(Level.FINE, "Starting the APIv2 warm-up");
+		warmUp.start();
 		LOGGER.log(Level.FINE, "Adding the APIv2 Filters");
 		filters.add(new HudsonAPIV2ServletFilter());
 		for (Filter filter : filters) {
 			PluginServletFilter.addFilter(filter);
 		}
-		LOGGER.log(Level.FINE, "Loading the Activity Cache");
-		File activityCacheFile = getFile(ACTIVITIES_CACHE_FILE);
-		if (activityCacheFile.exists()) {
-			try {
-				activitiesCache = (ActivitiesCache) XSTREAM.fromXML(new FileInputStream(activityCacheFile));
-			} catch (Exception e) {
-				LOGGER
-					.severe("Failed to load the activity-cache.xml and will thus not be available for the REST APIs");
-			}
-		}
-		LOGGER.log(Level.FINE, "Loading the Issues Cache");
-		File issuesCacheFile = getFile(ISSUES_CACHE_FILE);
-		if (issuesCacheFile.exists()) {
-			try {
-				issuesCache = (IssuesCache) XSTREAM.fromXML(new FileInputStream(issuesCacheFile));
-			} catch (Exception e) {
-				LOGGER.severe("Failed to load the issue-cache.xml and will thus not be available for the REST APIs");
-			}
-		}
+		activitiesCache = loadCache(ACTIVITIES_CACHE_FILE, ActivitiesCache.class, activitiesCache);
+		issuesCache = loadCache(ISSUES_CACHE_FILE, IssuesCache.class, issuesCache);
+		buildSummariesCache = loadCache(BUILD_SUMMARIES_CACHE_FILE, BuildSummariesCache.class, buildSummariesCache);
+		jobStatusesCache = loadCache(JOB_STATUSES_CACHE_FILE, JobStatusesCache.class, jobStatusesCache);
+		trendsCache = loadCache(TRENDS_CACHE_FILE, TrendsCache.class, trendsCache);
+		statisticsCache = loadCache(STATISTICS_CACHE_FILE, StatisticsCache.class, statisticsCache);
+		flakyTestsCache = loadCache(FLAKY_TESTS_CACHE_FILE, FlakyTestsCache.class, flakyTestsCache);
 		if (StringUtils.isBlank(issuesCache.getIssueKeyRegex())) {
 			// Make sure the pattern is set
 			issuesCache.setIssueKeyRegex(JiraKeyUtils.DEFAULT_JIRA_ISSUE_KEY_PATTERN.pattern());
@@ -122,19 +144,94 @@ public class APIv2Plugin extends Plugin {
 	 * {@inheritDoc}
 	 */
 	public void stop() throws Exception {
+		warmUp.stop();
+		cacheBackfill.stop();
 		LOGGER.log(Level.FINE, "Removing the APIv2 Filters");
 		for (Filter filter : filters) {
 			PluginServletFilter.removeFilter(filter);
 		}
 		filters.clear();
-		LOGGER.log(Level.FINE, "Storing the Activity Cache");
-		XSTREAM.toXML(activitiesCache, new FileOutputStream(getFile(ACTIVITIES_CACHE_FILE)));
-		LOGGER.log(Level.FINE, "Storing the Issue Cache");
-		XSTREAM.toXML(issuesCache, new FileOutputStream(getFile(ISSUES_CACHE_FILE)));
+		storeCaches();
 		save();
 		plugin = null;
 	}
 
+	/**
+	 * Store all the caches, called when the plugin stops and periodically by the
+	 * {@link com.marvelution.hudson.plugins.apiv2.cache.CachesSaveWork} so the caches survive a crash of Hudson
+	 * 
+	 * @throws IOException in case a cache cannot be stored
+	 */
+	public void storeCaches() throws IOException {
+		LOGGER.log(Level.FINE, "Storing the Activity Cache");
+		storeCache(activitiesCache, ACTIVITIES_CACHE_FILE);
+		LOGGER.log(Level.FINE, "Storing the Issue Cache");
+		storeCache(issuesCache, ISSUES_CACHE_FILE);
+		LOGGER.log(Level.FINE, "Storing the Build Summaries Cache");
+		storeCache(buildSummariesCache, BUILD_SUMMARIES_CACHE_FILE);
+		LOGGER.log(Level.FINE, "Storing the Job Statuses Cache");
+		storeCache(jobStatusesCache, JOB_STATUSES_CACHE_FILE);
+		LOGGER.log(Level.FINE, "Storing the Trends Cache");
+		storeCache(trendsCache, TRENDS_CACHE_FILE);
+		LOGGER.log(Level.FINE, "Storing the Statistics Cache");
+		storeCache(statisticsCache, STATISTICS_CACHE_FILE);
+		LOGGER.log(Level.FINE, "Storing the Flaky Tests Cache");
+		storeCache(flakyTestsCache, FLAKY_TESTS_CACHE_FILE);
+	}
+
+	/**
+	 * Internal method to load a cache stored by {@link #storeCache(Object, String)}
+	 * 
+	 * @param filename the name of the file the cache is stored in
+	 * @param type the type of the cache
+	 * @param defaultCache the cache to use if the cache is not stored or cannot be loaded
+	 * @return the loaded cache, or the default cache
+	 */
+	private <T> T loadCache(String filename, Class<T> type, T defaultCache) {
+		File file = getFile(filename);
+		if (!file.exists()) {
+			return defaultCache;
+		}
+		LOGGER.log(Level.FINE, "Loading the " + type.getSimpleName() + " from " + filename);
+		InputStream input = null;
+		try {
+			input = new BufferedInputStream(new FileInputStream(file));
+			return type.cast(XSTREAM.fromXML(input));
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Failed to load the " + filename + ", the " + type.getSimpleName()
+				+ " will only hold the data of the next builds", e);
+			return defaultCache;
+		} finally {
+			if (input != null) {
+				try {
+					input.close();
+				} catch (IOException e) {
+					// Ignore, the cache has been read
+				}
+			}
+		}
+	}
+
+	/**
+	 * Internal method to store a cache. The cache is locked while it is written so it is not modified by the
+	 * listeners, and the file is only replaced once the cache is written completely
+	 * 
+	 * @param cache the cache to store
+	 * @param filename the name of the file to store the cache in
+	 * @throws IOException in case the cache cannot be written
+	 */
+	private void storeCache(Object cache, String filename) throws IOException {
+		AtomicFileWriter writer = new AtomicFileWriter(getFile(filename));
+		try {
+			synchronized (cache) {
+				XSTREAM.toXML(cache, writer);
+			}
+			writer.commit();
+		} finally {
+			writer.abort();
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -224,6 +321,107 @@ public class APIv2Plugin extends Plugin {
 		return plugin.issuesCache;
 	}
 
+	/**
+	 * Getter for the {@link BuildSummariesCache}
+	 * 
+	 * @return the {@link BuildSummariesCache}
+	 * @since 4.5.0
+	 */
+	public static BuildSummariesCache getBuildSummariesCache() {
+		return plugin.buildSummariesCache;
+	}
+
+	/**
+	 * Getter for the {@link JobStatusesCache}
+	 * 
+	 * @return the {@link JobStatusesCache}
+	 * @since 4.5.0
+	 */
+	public static JobStatusesCache getJobStatusesCache() {
+		return plugin.jobStatusesCache;
+	}
+
+	/**
+	 * Getter for the {@link TrendsCache}
+	 * 
+	 * @return the {@link TrendsCache}
+	 * @since 4.5.0
+	 */
+	public static TrendsCache getTrendsCache() {
+		return plugin.trendsCache;
+	}
+
+	/**
+	 * Getter for the {@link StatisticsCache}
+	 * 
+	 * @return the {@link StatisticsCache}
+	 * @since 4.5.0
+	 */
+	public static StatisticsCache getStatisticsCache() {
+		return plugin.statisticsCache;
+	}
+
+	/**
+	 * Getter for the {@link FlakyTestsCache}
+	 * 
+	 * @return the {@link FlakyTestsCache}
+	 * @since 4.5.0
+	 */
+	public static FlakyTestsCache getFlakyTestsCache() {
+		return plugin.flakyTestsCache;
+	}
+
+	/**
+	 * Getter for all the {@link JobKeyedCache} caches, that hold their data per job
+	 * 
+	 * @return the {@link List} of {@link JobKeyedCache} caches
+	 * @since 4.5.0
+	 */
+	public static List<JobKeyedCache<?>> getJobKeyedCaches() {
+		return Lists.<JobKeyedCache<?>> newArrayList(plugin.buildSummariesCache, plugin.jobStatusesCache,
+			plugin.trendsCache, plugin.statisticsCache, plugin.flakyTestsCache);
+	}
+
+	/**
+	 * Getter for the {@link JobNameIndex}
+	 * 
+	 * @return the {@link JobNameIndex}
+	 * @since 4.5.0
+	 */
+	public static JobNameIndex getJobNameIndex() {
+		return plugin.jobNameIndex;
+	}
+
+	/**
+	 * Getter for the {@link PermissionCache}
+	 * 
+	 * @return the {@link PermissionCache}
+	 * @since 4.5.0
+	 */
+	public static PermissionCache getPermissionCache() {
+		return plugin.permissionCache;
+	}
+
+	/**
+	 * Getter for the {@link WarmUp}
+	 * 
+	 * @return the {@link WarmUp}
+	 * @since 4.5.0
+	 */
+	public static WarmUp getWarmUp() {
+		return plugin.warmUp;
+	}
+
+	/**
+	 * Getter for the {@link CacheBackfill}
+	 * 
+	 * @return the {@link CacheBackfill}
+	 * @since 4.5.0
+	 */
+	public static CacheBackfill getCacheBackfill() {
+		return plugin.cacheBackfill;
+	}
+
 	/**
 	 * Getter for a {@link File} by name
 	 * 
@@ -249,6 +447,17 @@ public class APIv2Plugin extends Plugin {
 		XSTREAM.processAnnotations(IssuesCache.class);
 		XSTREAM.processAnnotations(IssueCache.class);
 		XSTREAM.processAnnotations(IssueKey.class);
+		XSTREAM.processAnnotations(BuildSummariesCache.class);
+		XSTREAM.processAnnotations(BuildSummary.class);
+		XSTREAM.processAnnotations(JobStatusesCache.class);
+		XSTREAM.processAnnotations(JobStatusCache.class);
+		XSTREAM.processAnnotations(TrendsCache.class);
+		XSTREAM.processAnnotations(TrendPointCache.class);
+		XSTREAM.processAnnotations(StatisticsCache.class);
+		XSTREAM.processAnnotations(JobStatisticsCache.class);
+		XSTREAM.processAnnotations(DurationSketch.class);
+		XSTREAM.processAnnotations(FlakyTestsCache.class);
+		XSTREAM.processAnnotations(TestHistoryCache.class);
 	}
 
 }
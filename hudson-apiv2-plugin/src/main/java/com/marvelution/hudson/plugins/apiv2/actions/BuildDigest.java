@@ -0,0 +1,315 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.actions;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.CacheBackfill;
+import com.marvelution.hudson.plugins.apiv2.utils.JiraKeyUtils;
+
+import hudson.model.AbstractBuild;
+import hudson.model.InvisibleAction;
+import hudson.model.User;
+import hudson.scm.ChangeLogSet;
+import hudson.scm.ChangeLogSet.Entry;
+import hudson.tasks.test.AbstractTestResultAction;
+import hudson.tasks.test.AggregatedTestResultAction;
+
+/**
+ * Lightweight {@link InvisibleAction} that holds the derived data of a build that is expensive to compute, like the
+ * test counts, the related issue keys, the culprits and the size of the change log.
+ * The digest is recorded when a build completes and stored in the build.xml, so the REST APIs don't need to load
+ * the test reports, change log or previous builds to get this data. The issue key pattern used is stored as well,
+ * the issue keys are recomputed once the pattern is changed. Digests of older builds are stored in the background by
+ * the {@link CacheBackfill}, so builds are never saved while serving a request.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class BuildDigest extends InvisibleAction {
+
+	private static final Logger LOGGER = Logger.getLogger(BuildDigest.class.getName());
+	private static final Object[] LOCKS = new Object[16];
+
+	static {
+		for (int index = 0; index < LOCKS.length; index++) {
+			LOCKS[index] = new Object();
+		}
+	}
+
+	private final boolean testResults;
+	private final int totalTests;
+	private final int failedTests;
+	private final int skippedTests;
+	private final Set<String> issueKeys;
+	private final String issueKeyRegex;
+	private final Set<String> culprits;
+	private final int changeLogSize;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param testResults flag whether the build has test results
+	 * @param totalTests the total number of tests
+	 * @param failedTests the number of failed tests
+	 * @param skippedTests the number of skipped tests
+	 * @param issueKeys the related issue keys
+	 * @param issueKeyRegex the issue key pattern used to get the related issue keys
+	 * @param culprits the ids of the culprits
+	 * @param changeLogSize the number of change log entries
+	 */
+	public BuildDigest(boolean testResults, int totalTests, int failedTests, int skippedTests, Set<String> issueKeys,
+					String issueKeyRegex, Set<String> culprits, int changeLogSize) {
+		this.testResults = testResults;
+		this.totalTests = totalTests;
+		this.failedTests = failedTests;
+		this.skippedTests = skippedTests;
+		this.issueKeys = new TreeSet<String>(issueKeys);
+		this.issueKeyRegex = issueKeyRegex;
+		this.culprits = new TreeSet<String>(culprits);
+		this.changeLogSize = changeLogSize;
+	}
+
+	/**
+	 * Getter for the test results flag
+	 * 
+	 * @return <code>true</code> if the build has test results, the test counts are 0 otherwise
+	 */
+	public boolean hasTestResults() {
+		return testResults;
+	}
+
+	/**
+	 * Getter for the total number of tests
+	 * 
+	 * @return the total number of tests
+	 */
+	public int getTotalTests() {
+		return totalTests;
+	}
+
+	/**
+	 * Getter for the number of failed tests
+	 * 
+	 * @return the number of failed tests
+	 */
+	public int getFailedTests() {
+		return failedTests;
+	}
+
+	/**
+	 * Getter for the number of skipped tests
+	 * 
+	 * @return the number of skipped tests
+	 */
+	public int getSkippedTests() {
+		return skippedTests;
+	}
+
+	/**
+	 * Getter for the related issue keys
+	 * 
+	 * @return the related issue keys
+	 */
+	public Set<String> getIssueKeys() {
+		return Collections.unmodifiableSet(issueKeys);
+	}
+
+	/**
+	 * Getter for the issue key pattern used to get the related issue keys
+	 * 
+	 * @return the issue key pattern, <code>null</code> for digests recorded before the pattern was stored
+	 */
+	public String getIssueKeyRegex() {
+		return issueKeyRegex;
+	}
+
+	/**
+	 * Getter for the ids of the culprits
+	 * 
+	 * @return the culprit ids
+	 */
+	public Set<String> getCulprits() {
+		return Collections.unmodifiableSet(culprits);
+	}
+
+	/**
+	 * Getter for the number of change log entries
+	 * 
+	 * @return the change log size
+	 */
+	public int getChangeLogSize() {
+		return changeLogSize;
+	}
+
+	/**
+	 * Get the {@link BuildDigest} of the given build. Builds that completed before the digest was introduced get their
+	 * digest computed in memory, and so do builds with a digest that was recorded using another issue key pattern.
+	 * The computed digest of a completed build is stored in the background by the {@link CacheBackfill}, the digest of
+	 * a build that is still building is never stored, since its data may still change.
+	 * 
+	 * @param build the {@link AbstractBuild} to get the digest for
+	 * @return the {@link BuildDigest}
+	 */
+	public static BuildDigest getDigest(final AbstractBuild<?, ?> build) {
+		Pattern pattern = APIv2Plugin.getIssuesCache().getIssueKeyPattern();
+		BuildDigest recorded = build.getAction(BuildDigest.class);
+		if (recorded != null && pattern.pattern().equals(recorded.getIssueKeyRegex())) {
+			return recorded;
+		}
+		final BuildDigest digest = computeDigest(build, recorded, pattern);
+		if (!build.isBuilding()) {
+			APIv2Plugin.getCacheBackfill().schedule("digest:" + build.getFullDisplayName(), new Runnable() {
+
+				@Override
+				public void run() {
+					storeDigest(build, digest);
+				}
+
+			});
+		}
+		return digest;
+	}
+
+	/**
+	 * Store a computed {@link BuildDigest} in the given build, unless the build already has a digest that was recorded
+	 * using the same issue key pattern
+	 * 
+	 * @param build the {@link AbstractBuild} to store the digest in
+	 * @param digest the {@link BuildDigest} to store
+	 */
+	public static void storeDigest(AbstractBuild<?, ?> build, BuildDigest digest) {
+		synchronized (getLock(build)) {
+			BuildDigest recorded = build.getAction(BuildDigest.class);
+			if (recorded != null && recorded.getIssueKeyRegex() != null
+				&& recorded.getIssueKeyRegex().equals(digest.getIssueKeyRegex())) {
+				return;
+			}
+			LOGGER.log(Level.FINE, "Storing the digest of build " + build.getFullDisplayName());
+			if (recorded != null) {
+				build.getActions().remove(recorded);
+			}
+			build.addAction(digest);
+			try {
+				build.save();
+			} catch (IOException e) {
+				LOGGER.log(Level.WARNING, "Failed to store the digest of build " + build.getFullDisplayName(), e);
+			}
+		}
+	}
+
+	/**
+	 * Create a new {@link BuildDigest} for the given build from the heavy sources, using the current issue key
+	 * pattern
+	 * 
+	 * @param build the {@link AbstractBuild} to create the digest for
+	 * @return the new {@link BuildDigest}
+	 */
+	public static BuildDigest createDigest(AbstractBuild<?, ?> build) {
+		return createDigest(build, APIv2Plugin.getIssuesCache().getIssueKeyPattern());
+	}
+
+	/**
+	 * Create a new {@link BuildDigest} for the given build from the heavy sources
+	 * 
+	 * @param build the {@link AbstractBuild} to create the digest for
+	 * @param pattern the issue key {@link Pattern} to get the related issue keys with
+	 * @return the new {@link BuildDigest}
+	 */
+	public static BuildDigest createDigest(AbstractBuild<?, ?> build, Pattern pattern) {
+		boolean testResults = false;
+		int totalTests = 0, failedTests = 0, skippedTests = 0;
+		AbstractTestResultAction<?> testResultAction = build.getTestResultAction();
+		// Aggregated test results are not supported by the mapping, so don't digest them either
+		if (testResultAction != null && !(testResultAction instanceof AggregatedTestResultAction)) {
+			testResults = true;
+			totalTests = testResultAction.getTotalCount();
+			failedTests = testResultAction.getFailCount();
+			skippedTests = testResultAction.getSkipCount();
+		}
+		Set<String> issueKeys = new TreeSet<String>();
+		int changeLogSize = 0;
+		for (Entry entry : (ChangeLogSet<? extends Entry>) build.getChangeSet()) {
+			issueKeys.addAll(JiraKeyUtils.getJiraIssueKeysFromText(entry.getMsg(), pattern));
+			changeLogSize++;
+		}
+		Set<String> culprits = new TreeSet<String>();
+		for (User culprit : build.getCulprits()) {
+			culprits.add(culprit.getId());
+		}
+		return new BuildDigest(testResults, totalTests, failedTests, skippedTests, issueKeys, pattern.pattern(),
+			culprits, changeLogSize);
+	}
+
+	/**
+	 * Internal method to compute the {@link BuildDigest} of a build. Only the issue keys are recomputed if the build
+	 * has a digest that was recorded using another issue key pattern
+	 * 
+	 * @param build the {@link AbstractBuild} to compute the digest for
+	 * @param recorded the recorded {@link BuildDigest} of the build, may be <code>null</code>
+	 * @param pattern the issue key {@link Pattern}
+	 * @return the computed {@link BuildDigest}
+	 */
+	private static BuildDigest computeDigest(AbstractBuild<?, ?> build, BuildDigest recorded, Pattern pattern) {
+		if (recorded == null) {
+			LOGGER.log(Level.FINE, "Computing the digest of build " + build.getFullDisplayName());
+			return createDigest(build, pattern);
+		}
+		LOGGER.log(Level.FINE, "Recomputing the issue keys in the digest of build " + build.getFullDisplayName());
+		return new BuildDigest(recorded.hasTestResults(), recorded.getTotalTests(), recorded.getFailedTests(),
+			recorded.getSkippedTests(), getIssueKeys(build, pattern), pattern.pattern(), recorded.getCulprits(),
+			recorded.getChangeLogSize());
+	}
+
+	/**
+	 * Internal method to get the related issue keys of a build from its change log
+	 * 
+	 * @param build the {@link AbstractBuild} to get the issue keys of
+	 * @param pattern the issue key {@link Pattern}
+	 * @return the issue keys
+	 */
+	private static Set<String> getIssueKeys(AbstractBuild<?, ?> build, Pattern pattern) {
+		Set<String> issueKeys = new TreeSet<String>();
+		for (Entry entry : (ChangeLogSet<? extends Entry>) build.getChangeSet()) {
+			issueKeys.addAll(JiraKeyUtils.getJiraIssueKeysFromText(entry.getMsg(), pattern));
+		}
+		return issueKeys;
+	}
+
+	/**
+	 * Internal method to get the lock used while storing the digest of a build. The monitor of the build itself is
+	 * not used since Hudson synchronizes on it as well
+	 * 
+	 * @param build the {@link AbstractBuild} to get the lock for
+	 * @return the lock
+	 */
+	private static Object getLock(AbstractBuild<?, ?> build) {
+		return LOCKS[(System.identityHashCode(build) & Integer.MAX_VALUE) % LOCKS.length];
+	}
+
+}
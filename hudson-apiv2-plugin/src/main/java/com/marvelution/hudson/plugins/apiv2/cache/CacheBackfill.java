@@ -0,0 +1,125 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.acegisecurity.Authentication;
+import org.acegisecurity.context.SecurityContextHolder;
+
+import hudson.security.ACL;
+
+/**
+ * Background filling of the caches with the data of builds that completed before the caches were introduced, so
+ * the REST APIs never have to load builds from disk to fill a cache while serving a request. The tasks are executed
+ * one at the time and at most {@link #MAX_PENDING_TASKS} tasks can wait to be executed
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class CacheBackfill {
+
+	/**
+	 * The maximum number of tasks waiting to be executed, new tasks are dropped once the limit is reached
+	 */
+	public static final int MAX_PENDING_TASKS = 1000;
+
+	private static final Logger LOGGER = Logger.getLogger(CacheBackfill.class.getName());
+
+	private final ConcurrentMap<String, Boolean> pending = new ConcurrentHashMap<String, Boolean>();
+	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+		new LinkedBlockingQueue<Runnable>(MAX_PENDING_TASKS), new ThreadFactory() {
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "APIv2 Cache Backfill");
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}
+
+		});
+
+	/**
+	 * Schedule a backfill task, the task is executed as the {@link ACL#SYSTEM} user
+	 * 
+	 * @param key the unique key of the task, a task is not scheduled if a task with the same key is still pending
+	 * @param task the task to execute
+	 * @return <code>true</code> if the task is scheduled, <code>false</code> if a task with the same key is still
+	 *         pending or if the maximum number of pending tasks is reached
+	 */
+	public boolean schedule(final String key, final Runnable task) {
+		if (pending.putIfAbsent(key, Boolean.TRUE) != null) {
+			return false;
+		}
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+					SecurityContextHolder.getContext().setAuthentication(ACL.SYSTEM);
+					try {
+						task.run();
+					} catch (RuntimeException e) {
+						LOGGER.log(Level.WARNING, "Failed to execute backfill task " + key, e);
+					} finally {
+						SecurityContextHolder.getContext().setAuthentication(auth);
+						pending.remove(key);
+					}
+				}
+
+			});
+			return true;
+		} catch (RejectedExecutionException e) {
+			LOGGER.log(Level.FINE, "Dropped backfill task " + key + ", too many tasks are pending");
+			pending.remove(key);
+			return false;
+		}
+	}
+
+	/**
+	 * Check if a backfill task is waiting to be executed or being executed
+	 * 
+	 * @param key the unique key of the task
+	 * @return <code>true</code> if the task is pending
+	 */
+	public boolean isPending(String key) {
+		return pending.containsKey(key);
+	}
+
+	/**
+	 * Stop the backfill, pending tasks are dropped and the running task is interrupted
+	 */
+	public void stop() {
+		executor.shutdownNow();
+		pending.clear();
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+
+import hudson.Extension;
+import hudson.model.AsyncPeriodicWork;
+import hudson.model.Hudson;
+import hudson.model.TaskListener;
+
+/**
+ * {@link AsyncPeriodicWork} that will store the caches of the {@link APIv2Plugin} every
+ * {@link #RECURRENCE_PERIOD} milliseconds, so the caches are not lost when Hudson is not stopped gracefully
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@Extension
+public class CachesSaveWork extends AsyncPeriodicWork {
+
+	/**
+	 * The period between two stores of the caches
+	 */
+	public static final long RECURRENCE_PERIOD = TimeUnit.MINUTES.toMillis(15);
+
+	/**
+	 * Constructor
+	 */
+	public CachesSaveWork() {
+		super("APIv2 Caches Save");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getRecurrencePeriod() {
+		return RECURRENCE_PERIOD;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void execute(TaskListener listener) throws IOException, InterruptedException {
+		APIv2Plugin plugin = Hudson.getInstance().getPlugin(APIv2Plugin.class);
+		if (plugin != null) {
+			plugin.storeCaches();
+		}
+	}
+
+}
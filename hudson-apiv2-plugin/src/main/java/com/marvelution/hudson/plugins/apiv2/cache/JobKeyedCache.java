@@ -0,0 +1,98 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Base class of the in-memory caches that hold their data per job, keyed by the full name of the job. Jobs and the
+ * jobs within them, in case of a group of jobs, are removed and renamed the same way for all these caches by the
+ * {@link com.marvelution.hudson.plugins.apiv2.listeners.JobKeyedCachesItemListener}
+ * 
+ * @param <V> the type of the data held per job
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public abstract class JobKeyedCache<V> {
+
+	/**
+	 * Get the full names of the jobs within the given group of jobs, like the modules of a Maven module set
+	 * 
+	 * @param group the full name of the group
+	 * @return the full names of the jobs in the cache, including the group itself
+	 */
+	public synchronized List<String> getJobsWithin(String group) {
+		List<String> jobs = Lists.newArrayList();
+		for (String name : getJobs().keySet()) {
+			if (name.equals(group) || name.startsWith(group + "/")) {
+				jobs.add(name);
+			}
+		}
+		return jobs;
+	}
+
+	/**
+	 * Remove the data of a job, and the jobs within it in case it is a group of jobs
+	 * 
+	 * @param job the full name of the job
+	 */
+	public synchronized void removeJob(String job) {
+		for (String name : getJobsWithin(job)) {
+			getJobs().remove(name);
+		}
+	}
+
+	/**
+	 * Rename a job, and the jobs within it in case it is a group of jobs
+	 * 
+	 * @param oldName the old full name of the job
+	 * @param newName the new full name of the job
+	 */
+	public synchronized void renameJob(String oldName, String newName) {
+		for (String name : getJobsWithin(oldName)) {
+			String renamed = newName + name.substring(oldName.length());
+			getJobs().put(renamed, rename(getJobs().remove(name), renamed));
+		}
+	}
+
+	/**
+	 * Getter for the {@link Map} of job names to the data of the job, the cache itself is locked when it is accessed
+	 * 
+	 * @return the {@link Map} of the cache
+	 */
+	protected abstract Map<String, V> getJobs();
+
+	/**
+	 * Rename the data of a job, the data is moved to the new name as is by default
+	 * 
+	 * @param data the data of the job
+	 * @param newName the new full name of the job
+	 * @return the renamed data
+	 */
+	protected V rename(V data, String newName) {
+		return data;
+	}
+
+}
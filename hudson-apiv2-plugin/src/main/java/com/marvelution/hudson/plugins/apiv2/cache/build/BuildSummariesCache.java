@@ -0,0 +1,171 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.build;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+
+import com.google.common.collect.Maps;
+import com.marvelution.hudson.plugins.apiv2.cache.JobKeyedCache;
+
+/**
+ * In-memory table of {@link BuildSummary} objects per job, filled when builds complete so the summary of a build can
+ * be served without loading the build from disk. Only the {@link #MAX_BUILDS_PER_JOB} most recent builds of a job
+ * are kept
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class BuildSummariesCache extends JobKeyedCache<SortedMap<Integer, BuildSummary>> {
+
+	/**
+	 * The maximum number of {@link BuildSummary} objects kept per job
+	 */
+	public static final int MAX_BUILDS_PER_JOB = 500;
+
+	private final Map<String, SortedMap<Integer, BuildSummary>> summaries = Maps.newHashMap();
+
+	/**
+	 * Get the {@link BuildSummary} of a build
+	 * 
+	 * @param job the full name of the job
+	 * @param number the build number
+	 * @return the {@link BuildSummary}, may be <code>null</code> if the build is not in the cache
+	 */
+	public synchronized BuildSummary get(String job, int number) {
+		SortedMap<Integer, BuildSummary> builds = summaries.get(job);
+		if (builds != null) {
+			return builds.get(number);
+		}
+		return null;
+	}
+
+	/**
+	 * Check if the {@link BuildSummary} of a build would be kept when it is added to the cache
+	 * 
+	 * @param job the full name of the job
+	 * @param number the build number
+	 * @return <code>true</code> if the job has less than {@link #MAX_BUILDS_PER_JOB} builds in the cache or the
+	 *         build is more recent than the oldest build of the job in the cache
+	 */
+	public synchronized boolean isRetained(String job, int number) {
+		SortedMap<Integer, BuildSummary> builds = summaries.get(job);
+		return builds == null || builds.size() < MAX_BUILDS_PER_JOB || number > builds.firstKey();
+	}
+
+	/**
+	 * Add or replace the {@link BuildSummary} of a build, the oldest builds of the job are removed once the job has
+	 * more than {@link #MAX_BUILDS_PER_JOB} builds in the cache
+	 * 
+	 * @param summary the {@link BuildSummary} to add
+	 */
+	public synchronized void put(BuildSummary summary) {
+		SortedMap<Integer, BuildSummary> builds = summaries.get(summary.getJob());
+		if (builds == null) {
+			builds = Maps.newTreeMap();
+			summaries.put(summary.getJob(), builds);
+		}
+		builds.put(summary.getNumber(), summary);
+		trim(builds);
+	}
+
+	/**
+	 * Remove the {@link BuildSummary} of a build
+	 * 
+	 * @param job the full name of the job
+	 * @param number the build number
+	 */
+	public synchronized void remove(String job, int number) {
+		SortedMap<Integer, BuildSummary> builds = summaries.get(job);
+		if (builds != null) {
+			builds.remove(number);
+			if (builds.isEmpty()) {
+				summaries.remove(job);
+			}
+		}
+	}
+
+	/**
+	 * Get the number of {@link BuildSummary} objects in the cache
+	 * 
+	 * @return the size of the cache
+	 */
+	public synchronized int size() {
+		int size = 0;
+		for (SortedMap<Integer, BuildSummary> builds : summaries.values()) {
+			size += builds.size();
+		}
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, SortedMap<Integer, BuildSummary>> getJobs() {
+		return summaries;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected SortedMap<Integer, BuildSummary> rename(SortedMap<Integer, BuildSummary> data, String newName) {
+		SortedMap<Integer, BuildSummary> builds = Maps.newTreeMap();
+		for (BuildSummary summary : data.values()) {
+			builds.put(summary.getNumber(), new BuildSummary(newName, summary.getNumber(), summary.getResult(),
+				summary.getTimestamp(), summary.getDuration()));
+		}
+		return builds;
+	}
+
+	/**
+	 * Internal method to remove the oldest builds of a job until it has at most {@link #MAX_BUILDS_PER_JOB} builds
+	 * 
+	 * @param builds the {@link SortedMap} of builds of a job
+	 */
+	private void trim(SortedMap<Integer, BuildSummary> builds) {
+		while (builds.size() > MAX_BUILDS_PER_JOB) {
+			builds.remove(builds.firstKey());
+		}
+	}
+
+	/**
+	 * Internal method called by XStream after the cache is loaded, caches stored before the number of builds per
+	 * job was limited hold unsorted maps of all the builds of a job
+	 * 
+	 * @return this {@link BuildSummariesCache}
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private synchronized Object readResolve() {
+		// Use the raw entries, the stored maps may not be sorted maps
+		for (Object object : ((Map) summaries).entrySet()) {
+			Entry entry = (Entry) object;
+			SortedMap<Integer, BuildSummary> builds = Maps.newTreeMap();
+			builds.putAll((Map<Integer, BuildSummary>) entry.getValue());
+			trim(builds);
+			entry.setValue(builds);
+		}
+		return this;
+	}
+
+}
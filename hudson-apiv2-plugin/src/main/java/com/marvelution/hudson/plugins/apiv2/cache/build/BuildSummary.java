@@ -0,0 +1,142 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.build;
+
+import com.marvelution.hudson.plugins.apiv2.dozer.converters.ResultDozerConverter;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Result;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.State;
+
+import hudson.model.Run;
+
+/**
+ * Summary of a completed build, holding just enough data to reference the build without loading it from disk
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class BuildSummary {
+
+	private static final ResultDozerConverter RESULT_CONVERTER = new ResultDozerConverter();
+
+	private final String job;
+	private final int number;
+	private final Result result;
+	private final long timestamp;
+	private final long duration;
+
+	/**
+	 * Constructor
+	 *
+	 * @param job the full name of the job
+	 * @param number the build number
+	 * @param result the {@link Result} of the build
+	 * @param timestamp the timestamp of the build
+	 * @param duration the duration of the build
+	 */
+	public BuildSummary(String job, int number, Result result, long timestamp, long duration) {
+		this.job = job;
+		this.number = number;
+		this.result = result;
+		this.timestamp = timestamp;
+		this.duration = duration;
+	}
+
+	/**
+	 * Getter for job
+	 *
+	 * @return the job
+	 */
+	public String getJob() {
+		return job;
+	}
+
+	/**
+	 * Getter for number
+	 *
+	 * @return the number
+	 */
+	public int getNumber() {
+		return number;
+	}
+
+	/**
+	 * Getter for result
+	 *
+	 * @return the result
+	 */
+	public Result getResult() {
+		return result;
+	}
+
+	/**
+	 * Getter for timestamp
+	 *
+	 * @return the timestamp
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Getter for duration
+	 *
+	 * @return the duration
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Create a {@link Build} model that only holds the summary data
+	 * 
+	 * @return the {@link Build}
+	 */
+	public Build toBuild() {
+		Build build = new Build(number);
+		build.setJobName(job);
+		build.setResult(result);
+		build.setState(State.COMPLETED);
+		build.setTimestamp(timestamp);
+		build.setDuration(duration);
+		return build;
+	}
+
+	/**
+	 * Create a {@link BuildSummary} from a given {@link Run}
+	 * 
+	 * @param run the {@link Run} to create the summary of
+	 * @return the {@link BuildSummary}
+	 */
+	public static BuildSummary fromRun(Run<?, ?> run) {
+		return new BuildSummary(run.getParent().getFullName(), run.getNumber(),
+			RESULT_CONVERTER.convertTo(run.getResult(), null), run.getTimeInMillis(), run.getDuration());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + ": " + job + " #" + number + " " + result;
+	}
+
+}
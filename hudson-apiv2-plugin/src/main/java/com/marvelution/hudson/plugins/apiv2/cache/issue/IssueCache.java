@@ -31,6 +31,8 @@ public class IssueCache {
 	private IssueKey issueKey;
 	private String job;
 	private int build;
+	private long timestamp;
+	private String[] revisions;
 
 	/**
 	 * Constructor
@@ -51,9 +53,40 @@ public class IssueCache {
 	 * @param build
 	 */
 	public IssueCache(IssueKey issueKey, String job, int build) {
+		this(issueKey, job, build, 0L);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param issueKey
+	 * @param job
+	 * @param build
+	 * @param timestamp the timestamp of the build
+	 * @since 4.5.0
+	 */
+	public IssueCache(IssueKey issueKey, String job, int build, long timestamp) {
+		this(issueKey, job, build, timestamp, null);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param issueKey
+	 * @param job
+	 * @param build
+	 * @param timestamp the timestamp of the build
+	 * @param revisions the compact SCM revision ids of the change set entries of the build that relate to the issue
+	 * @since 4.5.0
+	 */
+	public IssueCache(IssueKey issueKey, String job, int build, long timestamp, String[] revisions) {
 		this.issueKey = issueKey;
 		this.job = job;
 		this.build = build;
+		this.timestamp = timestamp;
+		if (revisions != null && revisions.length > 0) {
+			this.revisions = revisions;
+		}
 	}
 
 	/**
@@ -83,12 +116,36 @@ public class IssueCache {
 		return build;
 	}
 
+	/**
+	 * Getter for timestamp
+	 *
+	 * @return the timestamp of the build, 0 for entries cached before the timestamp was recorded
+	 * @since 4.5.0
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Getter for revisions
+	 *
+	 * @return the compact SCM revision ids, empty for builds without revisions or cached before the revisions were
+	 * 			recorded
+	 * @since 4.5.0
+	 */
+	public String[] getRevisions() {
+		if (revisions == null) {
+			return new String[0];
+		}
+		return revisions.clone();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public int hashCode() {
-		return HashCodeBuilder.reflectionHashCode(this);
+		return new HashCodeBuilder().append(issueKey).append(job).append(build).toHashCode();
 	}
 
 	/**
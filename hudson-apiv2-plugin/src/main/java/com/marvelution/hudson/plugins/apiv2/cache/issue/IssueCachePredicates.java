@@ -19,6 +19,8 @@
 
 package com.marvelution.hudson.plugins.apiv2.cache.issue;
 
+import java.util.Set;
+
 import com.google.common.base.Predicate;
 
 /**
@@ -60,6 +62,22 @@ public class IssueCachePredicates {
 		};
 	}
 
+	/**
+	 * Getter for the "is issue cache related to one of the given JIRA Issues" predicate
+	 * 
+	 * @param issueKeys the {@link Set} of JIRA Issue Keys
+	 * @return the {@link Predicate}
+	 * @since 4.5.0
+	 */
+	public static Predicate<IssueCache> isRelatedToJIRAIssues(final Set<String> issueKeys) {
+		return new Predicate<IssueCache>() {
+			@Override
+			public boolean apply(IssueCache input) {
+				return issueKeys.contains(input.getIssueKey().toString());
+			}
+		};
+	}
+
 	/**
 	 * Getter fort he "is issue cache related to the given JIRA Project" predicate
 	 * 
@@ -69,6 +69,9 @@ public class IssueKey {
 	 */
 	@Override
 	public boolean equals(Object obj) {
+		if (obj instanceof IssueKey) {
+			return toString().equals(obj.toString());
+		}
 		return toString().equals(obj);
 	}
 
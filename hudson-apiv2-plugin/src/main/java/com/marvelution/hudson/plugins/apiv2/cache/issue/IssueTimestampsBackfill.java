@@ -0,0 +1,95 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.issue;
+
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.CacheBackfill;
+
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.model.Hudson;
+import hudson.model.Job;
+import hudson.model.Run;
+
+/**
+ * {@link CacheBackfill} task to set the build timestamps of the {@link IssueCache} objects that were cached before
+ * the timestamp was recorded, until then searches with a limit or since consider these builds older than all the
+ * others
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class IssueTimestampsBackfill implements Runnable {
+
+	private static final Logger LOGGER = Logger.getLogger(IssueTimestampsBackfill.class.getName());
+
+	private final IssuesCache cache;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param cache the {@link IssuesCache} to set the timestamps in
+	 */
+	public IssueTimestampsBackfill(IssuesCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void run() {
+		for (Entry<String, Set<Integer>> entry : cache.getBuildsWithoutTimestamp().entrySet()) {
+			Job<?, ?> job = Hudson.getInstance().getItemByFullName(entry.getKey(), Job.class);
+			if (job == null) {
+				continue;
+			}
+			LOGGER.log(Level.FINE, "Setting the build timestamps of the issues of job " + job.getFullName());
+			for (Integer number : entry.getValue()) {
+				if (Thread.currentThread().isInterrupted()) {
+					// Hudson is stopping, the remaining timestamps are set after the restart
+					return;
+				}
+				Run<?, ?> build = job.getBuildByNumber(number);
+				if (build != null) {
+					cache.setTimestamp(entry.getKey(), number, build.getTimeInMillis());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Hudson initializer method to schedule the backfill after all the jobs are loaded
+	 */
+	@Initializer(after = InitMilestone.JOB_LOADED)
+	public static void backfillAfterJobsLoaded() {
+		CacheBackfill backfill = APIv2Plugin.getCacheBackfill();
+		if (backfill != null) {
+			backfill.schedule("issue-timestamps", new IssueTimestampsBackfill(APIv2Plugin.getIssuesCache()));
+		}
+	}
+
+}
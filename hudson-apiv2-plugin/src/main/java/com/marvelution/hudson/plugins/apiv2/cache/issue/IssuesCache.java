@@ -20,13 +20,22 @@
 package com.marvelution.hudson.plugins.apiv2.cache.issue;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 
-import org.apache.commons.collections.list.SynchronizedList;
+import org.apache.commons.collections.set.SynchronizedSet;
 
+import com.google.common.base.Predicate;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
 
 /**
@@ -36,10 +45,42 @@ import com.thoughtworks.xstream.annotations.XStreamOmitField;
  */
 public class IssuesCache implements Iterable<IssueCache>, Collection<IssueCache> {
 
-	private List<IssueCache> issues = Lists.newArrayList();
+	/**
+	 * Orders {@link IssueCache} objects from the most recent build to the oldest
+	 */
+	private static final Comparator<IssueCache> MOST_RECENT_FIRST = new Comparator<IssueCache>() {
+
+		@Override
+		public int compare(IssueCache o1, IssueCache o2) {
+			if (o1.getTimestamp() != o2.getTimestamp()) {
+				return o1.getTimestamp() > o2.getTimestamp() ? -1 : 1;
+			} else if (!o1.getJob().equals(o2.getJob())) {
+				return o1.getJob().compareTo(o2.getJob());
+			} else if (o1.getBuild() != o2.getBuild()) {
+				return o1.getBuild() > o2.getBuild() ? -1 : 1;
+			}
+			return o1.getIssueKey().toString().compareTo(o2.getIssueKey().toString());
+		}
+
+	};
+
+	/**
+	 * The issues are kept in a {@link LinkedHashSet} so removing the entries of a build doesn't walk the cache. The
+	 * field is declared as a {@link Collection} so caches stored while the issues were kept in a {@link List} can
+	 * still be loaded, see {@link #readResolve()}
+	 */
+	private Collection<IssueCache> issues = Sets.newLinkedHashSet();
 	private String issueKeyRegex;
 	@XStreamOmitField
 	private Pattern issueKeyPattern;
+	@XStreamOmitField
+	private Map<String, SortedSet<IssueCache>> projectIndex;
+	@XStreamOmitField
+	private Map<String, TreeSet<IssueCache>> issueIndex;
+	@XStreamOmitField
+	private Map<String, Map<String, IssueCache>> firstBuildIndex;
+	@XStreamOmitField
+	private Map<String, Map<Integer, Set<IssueCache>>> buildIndex;
 
 	
 	/**
@@ -78,14 +119,358 @@ public class IssuesCache implements Iterable<IssueCache>, Collection<IssueCache>
 		return issueKeyPattern;
 	}
 
+	/**
+	 * Get the most recent {@link IssueCache} objects of a JIRA project, walking the per project index from the most
+	 * recent build to the oldest and stopping as soon as enough builds are found. Entries cached before the build
+	 * timestamp was recorded are considered older than all the others.
+	 * 
+	 * @param projectKey the JIRA project key
+	 * @param filter {@link Predicate} the {@link IssueCache} objects must match, may be <code>null</code>
+	 * @param since the timestamp the builds must be started on or after, <code>0</code> or less for all builds
+	 * @param limit the maximum number of distinct builds, <code>0</code> or less for no limit
+	 * @return the {@link List} of {@link IssueCache} objects, most recent build first
+	 * @since 4.5.0
+	 */
+	public synchronized List<IssueCache> getMostRecent(String projectKey, Predicate<IssueCache> filter, long since,
+					int limit) {
+		return getMostRecent(getProjectIndex().get(projectKey), filter, since, limit);
+	}
+
+	/**
+	 * Get the most recent {@link IssueCache} objects of a JIRA issue, walking the per issue index the same way
+	 * {@link #getMostRecent(String, Predicate, long, int)} walks the per project index
+	 * 
+	 * @param issueKey the JIRA issue key
+	 * @param filter {@link Predicate} the {@link IssueCache} objects must match, may be <code>null</code>
+	 * @param since the timestamp the builds must be started on or after, <code>0</code> or less for all builds
+	 * @param limit the maximum number of distinct builds, <code>0</code> or less for no limit
+	 * @return the {@link List} of {@link IssueCache} objects, most recent build first
+	 * @since 4.5.0
+	 */
+	public synchronized List<IssueCache> getMostRecentOfIssue(String issueKey, Predicate<IssueCache> filter,
+					long since, int limit) {
+		return getMostRecent(getIssueIndex().get(issueKey), filter, since, limit);
+	}
+
+	/**
+	 * Internal method to get the most recent {@link IssueCache} objects of an index entry
+	 * 
+	 * @param entries the {@link SortedSet} of the index, ordered from the most recent build to the oldest, may be
+	 * 			<code>null</code>
+	 * @param filter {@link Predicate} the {@link IssueCache} objects must match, may be <code>null</code>
+	 * @param since the timestamp the builds must be started on or after, <code>0</code> or less for all builds
+	 * @param limit the maximum number of distinct builds, <code>0</code> or less for no limit
+	 * @return the {@link List} of {@link IssueCache} objects, most recent build first
+	 */
+	private List<IssueCache> getMostRecent(SortedSet<IssueCache> entries, Predicate<IssueCache> filter, long since,
+					int limit) {
+		List<IssueCache> result = Lists.newArrayList();
+		if (entries == null) {
+			return result;
+		}
+		Set<String> builds = Sets.newHashSet();
+		for (IssueCache entry : entries) {
+			if (since > 0 && entry.getTimestamp() < since) {
+				// The index is ordered by timestamp, so all the remaining entries are older
+				break;
+			} else if (filter != null && !filter.apply(entry)) {
+				continue;
+			}
+			String build = entry.getJob() + "#" + entry.getBuild();
+			if (!builds.contains(build)) {
+				if (limit > 0 && builds.size() == limit) {
+					break;
+				}
+				builds.add(build);
+			}
+			result.add(entry);
+		}
+		return result;
+	}
+
+	/**
+	 * Get the commits related to a JIRA issue with the {@link IssueCache} of the build they were first seen in. The
+	 * commits are served from the per issue index, so no change log needs to be loaded.
+	 * 
+	 * @param issueKey the JIRA issue key
+	 * @param filter {@link Predicate} the {@link IssueCache} objects must match, may be <code>null</code>
+	 * @return the {@link Map} of compact revision id to the {@link IssueCache} of the first build that contained it,
+	 * 			in the order the commits were first seen
+	 * @since 4.5.0
+	 */
+	public synchronized Map<String, IssueCache> getCommits(String issueKey, Predicate<IssueCache> filter) {
+		Map<String, IssueCache> commits = Maps.newLinkedHashMap();
+		TreeSet<IssueCache> entries = getIssueIndex().get(issueKey);
+		if (entries == null) {
+			return commits;
+		}
+		// Walk from the oldest build to the most recent so the first build a revision is seen in wins
+		for (Iterator<IssueCache> iterator = entries.descendingIterator(); iterator.hasNext();) {
+			IssueCache entry = iterator.next();
+			if (filter != null && !filter.apply(entry)) {
+				continue;
+			}
+			for (String revision : entry.getRevisions()) {
+				if (!commits.containsKey(revision)) {
+					commits.put(revision, entry);
+				}
+			}
+		}
+		return commits;
+	}
+
+	/**
+	 * Get the first build of each job that contained a JIRA issue. The first builds are kept per issue and job when
+	 * {@link IssueCache} objects are added or removed, so this is a single lookup.
+	 * 
+	 * @param issueKey the JIRA issue key
+	 * @param filter {@link Predicate} the {@link IssueCache} objects must match, may be <code>null</code>
+	 * @return the {@link Map} of job name to the {@link IssueCache} with the lowest build number of that job, ordered
+	 * 			by job name
+	 * @since 4.5.0
+	 */
+	public synchronized Map<String, IssueCache> getFirstBuilds(String issueKey, Predicate<IssueCache> filter) {
+		Map<String, IssueCache> firstBuilds = Maps.newTreeMap();
+		createIndexes();
+		Map<String, IssueCache> jobs = firstBuildIndex.get(issueKey);
+		if (jobs != null) {
+			for (IssueCache entry : jobs.values()) {
+				if (filter == null || filter.apply(entry)) {
+					firstBuilds.put(entry.getJob(), entry);
+				}
+			}
+		}
+		return firstBuilds;
+	}
+
+	/**
+	 * Get the {@link IssueCache} objects of a build, using the per build index so the cache is not walked
+	 * 
+	 * @param job the full name of the job
+	 * @param number the build number
+	 * @return the {@link List} of {@link IssueCache} objects of the build, may be empty
+	 * @since 4.5.0
+	 */
+	public synchronized List<IssueCache> getBuildEntries(String job, int number) {
+		createIndexes();
+		Map<Integer, Set<IssueCache>> builds = buildIndex.get(job);
+		if (builds != null && builds.containsKey(number)) {
+			return Lists.newArrayList(builds.get(number));
+		}
+		return Lists.newArrayList();
+	}
+
+	/**
+	 * Get the {@link IssueCache} objects of all the builds of a job, using the per build index so the cache is not
+	 * walked
+	 * 
+	 * @param job the full name of the job
+	 * @return the {@link List} of {@link IssueCache} objects of the job, may be empty
+	 * @since 4.5.0
+	 */
+	public synchronized List<IssueCache> getJobEntries(String job) {
+		createIndexes();
+		List<IssueCache> entries = Lists.newArrayList();
+		Map<Integer, Set<IssueCache>> builds = buildIndex.get(job);
+		if (builds != null) {
+			for (Set<IssueCache> buildEntries : builds.values()) {
+				entries.addAll(buildEntries);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Get the builds that have {@link IssueCache} objects that were cached before the build timestamp was recorded
+	 * 
+	 * @return the {@link Map} of job names to the build numbers, may be empty
+	 * @since 4.5.0
+	 */
+	public synchronized Map<String, Set<Integer>> getBuildsWithoutTimestamp() {
+		createIndexes();
+		Map<String, Set<Integer>> builds = Maps.newHashMap();
+		for (Map.Entry<String, Map<Integer, Set<IssueCache>>> job : buildIndex.entrySet()) {
+			for (Map.Entry<Integer, Set<IssueCache>> build : job.getValue().entrySet()) {
+				for (IssueCache entry : build.getValue()) {
+					if (entry.getTimestamp() == 0L) {
+						if (!builds.containsKey(job.getKey())) {
+							builds.put(job.getKey(), Sets.<Integer> newTreeSet());
+						}
+						builds.get(job.getKey()).add(build.getKey());
+						break;
+					}
+				}
+			}
+		}
+		return builds;
+	}
+
+	/**
+	 * Set the build timestamp of the {@link IssueCache} objects of a build that were cached before the timestamp was
+	 * recorded. The objects are replaced so the indexes stay ordered by timestamp
+	 * 
+	 * @param job the full name of the job
+	 * @param number the build number
+	 * @param timestamp the timestamp of the build
+	 * @since 4.5.0
+	 */
+	public synchronized void setTimestamp(String job, int number, long timestamp) {
+		for (IssueCache entry : getBuildEntries(job, number)) {
+			if (entry.getTimestamp() == 0L) {
+				remove(entry);
+				add(new IssueCache(entry.getIssueKey(), entry.getJob(), entry.getBuild(), timestamp,
+					entry.getRevisions()));
+			}
+		}
+	}
+
+	/**
+	 * Remove all the {@link IssueCache} objects of a build
+	 * 
+	 * @param job the full name of the job
+	 * @param number the build number
+	 * @since 4.5.0
+	 */
+	public synchronized void removeBuild(String job, int number) {
+		List<IssueCache> entries = getBuildEntries(job, number);
+		if (!entries.isEmpty()) {
+			removeAll(entries);
+		}
+	}
+
+	/**
+	 * Getter for the per project index, the indexes are created on first use
+	 * 
+	 * @return the per project index
+	 */
+	private synchronized Map<String, SortedSet<IssueCache>> getProjectIndex() {
+		createIndexes();
+		return projectIndex;
+	}
+
+	/**
+	 * Getter for the per issue index, the indexes are created on first use
+	 * 
+	 * @return the per issue index
+	 */
+	private synchronized Map<String, TreeSet<IssueCache>> getIssueIndex() {
+		createIndexes();
+		return issueIndex;
+	}
+
+	/**
+	 * Create the per project, per issue, first build and per build indexes if they are not created yet
+	 */
+	private void createIndexes() {
+		if (projectIndex == null || issueIndex == null || firstBuildIndex == null || buildIndex == null) {
+			projectIndex = Maps.newHashMap();
+			issueIndex = Maps.newHashMap();
+			firstBuildIndex = Maps.newHashMap();
+			buildIndex = Maps.newHashMap();
+			for (IssueCache cache : issues) {
+				addToIndex(cache);
+			}
+		}
+	}
+
+	/**
+	 * Add an {@link IssueCache} to the per project, per issue, first build and per build indexes
+	 * 
+	 * @param cache the {@link IssueCache} to add
+	 */
+	private void addToIndex(IssueCache cache) {
+		SortedSet<IssueCache> entries = projectIndex.get(cache.getIssueKey().getProject());
+		if (entries == null) {
+			entries = Sets.newTreeSet(MOST_RECENT_FIRST);
+			projectIndex.put(cache.getIssueKey().getProject(), entries);
+		}
+		entries.add(cache);
+		TreeSet<IssueCache> issueEntries = issueIndex.get(cache.getIssueKey().toString());
+		if (issueEntries == null) {
+			issueEntries = Sets.newTreeSet(MOST_RECENT_FIRST);
+			issueIndex.put(cache.getIssueKey().toString(), issueEntries);
+		}
+		issueEntries.add(cache);
+		Map<String, IssueCache> firstBuilds = firstBuildIndex.get(cache.getIssueKey().toString());
+		if (firstBuilds == null) {
+			firstBuilds = Maps.newHashMap();
+			firstBuildIndex.put(cache.getIssueKey().toString(), firstBuilds);
+		}
+		IssueCache firstBuild = firstBuilds.get(cache.getJob());
+		if (firstBuild == null || cache.getBuild() < firstBuild.getBuild()) {
+			firstBuilds.put(cache.getJob(), cache);
+		}
+		Map<Integer, Set<IssueCache>> builds = buildIndex.get(cache.getJob());
+		if (builds == null) {
+			builds = Maps.newHashMap();
+			buildIndex.put(cache.getJob(), builds);
+		}
+		Set<IssueCache> buildEntries = builds.get(cache.getBuild());
+		if (buildEntries == null) {
+			buildEntries = Sets.newLinkedHashSet();
+			builds.put(cache.getBuild(), buildEntries);
+		}
+		buildEntries.add(cache);
+	}
+
+	/**
+	 * Remove an {@link IssueCache} from the per project, per issue, first build and per build indexes
+	 * 
+	 * @param cache the {@link IssueCache} to remove
+	 */
+	private void removeFromIndex(IssueCache cache) {
+		SortedSet<IssueCache> entries = projectIndex.get(cache.getIssueKey().getProject());
+		if (entries != null) {
+			entries.remove(cache);
+			if (entries.isEmpty()) {
+				projectIndex.remove(cache.getIssueKey().getProject());
+			}
+		}
+		TreeSet<IssueCache> issueEntries = issueIndex.get(cache.getIssueKey().toString());
+		if (issueEntries != null) {
+			issueEntries.remove(cache);
+			if (issueEntries.isEmpty()) {
+				issueIndex.remove(cache.getIssueKey().toString());
+			}
+		}
+		Map<String, IssueCache> firstBuilds = firstBuildIndex.get(cache.getIssueKey().toString());
+		if (firstBuilds != null && cache.equals(firstBuilds.get(cache.getJob()))) {
+			// The first build is removed, the next one is the lowest remaining build of the issue in the same job
+			firstBuilds.remove(cache.getJob());
+			if (issueEntries != null) {
+				for (IssueCache entry : issueEntries) {
+					IssueCache firstBuild = firstBuilds.get(entry.getJob());
+					if (entry.getJob().equals(cache.getJob())
+						&& (firstBuild == null || entry.getBuild() < firstBuild.getBuild())) {
+						firstBuilds.put(entry.getJob(), entry);
+					}
+				}
+			}
+			if (firstBuilds.isEmpty()) {
+				firstBuildIndex.remove(cache.getIssueKey().toString());
+			}
+		}
+		Map<Integer, Set<IssueCache>> builds = buildIndex.get(cache.getJob());
+		if (builds != null && builds.containsKey(cache.getBuild())) {
+			Set<IssueCache> buildEntries = builds.get(cache.getBuild());
+			buildEntries.remove(cache);
+			if (buildEntries.isEmpty()) {
+				builds.remove(cache.getBuild());
+				if (builds.isEmpty()) {
+					buildIndex.remove(cache.getJob());
+				}
+			}
+		}
+	}
+
 	/**
 	 * Getter for issues
 	 *
 	 * @return the issues
 	 */
 	@SuppressWarnings("unchecked")
-	private List<IssueCache> getIssues() {
-		return SynchronizedList.decorate(issues);
+	private Set<IssueCache> getIssues() {
+		return SynchronizedSet.decorate((Set<IssueCache>) issues);
 	}
 
 	/**
@@ -132,15 +517,24 @@ public class IssuesCache implements Iterable<IssueCache>, Collection<IssueCache>
 	 * {@inheritDoc}
 	 */
 	@Override
-	public boolean add(IssueCache paramE) {
-		return getIssues().add(paramE);
+	public synchronized boolean add(IssueCache paramE) {
+		createIndexes();
+		if (getIssues().add(paramE)) {
+			addToIndex(paramE);
+			return true;
+		}
+		return false;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public boolean remove(Object paramObject) {
+	public synchronized boolean remove(Object paramObject) {
+		if (paramObject instanceof IssueCache && getIssues().contains(paramObject)) {
+			createIndexes();
+			removeFromIndex((IssueCache) paramObject);
+		}
 		return getIssues().remove(paramObject);
 	}
 
@@ -156,23 +550,37 @@ public class IssuesCache implements Iterable<IssueCache>, Collection<IssueCache>
 	 * {@inheritDoc}
 	 */
 	@Override
-	public boolean addAll(Collection<? extends IssueCache> paramCollection) {
-		return getIssues().addAll(paramCollection);
+	public synchronized boolean addAll(Collection<? extends IssueCache> paramCollection) {
+		boolean changed = false;
+		for (IssueCache cache : paramCollection) {
+			changed |= add(cache);
+		}
+		return changed;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public boolean removeAll(Collection<?> paramCollection) {
-		return getIssues().removeAll(paramCollection);
+	public synchronized boolean removeAll(Collection<?> paramCollection) {
+		boolean changed = false;
+		// Remove the entries one by one, so only the given entries are looked up in the issues
+		for (Object object : paramCollection) {
+			changed |= remove(object);
+		}
+		return changed;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public boolean retainAll(Collection<?> paramCollection) {
+	public synchronized boolean retainAll(Collection<?> paramCollection) {
+		// Rebuild the indexes on next use
+		projectIndex = null;
+		issueIndex = null;
+		firstBuildIndex = null;
+		buildIndex = null;
 		return getIssues().retainAll(paramCollection);
 	}
 
@@ -180,7 +588,11 @@ public class IssuesCache implements Iterable<IssueCache>, Collection<IssueCache>
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void clear() {
+	public synchronized void clear() {
+		projectIndex = null;
+		issueIndex = null;
+		firstBuildIndex = null;
+		buildIndex = null;
 		getIssues().clear();
 	}
 
@@ -192,4 +604,17 @@ public class IssuesCache implements Iterable<IssueCache>, Collection<IssueCache>
 		return getIssues().iterator();
 	}
 
+	/**
+	 * Internal method called by XStream after the cache is loaded, caches stored before the issues were kept in a
+	 * {@link LinkedHashSet} hold a {@link List} of issues
+	 * 
+	 * @return this {@link IssuesCache}
+	 */
+	private synchronized Object readResolve() {
+		if (!(issues instanceof LinkedHashSet)) {
+			issues = issues == null ? Sets.<IssueCache> newLinkedHashSet() : Sets.newLinkedHashSet(issues);
+		}
+		return this;
+	}
+
 }
@@ -0,0 +1,222 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.job;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.SortedMap;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+
+/**
+ * Index of all the Hudson Job names, mapping the short name of a Job to the full names of the Jobs with that short
+ * name. Used to locate Jobs, like Maven modules or Jobs within folders, by there name without walking the whole item
+ * tree.
+ * The index also holds a sorted map of the lower case full names and each of their path segments, so Job names can be
+ * suggested by prefix in O(log n) time plus the number of suggestions.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class JobNameIndex {
+
+	private static final String SEPARATOR = "/";
+
+	private static final String MODULE_SEPARATOR = "$";
+
+	private final SetMultimap<String, String> index = HashMultimap.create();
+	private final SortedMap<String, Set<String>> prefixes = Maps.newTreeMap();
+
+	/**
+	 * Get the full names of all the Jobs indexed by the given short name
+	 * 
+	 * @param name the short name of the Job
+	 * @return the {@link Set} of full names, may be empty but never <code>null</code>
+	 */
+	public synchronized Set<String> getFullNames(String name) {
+		return Sets.newHashSet(index.get(name));
+	}
+
+	/**
+	 * Add a Job to the index
+	 * 
+	 * @param name the short name of the Job
+	 * @param fullName the full name of the Job
+	 */
+	public synchronized void add(String name, String fullName) {
+		index.put(name, fullName);
+		addPrefixes(fullName);
+	}
+
+	/**
+	 * Suggest Jobs by prefix. The prefix is matched, case insensitive, against the full name of the Jobs and the
+	 * start of every path segment, including the artifactId of Maven modules
+	 * 
+	 * @param prefix the prefix to suggest the Jobs of
+	 * @param limit the maximum number of suggestions
+	 * @param filter the {@link Predicate} a full name must apply to, to be suggested
+	 * @return the {@link Set} of suggested full names, in alphabetic order of the matched key
+	 */
+	public synchronized Set<String> suggest(String prefix, int limit, Predicate<String> filter) {
+		Set<String> suggestions = Sets.newLinkedHashSet();
+		String from = prefix == null ? "" : prefix.toLowerCase(Locale.ENGLISH);
+		for (Set<String> fullNames : prefixes.subMap(from, from + Character.MAX_VALUE).values()) {
+			for (String fullName : fullNames) {
+				if (suggestions.size() >= limit) {
+					return suggestions;
+				} else if (!suggestions.contains(fullName) && filter.apply(fullName)) {
+					suggestions.add(fullName);
+				}
+			}
+		}
+		return suggestions;
+	}
+
+	/**
+	 * Remove a Job, and all the Jobs within it in case it is a group of Jobs, from the index
+	 * 
+	 * @param fullName the full name of the Job to remove
+	 */
+	public synchronized void remove(String fullName) {
+		for (Entry<String, String> entry : getEntries(fullName)) {
+			index.remove(entry.getKey(), entry.getValue());
+			removePrefixes(entry.getValue());
+		}
+	}
+
+	/**
+	 * Rename a Job, and all the Jobs within it in case it is a group of Jobs, in the index
+	 * 
+	 * @param oldFullName the old full name of the Job
+	 * @param newFullName the new full name of the Job
+	 */
+	public synchronized void rename(String oldFullName, String newFullName) {
+		for (Entry<String, String> entry : getEntries(oldFullName)) {
+			index.remove(entry.getKey(), entry.getValue());
+			removePrefixes(entry.getValue());
+			String fullName = newFullName + entry.getValue().substring(oldFullName.length());
+			index.put(getShortName(fullName, entry.getKey()), fullName);
+			addPrefixes(fullName);
+		}
+	}
+
+	/**
+	 * Remove all the Jobs from the index
+	 */
+	public synchronized void clear() {
+		index.clear();
+		prefixes.clear();
+	}
+
+	/**
+	 * Getter for the number of Jobs in the index
+	 * 
+	 * @return the number of indexed Jobs
+	 */
+	public synchronized int size() {
+		return index.size();
+	}
+
+	/**
+	 * Internal method to get a copy of all the index entries of the given full name and its children
+	 * 
+	 * @param fullName the full name
+	 * @return the {@link Collection} of entries
+	 */
+	private Collection<Entry<String, String>> getEntries(String fullName) {
+		Collection<Entry<String, String>> entries = Lists.newArrayList();
+		for (Entry<String, String> entry : index.entries()) {
+			if (entry.getValue().equals(fullName) || entry.getValue().startsWith(fullName + SEPARATOR)) {
+				entries.add(Maps.immutableEntry(entry.getKey(), entry.getValue()));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Internal method to add the prefix keys of a full name
+	 * 
+	 * @param fullName the full name
+	 */
+	private void addPrefixes(String fullName) {
+		for (String key : getPrefixKeys(fullName)) {
+			Set<String> fullNames = prefixes.get(key);
+			if (fullNames == null) {
+				fullNames = Sets.newTreeSet();
+				prefixes.put(key, fullNames);
+			}
+			fullNames.add(fullName);
+		}
+	}
+
+	/**
+	 * Internal method to remove the prefix keys of a full name
+	 * 
+	 * @param fullName the full name
+	 */
+	private void removePrefixes(String fullName) {
+		for (String key : getPrefixKeys(fullName)) {
+			Set<String> fullNames = prefixes.get(key);
+			if (fullNames != null && fullNames.remove(fullName) && fullNames.isEmpty()) {
+				prefixes.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Internal method to get the prefix keys of a full name, the lower case full name and the rest of it from the
+	 * start of each path segment and Maven module artifactId
+	 * 
+	 * @param fullName the full name
+	 * @return the {@link Set} of keys
+	 */
+	private Set<String> getPrefixKeys(String fullName) {
+		String key = fullName.toLowerCase(Locale.ENGLISH);
+		Set<String> keys = Sets.newHashSet(key);
+		for (int index = 0; index < key.length(); index++) {
+			if (key.startsWith(SEPARATOR, index) || key.startsWith(MODULE_SEPARATOR, index)) {
+				keys.add(key.substring(index + 1));
+			}
+		}
+		keys.remove("");
+		return keys;
+	}
+
+	/**
+	 * Internal method to get the short name from a full name
+	 * 
+	 * @param fullName the full name
+	 * @param defaultName the name to return in case the full name doesn't have a short name
+	 * @return the short name
+	 */
+	private String getShortName(String fullName, String defaultName) {
+		String name = fullName.substring(fullName.lastIndexOf(SEPARATOR) + 1);
+		return name.length() == 0 ? defaultName : name;
+	}
+
+}
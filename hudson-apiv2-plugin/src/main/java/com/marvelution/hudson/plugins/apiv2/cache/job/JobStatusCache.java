@@ -0,0 +1,220 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.job;
+
+import com.marvelution.hudson.plugins.apiv2.dozer.converters.ResultDozerConverter;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Result;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatus;
+
+import hudson.model.HealthReport;
+import hudson.model.Job;
+import hudson.model.Run;
+
+/**
+ * Status row of a {@link Job}, holding just enough data to report the status of the job without mapping its builds
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class JobStatusCache {
+
+	private static final ResultDozerConverter RESULT_CONVERTER = new ResultDozerConverter();
+
+	private final String job;
+	private final int lastBuildNumber;
+	private final Result lastResult;
+	private final long lastBuildTimestamp;
+	private final long lastDuration;
+	private final int healthScore;
+	private final boolean building;
+
+	/**
+	 * Constructor
+	 *
+	 * @param job the full name of the job
+	 * @param lastBuildNumber the number of the last build
+	 * @param lastResult the {@link Result} of the last completed build
+	 * @param lastBuildTimestamp the timestamp of the last build
+	 * @param lastDuration the duration of the last completed build
+	 * @param healthScore the health score of the job
+	 * @param building flag whether the job is building
+	 */
+	public JobStatusCache(String job, int lastBuildNumber, Result lastResult, long lastBuildTimestamp,
+							long lastDuration, int healthScore, boolean building) {
+		this.job = job;
+		this.lastBuildNumber = lastBuildNumber;
+		this.lastResult = lastResult;
+		this.lastBuildTimestamp = lastBuildTimestamp;
+		this.lastDuration = lastDuration;
+		this.healthScore = healthScore;
+		this.building = building;
+	}
+
+	/**
+	 * Getter for job
+	 *
+	 * @return the job
+	 */
+	public String getJob() {
+		return job;
+	}
+
+	/**
+	 * Getter for lastBuildNumber
+	 *
+	 * @return the lastBuildNumber
+	 */
+	public int getLastBuildNumber() {
+		return lastBuildNumber;
+	}
+
+	/**
+	 * Getter for lastResult
+	 *
+	 * @return the lastResult
+	 */
+	public Result getLastResult() {
+		return lastResult;
+	}
+
+	/**
+	 * Getter for lastBuildTimestamp
+	 *
+	 * @return the lastBuildTimestamp
+	 */
+	public long getLastBuildTimestamp() {
+		return lastBuildTimestamp;
+	}
+
+	/**
+	 * Getter for lastDuration
+	 *
+	 * @return the lastDuration
+	 */
+	public long getLastDuration() {
+		return lastDuration;
+	}
+
+	/**
+	 * Getter for healthScore
+	 *
+	 * @return the healthScore
+	 */
+	public int getHealthScore() {
+		return healthScore;
+	}
+
+	/**
+	 * Getter for building
+	 *
+	 * @return the building flag
+	 */
+	public boolean isBuilding() {
+		return building;
+	}
+
+	/**
+	 * Get a copy of this status row for a job with a new name
+	 * 
+	 * @param newJob the new full name of the job
+	 * @return the renamed {@link JobStatusCache}
+	 */
+	public JobStatusCache rename(String newJob) {
+		return new JobStatusCache(newJob, lastBuildNumber, lastResult, lastBuildTimestamp, lastDuration, healthScore,
+			building);
+	}
+
+	/**
+	 * Get a copy of this status row for a newly started build
+	 * 
+	 * @param run the started {@link Run}
+	 * @return the updated {@link JobStatusCache}
+	 */
+	public JobStatusCache started(Run<?, ?> run) {
+		return new JobStatusCache(job, Math.max(lastBuildNumber, run.getNumber()), lastResult,
+			Math.max(lastBuildTimestamp, run.getTimeInMillis()), lastDuration, healthScore, true);
+	}
+
+	/**
+	 * Create a {@link JobStatus} model from this status row
+	 * 
+	 * @return the {@link JobStatus}
+	 */
+	public JobStatus toJobStatus() {
+		JobStatus status = new JobStatus(job);
+		status.setLastBuildNumber(lastBuildNumber);
+		status.setLastResult(lastResult);
+		status.setLastBuildTimestamp(lastBuildTimestamp);
+		status.setLastDuration(lastDuration);
+		status.setHealthScore(healthScore);
+		status.setBuilding(building);
+		return status;
+	}
+
+	/**
+	 * Create a {@link JobStatusCache} from the current state of a given {@link Job}
+	 * 
+	 * @param job the {@link Job} to create the status row of
+	 * @return the {@link JobStatusCache}
+	 */
+	public static JobStatusCache fromJob(Job<?, ?> job) {
+		return fromJob(job, job.getLastCompletedBuild());
+	}
+
+	/**
+	 * Create a {@link JobStatusCache} from the state of a given {@link Job} after the given build completed.
+	 * Hudson only marks the build as completed after the {@link hudson.model.listeners.RunListener}s are notified,
+	 * so the completed build is given explicitly
+	 * 
+	 * @param job the {@link Job} to create the status row of
+	 * @param completed the last completed {@link Run} of the job, may be <code>null</code>
+	 * @return the {@link JobStatusCache}
+	 */
+	public static JobStatusCache fromJob(Job<?, ?> job, Run<?, ?> completed) {
+		Run<?, ?> last = job.getLastBuild();
+		int lastBuildNumber = 0;
+		long lastBuildTimestamp = 0L;
+		boolean building = false;
+		if (last != null) {
+			lastBuildNumber = last.getNumber();
+			lastBuildTimestamp = last.getTimeInMillis();
+			building = last != completed && last.isBuilding();
+		}
+		Result lastResult = null;
+		long lastDuration = 0L;
+		if (completed != null) {
+			lastResult = RESULT_CONVERTER.convertTo(completed.getResult(), null);
+			lastDuration = completed.getDuration();
+		}
+		HealthReport health = job.getBuildHealth();
+		return new JobStatusCache(job.getFullName(), lastBuildNumber, lastResult, lastBuildTimestamp, lastDuration,
+			health != null ? health.getScore() : 100, building);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + ": " + job + " #" + lastBuildNumber + " " + lastResult;
+	}
+
+}
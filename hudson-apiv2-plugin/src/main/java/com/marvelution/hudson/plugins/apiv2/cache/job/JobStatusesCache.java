@@ -0,0 +1,92 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.job;
+
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+import com.marvelution.hudson.plugins.apiv2.cache.JobKeyedCache;
+
+/**
+ * In-memory table of {@link JobStatusCache} rows per job, kept up to date by the build and item listeners so the
+ * status of many jobs can be served without mapping their builds
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class JobStatusesCache extends JobKeyedCache<JobStatusCache> {
+
+	private final Map<String, JobStatusCache> statuses = Maps.newHashMap();
+
+	/**
+	 * Get the {@link JobStatusCache} of a job
+	 * 
+	 * @param job the full name of the job
+	 * @return the {@link JobStatusCache}, may be <code>null</code> if the job is not in the cache
+	 */
+	public synchronized JobStatusCache get(String job) {
+		return statuses.get(job);
+	}
+
+	/**
+	 * Add or replace the {@link JobStatusCache} of a job
+	 * 
+	 * @param status the {@link JobStatusCache} to add
+	 */
+	public synchronized void put(JobStatusCache status) {
+		statuses.put(status.getJob(), status);
+	}
+
+	/**
+	 * Remove the {@link JobStatusCache} of a job, it will be recreated on the next lookup
+	 * 
+	 * @param job the full name of the job
+	 */
+	public synchronized void remove(String job) {
+		statuses.remove(job);
+	}
+
+	/**
+	 * Get the number of {@link JobStatusCache} rows in the cache
+	 * 
+	 * @return the size of the cache
+	 */
+	public synchronized int size() {
+		return statuses.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, JobStatusCache> getJobs() {
+		return statuses;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected JobStatusCache rename(JobStatusCache data, String newName) {
+		return data.rename(newName);
+	}
+
+}
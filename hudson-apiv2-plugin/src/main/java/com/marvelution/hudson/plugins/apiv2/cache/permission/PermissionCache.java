@@ -0,0 +1,245 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.permission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.acegisecurity.Authentication;
+import org.acegisecurity.context.SecurityContextHolder;
+
+import com.marvelution.hudson.plugins.apiv2.metrics.Metrics;
+
+import hudson.model.Item;
+import hudson.security.AccessControlled;
+import hudson.security.Permission;
+
+/**
+ * Cache for the outcome of permission checks on {@link Item}s.
+ * Within a REST request every (authentication, item, permission) combination is evaluated only once, and
+ * optionally the outcome is kept for a short time to live across requests. The cross-request cache is invalidated
+ * on every security or item configuration change.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class PermissionCache {
+
+	private static final String SEPARATOR = "\n";
+
+	private static final String ANONYMOUS = "anonymous";
+
+	private static final int MAX_SIZE = 10000;
+
+	private static final String CHECKS_METRIC = "apiv2_permission_checks_total";
+
+	private final ThreadLocal<Map<String, Boolean>> requestScope = new ThreadLocal<Map<String, Boolean>>();
+
+	private final ConcurrentMap<String, CachedPermission> cache = new ConcurrentHashMap<String, CachedPermission>();
+
+	private volatile long timeToLive = 0L;
+
+	/**
+	 * Begin a request scope for the current thread
+	 * 
+	 * @return the request scope, can be shared with other threads working on the same request using
+	 *         {@link #joinRequest(Map)}
+	 */
+	public Map<String, Boolean> beginRequest() {
+		Map<String, Boolean> scope = new ConcurrentHashMap<String, Boolean>();
+		requestScope.set(scope);
+		return scope;
+	}
+
+	/**
+	 * Join the current thread to the request scope of an other thread
+	 * 
+	 * @param scope the request scope to join, may be <code>null</code>
+	 */
+	public void joinRequest(Map<String, Boolean> scope) {
+		if (scope != null) {
+			requestScope.set(scope);
+		}
+	}
+
+	/**
+	 * Getter for the request scope of the current thread
+	 * 
+	 * @return the request scope, <code>null</code> if the current thread is not within a request
+	 */
+	public Map<String, Boolean> getRequestScope() {
+		return requestScope.get();
+	}
+
+	/**
+	 * End the request scope of the current thread
+	 */
+	public void endRequest() {
+		requestScope.remove();
+	}
+
+	/**
+	 * Check if the current user has the given {@link Permission} on the given {@link AccessControlled} object.
+	 * Only the permissions on {@link Item}s are cached, all other objects are checked directly.
+	 * 
+	 * @param object the {@link AccessControlled} object to check
+	 * @param permission the {@link Permission} to check
+	 * @return <code>true</code> if the current user has the permission
+	 */
+	public boolean hasPermission(AccessControlled object, Permission permission) {
+		if (!(object instanceof Item)) {
+			return evaluate(object, permission);
+		}
+		String key = getKey((Item) object, permission);
+		Map<String, Boolean> scope = requestScope.get();
+		if (scope != null) {
+			Boolean granted = scope.get(key);
+			if (granted != null) {
+				Metrics.increment(CHECKS_METRIC, "source", "request");
+				return granted.booleanValue();
+			}
+		}
+		long ttl = timeToLive;
+		boolean granted;
+		CachedPermission cached = ttl > 0L ? cache.get(key) : null;
+		if (cached != null && cached.isValid()) {
+			Metrics.increment(CHECKS_METRIC, "source", "cache");
+			granted = cached.granted;
+		} else {
+			granted = evaluate(object, permission);
+			if (ttl > 0L) {
+				if (cache.size() >= MAX_SIZE) {
+					// Don't let the cache grow unbounded, simply start over
+					cache.clear();
+				}
+				cache.put(key, new CachedPermission(granted, System.currentTimeMillis() + ttl));
+			}
+		}
+		if (scope != null) {
+			scope.put(key, Boolean.valueOf(granted));
+		}
+		return granted;
+	}
+
+	/**
+	 * Invalidate all the permissions cached across requests
+	 */
+	public void invalidate() {
+		cache.clear();
+	}
+
+	/**
+	 * Getter for the number of permissions cached across requests
+	 * 
+	 * @return the size of the cache
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Getter for the time to live of the permissions cached across requests
+	 * 
+	 * @return the time to live in milliseconds, <code>0</code> if disabled
+	 */
+	public long getTimeToLive() {
+		return timeToLive;
+	}
+
+	/**
+	 * Setter for the time to live of the permissions cached across requests
+	 * 
+	 * @param timeToLive the time to live in milliseconds, <code>0</code> or less to disable the cross-request cache
+	 */
+	public void setTimeToLive(long timeToLive) {
+		this.timeToLive = Math.max(0L, timeToLive);
+		if (this.timeToLive == 0L) {
+			invalidate();
+		}
+	}
+
+	/**
+	 * Internal method to evaluate a permission check using the ACL of the given {@link AccessControlled} object
+	 * 
+	 * @param object the {@link AccessControlled} object to check
+	 * @param permission the {@link Permission} to check
+	 * @return <code>true</code> if the current user has the permission
+	 */
+	private boolean evaluate(AccessControlled object, Permission permission) {
+		Metrics.increment(CHECKS_METRIC, "source", "acl");
+		long start = System.nanoTime();
+		try {
+			return object.hasPermission(permission);
+		} finally {
+			Metrics.observeDuration("apiv2_permission_check_duration_seconds", start);
+		}
+	}
+
+	/**
+	 * Internal method to get the cache key for the given {@link Item} and {@link Permission}
+	 * 
+	 * @param item the {@link Item}
+	 * @param permission the {@link Permission}
+	 * @return the key
+	 */
+	private String getKey(Item item, Permission permission) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		String user = authentication != null ? authentication.getName() : ANONYMOUS;
+		return user + SEPARATOR + item.getFullName() + SEPARATOR + permission.getId();
+	}
+
+	/**
+	 * A cached permission check outcome
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 *
+	 * @since 4.5.0
+	 */
+	private static class CachedPermission {
+
+		private final boolean granted;
+
+		private final long expires;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param granted the outcome of the permission check
+		 * @param expires the time-stamp when the outcome expires
+		 */
+		public CachedPermission(boolean granted, long expires) {
+			this.granted = granted;
+			this.expires = expires;
+		}
+
+		/**
+		 * Check if the cached outcome is still valid
+		 * 
+		 * @return <code>true</code> if not expired
+		 */
+		public boolean isValid() {
+			return System.currentTimeMillis() < expires;
+		}
+
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.statistics;
+
+import java.util.Map.Entry;
+import java.util.SortedMap;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Mergeable quantile sketch of build durations.
+ * Durations are counted in logarithmic buckets, so every quantile is estimated within {@link #RELATIVE_ACCURACY} of
+ * the real value using at most a few hundred buckets for any realistic duration. Sketches of different jobs can be
+ * merged by adding the bucket counts, which gives the same result as a sketch of all the durations together.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class DurationSketch {
+
+	/**
+	 * The relative accuracy of the estimated quantiles
+	 */
+	public static final double RELATIVE_ACCURACY = 0.01D;
+
+	private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+	private static final double LOG_GAMMA = Math.log(GAMMA);
+
+	private final SortedMap<Integer, Long> buckets = Maps.newTreeMap();
+	private long zeroCount = 0L;
+	private long count = 0L;
+
+	/**
+	 * Add a duration to the sketch
+	 * 
+	 * @param duration the duration in milliseconds
+	 */
+	public void add(long duration) {
+		if (duration <= 0L) {
+			zeroCount++;
+		} else {
+			int index = (int) Math.ceil(Math.log(duration) / LOG_GAMMA);
+			Long bucket = buckets.get(index);
+			buckets.put(index, bucket == null ? 1L : bucket + 1L);
+		}
+		count++;
+	}
+
+	/**
+	 * Merge the durations of the given sketch into this sketch
+	 * 
+	 * @param other the {@link DurationSketch} to merge
+	 */
+	public void merge(DurationSketch other) {
+		for (Entry<Integer, Long> entry : other.buckets.entrySet()) {
+			Long bucket = buckets.get(entry.getKey());
+			buckets.put(entry.getKey(), bucket == null ? entry.getValue() : bucket + entry.getValue());
+		}
+		zeroCount += other.zeroCount;
+		count += other.count;
+	}
+
+	/**
+	 * Get the number of durations in the sketch
+	 * 
+	 * @return the count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Get the estimated quantile of the durations
+	 * 
+	 * @param quantile the quantile to get, between <code>0</code> and <code>1</code>
+	 * @return the estimated duration at the given quantile, <code>0</code> if the sketch is empty
+	 */
+	public long getQuantile(double quantile) {
+		if (count == 0L) {
+			return 0L;
+		}
+		long rank = (long) Math.floor(Math.max(0D, Math.min(1D, quantile)) * (count - 1));
+		long seen = zeroCount;
+		if (rank < seen) {
+			return 0L;
+		}
+		int index = 0;
+		for (Entry<Integer, Long> entry : buckets.entrySet()) {
+			index = entry.getKey();
+			seen += entry.getValue();
+			if (rank < seen) {
+				break;
+			}
+		}
+		// The middle of the bucket, which is within the relative accuracy of all values in the bucket
+		return Math.round(2D * Math.pow(GAMMA, index) / (GAMMA + 1D));
+	}
+
+	/**
+	 * Get the number of buckets in use
+	 * 
+	 * @return the number of buckets
+	 */
+	public int getBucketCount() {
+		return buckets.size();
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.statistics;
+
+import java.util.Collection;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatistics;
+
+/**
+ * Incremental build statistics of a job.
+ * Holds a {@link DurationSketch} of the build durations, the number of builds and failed builds, and the outcomes of
+ * the last {@link #RECENT_BUILDS} builds to calculate a rolling failure rate
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class JobStatisticsCache {
+
+	/**
+	 * The number of recent builds used for the rolling failure rate
+	 */
+	public static final int RECENT_BUILDS = 64;
+
+	private final DurationSketch durations = new DurationSketch();
+	private long builds = 0L;
+	private long failedBuilds = 0L;
+	private long recentOutcomes = 0L;
+	private int recentBuilds = 0;
+
+	/**
+	 * Add a completed build to the statistics
+	 * 
+	 * @param duration the duration of the build
+	 * @param failed flag whether the build failed
+	 */
+	public void add(long duration, boolean failed) {
+		durations.add(duration);
+		builds++;
+		if (failed) {
+			failedBuilds++;
+		}
+		// Shift the outcome into the window of recent builds, the oldest outcome drops off
+		recentOutcomes = (recentOutcomes << 1) | (failed ? 1L : 0L);
+		recentBuilds = Math.min(recentBuilds + 1, RECENT_BUILDS);
+	}
+
+	/**
+	 * Getter for the {@link DurationSketch}
+	 * 
+	 * @return the {@link DurationSketch}
+	 */
+	public DurationSketch getDurations() {
+		return durations;
+	}
+
+	/**
+	 * Getter for the number of builds
+	 * 
+	 * @return the number of builds
+	 */
+	public long getBuilds() {
+		return builds;
+	}
+
+	/**
+	 * Getter for the number of failed builds
+	 * 
+	 * @return the number of failed builds
+	 */
+	public long getFailedBuilds() {
+		return failedBuilds;
+	}
+
+	/**
+	 * Getter for the number of recent builds
+	 * 
+	 * @return the number of recent builds, at most {@link #RECENT_BUILDS}
+	 */
+	public int getRecentBuilds() {
+		return recentBuilds;
+	}
+
+	/**
+	 * Getter for the number of recent failed builds
+	 * 
+	 * @return the number of failed builds within the recent builds
+	 */
+	public int getRecentFailedBuilds() {
+		long window = recentBuilds == RECENT_BUILDS ? -1L : (1L << recentBuilds) - 1L;
+		return Long.bitCount(recentOutcomes & window);
+	}
+
+	/**
+	 * Merge the given statistics of multiple jobs into a single {@link JobStatistics} model
+	 * 
+	 * @param name the name of the view or group of jobs
+	 * @param statistics the {@link JobStatisticsCache} objects to merge
+	 * @return the {@link JobStatistics}
+	 */
+	public static JobStatistics merge(String name, Collection<JobStatisticsCache> statistics) {
+		DurationSketch durations = new DurationSketch();
+		long builds = 0L, failedBuilds = 0L, recentBuilds = 0L, recentFailedBuilds = 0L;
+		for (JobStatisticsCache job : statistics) {
+			durations.merge(job.getDurations());
+			builds += job.getBuilds();
+			failedBuilds += job.getFailedBuilds();
+			recentBuilds += job.getRecentBuilds();
+			recentFailedBuilds += job.getRecentFailedBuilds();
+		}
+		JobStatistics model = new JobStatistics(name);
+		model.setJobs(statistics.size());
+		model.setBuilds(builds);
+		model.setFailedBuilds(failedBuilds);
+		model.setFailureRate(builds == 0L ? 0D : (double) failedBuilds / builds);
+		model.setRecentBuilds(recentBuilds);
+		model.setRecentFailureRate(recentBuilds == 0L ? 0D : (double) recentFailedBuilds / recentBuilds);
+		model.setDurationP50(durations.getQuantile(0.5D));
+		model.setDurationP90(durations.getQuantile(0.9D));
+		model.setDurationP99(durations.getQuantile(0.99D));
+		return model;
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.statistics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.marvelution.hudson.plugins.apiv2.cache.JobKeyedCache;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatistics;
+
+/**
+ * In-memory table of the {@link JobStatisticsCache} per job, updated when builds complete so the statistics of jobs
+ * and groups of jobs can be served without loading any builds
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class StatisticsCache extends JobKeyedCache<JobStatisticsCache> {
+
+	private final Map<String, JobStatisticsCache> statistics = Maps.newHashMap();
+
+	/**
+	 * Add a completed build to the statistics of a job
+	 * 
+	 * @param job the full name of the job
+	 * @param duration the duration of the build
+	 * @param failed flag whether the build failed
+	 */
+	public synchronized void add(String job, long duration, boolean failed) {
+		JobStatisticsCache jobStatistics = statistics.get(job);
+		if (jobStatistics == null) {
+			jobStatistics = new JobStatisticsCache();
+			statistics.put(job, jobStatistics);
+		}
+		jobStatistics.add(duration, failed);
+	}
+
+	/**
+	 * Get the merged {@link JobStatistics} of the given jobs
+	 * 
+	 * @param name the name to give the merged statistics
+	 * @param jobs the full names of the jobs to merge
+	 * @return the {@link JobStatistics}, jobs without statistics are counted but hold no builds
+	 */
+	public synchronized JobStatistics getStatistics(String name, Collection<String> jobs) {
+		List<JobStatisticsCache> merge = Lists.newArrayList();
+		for (String job : jobs) {
+			JobStatisticsCache jobStatistics = statistics.get(job);
+			merge.add(jobStatistics != null ? jobStatistics : new JobStatisticsCache());
+		}
+		return JobStatisticsCache.merge(name, merge);
+	}
+
+	/**
+	 * Get the number of jobs in the cache
+	 * 
+	 * @return the size of the cache
+	 */
+	public synchronized int size() {
+		return statistics.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, JobStatisticsCache> getJobs() {
+		return statistics;
+	}
+
+}
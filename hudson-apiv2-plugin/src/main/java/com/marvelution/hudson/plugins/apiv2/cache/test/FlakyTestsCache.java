@@ -0,0 +1,157 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Map.Entry;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.marvelution.hudson.plugins.apiv2.cache.JobKeyedCache;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.FlakyTest;
+
+/**
+ * In-memory index of the {@link TestHistoryCache} of the test cases per job.
+ * Only test cases that failed in one of the last {@link TestHistoryCache#HISTORY_SIZE} builds are tracked, so
+ * recording a build only touches the tracked test cases and the failures of the new build
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class FlakyTestsCache extends JobKeyedCache<Map<String, TestHistoryCache>> {
+
+	private static final Comparator<FlakyTest> FLAKIEST_FIRST = new Comparator<FlakyTest>() {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int compare(FlakyTest first, FlakyTest second) {
+			int compare = Double.compare(second.getFlipRate(), first.getFlipRate());
+			if (compare == 0) {
+				compare = second.getFlips() - first.getFlips();
+			}
+			if (compare == 0) {
+				compare = first.getTestName().compareTo(second.getTestName());
+			}
+			return compare;
+		}
+
+	};
+
+	private final Map<String, Map<String, TestHistoryCache>> tests = Maps.newHashMap();
+
+	/**
+	 * Record the test outcomes of a completed build of a job
+	 * 
+	 * @param job the full name of the job
+	 * @param buildNumber the number of the build
+	 * @param failedTests the full names of the test cases that failed in the build
+	 */
+	public synchronized void record(String job, int buildNumber, Set<String> failedTests) {
+		Map<String, TestHistoryCache> jobTests = tests.get(job);
+		if (jobTests == null) {
+			if (failedTests.isEmpty()) {
+				return;
+			}
+			jobTests = Maps.newHashMap();
+			tests.put(job, jobTests);
+		}
+		for (Iterator<Entry<String, TestHistoryCache>> iter = jobTests.entrySet().iterator(); iter.hasNext();) {
+			Entry<String, TestHistoryCache> entry = iter.next();
+			entry.getValue().record(buildNumber, failedTests.contains(entry.getKey()));
+			if (!entry.getValue().hasFailures()) {
+				// The last failure dropped out of the history, stop tracking the test case
+				iter.remove();
+			}
+		}
+		for (String failedTest : failedTests) {
+			if (!jobTests.containsKey(failedTest)) {
+				TestHistoryCache history = new TestHistoryCache();
+				history.record(buildNumber, true);
+				jobTests.put(failedTest, history);
+			}
+		}
+		if (jobTests.isEmpty()) {
+			tests.remove(job);
+		}
+	}
+
+	/**
+	 * Get the flaky test cases of the given jobs, the flakiest first
+	 * 
+	 * @param jobs the full names of the jobs
+	 * @param minFlips the minimum number of flips of a test case to be included
+	 * @param limit the maximum number of test cases to return
+	 * @return the {@link List} of {@link FlakyTest}s
+	 */
+	public synchronized List<FlakyTest> getFlakyTests(Collection<String> jobs, int minFlips, int limit) {
+		List<FlakyTest> flakyTests = Lists.newArrayList();
+		for (String job : jobs) {
+			Map<String, TestHistoryCache> jobTests = tests.get(job);
+			if (jobTests != null) {
+				for (Entry<String, TestHistoryCache> entry : jobTests.entrySet()) {
+					if (entry.getValue().getFlips() >= minFlips) {
+						flakyTests.add(entry.getValue().toFlakyTest(job, entry.getKey()));
+					}
+				}
+			}
+		}
+		Collections.sort(flakyTests, FLAKIEST_FIRST);
+		return flakyTests.size() > limit ? Lists.newArrayList(flakyTests.subList(0, limit)) : flakyTests;
+	}
+
+	/**
+	 * Get the {@link TestHistoryCache} of a test case
+	 * 
+	 * @param job the full name of the job
+	 * @param testName the full name of the test case
+	 * @return the {@link TestHistoryCache}, <code>null</code> if the test case is not tracked
+	 */
+	public synchronized TestHistoryCache get(String job, String testName) {
+		Map<String, TestHistoryCache> jobTests = tests.get(job);
+		return jobTests != null ? jobTests.get(testName) : null;
+	}
+
+	/**
+	 * Get the number of jobs with tracked test cases
+	 * 
+	 * @return the size of the cache
+	 */
+	public synchronized int size() {
+		return tests.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, Map<String, TestHistoryCache>> getJobs() {
+		return tests;
+	}
+
+}
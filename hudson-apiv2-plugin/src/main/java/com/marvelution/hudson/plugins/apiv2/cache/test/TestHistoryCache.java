@@ -0,0 +1,164 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.test;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.FlakyTest;
+
+/**
+ * The outcomes of a single test case in the last {@link #HISTORY_SIZE} builds of a job, stored as a bitmap where
+ * the lowest bit is the outcome of the latest build and a set bit is a failure
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class TestHistoryCache {
+
+	/**
+	 * The number of build outcomes kept per test case
+	 */
+	public static final int HISTORY_SIZE = 64;
+
+	private long outcomes = 0L;
+	private int builds = 0;
+	private int firstFailedBuild = 0;
+	private int lastFailedBuild = 0;
+
+	/**
+	 * Record the outcome of the test case in a build
+	 * 
+	 * @param buildNumber the number of the build
+	 * @param failed flag whether the test case failed in the build
+	 */
+	public void record(int buildNumber, boolean failed) {
+		outcomes = (outcomes << 1) | (failed ? 1L : 0L);
+		if (builds < HISTORY_SIZE) {
+			builds++;
+		}
+		if (failed) {
+			if (firstFailedBuild == 0) {
+				firstFailedBuild = buildNumber;
+			}
+			lastFailedBuild = buildNumber;
+		}
+	}
+
+	/**
+	 * Check if the test case failed in any of the builds in its history
+	 * 
+	 * @return <code>true</code> if the history holds a failure
+	 */
+	public boolean hasFailures() {
+		return outcomes != 0L;
+	}
+
+	/**
+	 * Get the number of builds in the history
+	 * 
+	 * @return the number of builds
+	 */
+	public int getBuilds() {
+		return builds;
+	}
+
+	/**
+	 * Get the number of failures in the history
+	 * 
+	 * @return the number of failures
+	 */
+	public int getFailures() {
+		return Long.bitCount(outcomes);
+	}
+
+	/**
+	 * Get the number of times the outcome changed between two consecutive builds in the history
+	 * 
+	 * @return the number of flips
+	 */
+	public int getFlips() {
+		if (builds < 2) {
+			return 0;
+		}
+		// Every bit that differs from the next older outcome is a flip
+		long mask = (1L << (builds - 1)) - 1L;
+		return Long.bitCount((outcomes ^ (outcomes >>> 1)) & mask);
+	}
+
+	/**
+	 * Get the flip rate, the number of flips divided by the number of build pairs in the history
+	 * 
+	 * @return the flip rate, between <code>0</code> and <code>1</code>
+	 */
+	public double getFlipRate() {
+		return builds < 2 ? 0D : (double) getFlips() / (builds - 1);
+	}
+
+	/**
+	 * Getter for the first failed build
+	 * 
+	 * @return the number of the first build the test case failed in since it is tracked
+	 */
+	public int getFirstFailedBuild() {
+		return firstFailedBuild;
+	}
+
+	/**
+	 * Getter for the last failed build
+	 * 
+	 * @return the number of the last build the test case failed in
+	 */
+	public int getLastFailedBuild() {
+		return lastFailedBuild;
+	}
+
+	/**
+	 * Get the history as a {@link String}, oldest outcome first, using <code>P</code> for a pass and <code>F</code>
+	 * for a failure
+	 * 
+	 * @return the history
+	 */
+	public String getHistory() {
+		StringBuilder history = new StringBuilder(builds);
+		for (int bit = builds - 1; bit >= 0; bit--) {
+			history.append(((outcomes >>> bit) & 1L) == 1L ? 'F' : 'P');
+		}
+		return history.toString();
+	}
+
+	/**
+	 * Create the {@link FlakyTest} model of the test case
+	 * 
+	 * @param jobName the full name of the job
+	 * @param testName the full name of the test case
+	 * @return the {@link FlakyTest}
+	 */
+	public FlakyTest toFlakyTest(String jobName, String testName) {
+		FlakyTest flakyTest = new FlakyTest(jobName, testName);
+		flakyTest.setBuilds(builds);
+		flakyTest.setFailures(getFailures());
+		flakyTest.setFlips(getFlips());
+		flakyTest.setFlipRate(getFlipRate());
+		flakyTest.setFirstFailedBuild(firstFailedBuild);
+		flakyTest.setLastFailedBuild(lastFailedBuild);
+		flakyTest.setHistory(getHistory());
+		return flakyTest;
+	}
+
+}
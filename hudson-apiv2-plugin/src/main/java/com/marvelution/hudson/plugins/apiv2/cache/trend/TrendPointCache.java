@@ -0,0 +1,177 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.trend;
+
+import com.marvelution.hudson.plugins.apiv2.actions.BuildDigest;
+import com.marvelution.hudson.plugins.apiv2.dozer.converters.ResultDozerConverter;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Result;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.TrendPoint;
+
+import hudson.model.AbstractBuild;
+import hudson.model.Run;
+
+/**
+ * A single point of the build trend of a job, holding the duration, result and test counts of a completed build
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class TrendPointCache {
+
+	private static final ResultDozerConverter RESULT_CONVERTER = new ResultDozerConverter();
+
+	private final int number;
+	private final long timestamp;
+	private final long duration;
+	private final Result result;
+	private final int totalTests;
+	private final int failedTests;
+	private final int skippedTests;
+
+	/**
+	 * Constructor
+	 *
+	 * @param number the build number
+	 * @param timestamp the timestamp of the build
+	 * @param duration the duration of the build
+	 * @param result the {@link Result} of the build
+	 * @param totalTests the total number of tests
+	 * @param failedTests the number of failed tests
+	 * @param skippedTests the number of skipped tests
+	 */
+	public TrendPointCache(int number, long timestamp, long duration, Result result, int totalTests,
+							int failedTests, int skippedTests) {
+		this.number = number;
+		this.timestamp = timestamp;
+		this.duration = duration;
+		this.result = result;
+		this.totalTests = totalTests;
+		this.failedTests = failedTests;
+		this.skippedTests = skippedTests;
+	}
+
+	/**
+	 * Getter for number
+	 *
+	 * @return the number
+	 */
+	public int getNumber() {
+		return number;
+	}
+
+	/**
+	 * Getter for timestamp
+	 *
+	 * @return the timestamp
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Getter for duration
+	 *
+	 * @return the duration
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Getter for result
+	 *
+	 * @return the result
+	 */
+	public Result getResult() {
+		return result;
+	}
+
+	/**
+	 * Getter for totalTests
+	 *
+	 * @return the totalTests
+	 */
+	public int getTotalTests() {
+		return totalTests;
+	}
+
+	/**
+	 * Getter for failedTests
+	 *
+	 * @return the failedTests
+	 */
+	public int getFailedTests() {
+		return failedTests;
+	}
+
+	/**
+	 * Getter for skippedTests
+	 *
+	 * @return the skippedTests
+	 */
+	public int getSkippedTests() {
+		return skippedTests;
+	}
+
+	/**
+	 * Create a {@link TrendPoint} model from this trend point
+	 * 
+	 * @return the {@link TrendPoint}
+	 */
+	public TrendPoint toTrendPoint() {
+		TrendPoint point = new TrendPoint(number);
+		point.setTimestamp(timestamp);
+		point.setDuration(duration);
+		point.setResult(result);
+		point.setTotalTests(totalTests);
+		point.setFailedTests(failedTests);
+		point.setSkippedTests(skippedTests);
+		return point;
+	}
+
+	/**
+	 * Create a {@link TrendPointCache} from a given {@link Run}, the test counts are taken from the
+	 * {@link BuildDigest} of the build
+	 * 
+	 * @param run the {@link Run} to create the trend point of
+	 * @return the {@link TrendPointCache}
+	 */
+	public static TrendPointCache fromRun(Run<?, ?> run) {
+		int totalTests = 0, failedTests = 0, skippedTests = 0;
+		if (run instanceof AbstractBuild) {
+			BuildDigest digest = BuildDigest.getDigest((AbstractBuild<?, ?>) run);
+			totalTests = digest.getTotalTests();
+			failedTests = digest.getFailedTests();
+			skippedTests = digest.getSkippedTests();
+		}
+		return new TrendPointCache(run.getNumber(), run.getTimeInMillis(), run.getDuration(),
+			RESULT_CONVERTER.convertTo(run.getResult(), null), totalTests, failedTests, skippedTests);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + ": #" + number + " " + result;
+	}
+
+}
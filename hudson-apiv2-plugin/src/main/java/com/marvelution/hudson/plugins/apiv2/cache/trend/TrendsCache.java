@@ -0,0 +1,161 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.trend;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.marvelution.hudson.plugins.apiv2.cache.JobKeyedCache;
+
+/**
+ * In-memory table of the {@link TrendPointCache} series per job, extended when builds complete so the trends of a
+ * job can be served without loading its builds from disk. The full series of all the builds of a job is kept
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class TrendsCache extends JobKeyedCache<SortedMap<Integer, TrendPointCache>> {
+
+	private final Map<String, SortedMap<Integer, TrendPointCache>> trends = Maps.newHashMap();
+	private final Set<String> completeJobs = Sets.newHashSet();
+
+	/**
+	 * Get the trend points of a job
+	 * 
+	 * @param job the full name of the job
+	 * @return the {@link List} of {@link TrendPointCache} objects ordered by build number, may be empty
+	 */
+	public synchronized List<TrendPointCache> get(String job) {
+		SortedMap<Integer, TrendPointCache> points = trends.get(job);
+		if (points != null) {
+			return Lists.newArrayList(points.values());
+		}
+		return Lists.newArrayList();
+	}
+
+	/**
+	 * Check if the trend of a job holds all the builds of the job, jobs that were built before the cache was
+	 * introduced only hold the points of the later builds until the trend is completed
+	 * 
+	 * @param job the full name of the job
+	 * @return <code>true</code> if the trend is complete
+	 */
+	public synchronized boolean isComplete(String job) {
+		return completeJobs.contains(job);
+	}
+
+	/**
+	 * Add or replace a trend point of a job
+	 * 
+	 * @param job the full name of the job
+	 * @param point the {@link TrendPointCache} to add
+	 */
+	public synchronized void put(String job, TrendPointCache point) {
+		SortedMap<Integer, TrendPointCache> points = trends.get(job);
+		if (points == null) {
+			points = Maps.newTreeMap();
+			trends.put(job, points);
+		}
+		points.put(point.getNumber(), point);
+	}
+
+	/**
+	 * Replace all the trend points of a job and mark its trend as complete
+	 * 
+	 * @param job the full name of the job
+	 * @param points the {@link TrendPointCache} objects of all the builds of the job
+	 */
+	public synchronized void putAll(String job, List<TrendPointCache> points) {
+		SortedMap<Integer, TrendPointCache> series = Maps.newTreeMap();
+		for (TrendPointCache point : points) {
+			series.put(point.getNumber(), point);
+		}
+		SortedMap<Integer, TrendPointCache> existing = trends.get(job);
+		if (existing != null) {
+			// Keep points added by builds that completed while the trend was being completed
+			series.putAll(existing);
+		}
+		trends.put(job, series);
+		completeJobs.add(job);
+	}
+
+	/**
+	 * Remove a trend point of a job
+	 * 
+	 * @param job the full name of the job
+	 * @param number the build number
+	 */
+	public synchronized void remove(String job, int number) {
+		SortedMap<Integer, TrendPointCache> points = trends.get(job);
+		if (points != null) {
+			points.remove(number);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void removeJob(String job) {
+		completeJobs.removeAll(getJobsWithin(job));
+		super.removeJob(job);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void renameJob(String oldName, String newName) {
+		for (String name : getJobsWithin(oldName)) {
+			if (completeJobs.remove(name)) {
+				completeJobs.add(newName + name.substring(oldName.length()));
+			}
+		}
+		super.renameJob(oldName, newName);
+	}
+
+	/**
+	 * Get the number of {@link TrendPointCache} objects in the cache
+	 * 
+	 * @return the size of the cache
+	 */
+	public synchronized int size() {
+		int size = 0;
+		for (SortedMap<Integer, TrendPointCache> points : trends.values()) {
+			size += points.size();
+		}
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, SortedMap<Integer, TrendPointCache>> getJobs() {
+		return trends;
+	}
+
+}
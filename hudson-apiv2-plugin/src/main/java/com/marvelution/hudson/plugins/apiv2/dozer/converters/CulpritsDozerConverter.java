@@ -0,0 +1,86 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.dozer.converters;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import hudson.model.AbstractBuild;
+
+import org.dozer.DozerConverter;
+import org.dozer.Mapper;
+import org.dozer.MapperAware;
+
+import com.marvelution.hudson.plugins.apiv2.actions.BuildDigest;
+import com.marvelution.hudson.plugins.apiv2.resources.model.User;
+
+/**
+ * {@link DozerConverter} implementation to get the culprits of an {@link AbstractBuild} using the culprit ids of the
+ * {@link BuildDigest}, so the previous builds don't need to be loaded to determine them
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@SuppressWarnings("rawtypes")
+public class CulpritsDozerConverter extends DozerConverter<AbstractBuild, Set> implements MapperAware {
+
+	private Mapper mapper;
+
+	/**
+	 * Constructor
+	 */
+	public CulpritsDozerConverter() {
+		super(AbstractBuild.class, Set.class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Set<User> convertTo(AbstractBuild source, Set destination) {
+		Set<User> culprits = new HashSet<User>();
+		for (String id : BuildDigest.getDigest(source).getCulprits()) {
+			hudson.model.User user = hudson.model.User.get(id, false);
+			if (user != null) {
+				culprits.add(mapper.map(user, User.class));
+			}
+		}
+		return culprits;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public AbstractBuild convertFrom(Set source, AbstractBuild destination) {
+		throw new UnsupportedOperationException("Unable to map from a Set to an AbstractBuild");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setMapper(Mapper mapper) {
+		this.mapper = mapper;
+	}
+
+}
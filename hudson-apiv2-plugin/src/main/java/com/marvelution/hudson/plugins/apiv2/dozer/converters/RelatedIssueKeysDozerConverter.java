@@ -22,47 +22,43 @@ package com.marvelution.hudson.plugins.apiv2.dozer.converters;
 import java.util.Collection;
 import java.util.HashSet;
 
+import hudson.model.AbstractBuild;
 import hudson.scm.ChangeLogSet;
-import hudson.scm.ChangeLogSet.Entry;
 
 import org.dozer.DozerConverter;
 
-import com.marvelution.hudson.plugins.apiv2.utils.JiraKeyUtils;
+import com.marvelution.hudson.plugins.apiv2.actions.BuildDigest;
 
 /**
- * {@link DozerConverter} implementation to convert {@link ChangeLogSet} into a {@link Collection} of JIRA Issue Keys
+ * {@link DozerConverter} implementation to convert the {@link ChangeLogSet} of an {@link AbstractBuild} into a
+ * {@link Collection} of JIRA Issue Keys. The keys are taken from the {@link BuildDigest} of the build
  * 
  * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld<a/>
  */
 @SuppressWarnings("rawtypes")
-public class RelatedIssueKeysDozerConverter extends DozerConverter<ChangeLogSet, Collection> {
+public class RelatedIssueKeysDozerConverter extends DozerConverter<AbstractBuild, Collection> {
 
 	/**
 	 * Constructor
 	 */
 	public RelatedIssueKeysDozerConverter() {
-		super(ChangeLogSet.class, Collection.class);
+		super(AbstractBuild.class, Collection.class);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
-	public Collection<String> convertTo(ChangeLogSet source, Collection destination) {
-		Collection<String> issueKeys = new HashSet<String>();
-		for (Entry entry : (ChangeLogSet<? extends Entry>)source) {
-			issueKeys.addAll(JiraKeyUtils.getJiraIssueKeysFromText(entry.getMsg()));
-		}
-		return issueKeys;
+	public Collection<String> convertTo(AbstractBuild source, Collection destination) {
+		return new HashSet<String>(BuildDigest.getDigest(source).getIssueKeys());
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public ChangeLogSet<? extends Entry> convertFrom(Collection source, ChangeLogSet destination) {
-		throw new UnsupportedOperationException("Unable to map from a Collection to a ChangeLogSet");
+	public AbstractBuild convertFrom(Collection source, AbstractBuild destination) {
+		throw new UnsupportedOperationException("Unable to map from a Collection to an AbstractBuild");
 	}
 
 }
@@ -44,6 +44,7 @@ public class DozerUtils {
 	private static final Logger LOGGER = Logger.getLogger(DozerUtils.class.getName());
 
 	private static DozerBeanMapper mapper = null;
+	private static volatile Mapper meteredMapper = null;
 	private static List<String> mappingFiles = null;
 
 	public static final String FULL_MAP_ID = "full";
@@ -51,17 +52,38 @@ public class DozerUtils {
 	public static final String ACTIVITY_MAP_ID = "activity";
 
 	/**
-	 * Get the {@link Mapper} implementation
+	 * Get the {@link Mapper} implementation, the time spent mapping is recorded by the {@link MeteredMapper}
 	 * 
 	 * @return the {@link Mapper}
 	 */
 	public static Mapper getMapper() {
-		if (mapper == null) {
-			System.setProperty(DozerConstants.CONFIG_FILE_SYS_PROP, DOZER_CONFIG_LOCATION + "configuration.properties");
-			mapper = new DozerBeanMapper();
-			mapper.setMappingFiles(getMappingFiles());
+		if (meteredMapper == null) {
+			synchronized (DozerUtils.class) {
+				if (meteredMapper == null) {
+					System.setProperty(DozerConstants.CONFIG_FILE_SYS_PROP, DOZER_CONFIG_LOCATION
+						+ "configuration.properties");
+					DozerBeanMapper beanMapper = new DozerBeanMapper();
+					beanMapper.setMappingFiles(getMappingFiles());
+					mapper = beanMapper;
+					meteredMapper = new MeteredMapper(beanMapper);
+				}
+			}
 		}
-		return mapper;
+		return meteredMapper;
+	}
+
+	/**
+	 * Initialize the {@link Mapper} implementation and parse all the mapping files, this is normally done lazily on
+	 * the first mapping
+	 * 
+	 * @since 4.5.0
+	 */
+	public static void initMapper() {
+		getMapper();
+		long start = System.currentTimeMillis();
+		// Getting the mapping metadata forces Dozer to load and parse all the mapping files
+		mapper.getMappingMetadata();
+		LOGGER.log(Level.FINE, "Initialized the Dozer mapper in " + (System.currentTimeMillis() - start) + "ms");
 	}
 
 	/**
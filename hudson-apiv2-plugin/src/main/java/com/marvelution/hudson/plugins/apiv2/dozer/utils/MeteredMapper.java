@@ -0,0 +1,101 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.dozer.utils;
+
+import org.dozer.Mapper;
+import org.dozer.MappingException;
+
+import com.marvelution.hudson.plugins.apiv2.metrics.Metrics;
+
+/**
+ * {@link Mapper} implementation that records the time spent mapping in the {@link Metrics}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class MeteredMapper implements Mapper {
+
+	private static final String METRIC_NAME = "apiv2_dozer_mapping_duration_seconds";
+
+	private final Mapper mapper;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param mapper the {@link Mapper} to delegate to
+	 */
+	public MeteredMapper(Mapper mapper) {
+		this.mapper = mapper;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> T map(Object source, Class<T> destinationClass) throws MappingException {
+		long start = System.nanoTime();
+		try {
+			return mapper.map(source, destinationClass);
+		} finally {
+			Metrics.observeDuration(METRIC_NAME, start, "type", destinationClass.getSimpleName());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void map(Object source, Object destination) throws MappingException {
+		long start = System.nanoTime();
+		try {
+			mapper.map(source, destination);
+		} finally {
+			Metrics.observeDuration(METRIC_NAME, start, "type", destination.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> T map(Object source, Class<T> destinationClass, String mapId) throws MappingException {
+		long start = System.nanoTime();
+		try {
+			return mapper.map(source, destinationClass, mapId);
+		} finally {
+			Metrics.observeDuration(METRIC_NAME, start, "type", destinationClass.getSimpleName());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void map(Object source, Object destination, String mapId) throws MappingException {
+		long start = System.nanoTime();
+		try {
+			mapper.map(source, destination, mapId);
+		} finally {
+			Metrics.observeDuration(METRIC_NAME, start, "type", destination.getClass().getSimpleName());
+		}
+	}
+
+}
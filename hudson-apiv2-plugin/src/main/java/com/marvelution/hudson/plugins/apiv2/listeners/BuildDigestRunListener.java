@@ -0,0 +1,52 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.listeners;
+
+import com.marvelution.hudson.plugins.apiv2.actions.BuildDigest;
+
+import hudson.Extension;
+import hudson.model.TaskListener;
+import hudson.model.AbstractBuild;
+import hudson.model.Run;
+import hudson.model.listeners.RunListener;
+
+/**
+ * {@link RunListener} implementation to record the {@link BuildDigest} of completed builds
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@SuppressWarnings("rawtypes")
+@Extension
+public class BuildDigestRunListener extends RunListener<Run> {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onCompleted(Run r, TaskListener listener) {
+		if (r instanceof AbstractBuild && r.getAction(BuildDigest.class) == null) {
+			// The build is saved by Hudson after all the listeners are notified, so no need to save it here
+			r.addAction(BuildDigest.createDigest((AbstractBuild<?, ?>) r));
+		}
+	}
+
+}
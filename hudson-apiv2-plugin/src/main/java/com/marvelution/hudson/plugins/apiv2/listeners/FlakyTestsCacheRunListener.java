@@ -0,0 +1,71 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.listeners;
+
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.test.FlakyTestsCache;
+
+import hudson.Extension;
+import hudson.model.AbstractBuild;
+import hudson.model.TaskListener;
+import hudson.model.Run;
+import hudson.model.listeners.RunListener;
+import hudson.tasks.junit.CaseResult;
+import hudson.tasks.test.AbstractTestResultAction;
+import hudson.tasks.test.AggregatedTestResultAction;
+
+/**
+ * {@link RunListener} implementation to record the failed test cases of every completed build in the
+ * {@link FlakyTestsCache}. Builds without test results, like builds that failed to compile, are not recorded since
+ * they say nothing about the test cases
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@SuppressWarnings("rawtypes")
+@Extension
+public class FlakyTestsCacheRunListener extends RunListener<Run> {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onCompleted(Run r, TaskListener listener) {
+		if (!(r instanceof AbstractBuild)) {
+			return;
+		}
+		AbstractTestResultAction<?> testResultAction = ((AbstractBuild<?, ?>) r).getTestResultAction();
+		// Aggregated test results are recorded through the module builds
+		if (testResultAction != null && !(testResultAction instanceof AggregatedTestResultAction)) {
+			Set<String> failedTests = Sets.newHashSet();
+			for (Object failedTest : testResultAction.getFailedTests()) {
+				if (failedTest instanceof CaseResult) {
+					failedTests.add(((CaseResult) failedTest).getFullName());
+				}
+			}
+			APIv2Plugin.getFlakyTestsCache().record(r.getParent().getFullName(), r.getNumber(), failedTests);
+		}
+	}
+
+}
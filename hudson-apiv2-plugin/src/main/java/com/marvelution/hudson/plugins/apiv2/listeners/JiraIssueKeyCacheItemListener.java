@@ -44,13 +44,7 @@ public class JiraIssueKeyCacheItemListener extends ItemListener {
 	 */
 	@Override
 	public void onDeleted(Item item) {
-		Collection<IssueCache> toBeRemoved = Lists.newArrayList();
-		for (IssueCache cache : APIv2Plugin.getIssuesCache()) {
-			if (cache.getJob().equals(item.getFullName())) {
-				toBeRemoved.add(cache);
-			}
-		}
-		APIv2Plugin.getIssuesCache().removeAll(toBeRemoved);
+		APIv2Plugin.getIssuesCache().removeAll(APIv2Plugin.getIssuesCache().getJobEntries(item.getFullName()));
 	}
 
 	/**
@@ -66,13 +60,11 @@ public class JiraIssueKeyCacheItemListener extends ItemListener {
 			newFullName = item.getParent().getFullName() + "/" + newName;
 			oldFullName = item.getParent().getFullName() + "/" + oldName;
 		}
-		Collection<IssueCache> toBeRemoved = Lists.newArrayList();
+		Collection<IssueCache> toBeRemoved = APIv2Plugin.getIssuesCache().getJobEntries(oldFullName);
 		Collection<IssueCache> toBeAdded = Lists.newArrayList();
-		for (IssueCache cache : APIv2Plugin.getIssuesCache()) {
-			if (oldFullName.equals(cache.getJob())) {
-				toBeAdded.add(new IssueCache(cache.getIssueKey(), newFullName, cache.getBuild()));
-				toBeRemoved.add(cache);
-			}
+		for (IssueCache cache : toBeRemoved) {
+			toBeAdded.add(new IssueCache(cache.getIssueKey(), newFullName, cache.getBuild(), cache.getTimestamp(),
+				cache.getRevisions()));
 		}
 		APIv2Plugin.getIssuesCache().removeAll(toBeRemoved);
 		APIv2Plugin.getIssuesCache().addAll(toBeAdded);
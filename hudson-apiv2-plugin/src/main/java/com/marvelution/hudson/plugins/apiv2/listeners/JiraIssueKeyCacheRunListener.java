@@ -20,21 +20,22 @@
 package com.marvelution.hudson.plugins.apiv2.listeners;
 
 import java.util.Collection;
+import java.util.Set;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.SetMultimap;
 import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.actions.BuildDigest;
 import com.marvelution.hudson.plugins.apiv2.cache.issue.IssueCache;
 import com.marvelution.hudson.plugins.apiv2.cache.issue.IssueKey;
 import com.marvelution.hudson.plugins.apiv2.cache.issue.IssuesCache;
-import com.marvelution.hudson.plugins.apiv2.utils.JiraKeyUtils;
+import com.marvelution.hudson.plugins.apiv2.utils.ChangeSetUtils;
 
 import hudson.Extension;
 import hudson.model.TaskListener;
 import hudson.model.AbstractBuild;
 import hudson.model.Run;
 import hudson.model.listeners.RunListener;
-import hudson.scm.ChangeLogSet;
-import hudson.scm.ChangeLogSet.Entry;
 
 /**
  * {@link RunListener} implementation to update the {@link IssuesCache}
@@ -56,15 +57,16 @@ public class JiraIssueKeyCacheRunListener extends RunListener<Run> {
 		if (r instanceof AbstractBuild) {
 			// We can only handle AbstractBuild implementations since we need the change log
 			AbstractBuild<?, ?> build = (AbstractBuild<?, ?>) r;
-			for (Entry entry : (ChangeLogSet<? extends Entry>) build.getChangeSet()) {
-				for (String key : JiraKeyUtils.getJiraIssueKeysFromText(entry.getMsg(),
-						APIv2Plugin.getIssuesCache().getIssueKeyPattern())) {
-					try {
-						toBeAdded.add(new IssueCache(IssueKey.getIssueKey(key), r.getParent().getFullName(), r
-							.getNumber()));
-					} catch (Exception e) {
-						// Ignore this
-					}
+			// The change set is still loaded at completion, so index the revisions of the commits per issue now
+			SetMultimap<String, String> revisions = ChangeSetUtils.getRevisionsByIssueKey(build.getChangeSet(),
+				APIv2Plugin.getIssuesCache().getIssueKeyPattern());
+			for (String key : BuildDigest.getDigest(build).getIssueKeys()) {
+				try {
+					Set<String> keyRevisions = revisions.get(key);
+					toBeAdded.add(new IssueCache(IssueKey.getIssueKey(key), r.getParent().getFullName(), r
+						.getNumber(), r.getTimeInMillis(), keyRevisions.toArray(new String[keyRevisions.size()])));
+				} catch (Exception e) {
+					// Ignore this
 				}
 			}
 		}
@@ -76,13 +78,7 @@ public class JiraIssueKeyCacheRunListener extends RunListener<Run> {
 	 */
 	@Override
 	public void onDeleted(Run r) {
-		Collection<IssueCache> toBeRemoved = Lists.newArrayList();
-		for (IssueCache cache : APIv2Plugin.getIssuesCache()) {
-			if (cache.getJob().equals(r.getParent().getFullName()) && cache.getBuild() == r.getNumber()) {
-				toBeRemoved.add(cache);
-			}
-		}
-		APIv2Plugin.getIssuesCache().removeAll(toBeRemoved);
+		APIv2Plugin.getIssuesCache().removeBuild(r.getParent().getFullName(), r.getNumber());
 	}
 
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.listeners;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.JobKeyedCache;
+
+import hudson.Extension;
+import hudson.model.Item;
+import hudson.model.listeners.ItemListener;
+
+/**
+ * {@link ItemListener} implementation to keep all the {@link JobKeyedCache} caches up to date on item rename and
+ * delete actions
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@Extension
+public class JobKeyedCachesItemListener extends ItemListener {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onDeleted(Item item) {
+		for (JobKeyedCache<?> cache : APIv2Plugin.getJobKeyedCaches()) {
+			cache.removeJob(item.getFullName());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onRenamed(Item item, String oldName, String newName) {
+		String oldFullName = oldName, newFullName = newName;
+		if (item.getParent().getFullName().length() > 0) {
+			oldFullName = item.getParent().getFullName() + "/" + oldName;
+			newFullName = item.getParent().getFullName() + "/" + newName;
+		}
+		for (JobKeyedCache<?> cache : APIv2Plugin.getJobKeyedCaches()) {
+			cache.renameJob(oldFullName, newFullName);
+		}
+	}
+
+}
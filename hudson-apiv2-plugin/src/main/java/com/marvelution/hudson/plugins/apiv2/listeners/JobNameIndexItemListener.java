@@ -0,0 +1,127 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.listeners;
+
+import java.util.logging.Logger;
+
+import org.acegisecurity.Authentication;
+import org.acegisecurity.context.SecurityContextHolder;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobNameIndex;
+
+import hudson.Extension;
+import hudson.model.Hudson;
+import hudson.model.Item;
+import hudson.model.ItemGroup;
+import hudson.model.Job;
+import hudson.model.listeners.ItemListener;
+import hudson.security.ACL;
+
+/**
+ * {@link ItemListener} implementation to keep the {@link JobNameIndex} up to date on item create, copy, rename and
+ * delete actions
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@Extension
+public class JobNameIndexItemListener extends ItemListener {
+
+	private final Logger log = Logger.getLogger(JobNameIndexItemListener.class.getName());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onLoaded() {
+		// Index all the Jobs, not only the Jobs the current user can see
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		SecurityContextHolder.getContext().setAuthentication(ACL.SYSTEM);
+		try {
+			// getAllItems also walks into the ItemGroups like Maven module sets, so the modules are indexed as well
+			APIv2Plugin.getJobNameIndex().clear();
+			for (Job<?, ?> job : Hudson.getInstance().getAllItems(Job.class)) {
+				APIv2Plugin.getJobNameIndex().add(job.getName(), job.getFullName());
+			}
+			log.fine("Indexed " + APIv2Plugin.getJobNameIndex().size() + " Job names");
+		} finally {
+			SecurityContextHolder.getContext().setAuthentication(auth);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onCreated(Item item) {
+		addToIndex(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onCopied(Item src, Item item) {
+		addToIndex(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onDeleted(Item item) {
+		APIv2Plugin.getJobNameIndex().remove(item.getFullName());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onRenamed(Item item, String oldName, String newName) {
+		String newFullName, oldFullName;
+		if (item.getParent().getFullName().length() == 0) {
+			newFullName = newName;
+			oldFullName = oldName;
+		} else {
+			newFullName = item.getParent().getFullName() + "/" + newName;
+			oldFullName = item.getParent().getFullName() + "/" + oldName;
+		}
+		APIv2Plugin.getJobNameIndex().rename(oldFullName, newFullName);
+	}
+
+	/**
+	 * Add an {@link Item}, and all the items within it in case it is an {@link ItemGroup}, to the {@link JobNameIndex}
+	 * 
+	 * @param item the {@link Item} to add
+	 */
+	static void addToIndex(Item item) {
+		if (item instanceof Job) {
+			APIv2Plugin.getJobNameIndex().add(item.getName(), item.getFullName());
+		}
+		if (item instanceof ItemGroup) {
+			for (Item child : ((ItemGroup<?>) item).getItems()) {
+				addToIndex(child);
+			}
+		}
+	}
+
+}
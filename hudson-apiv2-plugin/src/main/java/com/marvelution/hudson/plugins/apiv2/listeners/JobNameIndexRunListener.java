@@ -0,0 +1,63 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.listeners;
+
+import org.acegisecurity.Authentication;
+import org.acegisecurity.context.SecurityContextHolder;
+
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobNameIndex;
+
+import hudson.Extension;
+import hudson.model.ItemGroup;
+import hudson.model.TaskListener;
+import hudson.model.Run;
+import hudson.model.listeners.RunListener;
+import hudson.security.ACL;
+
+/**
+ * {@link RunListener} implementation to add the Jobs that are created by a build, like the modules of a Maven module
+ * set, to the {@link JobNameIndex}. These Jobs are not reported to the ItemListeners.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@SuppressWarnings("rawtypes")
+@Extension
+public class JobNameIndexRunListener extends RunListener<Run> {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onCompleted(Run r, TaskListener listener) {
+		if (r.getParent() instanceof ItemGroup) {
+			// Index all the Jobs, not only the Jobs the user that triggered the build can see
+			Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+			SecurityContextHolder.getContext().setAuthentication(ACL.SYSTEM);
+			try {
+				JobNameIndexItemListener.addToIndex(r.getParent());
+			} finally {
+				SecurityContextHolder.getContext().setAuthentication(auth);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.listeners;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobStatusCache;
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobStatusesCache;
+
+import hudson.Extension;
+import hudson.model.TaskListener;
+import hudson.model.Run;
+import hudson.model.listeners.RunListener;
+
+/**
+ * {@link RunListener} implementation to keep the {@link JobStatusesCache} up to date
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@SuppressWarnings("rawtypes")
+@Extension
+public class JobStatusCacheRunListener extends RunListener<Run> {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onStarted(Run r, TaskListener listener) {
+		JobStatusesCache cache = APIv2Plugin.getJobStatusesCache();
+		JobStatusCache status = cache.get(r.getParent().getFullName());
+		if (status != null) {
+			cache.put(status.started(r));
+		} else {
+			cache.put(JobStatusCache.fromJob(r.getParent()));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onCompleted(Run r, TaskListener listener) {
+		APIv2Plugin.getJobStatusesCache().put(JobStatusCache.fromJob(r.getParent(), r));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onDeleted(Run r) {
+		// The build is still part of the job at this point, recreate the status on the next lookup
+		APIv2Plugin.getJobStatusesCache().remove(r.getParent().getFullName());
+	}
+
+}
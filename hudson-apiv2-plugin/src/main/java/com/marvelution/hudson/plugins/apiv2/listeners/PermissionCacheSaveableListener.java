@@ -0,0 +1,59 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.listeners;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.permission.PermissionCache;
+
+import hudson.Extension;
+import hudson.XmlFile;
+import hudson.model.Hudson;
+import hudson.model.Item;
+import hudson.model.Saveable;
+import hudson.model.listeners.SaveableListener;
+
+/**
+ * {@link SaveableListener} that will invalidate the {@link PermissionCache} when the security configuration of
+ * Hudson, or the configuration of an {@link Item} that can hold its own authorization settings, is saved
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@Extension
+public class PermissionCacheSaveableListener extends SaveableListener {
+
+	private static final Logger LOGGER = Logger.getLogger(PermissionCacheSaveableListener.class.getName());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onChange(Saveable o, XmlFile file) {
+		if (o instanceof Hudson || o instanceof Item) {
+			LOGGER.log(Level.FINE, "Configuration of " + file + " changed, invalidating the Permission Cache");
+			APIv2Plugin.getPermissionCache().invalidate();
+		}
+	}
+
+}
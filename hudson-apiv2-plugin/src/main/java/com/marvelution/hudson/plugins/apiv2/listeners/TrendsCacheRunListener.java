@@ -0,0 +1,58 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.listeners;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.trend.TrendPointCache;
+import com.marvelution.hudson.plugins.apiv2.cache.trend.TrendsCache;
+
+import hudson.Extension;
+import hudson.model.TaskListener;
+import hudson.model.Run;
+import hudson.model.listeners.RunListener;
+
+/**
+ * {@link RunListener} implementation to extend the {@link TrendsCache} with every completed build
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@SuppressWarnings("rawtypes")
+@Extension
+public class TrendsCacheRunListener extends RunListener<Run> {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onCompleted(Run r, TaskListener listener) {
+		APIv2Plugin.getTrendsCache().put(r.getParent().getFullName(), TrendPointCache.fromRun(r));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onDeleted(Run r) {
+		APIv2Plugin.getTrendsCache().remove(r.getParent().getFullName(), r.getNumber());
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram with fixed bucket upper bounds
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class Histogram {
+
+	private final long[] bounds;
+	private final double divisor;
+	private final AtomicLongArray buckets;
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+
+	/**
+	 * Constructor
+	 * 
+	 * @param bounds the sorted inclusive upper bounds of the buckets, an overflow bucket is added automatically
+	 * @param divisor the number of observed units per unit used when the histogram is exposed
+	 */
+	public Histogram(long[] bounds, double divisor) {
+		this.bounds = bounds.clone();
+		this.divisor = divisor;
+		buckets = new AtomicLongArray(bounds.length + 1);
+	}
+
+	/**
+	 * Observe a value
+	 * 
+	 * @param value the value to observe
+	 */
+	public void observe(long value) {
+		int index = Arrays.binarySearch(bounds, value);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		buckets.incrementAndGet(index);
+		count.incrementAndGet();
+		sum.addAndGet(value);
+	}
+
+	/**
+	 * Getter for the bucket upper bounds, excluding the overflow bucket
+	 * 
+	 * @return the bucket upper bounds
+	 */
+	public long[] getBounds() {
+		return bounds.clone();
+	}
+
+	/**
+	 * Getter for the number of observations in a bucket, the overflow bucket has index {@link #getBounds()} length
+	 * 
+	 * @param index the index of the bucket
+	 * @return the number of observations within the bucket
+	 */
+	public long getBucketCount(int index) {
+		return buckets.get(index);
+	}
+
+	/**
+	 * Getter for the total number of observations
+	 * 
+	 * @return the number of observations
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Getter for the sum of all observed values
+	 * 
+	 * @return the sum
+	 */
+	public long getSum() {
+		return sum.get();
+	}
+
+	/**
+	 * Getter for the number of observed units per exposed unit
+	 * 
+	 * @return the divisor
+	 */
+	public double getDivisor() {
+		return divisor;
+	}
+
+}
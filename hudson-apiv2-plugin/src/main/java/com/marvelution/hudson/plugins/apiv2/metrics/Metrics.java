@@ -0,0 +1,349 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.metrics;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of the APIv2 metrics. Metrics are identified by a name and an optional set of labels and are exposed in
+ * the Prometheus text format. All metrics are updated without locking so they can be recorded on every request.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public final class Metrics {
+
+	/**
+	 * Bucket upper bounds for durations in nanoseconds, from 100 microseconds up to 30 seconds
+	 */
+	public static final long[] DURATION_BUCKETS = { 100000L, 250000L, 500000L, 1000000L, 2500000L, 5000000L,
+		10000000L, 25000000L, 50000000L, 100000000L, 250000000L, 500000000L, 1000000000L, 2500000000L, 5000000000L,
+		10000000000L, 30000000000L };
+
+	/**
+	 * Bucket upper bounds for sizes in bytes, from 256 bytes up to 16 megabytes
+	 */
+	public static final long[] SIZE_BUCKETS = { 256L, 1024L, 4096L, 16384L, 65536L, 262144L, 1048576L, 4194304L,
+		16777216L };
+
+	/**
+	 * The name of the IssuesCache in the cache metrics
+	 */
+	public static final String ISSUES_CACHE = "issues";
+
+	/**
+	 * The name of the ActivitiesCache in the cache metrics
+	 */
+	public static final String ACTIVITIES_CACHE = "activities";
+
+	/**
+	 * The name of the BuildSummariesCache in the cache metrics
+	 */
+	public static final String BUILD_SUMMARIES_CACHE = "summaries";
+
+	/**
+	 * The name of the JobStatusesCache in the cache metrics
+	 */
+	public static final String JOB_STATUSES_CACHE = "statuses";
+
+	/**
+	 * The name of the TrendsCache in the cache metrics
+	 */
+	public static final String TRENDS_CACHE = "trends";
+
+	/**
+	 * The name of the StatisticsCache in the cache metrics
+	 */
+	public static final String STATISTICS_CACHE = "statistics";
+
+	/**
+	 * The name of the FlakyTestsCache in the cache metrics
+	 */
+	public static final String FLAKY_TESTS_CACHE = "flakytests";
+
+	private static final double NANOS_PER_SECOND = 1000000000D;
+
+	private static final ConcurrentMap<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<String, Histogram>();
+
+	private static final ConcurrentMap<String, AtomicLong> COUNTERS = new ConcurrentHashMap<String, AtomicLong>();
+
+	/**
+	 * Private constructor for utility class
+	 */
+	private Metrics() {
+	}
+
+	/**
+	 * Record the duration of an operation in the duration histogram with the given name and labels
+	 * 
+	 * @param name the name of the histogram, should end with <code>_duration_seconds</code>
+	 * @param startNanos the {@link System#nanoTime()} at the start of the operation
+	 * @param labels the label names and values, alternating
+	 */
+	public static void observeDuration(String name, long startNanos, String... labels) {
+		getHistogram(name, DURATION_BUCKETS, NANOS_PER_SECOND, labels).observe(System.nanoTime() - startNanos);
+	}
+
+	/**
+	 * Record a size in the size histogram with the given name and labels
+	 * 
+	 * @param name the name of the histogram, should end with <code>_bytes</code>
+	 * @param size the size in bytes
+	 * @param labels the label names and values, alternating
+	 */
+	public static void observeSize(String name, long size, String... labels) {
+		getHistogram(name, SIZE_BUCKETS, 1D, labels).observe(size);
+	}
+
+	/**
+	 * Increment the counter with the given name and labels
+	 * 
+	 * @param name the name of the counter, should end with <code>_total</code>
+	 * @param labels the label names and values, alternating
+	 */
+	public static void increment(String name, String... labels) {
+		getCounter(name, labels).incrementAndGet();
+	}
+
+	/**
+	 * Record the outcome of a cache lookup
+	 * 
+	 * @param cache the name of the cache
+	 * @param startNanos the {@link System#nanoTime()} at the start of the lookup
+	 * @param hit flag whether the lookup resulted in a hit
+	 */
+	public static void observeCacheLookup(String cache, long startNanos, boolean hit) {
+		observeDuration("apiv2_cache_lookup_duration_seconds", startNanos, "cache", cache);
+		increment("apiv2_cache_lookups_total", "cache", cache, "result", hit ? "hit" : "miss");
+	}
+
+	/**
+	 * Get the hit ratio of the lookups of the given cache
+	 * 
+	 * @param cache the name of the cache
+	 * @return the hit ratio, between 0 and 1, or {@link Double#NaN} if there were no lookups
+	 */
+	public static double getCacheHitRatio(String cache) {
+		long hits = getCounter("apiv2_cache_lookups_total", "cache", cache, "result", "hit").get();
+		long misses = getCounter("apiv2_cache_lookups_total", "cache", cache, "result", "miss").get();
+		return hits + misses == 0L ? Double.NaN : (double) hits / (hits + misses);
+	}
+
+	/**
+	 * Get the {@link Histogram} with the given name and labels, creating it if needed
+	 * 
+	 * @param name the name of the histogram
+	 * @param bounds the bucket upper bounds, only used when the histogram is created
+	 * @param divisor the number of observed units per exposed unit, only used when the histogram is created
+	 * @param labels the label names and values, alternating
+	 * @return the {@link Histogram}
+	 */
+	public static Histogram getHistogram(String name, long[] bounds, double divisor, String... labels) {
+		String key = getKey(name, labels);
+		Histogram histogram = HISTOGRAMS.get(key);
+		if (histogram == null) {
+			histogram = new Histogram(bounds, divisor);
+			Histogram existing = HISTOGRAMS.putIfAbsent(key, histogram);
+			if (existing != null) {
+				histogram = existing;
+			}
+		}
+		return histogram;
+	}
+
+	/**
+	 * Get the counter with the given name and labels, creating it if needed
+	 * 
+	 * @param name the name of the counter
+	 * @param labels the label names and values, alternating
+	 * @return the counter
+	 */
+	public static AtomicLong getCounter(String name, String... labels) {
+		String key = getKey(name, labels);
+		AtomicLong counter = COUNTERS.get(key);
+		if (counter == null) {
+			counter = new AtomicLong();
+			AtomicLong existing = COUNTERS.putIfAbsent(key, counter);
+			if (existing != null) {
+				counter = existing;
+			}
+		}
+		return counter;
+	}
+
+	/**
+	 * Reset all the metrics
+	 */
+	public static void clear() {
+		HISTOGRAMS.clear();
+		COUNTERS.clear();
+	}
+
+	/**
+	 * Write all the counters and histograms in the Prometheus text format
+	 * 
+	 * @param output the {@link StringBuilder} to write to
+	 */
+	public static void write(StringBuilder output) {
+		String previous = null;
+		for (Entry<String, AtomicLong> entry : new TreeMap<String, AtomicLong>(COUNTERS).entrySet()) {
+			String name = getName(entry.getKey());
+			if (!name.equals(previous)) {
+				output.append("# TYPE ").append(name).append(" counter\n");
+				previous = name;
+			}
+			output.append(entry.getKey()).append(' ').append(entry.getValue().get()).append('\n');
+		}
+		for (Entry<String, Histogram> entry : new TreeMap<String, Histogram>(HISTOGRAMS).entrySet()) {
+			String name = getName(entry.getKey());
+			if (!name.equals(previous)) {
+				output.append("# TYPE ").append(name).append(" histogram\n");
+				previous = name;
+			}
+			writeHistogram(output, name, getLabels(entry.getKey()), entry.getValue());
+		}
+	}
+
+	/**
+	 * Write a gauge in the Prometheus text format
+	 * 
+	 * @param output the {@link StringBuilder} to write to
+	 * @param name the name of the gauge
+	 * @param label the name of the label
+	 * @param values the {@link Map} of label values to gauge values
+	 */
+	public static void writeGauge(StringBuilder output, String name, String label,
+					Map<String, ? extends Number> values) {
+		output.append("# TYPE ").append(name).append(" gauge\n");
+		for (Entry<String, ? extends Number> entry : values.entrySet()) {
+			output.append(getKey(name, label, entry.getKey())).append(' ');
+			appendValue(output, entry.getValue().doubleValue());
+			output.append('\n');
+		}
+	}
+
+	/**
+	 * Internal method to write a single histogram
+	 * 
+	 * @param output the {@link StringBuilder} to write to
+	 * @param name the name of the histogram
+	 * @param labels the labels of the histogram, including the trailing comma if not empty
+	 * @param histogram the {@link Histogram}
+	 */
+	private static void writeHistogram(StringBuilder output, String name, String labels, Histogram histogram) {
+		long[] bounds = histogram.getBounds();
+		long cumulative = 0L;
+		for (int index = 0; index <= bounds.length; index++) {
+			cumulative += histogram.getBucketCount(index);
+			output.append(name).append("_bucket{").append(labels).append("le=\"");
+			if (index < bounds.length) {
+				appendValue(output, bounds[index] / histogram.getDivisor());
+			} else {
+				output.append("+Inf");
+			}
+			output.append("\"} ").append(cumulative).append('\n');
+		}
+		String suffix = labels.length() > 0 ? "{" + labels.substring(0, labels.length() - 1) + "}" : "";
+		output.append(name).append("_sum").append(suffix).append(' ');
+		appendValue(output, histogram.getSum() / histogram.getDivisor());
+		output.append('\n');
+		output.append(name).append("_count").append(suffix).append(' ').append(histogram.getCount()).append('\n');
+	}
+
+	/**
+	 * Internal method to append a value in plain notation, whole numbers are written without fraction
+	 * 
+	 * @param output the {@link StringBuilder} to append to
+	 * @param value the value to append
+	 */
+	private static void appendValue(StringBuilder output, double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			output.append(Double.isNaN(value) ? "NaN" : (value > 0 ? "+Inf" : "-Inf"));
+		} else if (value == Math.rint(value)) {
+			output.append((long) value);
+		} else {
+			output.append(BigDecimal.valueOf(value).stripTrailingZeros().toPlainString());
+		}
+	}
+
+	/**
+	 * Internal method to get the key of a metric
+	 * 
+	 * @param name the name of the metric
+	 * @param labels the label names and values, alternating
+	 * @return the key, formatted as the metric is exposed
+	 */
+	private static String getKey(String name, String... labels) {
+		if (labels.length == 0) {
+			return name;
+		}
+		StringBuilder key = new StringBuilder(name).append('{');
+		for (int index = 0; index + 1 < labels.length; index += 2) {
+			if (index > 0) {
+				key.append(',');
+			}
+			key.append(labels[index]).append("=\"").append(escape(labels[index + 1])).append('"');
+		}
+		return key.append('}').toString();
+	}
+
+	/**
+	 * Internal method to get the name of a metric from its key
+	 * 
+	 * @param key the key of the metric
+	 * @return the name
+	 */
+	private static String getName(String key) {
+		int index = key.indexOf('{');
+		return index < 0 ? key : key.substring(0, index);
+	}
+
+	/**
+	 * Internal method to get the labels of a metric from its key, including a trailing comma if not empty
+	 * 
+	 * @param key the key of the metric
+	 * @return the labels
+	 */
+	private static String getLabels(String key) {
+		int index = key.indexOf('{');
+		return index < 0 ? "" : key.substring(index + 1, key.length() - 1) + ",";
+	}
+
+	/**
+	 * Internal method to escape a label value
+	 * 
+	 * @param value the label value
+	 * @return the escaped value
+	 */
+	private static String escape(String value) {
+		if (value == null) {
+			return "";
+		}
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+}
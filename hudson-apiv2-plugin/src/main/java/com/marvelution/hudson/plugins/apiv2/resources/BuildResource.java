@@ -21,14 +21,19 @@ package com.marvelution.hudson.plugins.apiv2.resources;
 
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchBuildException;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Builds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.TestCaseResults;
 
 /**
  * Build Resource Endpoint interface
@@ -175,4 +180,55 @@ public interface BuildResource {
 	@Path("{jobName}/after")
 	Builds getBuilds(@PathParam("jobName") String jobName, @QueryParam("from") Long from) throws NoSuchJobException;
 
+	/**
+	 * Get a page of the test cases of a build. The test reports are streamed from disk so only the requested page is
+	 * kept in memory
+	 * 
+	 * @param jobName the Job name to get the build for
+	 * @param buildNumber the build number of the build to get the test cases of
+	 * @param status the status of the test cases to get, <code>passed</code>, <code>failed</code> or
+	 * 			<code>skipped</code>, or all test cases if not set
+	 * @param className the class name or package name of the test cases to get
+	 * @param testName the name of the test cases to get
+	 * @param offset the number of matching test cases to skip
+	 * @param count the number of test cases to get, at most 1000
+	 * @return the {@link TestCaseResults} page
+	 * @throws NoSuchJobException in case the job identified by the jobName doesn't exist
+	 * @throws NoSuchBuildException in case the build identified by the buildNumber doesn't exist
+	 * @since 4.5.0
+	 */
+	@GET
+	@Path("{jobName}/{buildNumber}/tests")
+	TestCaseResults getTestCaseResults(@PathParam("jobName") String jobName,
+			@PathParam("buildNumber") Integer buildNumber, @QueryParam("status") String status,
+			@QueryParam("class") String className, @QueryParam("name") String testName,
+			@QueryParam("offset") @DefaultValue("0") Integer offset,
+			@QueryParam("count") @DefaultValue("100") Integer count) throws NoSuchJobException, NoSuchBuildException;
+
+	/**
+	 * Get the console log of a build, as plain text without the console annotations of Hudson.
+	 * Supports a single byte range in the Range header, the last lines of the log using tail, and following a running
+	 * build by passing the X-Text-Size header of the previous response as start. As long as the X-More-Data header is
+	 * <code>true</code> the build is running and more data may follow, the request never waits for new data so
+	 * clients following a running build must poll. The byte ranges, start and X-Text-Size are offsets in the log
+	 * file. A byte range is served unchanged, including any annotations, so the response matches its Content-Range,
+	 * otherwise the annotations are removed from the served region so the response may be shorter than the region
+	 * 
+	 * @param jobName the Job name to get the build for
+	 * @param buildNumber the build number of the build to get the console log of
+	 * @param range the HTTP Range header, may be <code>null</code>
+	 * @param tail the number of lines at the end of the log to get, <code>0</code> for the complete log
+	 * @param start the offset to continue following the log from, <code>-1</code> to not follow the log
+	 * @return the {@link Response} with the log
+	 * @throws NoSuchJobException in case the job identified by the jobName doesn't exist
+	 * @throws NoSuchBuildException in case the build identified by the buildNumber doesn't exist
+	 * @since 4.5.0
+	 */
+	@GET
+	@Path("{jobName}/{buildNumber}/console")
+	@Produces(MediaType.TEXT_PLAIN)
+	Response getConsoleLog(@PathParam("jobName") String jobName, @PathParam("buildNumber") Integer buildNumber,
+			@HeaderParam("Range") String range, @QueryParam("tail") @DefaultValue("0") Integer tail,
+			@QueryParam("start") @DefaultValue("-1") Long start) throws NoSuchJobException, NoSuchBuildException;
+
 }
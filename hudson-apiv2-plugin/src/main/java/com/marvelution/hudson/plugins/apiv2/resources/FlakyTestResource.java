@@ -0,0 +1,71 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchViewException;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.FlakyTests;
+
+/**
+ * Flaky Tests Resource Endpoint interface
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public interface FlakyTestResource {
+
+	/**
+	 * Get the flaky tests of the jobs in a view and/or a list of jobs, ranked by their flip rate
+	 * 
+	 * @param viewName the name of the view to get the flaky tests of, may be <code>null</code>
+	 * @param jobNames the names of the jobs to get the flaky tests of, unknown jobs are skipped
+	 * @param minFlips the minimum number of times the outcome of a test must have changed
+	 * @param limit the maximum number of tests to return
+	 * @return the {@link FlakyTests}, the flakiest first
+	 * @throws NoSuchViewException in case the given view doesn't exist
+	 */
+	@GET
+	FlakyTests getFlakyTests(@QueryParam("view") String viewName, @QueryParam("job[]") String[] jobNames,
+			@QueryParam("minFlips") @DefaultValue("2") Integer minFlips,
+			@QueryParam("limit") @DefaultValue("25") Integer limit) throws NoSuchViewException;
+
+	/**
+	 * Get the flaky tests of a single job, including its modules, ranked by their flip rate
+	 * 
+	 * @param jobName the name of the job
+	 * @param minFlips the minimum number of times the outcome of a test must have changed
+	 * @param limit the maximum number of tests to return
+	 * @return the {@link FlakyTests}, the flakiest first
+	 * @throws NoSuchJobException in case the given Job name doesn't exist in Hudson
+	 */
+	@GET
+	@Path("{jobName}")
+	FlakyTests getFlakyTests(@PathParam("jobName") String jobName,
+			@QueryParam("minFlips") @DefaultValue("2") Integer minFlips,
+			@QueryParam("limit") @DefaultValue("25") Integer limit) throws NoSuchJobException;
+
+}
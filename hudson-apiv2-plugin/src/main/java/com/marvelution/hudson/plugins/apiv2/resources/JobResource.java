@@ -85,4 +85,17 @@ public interface JobResource {
 	Jobs listJobs(@QueryParam("nameOnly") @DefaultValue("false") Boolean nameOnly,
 					@QueryParam("includeAllBuilds") @DefaultValue("false") Boolean includeAllBuilds);
 
+	/**
+	 * Suggest {@link Job} objects by the prefix of their name, or of one of the segments of their full name.
+	 * The suggestions are served from the Job name index and mapped with minimal data
+	 * 
+	 * @param prefix the prefix of the Job name, case insensitive
+	 * @param limit the maximum number of suggestions, at most 100
+	 * @return the {@link Jobs} collection
+	 * @since 4.5.0
+	 */
+	@GET
+	@Path("suggest")
+	Jobs suggestJobs(@QueryParam("prefix") String prefix, @QueryParam("limit") @DefaultValue("20") Integer limit);
+
 }
@@ -19,14 +19,23 @@
 
 package com.marvelution.hudson.plugins.apiv2.resources;
 
+import javax.ws.rs.Consumes;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
 
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Builds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueCommit;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueCommits;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueFirstBuild;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueFirstBuilds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssuesBuilds;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.IssueKeysBodyUtils;
 
 /**
  * Search Resource Endpoint interface
@@ -40,12 +49,126 @@ public interface SearchResource {
 	 * 
 	 * @param keys the JIRA Issue Keys to search for
 	 * @param jobName the Job name to limit the search within
+	 * @param summary flag to only return the job name, number, result, timestamp and duration of the builds, these
+	 * 			are served from memory without loading the builds from disk
+	 * @param limit the maximum number of builds to return, the most recent builds are returned first, <code>0</code>
+	 * 			or less for all the builds
+	 * @param since only return builds started on or after this timestamp, <code>0</code> or less for all the builds
 	 * @return the {@link Builds} that are related to the given keys
 	 * @throws NoSuchJobException in case the given Job name doesn't exist in Hudson
 	 */
 	@GET
 	@Path("issues")
-	Builds searchForIssues(@QueryParam("key[]") String[] keys, @QueryParam("jobname") @DefaultValue("") String jobName)
+	Builds searchForIssues(@QueryParam("key[]") String[] keys, @QueryParam("jobname") @DefaultValue("") String jobName,
+			@QueryParam("summary") @DefaultValue("false") Boolean summary,
+			@QueryParam("limit") @DefaultValue("0") Integer limit, @QueryParam("since") @DefaultValue("0") Long since)
 			throws NoSuchJobException;
 
+	/**
+	 * Search for {@link Build}s on the Hudson instance using a POST request, for key sets that are too large to fit
+	 * in the request URL
+	 * 
+	 * @param keys the JIRA Issue and/or Project Keys to search for, encoded in the request body as described by
+	 * 			{@link IssueKeysBodyUtils}
+	 * @param jobName the Job name to limit the search within
+	 * @param summary flag to only return the job name, number, result, timestamp and duration of the builds, these
+	 * 			are served from memory without loading the builds from disk
+	 * @param limit the maximum number of builds to return, the most recent builds are returned first, <code>0</code>
+	 * 			or less for all the builds
+	 * @param since only return builds started on or after this timestamp, <code>0</code> or less for all the builds
+	 * @return the {@link Builds} that are related to the given keys
+	 * @throws NoSuchJobException in case the given Job name doesn't exist in Hudson
+	 * @since 4.5.0
+	 */
+	@POST
+	@Path("issues")
+	@Consumes(MediaType.TEXT_PLAIN)
+	Builds searchForIssues(String keys, @QueryParam("jobname") @DefaultValue("") String jobName,
+			@QueryParam("summary") @DefaultValue("false") Boolean summary,
+			@QueryParam("limit") @DefaultValue("0") Integer limit, @QueryParam("since") @DefaultValue("0") Long since)
+			throws NoSuchJobException;
+
+	/**
+	 * Search for {@link Build}s on the Hudson instance, grouped by the JIRA issue they are related to
+	 * 
+	 * @param keys the JIRA Issue and/or Project Keys to search for
+	 * @param jobName the Job name to limit the search within
+	 * @param summary flag to only return the job name, number, result, timestamp and duration of the builds, these
+	 * 			are served from memory without loading the builds from disk
+	 * @param latestPerJob flag to only return the latest build of each job per issue
+	 * @return the {@link IssuesBuilds} with the {@link Builds} per issue key
+	 * @throws NoSuchJobException in case the given Job name doesn't exist in Hudson
+	 * @since 4.5.0
+	 */
+	@GET
+	@Path("issues/grouped")
+	IssuesBuilds searchForIssuesGroupedByIssue(@QueryParam("key[]") String[] keys,
+			@QueryParam("jobname") @DefaultValue("") String jobName,
+			@QueryParam("summary") @DefaultValue("false") Boolean summary,
+			@QueryParam("latestPerJob") @DefaultValue("false") Boolean latestPerJob) throws NoSuchJobException;
+
+	/**
+	 * Search for {@link Build}s on the Hudson instance using a POST request, grouped by the JIRA issue they are
+	 * related to
+	 * 
+	 * @param keys the JIRA Issue and/or Project Keys to search for, encoded in the request body as described by
+	 * 			{@link IssueKeysBodyUtils}
+	 * @param jobName the Job name to limit the search within
+	 * @param summary flag to only return the job name, number, result, timestamp and duration of the builds, these
+	 * 			are served from memory without loading the builds from disk
+	 * @param latestPerJob flag to only return the latest build of each job per issue
+	 * @return the {@link IssuesBuilds} with the {@link Builds} per issue key
+	 * @throws NoSuchJobException in case the given Job name doesn't exist in Hudson
+	 * @since 4.5.0
+	 */
+	@POST
+	@Path("issues/grouped")
+	@Consumes(MediaType.TEXT_PLAIN)
+	IssuesBuilds searchForIssuesGroupedByIssue(String keys, @QueryParam("jobname") @DefaultValue("") String jobName,
+			@QueryParam("summary") @DefaultValue("false") Boolean summary,
+			@QueryParam("latestPerJob") @DefaultValue("false") Boolean latestPerJob) throws NoSuchJobException;
+
+	/**
+	 * Search for the commits related to JIRA issues, with the build each commit was first seen in. The commits are
+	 * served from the issue index, no change logs are loaded from disk.
+	 * 
+	 * @param keys the JIRA Issue Keys to get the commits of
+	 * @param jobName the Job name to limit the search within
+	 * @return the {@link IssueCommits}, the {@link IssueCommit}s of each issue in the order they were first seen
+	 * @since 4.5.0
+	 */
+	@GET
+	@Path("commits")
+	IssueCommits searchForIssueCommits(@QueryParam("key[]") String[] keys,
+			@QueryParam("jobname") @DefaultValue("") String jobName);
+
+	/**
+	 * Get the first build of each job that contained the given JIRA issues. The first builds are kept per issue and
+	 * job in the issue index, so each issue key is a single lookup.
+	 * 
+	 * @param keys the JIRA Issue Keys to get the first builds of
+	 * @param jobName the Job name to limit the search within
+	 * @return the {@link IssueFirstBuilds}, the {@link IssueFirstBuild}s of each issue ordered by job name
+	 * @since 4.5.0
+	 */
+	@GET
+	@Path("first")
+	IssueFirstBuilds searchForIssueFirstBuilds(@QueryParam("key[]") String[] keys,
+			@QueryParam("jobname") @DefaultValue("") String jobName);
+
+	/**
+	 * Get the first build of each job that contained the given JIRA issues using a POST request, for batches of keys
+	 * that are too large to fit in the request URL
+	 * 
+	 * @param keys the JIRA Issue Keys to get the first builds of, encoded in the request body as described by
+	 * 			{@link IssueKeysBodyUtils}
+	 * @param jobName the Job name to limit the search within
+	 * @return the {@link IssueFirstBuilds}, the {@link IssueFirstBuild}s of each issue ordered by job name
+	 * @since 4.5.0
+	 */
+	@POST
+	@Path("first")
+	@Consumes(MediaType.TEXT_PLAIN)
+	IssueFirstBuilds searchForIssueFirstBuilds(String keys, @QueryParam("jobname") @DefaultValue("") String jobName);
+
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchViewException;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatistics;
+
+/**
+ * Build Statistics Resource Endpoint interface
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public interface StatisticsResource {
+
+	/**
+	 * Get the merged {@link JobStatistics} of the jobs in a view, a group of jobs and/or a list of jobs.
+	 * The statistics are maintained as builds complete, no builds are loaded to serve them
+	 * 
+	 * @param viewName the name of the view to get the statistics of, may be <code>null</code>
+	 * @param group the full name of a group of jobs, like a Maven module set, may be <code>null</code>
+	 * @param jobNames the names of the jobs to get the statistics of, unknown jobs are skipped
+	 * @return the merged {@link JobStatistics}
+	 * @throws NoSuchViewException in case the given view doesn't exist
+	 */
+	@GET
+	JobStatistics getStatistics(@QueryParam("view") String viewName, @QueryParam("group") String group,
+			@QueryParam("job[]") String[] jobNames) throws NoSuchViewException;
+
+	/**
+	 * Get the {@link JobStatistics} of a single job
+	 * 
+	 * @param jobName the name of the job
+	 * @return the {@link JobStatistics}
+	 * @throws NoSuchJobException in case the given Job name doesn't exist in Hudson
+	 */
+	@GET
+	@Path("{jobName}")
+	JobStatistics getJobStatistics(@PathParam("jobName") String jobName) throws NoSuchJobException;
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.QueryParam;
+
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchViewException;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatus;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatuses;
+
+/**
+ * Job Status Resource Endpoint interface
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public interface StatusResource {
+
+	/**
+	 * Get the {@link JobStatus} of the jobs in a view and/or a list of jobs. The statuses are served from memory
+	 * without mapping the builds of the jobs
+	 * 
+	 * @param viewName the name of the view to get the job statuses of, may be <code>null</code>
+	 * @param jobNames the names of the jobs to get the statuses of, unknown jobs are skipped
+	 * @return the {@link JobStatuses}, of all the jobs if neither a view nor jobs are given
+	 * @throws NoSuchViewException in case the given view doesn't exist
+	 */
+	@GET
+	JobStatuses getStatuses(@QueryParam("view") String viewName, @QueryParam("job[]") String[] jobNames)
+			throws NoSuchViewException;
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Trend;
+
+/**
+ * Build Trend Resource Endpoint interface
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public interface TrendResource {
+
+	/**
+	 * Get the build {@link Trend} of a job, with the duration, result and test counts of the builds. The
+	 * trend is served from memory and downsampled to the requested number of points using the
+	 * Largest-Triangle-Three-Buckets algorithm. The trend of a job that was built before the trends were kept in
+	 * memory only holds the later builds until the older builds are added in the background
+	 * 
+	 * @param jobName the name of the job to get the trend of
+	 * @param points the maximum number of points to return, <code>0</code> or less for all the points
+	 * @param metric the metric that is used to select the points when downsampling, either <code>duration</code>,
+	 * 			<code>tests</code> or <code>failed</code>
+	 * @return the {@link Trend}
+	 * @throws NoSuchJobException in case the given Job name doesn't exist in Hudson
+	 */
+	@GET
+	@Path("{jobName}")
+	Trend getTrend(@PathParam("jobName") String jobName, @QueryParam("points") @DefaultValue("0") Integer points,
+			@QueryParam("metric") @DefaultValue("duration") String metric) throws NoSuchJobException;
+
+}
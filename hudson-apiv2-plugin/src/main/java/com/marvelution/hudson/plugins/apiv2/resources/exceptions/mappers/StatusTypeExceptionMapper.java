@@ -27,12 +27,14 @@ import javax.ws.rs.ext.Provider;
 
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.AbstractStatusTypeException;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchBuildException;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
 
 /**
  * {@link ExceptionMapper} to map a {@link NoSuchBuildException} to a {@link Response}
  * 
  * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld<a/>
  */
+@WinkApplicationClass
 @Provider
 public class StatusTypeExceptionMapper implements ExceptionMapper<AbstractStatusTypeException> {
 
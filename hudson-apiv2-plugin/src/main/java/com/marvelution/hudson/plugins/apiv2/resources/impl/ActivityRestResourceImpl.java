@@ -45,6 +45,7 @@ import com.marvelution.hudson.plugins.apiv2.cache.activity.ActivityCachePredicat
 import com.marvelution.hudson.plugins.apiv2.cache.activity.BuildActivityCache;
 import com.marvelution.hudson.plugins.apiv2.cache.activity.JobActivityCache;
 import com.marvelution.hudson.plugins.apiv2.dozer.utils.DozerUtils;
+import com.marvelution.hudson.plugins.apiv2.metrics.Metrics;
 import com.marvelution.hudson.plugins.apiv2.resources.ActivityResource;
 import com.marvelution.hudson.plugins.apiv2.resources.model.User;
 import com.marvelution.hudson.plugins.apiv2.resources.model.activity.Activities;
@@ -55,6 +56,7 @@ import com.marvelution.hudson.plugins.apiv2.resources.model.activity.ActivityTyp
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
 import com.marvelution.hudson.plugins.apiv2.resources.model.job.Job;
 import com.marvelution.hudson.plugins.apiv2.utils.HudsonPluginUtils;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
 
 /**
  * The REST implementation of the {@link ActivityResource} interface
@@ -62,6 +64,7 @@ import com.marvelution.hudson.plugins.apiv2.utils.HudsonPluginUtils;
  * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
  * @since 4.2.0
  */
+@WinkApplicationClass
 @Scope(ScopeType.SINGLETON)
 @Parent(BaseRestResource.class)
 @Path("activity")
@@ -75,10 +78,11 @@ public class ActivityRestResourceImpl extends BaseRestResource implements Activi
 	@Override
 	public Activities getActivities(ActivityType[] types, String[] jobs, String[] userIds, int maxResults) {
 		Activities activities = new Activities();
+		long start = System.nanoTime();
 		for (ActivityCache cache : getFilteredActivities(types, jobs, userIds)) {
 			try {
 				hudson.model.Job<?, ? extends AbstractBuild<?, ?>> job = getHudsonJob(cache.getJob());
-				if (job.hasPermission(Project.READ)) {
+				if (hasPermission(job, Project.READ)) {
 					if (cache instanceof BuildActivityCache) {
 						activities.add(getBuildActivityFromCache((BuildActivityCache) cache, job));
 					} else if (cache instanceof JobActivityCache) {
@@ -94,6 +98,8 @@ public class ActivityRestResourceImpl extends BaseRestResource implements Activi
 					+ e.getMessage(), e);
 			}
 		}
+		// The cache is filtered lazily, so the lookup time includes the mapping of the activities found
+		Metrics.observeCacheLookup(Metrics.ACTIVITIES_CACHE, start, activities.size() > 0);
 		return activities;
 	}
 
@@ -24,6 +24,8 @@ import java.util.logging.Logger;
 import hudson.model.AbstractBuild;
 import hudson.model.Hudson;
 import hudson.model.Project;
+import hudson.security.AccessControlled;
+import hudson.security.Permission;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Path;
@@ -32,18 +34,24 @@ import javax.ws.rs.core.MediaType;
 
 import org.apache.commons.lang.StringUtils;
 
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobNameIndex;
+import com.marvelution.hudson.plugins.apiv2.cache.permission.PermissionCache;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.ForbiddenException;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchBuildException;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.MediaTypeUtils;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
 
 /**
  * Parent (Base) REST resource for all REST implementations for Hudson
  * 
  * @author <a href="mailto:markrekveld@marvelution.com">Mark rekveld</a>
  */
+@WinkApplicationClass
 @Path(BaseRestResource.BASE_REST_URI)
 @Consumes( { MediaType.APPLICATION_FORM_URLENCODED, MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML } )
-@Produces( { MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML } )
+@Produces( { MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, MediaTypeUtils.APPLICATION_FASTINFOSET } )
 public class BaseRestResource {
 
 	private final Logger LOGGER = Logger.getLogger(BaseRestResource.class.getName());
@@ -70,19 +78,24 @@ public class BaseRestResource {
 			hudson.model.Job.class);
 		if (job != null) {
 			LOGGER.fine("Found the job " + job.getFullName() + ", checking permissions");
-			if (job.hasPermission(Project.READ)) {
+			if (hasPermission(job, Project.READ)) {
 				return job;
 			} else {
 				throw new ForbiddenException();
 			}
 		} else {
-			// We failed to get the Job, but it could be a module.
-			// Loop through all the Jobs to locate it.
-			LOGGER.fine("Could not find the Job using method getItemByFullName, going to loop through all the Job Items");
-			for (hudson.model.Job<?, ? extends AbstractBuild<?, ?>> item : Hudson.getInstance().getAllItems(
-					hudson.model.Job.class)) {
-				// Only search in the Jobs the user can view
-				if (jobName.equals(item.getName()) && item.hasPermission(Project.READ)) {
+			// We failed to get the Job, but it could be a module or a Job within a folder.
+			// Lookup the full names of the Jobs with the given name in the index, the index includes the modules
+			// since they are indexed on load and after every build that could have created new modules.
+			LOGGER.fine("Could not find the Job using method getItemByFullName, going to lookup the Job name index");
+			JobNameIndex index = APIv2Plugin.getJobNameIndex();
+			for (String fullName : index.getFullNames(jobName)) {
+				hudson.model.Job<?, ? extends AbstractBuild<?, ?>> item = Hudson.getInstance().getItemByFullName(
+					fullName, hudson.model.Job.class);
+				if (item == null) {
+					// The index is out of date
+					index.remove(fullName);
+				} else if (jobName.equals(item.getName()) && hasPermission(item, Project.READ)) {
 					return item;
 				}
 			}
@@ -90,6 +103,19 @@ public class BaseRestResource {
 		throw new NoSuchJobException(jobName);
 	}
 
+	/**
+	 * Internal method to check if the current user has the given {@link Permission} on the given
+	 * {@link AccessControlled} object. The outcome is cached by the {@link PermissionCache}
+	 * 
+	 * @param object the {@link AccessControlled} object to check
+	 * @param permission the {@link Permission} to check
+	 * @return <code>true</code> if the current user has the permission
+	 * @since 4.5.0
+	 */
+	protected boolean hasPermission(AccessControlled object, Permission permission) {
+		return APIv2Plugin.getPermissionCache().hasPermission(object, permission);
+	}
+
 	/**
 	 * Internal method to get the {@link AbstractBuild} by the build number and for the {@link hudson.model.Job} given
 	 * name
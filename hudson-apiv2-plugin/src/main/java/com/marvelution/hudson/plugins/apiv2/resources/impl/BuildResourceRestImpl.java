@@ -19,34 +19,69 @@
 
 package com.marvelution.hudson.plugins.apiv2.resources.impl;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.RandomAccessFile;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import hudson.model.AbstractBuild;
 import hudson.model.Run;
+import hudson.tasks.test.AggregatedTestResultAction;
+import hudson.tasks.test.AggregatedTestResultAction.ChildReport;
+
+import javax.xml.stream.XMLStreamException;
 
 import javax.ws.rs.Path;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.Response.Status;
 
 import org.apache.wink.common.annotations.Parent;
 import org.apache.wink.common.annotations.Scope;
 import org.apache.wink.common.annotations.Scope.ScopeType;
 
+import com.google.common.collect.Lists;
 import com.marvelution.hudson.plugins.apiv2.dozer.utils.DozerUtils;
 import com.marvelution.hudson.plugins.apiv2.resources.BuildResource;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchBuildException;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Builds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.TestCaseResults;
+import com.marvelution.hudson.plugins.apiv2.utils.BuildLookupUtils;
+import com.marvelution.hudson.plugins.apiv2.utils.ConsoleLogUtils;
+import com.marvelution.hudson.plugins.apiv2.utils.TestReportReader;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
 
 /**
  * The {@link BuildResource} REST implementation
  * 
  * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld<a/>
  */
+@WinkApplicationClass
 @Scope(ScopeType.SINGLETON)
 @Parent(BaseRestResource.class)
 @Path("builds")
 public class BuildResourceRestImpl extends BaseRestResource implements BuildResource {
 
+	/**
+	 * The maximum number of test cases returned in one page
+	 */
+	public static final int MAX_TEST_CASES = 1000;
+
+	private static final String JUNIT_RESULT_FILE = "junitResult.xml";
+	private static final String TESTNG_RESULTS_FILE = "testng-results.xml";
+	private static final String TESTNG_RESULTS_DIRECTORY = "testng";
+
+	private static final int SC_REQUESTED_RANGE_NOT_SATISFIABLE = 416;
+
 	private final Logger log = Logger.getLogger(BuildResourceRestImpl.class.getName());
 
 	/**
@@ -182,10 +217,9 @@ public class BuildResourceRestImpl extends BaseRestResource implements BuildReso
 	public Builds getBuilds(String jobName, Long from, Long to) throws NoSuchJobException {
 		hudson.model.Job<?, ?> job = getHudsonJob(jobName);
 		Builds builds = new Builds();
-		for (Run<?, ?> run : job.getBuilds()) {
-			if (run.getTimeInMillis() >= from && run.getTimeInMillis() <= to) {
-				builds.add(DozerUtils.getMapper().map(run, Build.class));
-			}
+		log.fine("Mapping builds between " + from + " and " + to + " of job " + job.getFullName());
+		for (Run<?, ?> run : BuildLookupUtils.getBuildsBetween(job, from, to)) {
+			builds.add(DozerUtils.getMapper().map(run, Build.class));
 		}
 		return builds;
 	}
@@ -197,12 +231,161 @@ public class BuildResourceRestImpl extends BaseRestResource implements BuildReso
 	public Builds getBuilds(String jobName, Long from) throws NoSuchJobException {
 		hudson.model.Job<?, ?> job = getHudsonJob(jobName);
 		Builds builds = new Builds();
-		for (Run<?, ?> run : job.getBuilds()) {
-			if (run.getTimeInMillis() >= from) {
-				builds.add(DozerUtils.getMapper().map(run, Build.class));
-			}
+		log.fine("Mapping builds after " + from + " of job " + job.getFullName());
+		for (Run<?, ?> run : BuildLookupUtils.getBuildsAfter(job, from)) {
+			builds.add(DozerUtils.getMapper().map(run, Build.class));
 		}
 		return builds;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public TestCaseResults getTestCaseResults(String jobName, Integer buildNumber, String status, String className,
+					String testName, Integer offset, Integer count) throws NoSuchJobException, NoSuchBuildException {
+		AbstractBuild<?, ?> build = getHudsonBuild(jobName, buildNumber);
+		TestReportReader reader = new TestReportReader(status, className, testName, offset,
+			Math.min(count, MAX_TEST_CASES));
+		for (File report : getTestReports(build)) {
+			log.fine("Streaming test cases from " + report.getAbsolutePath());
+			InputStream input = null;
+			try {
+				input = new BufferedInputStream(new FileInputStream(report));
+				if (JUNIT_RESULT_FILE.equals(report.getName())) {
+					reader.readJUnitResult(input);
+				} else {
+					reader.readTestNGResults(input);
+				}
+			} catch (IOException e) {
+				log.log(Level.WARNING, "Failed to read test report " + report.getAbsolutePath(), e);
+			} catch (XMLStreamException e) {
+				log.log(Level.WARNING, "Failed to parse test report " + report.getAbsolutePath(), e);
+			} finally {
+				if (input != null) {
+					try {
+						input.close();
+					} catch (IOException e) {
+						// Ignore, the report has been read
+					}
+				}
+			}
+		}
+		TestCaseResults results = new TestCaseResults(build.getParent().getFullName(), build.getNumber());
+		results.setOffset(Math.max(0, offset));
+		results.setTotal(reader.getMatched());
+		results.getItems().addAll(reader.getTestCases());
+		return results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Response getConsoleLog(String jobName, Integer buildNumber, String range, Integer tail, Long start)
+					throws NoSuchJobException, NoSuchBuildException {
+		AbstractBuild<?, ?> build = getHudsonBuild(jobName, buildNumber);
+		File logFile = build.getLogFile();
+		if (!logFile.isFile()) {
+			return Response.status(Status.NOT_FOUND).build();
+		}
+		boolean building = build.isBuilding();
+		long length = logFile.length();
+		long from = 0L, to = length;
+		boolean stripNotes = true;
+		ResponseBuilder response;
+		if (start >= 0L || tail > 0) {
+			// Never wait for new data, clients following a running build poll again with the X-Text-Size as start
+			from = start >= 0L ? Math.min(start, length) : 0L;
+			try {
+				RandomAccessFile file = new RandomAccessFile(logFile, "r");
+				try {
+					if (start < 0L) {
+						from = ConsoleLogUtils.getTailOffset(file.getChannel(), length, tail);
+					}
+					if (building) {
+						// Only serve complete lines of a running build so annotations are never split
+						to = ConsoleLogUtils.getLastLineEnd(file.getChannel(), from, length);
+					}
+				} finally {
+					file.close();
+				}
+			} catch (IOException e) {
+				log.log(Level.WARNING, "Failed to read " + logFile.getAbsolutePath() + ", serving the log from " + from,
+					e);
+			}
+			response = Response.ok();
+		} else {
+			long[] byteRange = ConsoleLogUtils.parseRange(range, length);
+			if (byteRange == null) {
+				response = Response.ok();
+			} else if (byteRange.length == 0) {
+				return Response.status(SC_REQUESTED_RANGE_NOT_SATISFIABLE).header("Content-Range", "bytes */" + length)
+					.build();
+			} else {
+				from = byteRange[0];
+				to = byteRange[1];
+				// Serve the range unchanged so the body matches the Content-Range, a range may start inside a note
+				stripNotes = false;
+				response = Response.status(Status.PARTIAL_CONTENT).header("Content-Range",
+					"bytes " + from + "-" + (to - 1L) + "/" + length);
+			}
+		}
+		log.fine("Serving bytes " + from + " to " + to + " of the console log of " + build.getFullDisplayName());
+		return response.entity(new ConsoleLogUtils.LogRegionOutput(logFile, from, to, stripNotes))
+			.type(MediaType.TEXT_PLAIN + ";charset=" + build.getCharset().name()).header("Accept-Ranges", "bytes")
+			.header("X-Text-Size", Long.valueOf(to)).header("X-More-Data", Boolean.valueOf(building)).build();
+	}
+
+	/**
+	 * Get the test report files stored with a build, or with the module builds of an aggregated build
+	 * 
+	 * @param build the {@link AbstractBuild} to get the test reports of
+	 * @return the {@link List} of report files, may be empty
+	 */
+	private List<File> getTestReports(AbstractBuild<?, ?> build) {
+		List<File> reports = Lists.newArrayList();
+		if (build.getTestResultAction() instanceof AggregatedTestResultAction) {
+			for (ChildReport child : ((AggregatedTestResultAction) build.getTestResultAction()).getChildReports()) {
+				addTestReports(child.child.getRootDir(), reports);
+			}
+		} else {
+			addTestReports(build.getRootDir(), reports);
+		}
+		return reports;
+	}
+
+	/**
+	 * Add the JUnit and TestNG test report files in a build directory
+	 * 
+	 * @param buildDirectory the root directory of a build
+	 * @param reports the {@link List} to add the report files to
+	 */
+	private void addTestReports(File buildDirectory, List<File> reports) {
+		File junitResult = new File(buildDirectory, JUNIT_RESULT_FILE);
+		if (junitResult.isFile()) {
+			reports.add(junitResult);
+		}
+		File testngResults = new File(buildDirectory, TESTNG_RESULTS_FILE);
+		if (testngResults.isFile()) {
+			reports.add(testngResults);
+		}
+		File[] testngDirectory = new File(buildDirectory, TESTNG_RESULTS_DIRECTORY).listFiles(new FilenameFilter() {
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public boolean accept(File dir, String name) {
+				return name.endsWith(".xml");
+			}
+
+		});
+		if (testngDirectory != null) {
+			for (File report : testngDirectory) {
+				reports.add(report);
+			}
+		}
+	}
+
 }
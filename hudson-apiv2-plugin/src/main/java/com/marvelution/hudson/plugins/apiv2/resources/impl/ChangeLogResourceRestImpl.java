@@ -34,12 +34,14 @@ import com.marvelution.hudson.plugins.apiv2.resources.ChangeLogResource;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchBuildException;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.ChangeLog;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
 
 /**
  * REST implementation for the {@link ChangeLogResource}
  * 
  * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
  */
+@WinkApplicationClass
 @Scope(ScopeType.SINGLETON)
 @Parent(BaseRestResource.class)
 @Path("changelog")
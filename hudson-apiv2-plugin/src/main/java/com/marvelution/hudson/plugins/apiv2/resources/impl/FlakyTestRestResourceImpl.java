@@ -0,0 +1,119 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.impl;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import hudson.model.Hudson;
+import hudson.model.Item;
+import hudson.model.Project;
+
+import javax.ws.rs.Path;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.wink.common.annotations.Parent;
+import org.apache.wink.common.annotations.Scope;
+import org.apache.wink.common.annotations.Scope.ScopeType;
+
+import com.google.common.collect.Sets;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.resources.FlakyTestResource;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.ForbiddenException;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchViewException;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.FlakyTests;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
+
+/**
+ * The {@link FlakyTestResource} REST implementation
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@WinkApplicationClass
+@Scope(ScopeType.SINGLETON)
+@Parent(BaseRestResource.class)
+@Path("flaky")
+public class FlakyTestRestResourceImpl extends BaseRestResource implements FlakyTestResource {
+
+	private final Logger log = Logger.getLogger(FlakyTestRestResourceImpl.class.getName());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public FlakyTests getFlakyTests(String viewName, String[] jobNames, Integer minFlips, Integer limit)
+					throws NoSuchViewException {
+		Set<String> jobs = Sets.newLinkedHashSet();
+		if (StringUtils.isNotBlank(viewName)) {
+			hudson.model.View view = Hudson.getInstance().getView(viewName);
+			if (view == null) {
+				throw new NoSuchViewException(viewName);
+			} else if (!view.hasPermission(Hudson.READ)) {
+				throw new ForbiddenException();
+			}
+			for (Item item : view.getItems()) {
+				if (item instanceof hudson.model.Job && hasPermission(item, Project.READ)) {
+					jobs.addAll(APIv2Plugin.getFlakyTestsCache().getJobsWithin(item.getFullName()));
+				}
+			}
+		}
+		if (jobNames != null) {
+			for (String jobName : jobNames) {
+				try {
+					jobs.addAll(APIv2Plugin.getFlakyTestsCache().getJobsWithin(getHudsonJob(jobName).getFullName()));
+				} catch (NoSuchJobException e) {
+					log.fine("Skipping the flaky tests of unknown job " + jobName);
+				} catch (ForbiddenException e) {
+					log.fine("Skipping the flaky tests of job " + jobName + ", the user has no access to it");
+				}
+			}
+		}
+		return rankFlakyTests(jobs, minFlips, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public FlakyTests getFlakyTests(String jobName, Integer minFlips, Integer limit) throws NoSuchJobException {
+		hudson.model.Job<?, ?> job = getHudsonJob(jobName);
+		return rankFlakyTests(APIv2Plugin.getFlakyTestsCache().getJobsWithin(job.getFullName()), minFlips, limit);
+	}
+
+	/**
+	 * Internal method to get the ranked {@link FlakyTests} of the given jobs
+	 * 
+	 * @param jobs the full names of the jobs
+	 * @param minFlips the minimum number of flips
+	 * @param limit the maximum number of tests
+	 * @return the {@link FlakyTests}
+	 */
+	private FlakyTests rankFlakyTests(Collection<String> jobs, Integer minFlips, Integer limit) {
+		FlakyTests flakyTests = new FlakyTests();
+		flakyTests.getItems().addAll(APIv2Plugin.getFlakyTestsCache().getFlakyTests(jobs, Math.max(1, minFlips),
+			Math.max(0, limit)));
+		return flakyTests;
+	}
+
+}
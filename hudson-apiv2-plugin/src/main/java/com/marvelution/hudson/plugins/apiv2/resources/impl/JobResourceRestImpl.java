@@ -30,23 +30,32 @@ import org.apache.wink.common.annotations.Parent;
 import org.apache.wink.common.annotations.Scope;
 import org.apache.wink.common.annotations.Scope.ScopeType;
 
+import com.google.common.base.Predicate;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
 import com.marvelution.hudson.plugins.apiv2.dozer.utils.DozerUtils;
 import com.marvelution.hudson.plugins.apiv2.resources.JobResource;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Builds;
 import com.marvelution.hudson.plugins.apiv2.resources.model.job.Job;
 import com.marvelution.hudson.plugins.apiv2.resources.model.job.Jobs;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
 
 /**
  * The {@link JobResource} REST implementation
  * 
  * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld<a/>
  */
+@WinkApplicationClass
 @Scope(ScopeType.SINGLETON)
 @Parent(BaseRestResource.class)
 @Path("jobs")
 public class JobResourceRestImpl extends BaseRestResource implements JobResource {
 
+	/**
+	 * The maximum number of Jobs returned by {@link #suggestJobs(String, Integer)}
+	 */
+	public static final int MAX_SUGGESTIONS = 100;
+
 	private final Logger log = Logger.getLogger(JobResourceRestImpl.class.getName());
 
 	/**
@@ -83,7 +92,7 @@ public class JobResourceRestImpl extends BaseRestResource implements JobResource
 		Jobs jobs = new Jobs();
 		for (hudson.model.Job<?, ?> item : Hudson.getInstance().getAllItems(hudson.model.Job.class)) {
 			log.fine("Found job with name: " + item.getFullName() + " checking permissions");
-			if (item.hasPermission(Project.READ)) {
+			if (hasPermission(item, Project.READ)) {
 				jobs.add(mapJob(item, DozerUtils.FULL_MAP_ID, includeAllBuilds));
 			}
 		}
@@ -103,13 +112,40 @@ public class JobResourceRestImpl extends BaseRestResource implements JobResource
 		Jobs jobs = new Jobs();
 		for (hudson.model.Job<?, ?> item : Hudson.getInstance().getAllItems(hudson.model.Job.class)) {
 			log.fine("Found job with name: " + item.getFullName() + " checking permissions");
-			if (item.hasPermission(Project.READ)) {
+			if (hasPermission(item, Project.READ)) {
 				jobs.add(mapJob(item, mapperContext, includeAllBuilds));
 			}
 		}
 		return jobs;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Jobs suggestJobs(String prefix, Integer limit) {
+		Jobs jobs = new Jobs();
+		for (String fullName : APIv2Plugin.getJobNameIndex().suggest(prefix, Math.min(limit, MAX_SUGGESTIONS),
+			new Predicate<String>() {
+
+				/**
+				 * {@inheritDoc}
+				 */
+				@Override
+				public boolean apply(String fullName) {
+					hudson.model.Job<?, ?> job = Hudson.getInstance().getItemByFullName(fullName,
+						hudson.model.Job.class);
+					return job != null && hasPermission(job, Project.READ);
+				}
+
+			})) {
+			jobs.add(mapJob(Hudson.getInstance().getItemByFullName(fullName, hudson.model.Job.class),
+				DozerUtils.NAMEONLY_MAP_ID, false));
+		}
+		log.fine("Suggesting " + jobs.size() + " jobs for prefix " + prefix);
+		return jobs;
+	}
+
 	/**
 	 * Internal method to map a given Hudson {@link hudson.model.Job} to a {@link Job}
 	 * 
@@ -0,0 +1,94 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.impl;
+
+import java.util.Map;
+
+import hudson.model.Hudson;
+
+import javax.ws.rs.Path;
+
+import org.apache.wink.common.annotations.Parent;
+import org.apache.wink.common.annotations.Scope;
+import org.apache.wink.common.annotations.Scope.ScopeType;
+
+import com.google.common.collect.Maps;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.metrics.Metrics;
+import com.marvelution.hudson.plugins.apiv2.resources.MetricsResource;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.ForbiddenException;
+import com.marvelution.hudson.plugins.apiv2.warmup.WarmUp;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
+
+/**
+ * The {@link MetricsResource} REST implementation
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@WinkApplicationClass
+@Scope(ScopeType.SINGLETON)
+@Parent(BaseRestResource.class)
+@Path("metrics")
+public class MetricsRestResourceImpl extends BaseRestResource implements MetricsResource {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getMetrics() {
+		// At-least READ access is required to view this
+		if (!Hudson.getInstance().hasPermission(Hudson.READ)) {
+			throw new ForbiddenException();
+		}
+		StringBuilder output = new StringBuilder();
+		Metrics.write(output);
+		Map<String, Integer> sizes = Maps.newTreeMap();
+		sizes.put(Metrics.ACTIVITIES_CACHE, APIv2Plugin.getActivitiesCache().size());
+		sizes.put(Metrics.ISSUES_CACHE, APIv2Plugin.getIssuesCache().size());
+		sizes.put(Metrics.BUILD_SUMMARIES_CACHE, APIv2Plugin.getBuildSummariesCache().size());
+		sizes.put(Metrics.JOB_STATUSES_CACHE, APIv2Plugin.getJobStatusesCache().size());
+		sizes.put(Metrics.TRENDS_CACHE, APIv2Plugin.getTrendsCache().size());
+		sizes.put(Metrics.STATISTICS_CACHE, APIv2Plugin.getStatisticsCache().size());
+		sizes.put(Metrics.FLAKY_TESTS_CACHE, APIv2Plugin.getFlakyTestsCache().size());
+		sizes.put("jobnames", APIv2Plugin.getJobNameIndex().size());
+		sizes.put("permissions", APIv2Plugin.getPermissionCache().size());
+		Metrics.writeGauge(output, "apiv2_cache_size", "cache", sizes);
+		Map<String, Double> ratios = Maps.newTreeMap();
+		ratios.put(Metrics.ACTIVITIES_CACHE, Metrics.getCacheHitRatio(Metrics.ACTIVITIES_CACHE));
+		ratios.put(Metrics.ISSUES_CACHE, Metrics.getCacheHitRatio(Metrics.ISSUES_CACHE));
+		ratios.put(Metrics.BUILD_SUMMARIES_CACHE, Metrics.getCacheHitRatio(Metrics.BUILD_SUMMARIES_CACHE));
+		ratios.put(Metrics.JOB_STATUSES_CACHE, Metrics.getCacheHitRatio(Metrics.JOB_STATUSES_CACHE));
+		ratios.put(Metrics.TRENDS_CACHE, Metrics.getCacheHitRatio(Metrics.TRENDS_CACHE));
+		Metrics.writeGauge(output, "apiv2_cache_hit_ratio", "cache", ratios);
+		WarmUp warmUp = APIv2Plugin.getWarmUp();
+		Map<String, Double> durations = Maps.newTreeMap();
+		for (Map.Entry<String, Long> entry : warmUp.getDurations().entrySet()) {
+			durations.put(entry.getKey(), entry.getValue() / 1000000000.0D);
+		}
+		Metrics.writeGauge(output, "apiv2_warmup_duration_seconds", "phase", durations);
+		Map<String, Integer> ready = Maps.newTreeMap();
+		ready.put("apiv2", warmUp.isReady() ? 1 : 0);
+		Metrics.writeGauge(output, "apiv2_ready", "plugin", ready);
+		return output.toString();
+	}
+
+}
@@ -34,12 +34,14 @@ import com.marvelution.hudson.plugins.apiv2.resources.exceptions.ForbiddenExcept
 import com.marvelution.hudson.plugins.apiv2.resources.model.HudsonSystem;
 import com.marvelution.hudson.plugins.apiv2.resources.model.Version;
 import com.marvelution.hudson.plugins.apiv2.utils.HudsonPluginUtils;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
 
 /**
  * The {@link PluginResource} REST implementation
  * 
  * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
  */
+@WinkApplicationClass
 @Scope(ScopeType.SINGLETON)
 @Parent(BaseRestResource.class)
 @Path("plugin")
@@ -20,12 +20,17 @@
 package com.marvelution.hudson.plugins.apiv2.resources.impl;
 
 import hudson.model.AbstractBuild;
+import hudson.model.Hudson;
+import hudson.model.Project;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.logging.Logger;
 
 import javax.ws.rs.Path;
@@ -42,20 +47,33 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.CacheBackfill;
+import com.marvelution.hudson.plugins.apiv2.cache.build.BuildSummariesCache;
+import com.marvelution.hudson.plugins.apiv2.cache.build.BuildSummary;
 import com.marvelution.hudson.plugins.apiv2.cache.issue.IssueCache;
 import com.marvelution.hudson.plugins.apiv2.cache.issue.IssueCachePredicates;
 import com.marvelution.hudson.plugins.apiv2.dozer.utils.DozerUtils;
+import com.marvelution.hudson.plugins.apiv2.metrics.Metrics;
 import com.marvelution.hudson.plugins.apiv2.resources.SearchResource;
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Builds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueBuilds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueCommit;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueCommits;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueFirstBuild;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueFirstBuilds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssuesBuilds;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.IssueKeysBodyUtils;
 import com.marvelution.hudson.plugins.apiv2.utils.JiraKeyUtils;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
 
 /**
  * The {@link SearchResource} REST implementation
  * 
  * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
  */
+@WinkApplicationClass
 @Scope(ScopeType.SINGLETON)
 @Parent(BaseRestResource.class)
 @Path("search")
@@ -67,42 +85,353 @@ public class SearchRestResourceImpl extends BaseRestResource implements SearchRe
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Builds searchForIssues(String[] keys, String jobName) throws NoSuchJobException {
+	public Builds searchForIssues(String[] keys, String jobName, Boolean summary, Integer limit, Long since)
+					throws NoSuchJobException {
 		Builds builds = new Builds();
-		Predicate<IssueCache> predicates = getSearchPredicates(keys, jobName);
-		Collection<IssueCache> includes = Collections2.filter(APIv2Plugin.getIssuesCache(), predicates);
-		Map<String, Set<Integer>> buildsMap = Maps.newHashMap();
+		long start = System.nanoTime();
+		Collection<IssueCache> includes;
+		if (((limit != null && limit > 0) || (since != null && since > 0)) && isIndexedSearch(keys)) {
+			// Only walk the most recent part of the per project and per issue indexes
+			includes = Lists.newArrayList();
+			Predicate<IssueCache> jobPredicate = null;
+			if (StringUtils.isNotBlank(jobName)) {
+				jobPredicate = IssueCachePredicates.isRelatedToHudsonJob(jobName);
+			}
+			for (String key : Sets.newLinkedHashSet(Arrays.asList(keys))) {
+				if (JiraKeyUtils.isValidProjectKey(key)) {
+					includes.addAll(APIv2Plugin.getIssuesCache().getMostRecent(key, jobPredicate,
+						since == null ? 0L : since, limit == null ? 0 : limit));
+				} else {
+					includes.addAll(APIv2Plugin.getIssuesCache().getMostRecentOfIssue(key, jobPredicate,
+						since == null ? 0L : since, limit == null ? 0 : limit));
+				}
+			}
+		} else {
+			Predicate<IssueCache> predicates = getSearchPredicates(keys, jobName);
+			includes = Collections2.filter(APIv2Plugin.getIssuesCache(), predicates);
+		}
+		// Map the build numbers of each job to the build timestamp
+		Map<String, Map<Integer, Long>> buildsMap = Maps.newHashMap();
 		for (IssueCache cache : includes) {
-			if (buildsMap.containsKey(cache.getJob())) {
-				buildsMap.get(cache.getJob()).add(cache.getBuild());
-			} else {
-				buildsMap.put(cache.getJob(), Sets.newHashSet(cache.getBuild()));
+			if (!buildsMap.containsKey(cache.getJob())) {
+				buildsMap.put(cache.getJob(), Maps.<Integer, Long> newHashMap());
 			}
+			buildsMap.get(cache.getJob()).put(cache.getBuild(), cache.getTimestamp());
 		}
-		for (Entry<String, Set<Integer>> entry : buildsMap.entrySet()) {
+		Metrics.observeCacheLookup(Metrics.ISSUES_CACHE, start, !buildsMap.isEmpty());
+		for (Entry<String, Map<Integer, Long>> entry : buildsMap.entrySet()) {
 			hudson.model.Job<?, ? extends AbstractBuild<?, ?>> job = getHudsonJob(entry.getKey());
-			for (Integer number : entry.getValue()) {
-				builds.add(DozerUtils.getMapper().map(job.getBuildByNumber(number), Build.class));
+			for (Entry<Integer, Long> number : entry.getValue().entrySet()) {
+				Build build = getBuild(job, number.getKey(), number.getValue(), summary);
+				if (build != null) {
+					builds.add(build);
+				}
 			}
 		}
 		builds.sortBuilds();
-		return builds;
+		return limitBuilds(builds, limit, since);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Builds searchForIssues(String keys, String jobName, Boolean summary, Integer limit, Long since)
+					throws NoSuchJobException {
+		return searchForIssues(decodeKeys(keys), jobName, summary, limit, since);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IssuesBuilds searchForIssuesGroupedByIssue(String keys, String jobName, Boolean summary,
+					Boolean latestPerJob) throws NoSuchJobException {
+		return searchForIssuesGroupedByIssue(decodeKeys(keys), jobName, summary, latestPerJob);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IssuesBuilds searchForIssuesGroupedByIssue(String[] keys, String jobName, Boolean summary,
+					Boolean latestPerJob) throws NoSuchJobException {
+		long start = System.nanoTime();
+		Predicate<IssueCache> predicates = getSearchPredicates(keys, jobName);
+		// Group the build numbers by issue key and job name
+		Map<String, Map<String, SortedSet<Integer>>> issuesMap = Maps.newTreeMap();
+		Map<String, Long> timestamps = Maps.newHashMap();
+		for (IssueCache cache : Collections2.filter(APIv2Plugin.getIssuesCache(), predicates)) {
+			timestamps.put(cache.getJob() + "#" + cache.getBuild(), cache.getTimestamp());
+			Map<String, SortedSet<Integer>> jobsMap = issuesMap.get(cache.getIssueKey().toString());
+			if (jobsMap == null) {
+				jobsMap = Maps.newHashMap();
+				issuesMap.put(cache.getIssueKey().toString(), jobsMap);
+			}
+			if (jobsMap.containsKey(cache.getJob())) {
+				jobsMap.get(cache.getJob()).add(cache.getBuild());
+			} else {
+				jobsMap.put(cache.getJob(), Sets.newTreeSet(Collections.singleton(cache.getBuild())));
+			}
+		}
+		Metrics.observeCacheLookup(Metrics.ISSUES_CACHE, start, !issuesMap.isEmpty());
+		IssuesBuilds issuesBuilds = new IssuesBuilds();
+		// Builds related to multiple issues are only mapped once
+		Map<String, hudson.model.Job<?, ? extends AbstractBuild<?, ?>>> jobs = Maps.newHashMap();
+		Map<String, Build> mappedBuilds = Maps.newHashMap();
+		for (Entry<String, Map<String, SortedSet<Integer>>> issue : issuesMap.entrySet()) {
+			IssueBuilds issueBuilds = new IssueBuilds(issue.getKey());
+			for (Entry<String, SortedSet<Integer>> entry : issue.getValue().entrySet()) {
+				if (!jobs.containsKey(entry.getKey())) {
+					jobs.put(entry.getKey(), getHudsonJob(entry.getKey()));
+				}
+				Collection<Integer> numbers = entry.getValue();
+				if (Boolean.TRUE.equals(latestPerJob)) {
+					numbers = Collections.singleton(entry.getValue().last());
+				}
+				for (Integer number : numbers) {
+					String buildId = entry.getKey() + "#" + number;
+					if (!mappedBuilds.containsKey(buildId)) {
+						mappedBuilds.put(buildId, getBuild(jobs.get(entry.getKey()), number, timestamps.get(buildId),
+							summary));
+					}
+					if (mappedBuilds.get(buildId) != null) {
+						issueBuilds.getBuilds().add(mappedBuilds.get(buildId));
+					}
+				}
+			}
+			issueBuilds.getBuilds().sortBuilds();
+			issuesBuilds.add(issueBuilds);
+		}
+		return issuesBuilds;
 	}
 
 	/**
-	 * @param keys
-	 * @param jobName
-	 * @return
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IssueCommits searchForIssueCommits(String[] keys, String jobName) {
+		long start = System.nanoTime();
+		Predicate<IssueCache> filter = isReadable();
+		if (StringUtils.isNotBlank(jobName)) {
+			filter = Predicates.and(IssueCachePredicates.isRelatedToHudsonJob(jobName), filter);
+		}
+		IssueCommits commits = new IssueCommits();
+		if (keys == null) {
+			return commits;
+		}
+		for (String key : Sets.newLinkedHashSet(Arrays.asList(keys))) {
+			if (!JiraKeyUtils.isValidIssueKey(key)) {
+				continue;
+			}
+			for (Entry<String, IssueCache> commit : APIv2Plugin.getIssuesCache().getCommits(key, filter).entrySet()) {
+				commits.add(new IssueCommit(key, commit.getKey(), commit.getValue().getJob(),
+					commit.getValue().getBuild(), commit.getValue().getTimestamp()));
+			}
+		}
+		Metrics.observeCacheLookup(Metrics.ISSUES_CACHE, start, !commits.isEmpty());
+		return commits;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IssueFirstBuilds searchForIssueFirstBuilds(String keys, String jobName) {
+		return searchForIssueFirstBuilds(decodeKeys(keys), jobName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IssueFirstBuilds searchForIssueFirstBuilds(String[] keys, String jobName) {
+		long start = System.nanoTime();
+		Predicate<IssueCache> filter = isReadable();
+		if (StringUtils.isNotBlank(jobName)) {
+			filter = Predicates.and(IssueCachePredicates.isRelatedToHudsonJob(jobName), filter);
+		}
+		IssueFirstBuilds firstBuilds = new IssueFirstBuilds();
+		if (keys == null) {
+			return firstBuilds;
+		}
+		for (String key : Sets.newLinkedHashSet(Arrays.asList(keys))) {
+			if (!JiraKeyUtils.isValidIssueKey(key)) {
+				continue;
+			}
+			for (IssueCache cache : APIv2Plugin.getIssuesCache().getFirstBuilds(key, filter).values()) {
+				long timestamp = cache.getTimestamp();
+				if (timestamp == 0L) {
+					// Cached before the timestamp was recorded, use the build summary if it is in memory
+					BuildSummary summary = APIv2Plugin.getBuildSummariesCache().get(cache.getJob(), cache.getBuild());
+					if (summary != null) {
+						timestamp = summary.getTimestamp();
+					}
+				}
+				firstBuilds.add(new IssueFirstBuild(key, cache.getJob(), cache.getBuild(), timestamp));
+			}
+		}
+		Metrics.observeCacheLookup(Metrics.ISSUES_CACHE, start, !firstBuilds.isEmpty());
+		return firstBuilds;
+	}
+
+	/**
+	 * Internal method to get the "is the job of the issue cache readable" predicate, the permission is checked once
+	 * per job
+	 * 
+	 * @return the {@link Predicate}
+	 */
+	private Predicate<IssueCache> isReadable() {
+		final Map<String, Boolean> readable = Maps.newHashMap();
+		return new Predicate<IssueCache>() {
+			@Override
+			public boolean apply(IssueCache input) {
+				Boolean canRead = readable.get(input.getJob());
+				if (canRead == null) {
+					hudson.model.Job<?, ?> job = Hudson.getInstance().getItemByFullName(input.getJob(),
+						hudson.model.Job.class);
+					canRead = job != null && hasPermission(job, Project.READ);
+					readable.put(input.getJob(), canRead);
+				}
+				return canRead;
+			}
+		};
+	}
+
+	/**
+	 * Internal method to get a {@link Build}
+	 * 
+	 * @param job the {@link hudson.model.Job} of the build
+	 * @param number the build number
+	 * @param timestamp the build timestamp from the {@link IssueCache}, <code>0</code> if it was not recorded
+	 * @param summary flag to only get the {@link BuildSummary} of the build, builds that are not in the
+	 *            {@link BuildSummariesCache} yet only hold the job name, build number and timestamp
+	 * @return the {@link Build}, may be <code>null</code> if the build doesn't exist
+	 */
+	private Build getBuild(hudson.model.Job<?, ? extends AbstractBuild<?, ?>> job, int number, long timestamp,
+					Boolean summary) {
+		if (Boolean.TRUE.equals(summary)) {
+			BuildSummary buildSummary = getBuildSummary(job, number);
+			if (buildSummary != null) {
+				return buildSummary.toBuild();
+			}
+			// Keep the timestamp so the build is sorted and limited like the summaries
+			Build build = new Build(number);
+			build.setJobName(job.getFullName());
+			build.setTimestamp(timestamp);
+			return build;
+		}
+		AbstractBuild<?, ?> build = job.getBuildByNumber(number);
+		if (build != null) {
+			return DozerUtils.getMapper().map(build, Build.class);
+		}
+		return null;
+	}
+
+	/**
+	 * Internal method to decode the keys from a POST request body
+	 * 
+	 * @param body the request body
+	 * @return the keys array
+	 */
+	private String[] decodeKeys(String body) {
+		List<String> keys = IssueKeysBodyUtils.decode(body);
+		log.fine("Decoded " + keys.size() + " keys from the request body");
+		return keys.toArray(new String[keys.size()]);
+	}
+
+	/**
+	 * Internal method to check if all the given keys are JIRA project or issue keys, that can be searched for using
+	 * the indexes of the {@link com.marvelution.hudson.plugins.apiv2.cache.issue.IssuesCache}
+	 * 
+	 * @param keys the keys to check
+	 * @return <code>true</code> if all the keys are project or issue keys
+	 */
+	private boolean isIndexedSearch(String[] keys) {
+		for (String key : keys) {
+			if (!JiraKeyUtils.isValidProjectKey(key) && !JiraKeyUtils.isValidIssueKey(key)) {
+				return false;
+			}
+		}
+		return keys.length > 0;
+	}
+
+	/**
+	 * Internal method to limit the given sorted {@link Builds} to the most recent builds
+	 * 
+	 * @param builds the {@link Builds} to limit, must be sorted by timestamp
+	 * @param limit the maximum number of builds, <code>null</code> or <code>0</code> or less for no limit
+	 * @param since the timestamp the builds must be started on or after, <code>null</code> or <code>0</code> or
+	 * 			less for all builds
+	 * @return the limited {@link Builds}
+	 */
+	private Builds limitBuilds(Builds builds, Integer limit, Long since) {
+		if ((limit == null || limit <= 0 || builds.size() <= limit) && (since == null || since <= 0)) {
+			return builds;
+		}
+		Builds limited = new Builds();
+		for (Build build : builds) {
+			if ((limit != null && limit > 0 && limited.size() == limit)
+				|| (since != null && since > 0 && build.getTimestamp() < since)) {
+				break;
+			}
+			limited.add(build);
+		}
+		return limited;
+	}
+
+	/**
+	 * Internal method to get the {@link BuildSummary} of a build from the {@link BuildSummariesCache}.
+	 * Builds that completed before the cache was introduced are never loaded while serving the request, their
+	 * summary is added to the cache in the background by the {@link CacheBackfill}.
+	 * 
+	 * @param job the {@link hudson.model.Job} of the build
+	 * @param number the build number
+	 * @return the {@link BuildSummary}, may be <code>null</code> if the build is not in the cache
+	 */
+	private BuildSummary getBuildSummary(final hudson.model.Job<?, ? extends AbstractBuild<?, ?>> job,
+					final int number) {
+		long start = System.nanoTime();
+		final BuildSummariesCache cache = APIv2Plugin.getBuildSummariesCache();
+		BuildSummary buildSummary = cache.get(job.getFullName(), number);
+		Metrics.observeCacheLookup(Metrics.BUILD_SUMMARIES_CACHE, start, buildSummary != null);
+		if (buildSummary == null && cache.isRetained(job.getFullName(), number)) {
+			APIv2Plugin.getCacheBackfill().schedule("summary:" + job.getFullName() + "#" + number, new Runnable() {
+
+				@Override
+				public void run() {
+					AbstractBuild<?, ?> build = job.getBuildByNumber(number);
+					if (build != null && !build.isBuilding()) {
+						cache.put(BuildSummary.fromRun(build));
+					}
+				}
+
+			});
+		}
+		return buildSummary;
+	}
+
+	/**
+	 * Internal method to get the search {@link Predicate} for the given keys and job name
+	 * 
+	 * @param keys the JIRA Issue and/or Project keys
+	 * @param jobName the job name, may be blank
+	 * @return the {@link Predicate}
 	 */
 	private Predicate<IssueCache> getSearchPredicates(String[] keys, String jobName) {
 		List<Predicate<IssueCache>> issuePredicates = Lists.newArrayList();
+		Set<String> issueKeys = Sets.newHashSet();
 		for (String key : keys) {
 			if (JiraKeyUtils.isValidProjectKey(key)) {
 				issuePredicates.add(IssueCachePredicates.isRelatedToJIRAProject(key));
 			} else if (JiraKeyUtils.isValidIssueKey(key)) {
-				issuePredicates.add(IssueCachePredicates.isRelatedToJIRAIssue(key));
+				issueKeys.add(key);
 			}
 		}
+		if (!issueKeys.isEmpty()) {
+			// A single set lookup instead of a predicate per issue key, large key sets are posted by version panels
+			issuePredicates.add(IssueCachePredicates.isRelatedToJIRAIssues(issueKeys));
+		}
 		if (StringUtils.isNotBlank(jobName)) {
 			return Predicates.and(IssueCachePredicates.isRelatedToHudsonJob(jobName), Predicates.or(issuePredicates));
 		} else {
@@ -0,0 +1,115 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import hudson.model.Hudson;
+import hudson.model.Item;
+import hudson.model.Project;
+
+import javax.ws.rs.Path;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.wink.common.annotations.Parent;
+import org.apache.wink.common.annotations.Scope;
+import org.apache.wink.common.annotations.Scope.ScopeType;
+
+import com.google.common.collect.Sets;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.resources.StatisticsResource;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.ForbiddenException;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchViewException;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatistics;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
+
+/**
+ * The {@link StatisticsResource} REST implementation
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@WinkApplicationClass
+@Scope(ScopeType.SINGLETON)
+@Parent(BaseRestResource.class)
+@Path("statistics")
+public class StatisticsRestResourceImpl extends BaseRestResource implements StatisticsResource {
+
+	private final Logger log = Logger.getLogger(StatisticsRestResourceImpl.class.getName());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JobStatistics getStatistics(String viewName, String group, String[] jobNames) throws NoSuchViewException {
+		Set<String> jobs = Sets.newLinkedHashSet();
+		String name = "jobs";
+		if (StringUtils.isNotBlank(viewName)) {
+			hudson.model.View view = Hudson.getInstance().getView(viewName);
+			if (view == null) {
+				throw new NoSuchViewException(viewName);
+			} else if (!view.hasPermission(Hudson.READ)) {
+				throw new ForbiddenException();
+			}
+			for (Item item : view.getItems()) {
+				if (item instanceof hudson.model.Job && hasPermission(item, Project.READ)) {
+					jobs.add(item.getFullName());
+				}
+			}
+			name = view.getViewName();
+		}
+		if (StringUtils.isNotBlank(group)) {
+			for (String fullName : APIv2Plugin.getStatisticsCache().getJobsWithin(group)) {
+				hudson.model.Job<?, ?> job = Hudson.getInstance().getItemByFullName(fullName, hudson.model.Job.class);
+				if (job != null && hasPermission(job, Project.READ)) {
+					jobs.add(fullName);
+				}
+			}
+			name = StringUtils.isNotBlank(viewName) ? name + "," + group : group;
+		}
+		if (jobNames != null) {
+			for (String jobName : jobNames) {
+				try {
+					jobs.add(getHudsonJob(jobName).getFullName());
+				} catch (NoSuchJobException e) {
+					log.fine("Skipping the statistics of unknown job " + jobName);
+				} catch (ForbiddenException e) {
+					log.fine("Skipping the statistics of job " + jobName + ", the user has no access to it");
+				}
+			}
+		}
+		return APIv2Plugin.getStatisticsCache().getStatistics(name, jobs);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JobStatistics getJobStatistics(String jobName) throws NoSuchJobException {
+		hudson.model.Job<?, ?> job = getHudsonJob(jobName);
+		return APIv2Plugin.getStatisticsCache().getStatistics(job.getFullName(),
+			Collections.singleton(job.getFullName()));
+	}
+
+}
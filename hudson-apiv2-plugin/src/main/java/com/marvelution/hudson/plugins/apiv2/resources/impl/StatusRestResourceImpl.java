@@ -0,0 +1,127 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.impl;
+
+import java.util.Map;
+import java.util.logging.Logger;
+
+import hudson.model.Hudson;
+import hudson.model.Item;
+import hudson.model.Project;
+
+import javax.ws.rs.Path;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.wink.common.annotations.Parent;
+import org.apache.wink.common.annotations.Scope;
+import org.apache.wink.common.annotations.Scope.ScopeType;
+
+import com.google.common.collect.Maps;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobStatusCache;
+import com.marvelution.hudson.plugins.apiv2.cache.job.JobStatusesCache;
+import com.marvelution.hudson.plugins.apiv2.metrics.Metrics;
+import com.marvelution.hudson.plugins.apiv2.resources.StatusResource;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.ForbiddenException;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchViewException;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatuses;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
+
+/**
+ * The {@link StatusResource} REST implementation
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@WinkApplicationClass
+@Scope(ScopeType.SINGLETON)
+@Parent(BaseRestResource.class)
+@Path("status")
+public class StatusRestResourceImpl extends BaseRestResource implements StatusResource {
+
+	private final Logger log = Logger.getLogger(StatusRestResourceImpl.class.getName());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JobStatuses getStatuses(String viewName, String[] jobNames) throws NoSuchViewException {
+		// Keyed by full name so jobs that are in the view and in the job list are only reported once
+		Map<String, hudson.model.Job<?, ?>> jobs = Maps.newLinkedHashMap();
+		if (StringUtils.isNotBlank(viewName)) {
+			hudson.model.View view = Hudson.getInstance().getView(viewName);
+			if (view == null) {
+				throw new NoSuchViewException(viewName);
+			} else if (!view.hasPermission(Hudson.READ)) {
+				throw new ForbiddenException();
+			}
+			for (Item item : view.getItems()) {
+				if (item instanceof hudson.model.Job && hasPermission(item, Project.READ)) {
+					jobs.put(item.getFullName(), (hudson.model.Job<?, ?>) item);
+				}
+			}
+		}
+		if (jobNames != null) {
+			for (String jobName : jobNames) {
+				try {
+					hudson.model.Job<?, ?> job = getHudsonJob(jobName);
+					jobs.put(job.getFullName(), job);
+				} catch (NoSuchJobException e) {
+					log.fine("Skipping the status of unknown job " + jobName);
+				} catch (ForbiddenException e) {
+					log.fine("Skipping the status of job " + jobName + ", the user has no access to it");
+				}
+			}
+		}
+		if (StringUtils.isBlank(viewName) && (jobNames == null || jobNames.length == 0)) {
+			for (hudson.model.Job<?, ?> job : Hudson.getInstance().getAllItems(hudson.model.Job.class)) {
+				if (hasPermission(job, Project.READ)) {
+					jobs.put(job.getFullName(), job);
+				}
+			}
+		}
+		JobStatuses statuses = new JobStatuses();
+		for (hudson.model.Job<?, ?> job : jobs.values()) {
+			statuses.add(getJobStatus(job).toJobStatus());
+		}
+		return statuses;
+	}
+
+	/**
+	 * Internal method to get the {@link JobStatusCache} of a job from the {@link JobStatusesCache}.
+	 * The status of jobs that have not been built since the cache was introduced is created once from the job
+	 * 
+	 * @param job the {@link hudson.model.Job} to get the status of
+	 * @return the {@link JobStatusCache}
+	 */
+	private JobStatusCache getJobStatus(hudson.model.Job<?, ?> job) {
+		long start = System.nanoTime();
+		JobStatusCache status = APIv2Plugin.getJobStatusesCache().get(job.getFullName());
+		Metrics.observeCacheLookup(Metrics.JOB_STATUSES_CACHE, start, status != null);
+		if (status == null) {
+			status = JobStatusCache.fromJob(job);
+			APIv2Plugin.getJobStatusesCache().put(status);
+		}
+		return status;
+	}
+
+}
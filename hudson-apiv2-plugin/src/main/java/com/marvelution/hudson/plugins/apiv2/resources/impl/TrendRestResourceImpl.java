@@ -0,0 +1,142 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.impl;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import hudson.model.Run;
+
+import javax.ws.rs.Path;
+
+import org.apache.wink.common.annotations.Parent;
+import org.apache.wink.common.annotations.Scope;
+import org.apache.wink.common.annotations.Scope.ScopeType;
+
+import com.google.common.collect.Lists;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.cache.CacheBackfill;
+import com.marvelution.hudson.plugins.apiv2.cache.trend.TrendPointCache;
+import com.marvelution.hudson.plugins.apiv2.cache.trend.TrendsCache;
+import com.marvelution.hudson.plugins.apiv2.metrics.Metrics;
+import com.marvelution.hudson.plugins.apiv2.resources.TrendResource;
+import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchJobException;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Trend;
+import com.marvelution.hudson.plugins.apiv2.utils.DownsamplingUtils;
+import com.marvelution.hudson.plugins.apiv2.utils.DownsamplingUtils.Coordinates;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
+
+/**
+ * The {@link TrendResource} REST implementation
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@WinkApplicationClass
+@Scope(ScopeType.SINGLETON)
+@Parent(BaseRestResource.class)
+@Path("trends")
+public class TrendRestResourceImpl extends BaseRestResource implements TrendResource {
+
+	private final Logger log = Logger.getLogger(TrendRestResourceImpl.class.getName());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Trend getTrend(String jobName, Integer points, String metric) throws NoSuchJobException {
+		hudson.model.Job<?, ?> job = getHudsonJob(jobName);
+		List<TrendPointCache> trend = getTrendPoints(job);
+		Trend result = new Trend(job.getFullName());
+		result.setTotalPoints(trend.size());
+		if (points != null && points > 0) {
+			trend = DownsamplingUtils.largestTriangleThreeBuckets(trend, points, getCoordinates(metric));
+		}
+		for (TrendPointCache point : trend) {
+			result.add(point.toTrendPoint());
+		}
+		return result;
+	}
+
+	/**
+	 * Internal method to get the trend points of a job from the {@link TrendsCache}.
+	 * The trend of a job that was built before the cache was introduced is completed once from its builds by the
+	 * {@link CacheBackfill}, until then only the points of the later builds are returned
+	 * 
+	 * @param job the {@link hudson.model.Job} to get the trend of
+	 * @return the {@link List} of {@link TrendPointCache} objects ordered by build number
+	 */
+	private List<TrendPointCache> getTrendPoints(final hudson.model.Job<?, ?> job) {
+		long start = System.nanoTime();
+		final TrendsCache cache = APIv2Plugin.getTrendsCache();
+		boolean complete = cache.isComplete(job.getFullName());
+		Metrics.observeCacheLookup(Metrics.TRENDS_CACHE, start, complete);
+		if (!complete) {
+			APIv2Plugin.getCacheBackfill().schedule("trend:" + job.getFullName(), new Runnable() {
+
+				@Override
+				public void run() {
+					log.fine("Completing the trend of job " + job.getFullName() + " from its builds");
+					List<TrendPointCache> points = Lists.newArrayList();
+					for (Run<?, ?> run : job.getBuilds()) {
+						if (Thread.currentThread().isInterrupted()) {
+							// Hudson is stopping, the trend is completed after the restart
+							return;
+						} else if (!run.isBuilding()) {
+							points.add(TrendPointCache.fromRun(run));
+						}
+					}
+					cache.putAll(job.getFullName(), points);
+				}
+
+			});
+		}
+		return cache.get(job.getFullName());
+	}
+
+	/**
+	 * Internal method to get the {@link Coordinates} of the trend points for the given metric
+	 * 
+	 * @param metric the metric name
+	 * @return the {@link Coordinates}, defaults to the duration for unknown metrics
+	 */
+	private Coordinates<TrendPointCache> getCoordinates(final String metric) {
+		return new Coordinates<TrendPointCache>() {
+
+			@Override
+			public double getX(TrendPointCache point) {
+				return point.getNumber();
+			}
+
+			@Override
+			public double getY(TrendPointCache point) {
+				if ("tests".equals(metric)) {
+					return point.getTotalTests();
+				} else if ("failed".equals(metric)) {
+					return point.getFailedTests();
+				}
+				return point.getDuration();
+			}
+
+		};
+	}
+
+}
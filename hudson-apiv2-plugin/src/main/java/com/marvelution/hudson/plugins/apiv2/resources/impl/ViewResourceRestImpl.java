@@ -35,12 +35,14 @@ import com.marvelution.hudson.plugins.apiv2.resources.exceptions.ForbiddenExcept
 import com.marvelution.hudson.plugins.apiv2.resources.exceptions.NoSuchViewException;
 import com.marvelution.hudson.plugins.apiv2.resources.model.view.View;
 import com.marvelution.hudson.plugins.apiv2.resources.model.view.Views;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
 
 /**
  * The {@link View} REST implementation
  * 
  * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld<a/>
  */
+@WinkApplicationClass
 @Scope(ScopeType.SINGLETON)
 @Parent(BaseRestResource.class)
 @Path("views")
@@ -0,0 +1,242 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.model.build;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.NameSpaceUtils;
+
+/**
+ * FlakyTest XML object, the recent outcome history of a test case of a job
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@XmlType(name = "FlakyTestType", namespace = NameSpaceUtils.BUILD_NAMESPACE, factoryClass = ObjectFactory.class,
+		factoryMethod = "createFlakyTest")
+@XmlRootElement(name = "FlakyTest", namespace = NameSpaceUtils.BUILD_NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class FlakyTest extends Model {
+
+	@XmlElement(name = "jobName", required = true)
+	private String jobName;
+	@XmlElement(name = "test", required = true)
+	private String testName;
+	@XmlElement(name = "builds")
+	private int builds;
+	@XmlElement(name = "failures")
+	private int failures;
+	@XmlElement(name = "flips")
+	private int flips;
+	@XmlElement(name = "flipRate")
+	private double flipRate;
+	@XmlElement(name = "firstFailedBuild")
+	private int firstFailedBuild;
+	@XmlElement(name = "lastFailedBuild")
+	private int lastFailedBuild;
+	@XmlElement(name = "history")
+	private String history;
+
+	/**
+	 * Default Constructor
+	 */
+	public FlakyTest() {
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param jobName the name of the job
+	 * @param testName the full name of the test case
+	 */
+	public FlakyTest(String jobName, String testName) {
+		this.jobName = jobName;
+		this.testName = testName;
+	}
+
+	/**
+	 * Getter for jobName
+	 * 
+	 * @return the jobName
+	 */
+	public String getJobName() {
+		return jobName;
+	}
+
+	/**
+	 * Setter for jobName
+	 * 
+	 * @param jobName the jobName to set
+	 */
+	public void setJobName(String jobName) {
+		this.jobName = jobName;
+	}
+
+	/**
+	 * Getter for testName
+	 * 
+	 * @return the full name of the test case, class name and test name
+	 */
+	public String getTestName() {
+		return testName;
+	}
+
+	/**
+	 * Setter for testName
+	 * 
+	 * @param testName the testName to set
+	 */
+	public void setTestName(String testName) {
+		this.testName = testName;
+	}
+
+	/**
+	 * Getter for builds
+	 * 
+	 * @return the number of builds in the history
+	 */
+	public int getBuilds() {
+		return builds;
+	}
+
+	/**
+	 * Setter for builds
+	 * 
+	 * @param builds the builds to set
+	 */
+	public void setBuilds(int builds) {
+		this.builds = builds;
+	}
+
+	/**
+	 * Getter for failures
+	 * 
+	 * @return the number of failures in the history
+	 */
+	public int getFailures() {
+		return failures;
+	}
+
+	/**
+	 * Setter for failures
+	 * 
+	 * @param failures the failures to set
+	 */
+	public void setFailures(int failures) {
+		this.failures = failures;
+	}
+
+	/**
+	 * Getter for flips
+	 * 
+	 * @return the number of times the outcome changed between consecutive builds
+	 */
+	public int getFlips() {
+		return flips;
+	}
+
+	/**
+	 * Setter for flips
+	 * 
+	 * @param flips the flips to set
+	 */
+	public void setFlips(int flips) {
+		this.flips = flips;
+	}
+
+	/**
+	 * Getter for flipRate
+	 * 
+	 * @return the flips divided by the number of consecutive build pairs
+	 */
+	public double getFlipRate() {
+		return flipRate;
+	}
+
+	/**
+	 * Setter for flipRate
+	 * 
+	 * @param flipRate the flipRate to set
+	 */
+	public void setFlipRate(double flipRate) {
+		this.flipRate = flipRate;
+	}
+
+	/**
+	 * Getter for firstFailedBuild
+	 * 
+	 * @return the number of the first build the test case failed in since it is tracked
+	 */
+	public int getFirstFailedBuild() {
+		return firstFailedBuild;
+	}
+
+	/**
+	 * Setter for firstFailedBuild
+	 * 
+	 * @param firstFailedBuild the firstFailedBuild to set
+	 */
+	public void setFirstFailedBuild(int firstFailedBuild) {
+		this.firstFailedBuild = firstFailedBuild;
+	}
+
+	/**
+	 * Getter for lastFailedBuild
+	 * 
+	 * @return the number of the last build the test case failed in
+	 */
+	public int getLastFailedBuild() {
+		return lastFailedBuild;
+	}
+
+	/**
+	 * Setter for lastFailedBuild
+	 * 
+	 * @param lastFailedBuild the lastFailedBuild to set
+	 */
+	public void setLastFailedBuild(int lastFailedBuild) {
+		this.lastFailedBuild = lastFailedBuild;
+	}
+
+	/**
+	 * Getter for history
+	 * 
+	 * @return the outcomes, oldest first, <code>P</code> for a pass and <code>F</code> for a failure
+	 */
+	public String getHistory() {
+		return history;
+	}
+
+	/**
+	 * Setter for history
+	 * 
+	 * @param history the history to set
+	 */
+	public void setHistory(String history) {
+		this.history = history;
+	}
+
+}
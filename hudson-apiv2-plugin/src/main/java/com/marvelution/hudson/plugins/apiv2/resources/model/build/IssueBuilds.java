@@ -0,0 +1,104 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.model.build;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.NameSpaceUtils;
+
+/**
+ * IssueBuilds XML object, holding the builds related to a single JIRA issue
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@XmlType(name = "IssueBuildsType", namespace = NameSpaceUtils.BUILD_NAMESPACE, factoryClass = ObjectFactory.class,
+		factoryMethod = "createIssueBuilds")
+@XmlRootElement(name = "IssueBuilds", namespace = NameSpaceUtils.BUILD_NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class IssueBuilds extends Model {
+
+	@XmlElement(name = "issueKey", required = true)
+	private String issueKey;
+	@XmlElementRef
+	private Builds builds;
+
+	/**
+	 * Default Constructor
+	 */
+	public IssueBuilds() {
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param issueKey the JIRA issue key
+	 */
+	public IssueBuilds(String issueKey) {
+		setIssueKey(issueKey);
+	}
+
+	/**
+	 * Getter for the issueKey
+	 * 
+	 * @return the JIRA issue key
+	 */
+	public String getIssueKey() {
+		return issueKey;
+	}
+
+	/**
+	 * Setter for the issueKey
+	 * 
+	 * @param issueKey the JIRA issue key
+	 */
+	public void setIssueKey(String issueKey) {
+		this.issueKey = issueKey;
+	}
+
+	/**
+	 * Getter for the builds
+	 * 
+	 * @return the {@link Builds} related to the issue
+	 */
+	public Builds getBuilds() {
+		if (builds == null) {
+			builds = new Builds();
+		}
+		return builds;
+	}
+
+	/**
+	 * Setter for the builds
+	 * 
+	 * @param builds the {@link Builds} related to the issue
+	 */
+	public void setBuilds(Builds builds) {
+		this.builds = builds;
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.model.build;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.NameSpaceUtils;
+
+/**
+ * IssueFirstBuild XML object, the first build of a job that contained a JIRA issue
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@XmlType(name = "IssueFirstBuildType", namespace = NameSpaceUtils.BUILD_NAMESPACE, factoryClass = ObjectFactory.class,
+		factoryMethod = "createIssueFirstBuild")
+@XmlRootElement(name = "IssueFirstBuild", namespace = NameSpaceUtils.BUILD_NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class IssueFirstBuild extends Model {
+
+	@XmlElement(name = "issueKey", required = true)
+	private String issueKey;
+	@XmlElement(name = "jobName", required = true)
+	private String jobName;
+	@XmlElement(name = "buildNumber")
+	private int buildNumber;
+	@XmlElement(name = "timestamp")
+	private long timestamp;
+
+	/**
+	 * Default Constructor
+	 */
+	public IssueFirstBuild() {
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param issueKey the JIRA issue key
+	 * @param jobName the name of the job
+	 * @param buildNumber the number of the first build of the job that contained the issue
+	 * @param timestamp the timestamp of the first build of the job that contained the issue
+	 */
+	public IssueFirstBuild(String issueKey, String jobName, int buildNumber, long timestamp) {
+		this.issueKey = issueKey;
+		this.jobName = jobName;
+		this.buildNumber = buildNumber;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Getter for issueKey
+	 * 
+	 * @return the issueKey
+	 */
+	public String getIssueKey() {
+		return issueKey;
+	}
+
+	/**
+	 * Setter for issueKey
+	 * 
+	 * @param issueKey the issueKey to set
+	 */
+	public void setIssueKey(String issueKey) {
+		this.issueKey = issueKey;
+	}
+
+	/**
+	 * Getter for jobName
+	 * 
+	 * @return the jobName
+	 */
+	public String getJobName() {
+		return jobName;
+	}
+
+	/**
+	 * Setter for jobName
+	 * 
+	 * @param jobName the jobName to set
+	 */
+	public void setJobName(String jobName) {
+		this.jobName = jobName;
+	}
+
+	/**
+	 * Getter for buildNumber
+	 * 
+	 * @return the buildNumber
+	 */
+	public int getBuildNumber() {
+		return buildNumber;
+	}
+
+	/**
+	 * Setter for buildNumber
+	 * 
+	 * @param buildNumber the buildNumber to set
+	 */
+	public void setBuildNumber(int buildNumber) {
+		this.buildNumber = buildNumber;
+	}
+
+	/**
+	 * Getter for timestamp
+	 * 
+	 * @return the timestamp
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Setter for timestamp
+	 * 
+	 * @param timestamp the timestamp to set
+	 */
+	public void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+}
@@ -110,4 +110,114 @@ public class ObjectFactory {
 		return new TestResult();
 	}
 
+	/**
+	 * Create a {@link IssueBuilds}
+	 * 
+	 * @return the {@link IssueBuilds}
+	 * @since 4.5.0
+	 */
+	public static IssueBuilds createIssueBuilds() {
+		return new IssueBuilds();
+	}
+
+	/**
+	 * Create a {@link IssuesBuilds}
+	 * 
+	 * @return the {@link IssuesBuilds}
+	 * @since 4.5.0
+	 */
+	public static IssuesBuilds createIssuesBuilds() {
+		return new IssuesBuilds();
+	}
+
+	/**
+	 * Create a {@link TrendPoint}
+	 * 
+	 * @return the {@link TrendPoint}
+	 * @since 4.5.0
+	 */
+	public static TrendPoint createTrendPoint() {
+		return new TrendPoint();
+	}
+
+	/**
+	 * Create a {@link Trend}
+	 * 
+	 * @return the {@link Trend}
+	 * @since 4.5.0
+	 */
+	public static Trend createTrend() {
+		return new Trend();
+	}
+
+	/**
+	 * Create a {@link TestCaseResults}
+	 * 
+	 * @return the {@link TestCaseResults}
+	 * @since 4.5.0
+	 */
+	public static TestCaseResults createTestCaseResults() {
+		return new TestCaseResults();
+	}
+
+	/**
+	 * Create a {@link FlakyTest}
+	 * 
+	 * @return the {@link FlakyTest}
+	 * @since 4.5.0
+	 */
+	public static FlakyTest createFlakyTest() {
+		return new FlakyTest();
+	}
+
+	/**
+	 * Create a {@link FlakyTests}
+	 * 
+	 * @return the {@link FlakyTests}
+	 * @since 4.5.0
+	 */
+	public static FlakyTests createFlakyTests() {
+		return new FlakyTests();
+	}
+
+	/**
+	 * Create a {@link IssueCommit}
+	 * 
+	 * @return the {@link IssueCommit}
+	 * @since 4.5.0
+	 */
+	public static IssueCommit createIssueCommit() {
+		return new IssueCommit();
+	}
+
+	/**
+	 * Create a {@link IssueCommits}
+	 * 
+	 * @return the {@link IssueCommits}
+	 * @since 4.5.0
+	 */
+	public static IssueCommits createIssueCommits() {
+		return new IssueCommits();
+	}
+
+	/**
+	 * Create a {@link IssueFirstBuild}
+	 * 
+	 * @return the {@link IssueFirstBuild}
+	 * @since 4.5.0
+	 */
+	public static IssueFirstBuild createIssueFirstBuild() {
+		return new IssueFirstBuild();
+	}
+
+	/**
+	 * Create a {@link IssueFirstBuilds}
+	 * 
+	 * @return the {@link IssueFirstBuilds}
+	 * @since 4.5.0
+	 */
+	public static IssueFirstBuilds createIssueFirstBuilds() {
+		return new IssueFirstBuilds();
+	}
+
 }
@@ -0,0 +1,158 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.model.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.ListableModel;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.NameSpaceUtils;
+
+/**
+ * TestCaseResults XML object, a page of the test cases of a build
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@XmlType(name = "TestCaseResultsType", namespace = NameSpaceUtils.BUILD_NAMESPACE, factoryClass = ObjectFactory.class,
+		factoryMethod = "createTestCaseResults")
+@XmlRootElement(name = "TestCaseResults", namespace = NameSpaceUtils.BUILD_NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class TestCaseResults extends ListableModel<TestCaseResult> {
+
+	@XmlElement(name = "jobName", required = true)
+	private String jobName;
+	@XmlElement(name = "buildNumber", required = true)
+	private int buildNumber;
+	@XmlElement(name = "offset")
+	private int offset;
+	@XmlElement(name = "total")
+	private int total;
+	@XmlElementRef
+	private Collection<TestCaseResult> items;
+
+	/**
+	 * Default Constructor
+	 */
+	public TestCaseResults() {
+		items = new ArrayList<TestCaseResult>();
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param jobName the name of the job
+	 * @param buildNumber the number of the build
+	 */
+	public TestCaseResults(String jobName, int buildNumber) {
+		this();
+		this.jobName = jobName;
+		this.buildNumber = buildNumber;
+	}
+
+	/**
+	 * Getter for jobName
+	 * 
+	 * @return the jobName
+	 */
+	public String getJobName() {
+		return jobName;
+	}
+
+	/**
+	 * Setter for jobName
+	 * 
+	 * @param jobName the jobName to set
+	 */
+	public void setJobName(String jobName) {
+		this.jobName = jobName;
+	}
+
+	/**
+	 * Getter for buildNumber
+	 * 
+	 * @return the buildNumber
+	 */
+	public int getBuildNumber() {
+		return buildNumber;
+	}
+
+	/**
+	 * Setter for buildNumber
+	 * 
+	 * @param buildNumber the buildNumber to set
+	 */
+	public void setBuildNumber(int buildNumber) {
+		this.buildNumber = buildNumber;
+	}
+
+	/**
+	 * Getter for offset
+	 * 
+	 * @return the offset of the first test case in this page
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Setter for offset
+	 * 
+	 * @param offset the offset to set
+	 */
+	public void setOffset(int offset) {
+		this.offset = offset;
+	}
+
+	/**
+	 * Getter for total
+	 * 
+	 * @return the number of test cases that matched the filters, including those outside this page
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Setter for total
+	 * 
+	 * @param total the total to set
+	 */
+	public void setTotal(int total) {
+		this.total = total;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<TestCaseResult> getItems() {
+		return items;
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.model.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.ListableModel;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.NameSpaceUtils;
+
+/**
+ * Trend XML object, the (downsampled) build trend of a job
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@XmlType(name = "TrendType", namespace = NameSpaceUtils.BUILD_NAMESPACE, factoryClass = ObjectFactory.class,
+		factoryMethod = "createTrend")
+@XmlRootElement(name = "Trend", namespace = NameSpaceUtils.BUILD_NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class Trend extends ListableModel<TrendPoint> {
+
+	@XmlElement(name = "jobName", required = true)
+	private String jobName;
+	@XmlElement(name = "totalPoints")
+	private int totalPoints;
+	@XmlElementRef
+	private Collection<TrendPoint> items;
+
+	/**
+	 * Default Constructor
+	 */
+	public Trend() {
+		items = new ArrayList<TrendPoint>();
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param jobName the name of the job
+	 */
+	public Trend(String jobName) {
+		this();
+		this.jobName = jobName;
+	}
+
+	/**
+	 * Getter for jobName
+	 * 
+	 * @return the jobName
+	 */
+	public String getJobName() {
+		return jobName;
+	}
+
+	/**
+	 * Setter for jobName
+	 * 
+	 * @param jobName the jobName to set
+	 */
+	public void setJobName(String jobName) {
+		this.jobName = jobName;
+	}
+
+	/**
+	 * Getter for totalPoints
+	 * 
+	 * @return the number of points in the trend before it was downsampled
+	 */
+	public int getTotalPoints() {
+		return totalPoints;
+	}
+
+	/**
+	 * Setter for totalPoints
+	 * 
+	 * @param totalPoints the totalPoints to set
+	 */
+	public void setTotalPoints(int totalPoints) {
+		this.totalPoints = totalPoints;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<TrendPoint> getItems() {
+		return items;
+	}
+
+}
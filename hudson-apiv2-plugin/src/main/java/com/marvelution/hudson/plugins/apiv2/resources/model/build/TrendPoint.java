@@ -0,0 +1,200 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.model.build;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.NameSpaceUtils;
+
+/**
+ * TrendPoint XML object, a single build in the build trend of a job
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@XmlType(name = "TrendPointType", namespace = NameSpaceUtils.BUILD_NAMESPACE, factoryClass = ObjectFactory.class,
+		factoryMethod = "createTrendPoint")
+@XmlRootElement(name = "TrendPoint", namespace = NameSpaceUtils.BUILD_NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class TrendPoint extends Model {
+
+	@XmlElement(name = "buildNumber", required = true)
+	private int buildNumber;
+	@XmlElement(name = "timestamp")
+	private long timestamp;
+	@XmlElement(name = "duration")
+	private long duration;
+	@XmlElement(name = "result")
+	private Result result;
+	@XmlElement(name = "totalTests")
+	private int totalTests;
+	@XmlElement(name = "failedTests")
+	private int failedTests;
+	@XmlElement(name = "skippedTests")
+	private int skippedTests;
+
+	/**
+	 * Default Constructor
+	 */
+	public TrendPoint() {
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param buildNumber the build number
+	 */
+	public TrendPoint(int buildNumber) {
+		this.buildNumber = buildNumber;
+	}
+
+	/**
+	 * Getter for buildNumber
+	 * 
+	 * @return the buildNumber
+	 */
+	public int getBuildNumber() {
+		return buildNumber;
+	}
+
+	/**
+	 * Setter for buildNumber
+	 * 
+	 * @param buildNumber the buildNumber to set
+	 */
+	public void setBuildNumber(int buildNumber) {
+		this.buildNumber = buildNumber;
+	}
+
+	/**
+	 * Getter for timestamp
+	 * 
+	 * @return the timestamp
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Setter for timestamp
+	 * 
+	 * @param timestamp the timestamp to set
+	 */
+	public void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Getter for duration
+	 * 
+	 * @return the duration
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Setter for duration
+	 * 
+	 * @param duration the duration to set
+	 */
+	public void setDuration(long duration) {
+		this.duration = duration;
+	}
+
+	/**
+	 * Getter for result
+	 * 
+	 * @return the result
+	 */
+	public Result getResult() {
+		return result;
+	}
+
+	/**
+	 * Setter for result
+	 * 
+	 * @param result the result to set
+	 */
+	public void setResult(Result result) {
+		this.result = result;
+	}
+
+	/**
+	 * Getter for totalTests
+	 * 
+	 * @return the totalTests
+	 */
+	public int getTotalTests() {
+		return totalTests;
+	}
+
+	/**
+	 * Setter for totalTests
+	 * 
+	 * @param totalTests the totalTests to set
+	 */
+	public void setTotalTests(int totalTests) {
+		this.totalTests = totalTests;
+	}
+
+	/**
+	 * Getter for failedTests
+	 * 
+	 * @return the failedTests
+	 */
+	public int getFailedTests() {
+		return failedTests;
+	}
+
+	/**
+	 * Setter for failedTests
+	 * 
+	 * @param failedTests the failedTests to set
+	 */
+	public void setFailedTests(int failedTests) {
+		this.failedTests = failedTests;
+	}
+
+	/**
+	 * Getter for skippedTests
+	 * 
+	 * @return the skippedTests
+	 */
+	public int getSkippedTests() {
+		return skippedTests;
+	}
+
+	/**
+	 * Setter for skippedTests
+	 * 
+	 * @param skippedTests the skippedTests to set
+	 */
+	public void setSkippedTests(int skippedTests) {
+		this.skippedTests = skippedTests;
+	}
+
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.model.job;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.NameSpaceUtils;
+
+/**
+ * JobStatistics XML Object, the build statistics of a job or the merged statistics of a group of jobs.
+ * Durations are in milliseconds and estimated within 1% of the real value
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@XmlType(name = "JobStatisticsType", namespace = NameSpaceUtils.JOB_NAMESPACE, factoryClass = ObjectFactory.class,
+		factoryMethod = "createJobStatistics")
+@XmlRootElement(name = "JobStatistics", namespace = NameSpaceUtils.JOB_NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class JobStatistics extends Model {
+
+	@XmlElement(name = "name", required = true)
+	private String name;
+	@XmlElement(name = "jobs")
+	private int jobs;
+	@XmlElement(name = "builds")
+	private long builds;
+	@XmlElement(name = "failedBuilds")
+	private long failedBuilds;
+	@XmlElement(name = "failureRate")
+	private double failureRate;
+	@XmlElement(name = "recentBuilds")
+	private long recentBuilds;
+	@XmlElement(name = "recentFailureRate")
+	private double recentFailureRate;
+	@XmlElement(name = "durationP50")
+	private long durationP50;
+	@XmlElement(name = "durationP90")
+	private long durationP90;
+	@XmlElement(name = "durationP99")
+	private long durationP99;
+
+	/**
+	 * Default Constructor
+	 */
+	public JobStatistics() {
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param name the name of the job, view or group of jobs
+	 */
+	public JobStatistics(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Getter for name
+	 * 
+	 * @return the name of the job, view or group of jobs
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Setter for name
+	 * 
+	 * @param name the name to set
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Getter for jobs
+	 * 
+	 * @return the number of jobs
+	 */
+	public int getJobs() {
+		return jobs;
+	}
+
+	/**
+	 * Setter for jobs
+	 * 
+	 * @param jobs the jobs to set
+	 */
+	public void setJobs(int jobs) {
+		this.jobs = jobs;
+	}
+
+	/**
+	 * Getter for builds
+	 * 
+	 * @return the number of builds
+	 */
+	public long getBuilds() {
+		return builds;
+	}
+
+	/**
+	 * Setter for builds
+	 * 
+	 * @param builds the builds to set
+	 */
+	public void setBuilds(long builds) {
+		this.builds = builds;
+	}
+
+	/**
+	 * Getter for failedBuilds
+	 * 
+	 * @return the number of failed builds
+	 */
+	public long getFailedBuilds() {
+		return failedBuilds;
+	}
+
+	/**
+	 * Setter for failedBuilds
+	 * 
+	 * @param failedBuilds the failedBuilds to set
+	 */
+	public void setFailedBuilds(long failedBuilds) {
+		this.failedBuilds = failedBuilds;
+	}
+
+	/**
+	 * Getter for failureRate
+	 * 
+	 * @return the ratio of failed builds
+	 */
+	public double getFailureRate() {
+		return failureRate;
+	}
+
+	/**
+	 * Setter for failureRate
+	 * 
+	 * @param failureRate the failureRate to set
+	 */
+	public void setFailureRate(double failureRate) {
+		this.failureRate = failureRate;
+	}
+
+	/**
+	 * Getter for recentBuilds
+	 * 
+	 * @return the number of recent builds
+	 */
+	public long getRecentBuilds() {
+		return recentBuilds;
+	}
+
+	/**
+	 * Setter for recentBuilds
+	 * 
+	 * @param recentBuilds the recentBuilds to set
+	 */
+	public void setRecentBuilds(long recentBuilds) {
+		this.recentBuilds = recentBuilds;
+	}
+
+	/**
+	 * Getter for recentFailureRate
+	 * 
+	 * @return the ratio of failed builds within the recent builds of each job
+	 */
+	public double getRecentFailureRate() {
+		return recentFailureRate;
+	}
+
+	/**
+	 * Setter for recentFailureRate
+	 * 
+	 * @param recentFailureRate the recentFailureRate to set
+	 */
+	public void setRecentFailureRate(double recentFailureRate) {
+		this.recentFailureRate = recentFailureRate;
+	}
+
+	/**
+	 * Getter for durationP50
+	 * 
+	 * @return the estimated median build duration
+	 */
+	public long getDurationP50() {
+		return durationP50;
+	}
+
+	/**
+	 * Setter for durationP50
+	 * 
+	 * @param durationP50 the durationP50 to set
+	 */
+	public void setDurationP50(long durationP50) {
+		this.durationP50 = durationP50;
+	}
+
+	/**
+	 * Getter for durationP90
+	 * 
+	 * @return the estimated 90th percentile build duration
+	 */
+	public long getDurationP90() {
+		return durationP90;
+	}
+
+	/**
+	 * Setter for durationP90
+	 * 
+	 * @param durationP90 the durationP90 to set
+	 */
+	public void setDurationP90(long durationP90) {
+		this.durationP90 = durationP90;
+	}
+
+	/**
+	 * Getter for durationP99
+	 * 
+	 * @return the estimated 99th percentile build duration
+	 */
+	public long getDurationP99() {
+		return durationP99;
+	}
+
+	/**
+	 * Setter for durationP99
+	 * 
+	 * @param durationP99 the durationP99 to set
+	 */
+	public void setDurationP99(long durationP99) {
+		this.durationP99 = durationP99;
+	}
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.model.job;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Result;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.NameSpaceUtils;
+
+/**
+ * JobStatus XML Object, a compact status row of a {@link Job}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@XmlType(name = "JobStatusType", namespace = NameSpaceUtils.JOB_NAMESPACE, factoryClass = ObjectFactory.class,
+		factoryMethod = "createJobStatus")
+@XmlRootElement(name = "JobStatus", namespace = NameSpaceUtils.JOB_NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class JobStatus extends Model {
+
+	@XmlElement(name = "jobName", required = true)
+	private String jobName;
+	@XmlElement(name = "lastBuildNumber")
+	private int lastBuildNumber;
+	@XmlElement(name = "lastResult")
+	private Result lastResult;
+	@XmlElement(name = "lastBuildTimestamp")
+	private long lastBuildTimestamp;
+	@XmlElement(name = "lastDuration")
+	private long lastDuration;
+	@XmlElement(name = "healthScore")
+	private int healthScore;
+	@XmlElement(name = "building")
+	private boolean building;
+
+	/**
+	 * Default Constructor
+	 */
+	public JobStatus() {
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param jobName the full name of the job
+	 */
+	public JobStatus(String jobName) {
+		this.jobName = jobName;
+	}
+
+	/**
+	 * Getter for jobName
+	 * 
+	 * @return the jobName
+	 */
+	public String getJobName() {
+		return jobName;
+	}
+
+	/**
+	 * Setter for jobName
+	 * 
+	 * @param jobName the jobName to set
+	 */
+	public void setJobName(String jobName) {
+		this.jobName = jobName;
+	}
+
+	/**
+	 * Getter for lastBuildNumber
+	 * 
+	 * @return the lastBuildNumber, <code>0</code> if the job has not been build yet
+	 */
+	public int getLastBuildNumber() {
+		return lastBuildNumber;
+	}
+
+	/**
+	 * Setter for lastBuildNumber
+	 * 
+	 * @param lastBuildNumber the lastBuildNumber to set
+	 */
+	public void setLastBuildNumber(int lastBuildNumber) {
+		this.lastBuildNumber = lastBuildNumber;
+	}
+
+	/**
+	 * Getter for lastResult
+	 * 
+	 * @return the result of the last completed build, may be <code>null</code>
+	 */
+	public Result getLastResult() {
+		return lastResult;
+	}
+
+	/**
+	 * Setter for lastResult
+	 * 
+	 * @param lastResult the lastResult to set
+	 */
+	public void setLastResult(Result lastResult) {
+		this.lastResult = lastResult;
+	}
+
+	/**
+	 * Getter for lastBuildTimestamp
+	 * 
+	 * @return the lastBuildTimestamp
+	 */
+	public long getLastBuildTimestamp() {
+		return lastBuildTimestamp;
+	}
+
+	/**
+	 * Setter for lastBuildTimestamp
+	 * 
+	 * @param lastBuildTimestamp the lastBuildTimestamp to set
+	 */
+	public void setLastBuildTimestamp(long lastBuildTimestamp) {
+		this.lastBuildTimestamp = lastBuildTimestamp;
+	}
+
+	/**
+	 * Getter for lastDuration
+	 * 
+	 * @return the duration of the last completed build
+	 */
+	public long getLastDuration() {
+		return lastDuration;
+	}
+
+	/**
+	 * Setter for lastDuration
+	 * 
+	 * @param lastDuration the lastDuration to set
+	 */
+	public void setLastDuration(long lastDuration) {
+		this.lastDuration = lastDuration;
+	}
+
+	/**
+	 * Getter for healthScore
+	 * 
+	 * @return the healthScore
+	 */
+	public int getHealthScore() {
+		return healthScore;
+	}
+
+	/**
+	 * Setter for healthScore
+	 * 
+	 * @param healthScore the healthScore to set
+	 */
+	public void setHealthScore(int healthScore) {
+		this.healthScore = healthScore;
+	}
+
+	/**
+	 * Getter for building
+	 * 
+	 * @return the building flag
+	 */
+	public boolean isBuilding() {
+		return building;
+	}
+
+	/**
+	 * Setter for building
+	 * 
+	 * @param building the building flag to set
+	 */
+	public void setBuilding(boolean building) {
+		this.building = building;
+	}
+
+}
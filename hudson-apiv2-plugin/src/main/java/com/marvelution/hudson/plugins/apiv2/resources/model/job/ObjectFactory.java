@@ -71,4 +71,34 @@ public class ObjectFactory {
 		return new HealthReports();
 	}
 
+	/**
+	 * Create a {@link JobStatus}
+	 * 
+	 * @return the {@link JobStatus}
+	 * @since 4.5.0
+	 */
+	public static JobStatus createJobStatus() {
+		return new JobStatus();
+	}
+
+	/**
+	 * Create a {@link JobStatuses}
+	 * 
+	 * @return the {@link JobStatuses}
+	 * @since 4.5.0
+	 */
+	public static JobStatuses createJobStatuses() {
+		return new JobStatuses();
+	}
+
+	/**
+	 * Create a {@link JobStatistics}
+	 * 
+	 * @return the {@link JobStatistics}
+	 * @since 4.5.0
+	 */
+	public static JobStatistics createJobStatistics() {
+		return new JobStatistics();
+	}
+
 }
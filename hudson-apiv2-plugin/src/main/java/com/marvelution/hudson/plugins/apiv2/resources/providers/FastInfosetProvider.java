@@ -0,0 +1,144 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.providers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.marvelution.hudson.plugins.apiv2.resources.utils.MediaTypeUtils;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
+import com.sun.xml.fastinfoset.stax.StAXDocumentParser;
+import com.sun.xml.fastinfoset.stax.StAXDocumentSerializer;
+
+/**
+ * JAX-RS Provider to read and write the models using the compact binary Fast Infoset encoding of their XML
+ * representation. Repeated element names and namespaces are written only once, and numbers and strings don't need
+ * any escaping, making the payload smaller and the parsing cheaper then plain XML.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@WinkApplicationClass
+@Provider
+@Produces(MediaTypeUtils.APPLICATION_FASTINFOSET)
+@Consumes(MediaTypeUtils.APPLICATION_FASTINFOSET)
+public class FastInfosetProvider implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
+
+	private static final ConcurrentMap<Class<?>, JAXBContext> CONTEXTS =
+		new ConcurrentHashMap<Class<?>, JAXBContext>();
+
+	/**
+	 * Get the {@link JAXBContext} for the given type. Contexts are created once and cached
+	 * 
+	 * @param type the type to get the {@link JAXBContext} for
+	 * @return the {@link JAXBContext}
+	 * @throws JAXBException in case the {@link JAXBContext} cannot be created
+	 */
+	public static JAXBContext getJAXBContext(Class<?> type) throws JAXBException {
+		JAXBContext context = CONTEXTS.get(type);
+		if (context == null) {
+			context = JAXBContext.newInstance(type);
+			JAXBContext existing = CONTEXTS.putIfAbsent(type, context);
+			if (existing != null) {
+				context = existing;
+			}
+		}
+		return context;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+		return type.isAnnotationPresent(XmlRootElement.class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getSize(Object object, Class<?> type, Type genericType, Annotation[] annotations,
+					MediaType mediaType) {
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void writeTo(Object object, Class<?> type, Type genericType, Annotation[] annotations,
+					MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+					throws IOException, WebApplicationException {
+		try {
+			StAXDocumentSerializer serializer = new StAXDocumentSerializer(entityStream);
+			// StAXDocumentSerializer is also a SAX ContentHandler, so select the XMLStreamWriter variant explicitly
+			getJAXBContext(type).createMarshaller().marshal(object, (XMLStreamWriter) serializer);
+			serializer.flush();
+		} catch (JAXBException e) {
+			throw new WebApplicationException(e);
+		} catch (XMLStreamException e) {
+			throw new WebApplicationException(e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+		return type.isAnnotationPresent(XmlRootElement.class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+					MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException,
+					WebApplicationException {
+		try {
+			return getJAXBContext(type).createUnmarshaller().unmarshal(new StAXDocumentParser(entityStream));
+		} catch (JAXBException e) {
+			throw new WebApplicationException(e);
+		}
+	}
+
+}
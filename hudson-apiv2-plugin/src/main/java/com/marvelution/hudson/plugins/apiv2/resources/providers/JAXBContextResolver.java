@@ -0,0 +1,65 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.providers;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.Provider;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.wink.WinkApplicationClass;
+
+/**
+ * JAX-RS {@link ContextResolver} that makes the Wink XML and JSON providers use the same cached {@link JAXBContext}
+ * objects as the {@link FastInfosetProvider}, so that contexts created during the warm-up are reused by all the
+ * media types
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+@WinkApplicationClass
+@Provider
+public class JAXBContextResolver implements ContextResolver<JAXBContext> {
+
+	private static final Logger LOGGER = Logger.getLogger(JAXBContextResolver.class.getName());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JAXBContext getContext(Class<?> type) {
+		if (!Model.class.isAssignableFrom(type)) {
+			// Not one of our models, let Wink create the context
+			return null;
+		}
+		try {
+			return FastInfosetProvider.getJAXBContext(type);
+		} catch (JAXBException e) {
+			LOGGER.log(Level.WARNING, "Failed to create the JAXBContext for " + type.getName(), e);
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.utils;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.commons.codec.binary.Base64;
+
+/**
+ * Utility class to encode and decode the compact issue key request body used by POST searches.
+ * The body holds one entry per line, each entry is either a plain key like <code>PROJ</code> or
+ * <code>PROJ-123</code>, or a project key followed by a colon and a Base64 encoded bitmap of issue numbers like
+ * <code>PROJ:AgQ=</code>. Bit <code>n</code> of the bitmap is bit <code>n % 8</code> of byte <code>n / 8</code>.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public final class IssueKeysBodyUtils {
+
+	/**
+	 * The separator between the project key and the bitmap of issue numbers
+	 */
+	public static final char BITMAP_SEPARATOR = ':';
+
+	/**
+	 * The separator between the entries of the body
+	 */
+	public static final char ENTRY_SEPARATOR = '\n';
+
+	/**
+	 * Private constructor, utility class
+	 */
+	private IssueKeysBodyUtils() {
+	}
+
+	/**
+	 * Encode the given keys into a compact request body. The issue keys of a project are encoded as a bitmap if that
+	 * is shorter than listing them one by one
+	 * 
+	 * @param keys the JIRA Issue and/or Project keys to encode
+	 * @return the encoded body
+	 */
+	public static String encode(Collection<String> keys) {
+		StringBuilder body = new StringBuilder();
+		Map<String, SortedSet<Integer>> issueNumbers = new TreeMap<String, SortedSet<Integer>>();
+		for (String key : keys) {
+			int index = key.lastIndexOf('-');
+			int number = index > 0 ? parseIssueNumber(key.substring(index + 1)) : -1;
+			if (number > 0) {
+				String project = key.substring(0, index);
+				if (!issueNumbers.containsKey(project)) {
+					issueNumbers.put(project, new TreeSet<Integer>());
+				}
+				issueNumbers.get(project).add(number);
+			} else {
+				body.append(key).append(ENTRY_SEPARATOR);
+			}
+		}
+		for (Entry<String, SortedSet<Integer>> entry : issueNumbers.entrySet()) {
+			String bitmap = encodeBitmap(entry.getValue());
+			int plainLength = 0;
+			for (Integer number : entry.getValue()) {
+				plainLength += entry.getKey().length() + String.valueOf(number).length() + 2;
+			}
+			if (entry.getKey().length() + bitmap.length() + 2 < plainLength) {
+				body.append(entry.getKey()).append(BITMAP_SEPARATOR).append(bitmap).append(ENTRY_SEPARATOR);
+			} else {
+				for (Integer number : entry.getValue()) {
+					body.append(entry.getKey()).append('-').append(number).append(ENTRY_SEPARATOR);
+				}
+			}
+		}
+		return body.toString();
+	}
+
+	/**
+	 * Decode the given request body into the JIRA Issue and/or Project keys it holds
+	 * 
+	 * @param body the request body to decode
+	 * @return the {@link List} of keys
+	 */
+	public static List<String> decode(String body) {
+		List<String> keys = new ArrayList<String>();
+		if (body == null) {
+			return keys;
+		}
+		for (String line : body.split("\\r?\\n")) {
+			String entry = line.trim();
+			int index = entry.indexOf(BITMAP_SEPARATOR);
+			if (index > 0) {
+				String project = entry.substring(0, index);
+				byte[] bitmap = decodeBitmap(entry.substring(index + 1));
+				for (int number = 0; number < bitmap.length * 8; number++) {
+					if ((bitmap[number / 8] & (1 << (number % 8))) != 0) {
+						keys.add(project + "-" + number);
+					}
+				}
+			} else if (entry.length() > 0) {
+				keys.add(entry);
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Internal method to parse an issue number
+	 * 
+	 * @param number the number {@link String}
+	 * @return the issue number, or <code>-1</code> if it is not a valid issue number
+	 */
+	private static int parseIssueNumber(String number) {
+		try {
+			return Integer.parseInt(number);
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Internal method to encode the given issue numbers as a Base64 bitmap
+	 * 
+	 * @param numbers the sorted issue numbers
+	 * @return the Base64 encoded bitmap
+	 */
+	private static String encodeBitmap(SortedSet<Integer> numbers) {
+		byte[] bitmap = new byte[numbers.last() / 8 + 1];
+		for (Integer number : numbers) {
+			bitmap[number / 8] |= 1 << (number % 8);
+		}
+		try {
+			return new String(Base64.encodeBase64(bitmap), "US-ASCII");
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException("US-ASCII is not supported", e);
+		}
+	}
+
+	/**
+	 * Internal method to decode a Base64 bitmap
+	 * 
+	 * @param bitmap the Base64 encoded bitmap
+	 * @return the bitmap bytes
+	 */
+	private static byte[] decodeBitmap(String bitmap) {
+		try {
+			return Base64.decodeBase64(bitmap.getBytes("US-ASCII"));
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException("US-ASCII is not supported", e);
+		}
+	}
+
+}
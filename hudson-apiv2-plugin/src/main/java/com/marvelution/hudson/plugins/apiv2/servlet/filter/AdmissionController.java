@@ -0,0 +1,242 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.servlet.filter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.marvelution.hudson.plugins.apiv2.metrics.Metrics;
+import com.marvelution.hudson.plugins.apiv2.resources.impl.BaseRestResource;
+
+/**
+ * Admission control for the APIv2 REST requests.
+ * Requests are classified as cheap or heavy, and each class has its own limit of concurrently executing requests
+ * and its own bounded queue of waiting requests. Requests that cannot be queued, or that waited too long, are
+ * rejected with a <code>503 Service Unavailable</code> and a <code>Retry-After</code> header, so Hudson's request
+ * threads are never all occupied by APIv2 requests.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class AdmissionController {
+
+	/**
+	 * The classes of requests that are limited separately
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 * 
+	 * @since 4.5.0
+	 */
+	public enum RequestClass {
+		CHEAP, HEAVY;
+	}
+
+	private static final Logger LOGGER = Logger.getLogger(AdmissionController.class.getName());
+
+	private final boolean enabled;
+	private final long queueTimeout;
+	private final int retryAfter;
+	private final Map<RequestClass, Limiter> limiters = new EnumMap<RequestClass, Limiter>(RequestClass.class);
+
+	/**
+	 * Constructor
+	 * 
+	 * @param filterConfig the {@link HudsonAPIV2FilterConfig} holding the admission control configuration
+	 */
+	public AdmissionController(HudsonAPIV2FilterConfig filterConfig) {
+		enabled = Boolean.valueOf(filterConfig.getInitParameter("apiv2.admission.enabled"));
+		queueTimeout = filterConfig.getLongInitParameter("apiv2.admission.queue.timeout", 5000L);
+		retryAfter = filterConfig.getIntInitParameter("apiv2.admission.retry.after", 5);
+		limiters.put(RequestClass.CHEAP, new Limiter(RequestClass.CHEAP,
+			filterConfig.getIntInitParameter("apiv2.admission.cheap.concurrency", 16),
+			filterConfig.getIntInitParameter("apiv2.admission.cheap.queue", 64)));
+		limiters.put(RequestClass.HEAVY, new Limiter(RequestClass.HEAVY,
+			filterConfig.getIntInitParameter("apiv2.admission.heavy.concurrency", 4),
+			filterConfig.getIntInitParameter("apiv2.admission.heavy.queue", 16)));
+	}
+
+	/**
+	 * Get the {@link RequestClass} of the given request, or <code>null</code> if the request is not subject to
+	 * admission control
+	 * 
+	 * @param requestUri the request URI, without the context path and leading slash
+	 * @param request the {@link HttpServletRequest}
+	 * @return the {@link RequestClass}, may be <code>null</code>
+	 */
+	public RequestClass getRequestClass(String requestUri, HttpServletRequest request) {
+		if (!enabled) {
+			return null;
+		}
+		String path = StringUtils.removeStart(StringUtils.removeStart(requestUri, BaseRestResource.BASE_REST_URI), "/");
+		String resource = StringUtils.substringBefore(path, "/");
+		if ("metrics".equals(resource) || "batch".equals(resource)) {
+			// Never block the monitoring of an overloaded server
+			// and batch requests only wait for their sub-requests that are admitted one by one
+			return null;
+		} else if (("search".equals(resource) && !"search/commits".equals(path) && !"search/first".equals(path)
+			&& !Boolean.valueOf(request.getParameter("summary")))
+			|| Boolean.valueOf(request.getParameter("includeAllBuilds"))) {
+			return RequestClass.HEAVY;
+		} else if ("jobs".equals(resource)) {
+			if ("jobs/all".equals(path) || ("jobs/list".equals(path)
+				&& !Boolean.valueOf(request.getParameter("nameOnly")))) {
+				// Maps all the jobs, including their first and last builds
+				return RequestClass.HEAVY;
+			}
+		} else if ("builds".equals(resource) && path.endsWith("/all")) {
+			String offset = request.getParameter("offset");
+			if (StringUtils.isBlank(offset) || offset.trim().startsWith("-")) {
+				// Maps all the builds of the job
+				return RequestClass.HEAVY;
+			}
+		}
+		return RequestClass.CHEAP;
+	}
+
+	/**
+	 * Try to admit a request of the given {@link RequestClass}, waiting in the queue of the class if needed.
+	 * An admitted request must call {@link #release(RequestClass)} once it is done
+	 * 
+	 * @param requestClass the {@link RequestClass}, <code>null</code> requests are always admitted
+	 * @return <code>true</code> if the request is admitted, <code>false</code> if it must be rejected
+	 */
+	public boolean acquire(RequestClass requestClass) {
+		if (requestClass == null) {
+			return true;
+		}
+		boolean admitted = limiters.get(requestClass).acquire(queueTimeout);
+		if (!admitted) {
+			LOGGER.log(Level.FINE, "Rejecting " + requestClass + " APIv2 request, the server is overloaded");
+			Metrics.increment("apiv2_admission_rejected_total", "class", getName(requestClass));
+		}
+		return admitted;
+	}
+
+	/**
+	 * Release an admitted request of the given {@link RequestClass}
+	 * 
+	 * @param requestClass the {@link RequestClass}, may be <code>null</code>
+	 */
+	public void release(RequestClass requestClass) {
+		if (requestClass != null) {
+			limiters.get(requestClass).release();
+		}
+	}
+
+	/**
+	 * Reject a request that was not admitted
+	 * 
+	 * @param response the {@link HttpServletResponse} of the rejected request
+	 * @throws IOException in case of write errors
+	 */
+	public void reject(HttpServletResponse response) throws IOException {
+		response.setHeader("Retry-After", String.valueOf(retryAfter));
+		response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+			"Too many concurrent APIv2 requests, please retry later");
+	}
+
+	/**
+	 * Internal method to get the metric label of a {@link RequestClass}
+	 * 
+	 * @param requestClass the {@link RequestClass}
+	 * @return the label
+	 */
+	private static String getName(RequestClass requestClass) {
+		return requestClass.name().toLowerCase(Locale.ENGLISH);
+	}
+
+	/**
+	 * Concurrency limiter with a bounded queue for a single {@link RequestClass}
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 * 
+	 * @since 4.5.0
+	 */
+	private static class Limiter {
+
+		private final String name;
+		private final Semaphore permits;
+		private final int maxQueued;
+		private final AtomicInteger queued = new AtomicInteger();
+
+		/**
+		 * Constructor
+		 * 
+		 * @param requestClass the {@link RequestClass} limited
+		 * @param maxConcurrent the maximum number of concurrently executing requests
+		 * @param maxQueued the maximum number of requests waiting to be executed
+		 */
+		public Limiter(RequestClass requestClass, int maxConcurrent, int maxQueued) {
+			name = getName(requestClass);
+			permits = new Semaphore(Math.max(1, maxConcurrent));
+			this.maxQueued = Math.max(0, maxQueued);
+		}
+
+		/**
+		 * Acquire a permit to execute a request
+		 * 
+		 * @param timeout the maximum time in milliseconds to wait in the queue
+		 * @return <code>true</code> if a permit is acquired
+		 */
+		public boolean acquire(long timeout) {
+			long start = System.nanoTime();
+			if (permits.tryAcquire()) {
+				Metrics.observeDuration("apiv2_admission_queue_duration_seconds", start, "class", name);
+				return true;
+			}
+			if (queued.incrementAndGet() > maxQueued) {
+				// The queue is full, fail fast
+				queued.decrementAndGet();
+				return false;
+			}
+			try {
+				return permits.tryAcquire(timeout, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			} finally {
+				queued.decrementAndGet();
+				Metrics.observeDuration("apiv2_admission_queue_duration_seconds", start, "class", name);
+			}
+		}
+
+		/**
+		 * Release a permit
+		 */
+		public void release() {
+			permits.release();
+		}
+
+	}
+
+}
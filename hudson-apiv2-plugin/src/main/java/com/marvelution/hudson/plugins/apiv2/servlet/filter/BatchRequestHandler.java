@@ -0,0 +1,596 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.servlet.filter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+
+import org.acegisecurity.Authentication;
+import org.acegisecurity.context.SecurityContextHolder;
+import org.apache.commons.lang.StringUtils;
+import org.apache.wink.server.internal.servlet.RestServlet;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.resources.impl.BaseRestResource;
+import com.marvelution.hudson.plugins.apiv2.servlet.filter.AdmissionController.RequestClass;
+
+/**
+ * Handler for batch requests to the REST APIs.
+ * 
+ * A batch request is a POST request to <code>/apiv2/batch</code> with a body containing the URLs of the sub-requests
+ * to execute, one per line, like <code>/apiv2/jobs?name=MyJob</code>. All the sub-requests are executed concurrently
+ * as GET requests on behalf of the user of the batch request. The responses of the sub-requests are returned in a
+ * single <code>multipart/mixed</code> response in the same order as the sub-requests where given. Each part contains
+ * the <code>Content-Location</code>, <code>Status</code>, <code>Content-Type</code> and <code>Content-Length</code>
+ * headers of the sub-request response.
+ * 
+ * Every sub-request is subject to the {@link AdmissionController} on its own, a sub-request that is not admitted gets
+ * a <code>503</code> status in its part of the response.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class BatchRequestHandler {
+
+	/**
+	 * The URI of the batch endpoint, relative to the context root
+	 */
+	public static final String BATCH_URI = BaseRestResource.BASE_REST_URI + "/batch";
+
+	private static final Logger LOGGER = Logger.getLogger(BatchRequestHandler.class.getName());
+	private static final String CRLF = "\r\n";
+	private static final String SUB_REQUEST_PREFIX = "/" + BaseRestResource.BASE_REST_URI + "/";
+
+	private final RestServlet restServlet;
+	private final AdmissionController admissionController;
+	private final ExecutorService executor;
+	private final int maxRequests;
+	private final long timeout;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param restServlet the {@link RestServlet} used to service the sub-requests
+	 * @param admissionController the {@link AdmissionController} used to admit the sub-requests
+	 * @param filterConfig the {@link HudsonAPIV2FilterConfig} holding the batch configuration
+	 */
+	public BatchRequestHandler(RestServlet restServlet, AdmissionController admissionController,
+					HudsonAPIV2FilterConfig filterConfig) {
+		this.restServlet = restServlet;
+		this.admissionController = admissionController;
+		maxRequests = filterConfig.getIntInitParameter("apiv2.batch.max.requests", 50);
+		timeout = filterConfig.getLongInitParameter("apiv2.batch.timeout", 30000L);
+		executor = Executors.newFixedThreadPool(filterConfig.getIntInitParameter("apiv2.batch.threads", 4),
+			new ThreadFactory() {
+
+				private final AtomicInteger count = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "APIv2 Batch Worker " + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+
+			});
+	}
+
+	/**
+	 * Check if the given request URI is the URI of a batch request
+	 * 
+	 * @param requestUri the request URI without the leading slash
+	 * @return <code>true</code> if it is a batch request, <code>false</code> otherwise
+	 */
+	public boolean isBatchRequest(String requestUri) {
+		return BATCH_URI.equals(requestUri) || (BATCH_URI + "/").equals(requestUri);
+	}
+
+	/**
+	 * Handle a batch request
+	 * 
+	 * @param request the batch {@link HttpServletRequest}
+	 * @param response the {@link HttpServletResponse}
+	 * @throws IOException in case of errors reading the request or writing the response
+	 */
+	public void handle(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		if (!"POST".equalsIgnoreCase(request.getMethod())) {
+			response.setHeader("Allow", "POST");
+			response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+			return;
+		}
+		List<String> urls = getSubRequestUrls(request);
+		if (urls.isEmpty() || urls.size() > maxRequests) {
+			response.sendError(HttpServletResponse.SC_BAD_REQUEST, "A batch request must contain between 1 and "
+				+ maxRequests + " sub-requests");
+			return;
+		}
+		LOGGER.log(Level.FINE, "Executing a batch request with " + urls.size() + " sub-requests");
+		// Execute all the sub-requests on behalf of the user of the batch request
+		final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		// and share the permission checks of the batch request with all the sub-requests
+		final Map<String, Boolean> permissionScope = APIv2Plugin.getPermissionCache().getRequestScope();
+		List<Future<BufferedHttpServletResponse>> futures = Lists.newArrayList();
+		for (String url : urls) {
+			if (isValidSubRequestUrl(url)) {
+				futures.add(executor.submit(new SubRequestCallable(new BatchSubRequest(request, url),
+					new BufferedHttpServletResponse(response), authentication, permissionScope)));
+			} else {
+				futures.add(null);
+			}
+		}
+		String boundary = "apiv2-batch-" + UUID.randomUUID().toString();
+		response.setStatus(HttpServletResponse.SC_OK);
+		response.setContentType("multipart/mixed; boundary=" + boundary);
+		OutputStream output = response.getOutputStream();
+		long deadline = System.currentTimeMillis() + timeout;
+		for (int index = 0; index < urls.size(); index++) {
+			Future<BufferedHttpServletResponse> future = futures.get(index);
+			int status;
+			BufferedHttpServletResponse subResponse = null;
+			if (future == null) {
+				status = HttpServletResponse.SC_BAD_REQUEST;
+			} else {
+				try {
+					subResponse = future.get(Math.max(0L, deadline - System.currentTimeMillis()),
+						TimeUnit.MILLISECONDS);
+					status = subResponse.getStatus();
+				} catch (TimeoutException e) {
+					future.cancel(true);
+					status = HttpServletResponse.SC_GATEWAY_TIMEOUT;
+				} catch (InterruptedException e) {
+					future.cancel(true);
+					Thread.currentThread().interrupt();
+					status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+				} catch (ExecutionException e) {
+					LOGGER.log(Level.WARNING, "Failed to execute batch sub-request " + urls.get(index), e.getCause());
+					status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+				}
+			}
+			writePart(output, boundary, urls.get(index), status, subResponse);
+		}
+		output.write(("--" + boundary + "--" + CRLF).getBytes("US-ASCII"));
+		output.flush();
+	}
+
+	/**
+	 * Destroy the handler, cancelling all the running sub-requests
+	 */
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Internal method to write a single part of the multipart response
+	 * 
+	 * @param output the {@link OutputStream} to write to
+	 * @param boundary the multipart boundary
+	 * @param url the URL of the sub-request
+	 * @param status the status code of the sub-request
+	 * @param subResponse the {@link BufferedHttpServletResponse} of the sub-request, may be <code>null</code>
+	 * @throws IOException in case of write errors
+	 */
+	private void writePart(OutputStream output, String boundary, String url, int status,
+					BufferedHttpServletResponse subResponse) throws IOException {
+		byte[] body = subResponse != null ? subResponse.getBody() : new byte[0];
+		StringBuilder headers = new StringBuilder();
+		headers.append("--").append(boundary).append(CRLF);
+		headers.append("Content-Location: ").append(url).append(CRLF);
+		headers.append("Status: ").append(status).append(CRLF);
+		if (subResponse != null && subResponse.getContentType() != null) {
+			headers.append("Content-Type: ").append(subResponse.getContentType()).append(CRLF);
+		}
+		headers.append("Content-Length: ").append(body.length).append(CRLF);
+		headers.append(CRLF);
+		output.write(headers.toString().getBytes("UTF-8"));
+		output.write(body);
+		output.write(CRLF.getBytes("US-ASCII"));
+	}
+
+	/**
+	 * Internal method to read the sub-request URLs from the batch request body
+	 * 
+	 * @param request the batch {@link HttpServletRequest}
+	 * @return the {@link List} of URLs
+	 * @throws IOException in case of read errors
+	 */
+	private List<String> getSubRequestUrls(HttpServletRequest request) throws IOException {
+		List<String> urls = Lists.newArrayList();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), "UTF-8"));
+		String line;
+		while ((line = reader.readLine()) != null && urls.size() <= maxRequests) {
+			if (StringUtils.isNotBlank(line)) {
+				urls.add(line.trim());
+			}
+		}
+		return urls;
+	}
+
+	/**
+	 * Internal method to validate a sub-request URL
+	 * 
+	 * @param url the URL to validate
+	 * @return <code>true</code> if the URL is a REST API URL and not a batch request
+	 */
+	private boolean isValidSubRequestUrl(String url) {
+		return url.startsWith(SUB_REQUEST_PREFIX) && !isBatchRequest(StringUtils.substringBefore(url, "?")
+			.substring(1));
+	}
+
+	/**
+	 * {@link Callable} implementation to execute a single sub-request
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 * 
+	 * @since 4.5.0
+	 */
+	private class SubRequestCallable implements Callable<BufferedHttpServletResponse> {
+
+		private final BatchSubRequest request;
+		private final BufferedHttpServletResponse response;
+		private final Authentication authentication;
+		private final Map<String, Boolean> permissionScope;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param request the {@link BatchSubRequest}
+		 * @param response the {@link BufferedHttpServletResponse}
+		 * @param authentication the {@link Authentication} of the batch request
+		 * @param permissionScope the permission request scope of the batch request, may be <code>null</code>
+		 */
+		public SubRequestCallable(BatchSubRequest request, BufferedHttpServletResponse response,
+				Authentication authentication, Map<String, Boolean> permissionScope) {
+			this.request = request;
+			this.response = response;
+			this.authentication = authentication;
+			this.permissionScope = permissionScope;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public BufferedHttpServletResponse call() throws Exception {
+			RequestClass requestClass = admissionController.getRequestClass(request.getPathInfo().substring(1),
+				request);
+			if (!admissionController.acquire(requestClass)) {
+				admissionController.reject(response);
+				return response;
+			}
+			SecurityContextHolder.getContext().setAuthentication(authentication);
+			APIv2Plugin.getPermissionCache().joinRequest(permissionScope);
+			try {
+				restServlet.service(request, response);
+			} finally {
+				APIv2Plugin.getPermissionCache().endRequest();
+				SecurityContextHolder.clearContext();
+				admissionController.release(requestClass);
+			}
+			return response;
+		}
+
+	}
+
+	/**
+	 * {@link HttpServletRequestWrapper} for a single GET sub-request of a batch request.
+	 * All the request state is copied from the batch request when created so the sub-request can be executed on
+	 * a different thread then the batch request.
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 * 
+	 * @since 4.5.0
+	 */
+	private static class BatchSubRequest extends HttpServletRequestWrapper {
+
+		private final String pathInfo;
+		private final String queryString;
+		private final String requestUri;
+		private final String requestUrl;
+		private final String contextPath;
+		private final String servletPath;
+		private final Map<String, List<String>> headers = Maps.newLinkedHashMap();
+		private final Map<String, String[]> parameters = Maps.newLinkedHashMap();
+		private final Map<String, Object> attributes = new ConcurrentHashMap<String, Object>();
+
+		/**
+		 * Constructor
+		 * 
+		 * @param request the batch {@link HttpServletRequest}
+		 * @param url the sub-request url
+		 */
+		@SuppressWarnings("unchecked")
+		public BatchSubRequest(HttpServletRequest request, String url) {
+			super(request);
+			String path = StringUtils.substringBefore(url, "?");
+			pathInfo = decode(path);
+			queryString = url.indexOf('?') > -1 ? StringUtils.substringAfter(url, "?") : null;
+			contextPath = request.getContextPath();
+			servletPath = request.getServletPath();
+			requestUri = contextPath + servletPath + path;
+			String baseUrl = request.getRequestURL().toString();
+			requestUrl = baseUrl.substring(0, baseUrl.length() - request.getRequestURI().length()) + requestUri;
+			Enumeration<String> names = request.getHeaderNames();
+			while (names.hasMoreElements()) {
+				String name = names.nextElement();
+				if (!"Content-Length".equalsIgnoreCase(name) && !"Content-Type".equalsIgnoreCase(name)) {
+					headers.put(name.toLowerCase(), Collections.list((Enumeration<String>) request.getHeaders(name)));
+				}
+			}
+			parseQueryString();
+		}
+
+		/**
+		 * Internal method to parse the query string into the parameters map
+		 */
+		private void parseQueryString() {
+			if (StringUtils.isBlank(queryString)) {
+				return;
+			}
+			Map<String, List<String>> values = Maps.newLinkedHashMap();
+			for (String pair : StringUtils.split(queryString, '&')) {
+				String name = decode(StringUtils.substringBefore(pair, "="));
+				if (!values.containsKey(name)) {
+					values.put(name, Lists.<String> newArrayList());
+				}
+				values.get(name).add(decode(StringUtils.substringAfter(pair, "=")));
+			}
+			for (Entry<String, List<String>> entry : values.entrySet()) {
+				parameters.put(entry.getKey(), entry.getValue().toArray(new String[entry.getValue().size()]));
+			}
+		}
+
+		/**
+		 * Internal method to URL decode a path or query string part
+		 * 
+		 * @param value the value to decode
+		 * @return the decoded value
+		 */
+		private String decode(String value) {
+			try {
+				return URLDecoder.decode(value, "UTF-8");
+			} catch (UnsupportedEncodingException e) {
+				return value;
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getMethod() {
+			return "GET";
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getPathInfo() {
+			return pathInfo;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getContextPath() {
+			return contextPath;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getServletPath() {
+			return servletPath;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getQueryString() {
+			return queryString;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getRequestURI() {
+			return requestUri;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public StringBuffer getRequestURL() {
+			return new StringBuffer(requestUrl);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getHeader(String name) {
+			List<String> values = headers.get(name.toLowerCase());
+			return values == null || values.isEmpty() ? null : values.get(0);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Enumeration<?> getHeaders(String name) {
+			List<String> values = headers.get(name.toLowerCase());
+			return Collections.enumeration(values == null ? Collections.<String> emptyList() : values);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Enumeration<?> getHeaderNames() {
+			return Collections.enumeration(headers.keySet());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getIntHeader(String name) {
+			String value = getHeader(name);
+			return value == null ? -1 : Integer.parseInt(value);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getContentType() {
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getContentLength() {
+			return -1;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public ServletInputStream getInputStream() throws IOException {
+			return new ServletInputStream() {
+
+				@Override
+				public int read() throws IOException {
+					return -1;
+				}
+
+			};
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getParameter(String name) {
+			String[] values = parameters.get(name);
+			return values == null || values.length == 0 ? null : values[0];
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String[] getParameterValues(String name) {
+			return parameters.get(name);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<?, ?> getParameterMap() {
+			return Collections.unmodifiableMap(parameters);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Enumeration<?> getParameterNames() {
+			return Collections.enumeration(parameters.keySet());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object getAttribute(String name) {
+			return attributes.get(name);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Enumeration<?> getAttributeNames() {
+			return Collections.enumeration(attributes.keySet());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void setAttribute(String name, Object value) {
+			if (value == null) {
+				attributes.remove(name);
+			} else {
+				attributes.put(name, value);
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void removeAttribute(String name) {
+			attributes.remove(name);
+		}
+
+	}
+
+}
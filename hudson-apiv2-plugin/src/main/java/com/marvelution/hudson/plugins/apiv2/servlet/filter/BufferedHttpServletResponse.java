@@ -0,0 +1,447 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.servlet.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TimeZone;
+import java.util.TreeMap;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import com.google.common.collect.Lists;
+
+/**
+ * {@link HttpServletResponseWrapper} implementation that buffers the status, headers and body of a response in
+ * memory instead of writing them to the wrapped {@link HttpServletResponse}. The buffered response can be written
+ * to the wrapped response, or any other response, later on using {@link #writeTo(HttpServletResponse)}.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class BufferedHttpServletResponse extends HttpServletResponseWrapper {
+
+	private static final String DEFAULT_CHARACTER_ENCODING = "ISO-8859-1";
+
+	private final Map<String, List<String>> headers = new TreeMap<String, List<String>>(
+		String.CASE_INSENSITIVE_ORDER);
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+	private int status = SC_OK;
+	private String contentType;
+	private String characterEncoding;
+	private Locale locale = Locale.getDefault();
+	private ServletOutputStream outputStream;
+	private PrintWriter writer;
+	private boolean committed = false;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param response the {@link HttpServletResponse} that is wrapped
+	 */
+	public BufferedHttpServletResponse(HttpServletResponse response) {
+		super(response);
+	}
+
+	/**
+	 * Getter for the buffered status code
+	 * 
+	 * @return the status code
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Getter for the buffered headers
+	 * 
+	 * @return the {@link Map} of header names and values
+	 */
+	public Map<String, List<String>> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Getter for the first value of a buffered header
+	 * 
+	 * @param name the name of the header
+	 * @return the value, may be <code>null</code>
+	 */
+	public String getHeader(String name) {
+		if (headers.containsKey(name)) {
+			return headers.get(name).get(0);
+		}
+		return null;
+	}
+
+	/**
+	 * Getter for the buffered response body
+	 * 
+	 * @return the response body bytes
+	 */
+	public byte[] getBody() {
+		if (writer != null) {
+			writer.flush();
+		}
+		return buffer.toByteArray();
+	}
+
+	/**
+	 * Write the buffered status, headers and body to the given {@link HttpServletResponse}
+	 * 
+	 * @param response the {@link HttpServletResponse} to write to
+	 * @throws IOException in case of errors writing the body
+	 */
+	public void writeTo(HttpServletResponse response) throws IOException {
+		byte[] body = getBody();
+		response.setStatus(status);
+		for (Entry<String, List<String>> header : headers.entrySet()) {
+			for (String value : header.getValue()) {
+				response.addHeader(header.getKey(), value);
+			}
+		}
+		if (contentType != null) {
+			response.setContentType(getContentType());
+		}
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setStatus(int status) {
+		this.status = status;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("deprecation")
+	public void setStatus(int status, String message) {
+		this.status = status;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sendError(int status) throws IOException {
+		this.status = status;
+		committed = true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sendError(int status, String message) throws IOException {
+		sendError(status);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sendRedirect(String location) throws IOException {
+		setHeader("Location", location);
+		sendError(SC_MOVED_TEMPORARILY);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsHeader(String name) {
+		return headers.containsKey(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setHeader(String name, String value) {
+		headers.remove(name);
+		addHeader(name, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addHeader(String name, String value) {
+		if ("Content-Type".equalsIgnoreCase(name)) {
+			setContentType(value);
+		} else if (!"Content-Length".equalsIgnoreCase(name)) {
+			if (!headers.containsKey(name)) {
+				headers.put(name, Lists.<String> newArrayList());
+			}
+			headers.get(name).add(value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setIntHeader(String name, int value) {
+		setHeader(name, String.valueOf(value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addIntHeader(String name, int value) {
+		addHeader(name, String.valueOf(value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setDateHeader(String name, long date) {
+		setHeader(name, formatDate(date));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addDateHeader(String name, long date) {
+		addHeader(name, formatDate(date));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addCookie(Cookie cookie) {
+		// Cookies are not supported on buffered responses
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setContentType(String type) {
+		if (type == null) {
+			contentType = null;
+			return;
+		}
+		int index = type.toLowerCase(Locale.ENGLISH).indexOf("charset=");
+		if (index > -1) {
+			characterEncoding = type.substring(index + "charset=".length()).trim();
+			contentType = type.substring(0, index).trim();
+			if (contentType.endsWith(";")) {
+				contentType = contentType.substring(0, contentType.length() - 1).trim();
+			}
+		} else {
+			contentType = type;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getContentType() {
+		if (contentType != null && characterEncoding != null) {
+			return contentType + ";charset=" + characterEncoding;
+		}
+		return contentType;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setCharacterEncoding(String characterEncoding) {
+		this.characterEncoding = characterEncoding;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getCharacterEncoding() {
+		if (characterEncoding != null) {
+			return characterEncoding;
+		}
+		return DEFAULT_CHARACTER_ENCODING;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setContentLength(int length) {
+		// The content length is determined by the buffer
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setLocale(Locale locale) {
+		this.locale = locale;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (writer != null) {
+			throw new IllegalStateException("getWriter() has already been called on this response");
+		}
+		if (outputStream == null) {
+			outputStream = new ServletOutputStream() {
+
+				@Override
+				public void write(int b) throws IOException {
+					buffer.write(b);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					buffer.write(b, off, len);
+				}
+
+			};
+		}
+		return outputStream;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (outputStream != null) {
+			throw new IllegalStateException("getOutputStream() has already been called on this response");
+		}
+		if (writer == null) {
+			try {
+				writer = new PrintWriter(new OutputStreamWriter(buffer, getCharacterEncoding()));
+			} catch (UnsupportedEncodingException e) {
+				writer = new PrintWriter(new OutputStreamWriter(buffer, DEFAULT_CHARACTER_ENCODING));
+			}
+		}
+		return writer;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void flushBuffer() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		committed = true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isCommitted() {
+		return committed;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setBufferSize(int size) {
+		// The buffer will grow as needed
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getBufferSize() {
+		return buffer.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void reset() {
+		resetBuffer();
+		headers.clear();
+		status = SC_OK;
+		contentType = null;
+		characterEncoding = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resetBuffer() {
+		if (committed) {
+			throw new IllegalStateException("The response has already been committed");
+		}
+		if (writer != null) {
+			writer.flush();
+		}
+		buffer.reset();
+	}
+
+	/**
+	 * Internal method to format a date header value
+	 * 
+	 * @param date the date to format
+	 * @return the formatted date
+	 */
+	private String formatDate(long date) {
+		SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+		format.setTimeZone(TimeZone.getTimeZone("GMT"));
+		return format.format(new Date(date));
+	}
+
+}
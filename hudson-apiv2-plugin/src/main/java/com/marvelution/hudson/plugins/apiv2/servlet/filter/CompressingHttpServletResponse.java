@@ -0,0 +1,437 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.servlet.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * {@link HttpServletResponseWrapper} implementation that compresses the response body using gzip or deflate.
+ * 
+ * The body is buffered until it exceeds the configured threshold. Smaller responses are written uncompressed, larger
+ * responses are compressed while they are written. Partial content responses and responses that already have a
+ * content encoding are never compressed.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class CompressingHttpServletResponse extends HttpServletResponseWrapper {
+
+	/**
+	 * The gzip content encoding
+	 */
+	public static final String GZIP = "gzip";
+
+	/**
+	 * The deflate content encoding
+	 */
+	public static final String DEFLATE = "deflate";
+
+	private final String contentEncoding;
+	private final int threshold;
+	private final int level;
+	private CompressingServletOutputStream outputStream;
+	private PrintWriter writer;
+	private boolean compressible = true;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param response the {@link HttpServletResponse} to wrap
+	 * @param contentEncoding the content encoding to use, either {@link #GZIP} or {@link #DEFLATE}
+	 * @param threshold the minimal size in bytes of the body before it is compressed
+	 * @param level the compression level, 1 (fastest) to 9 (best compression)
+	 */
+	public CompressingHttpServletResponse(HttpServletResponse response, String contentEncoding, int threshold,
+					int level) {
+		super(response);
+		this.contentEncoding = contentEncoding;
+		this.threshold = threshold;
+		this.level = Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, level));
+	}
+
+	/**
+	 * Get the content encoding to use for the given Accept-Encoding request header value.
+	 * A coding that is refused explicitly, using a zero quality value, is not accepted by a <code>*</code> wildcard
+	 * 
+	 * @param acceptEncoding the Accept-Encoding header value, may be <code>null</code>
+	 * @return {@link #GZIP}, {@link #DEFLATE} or <code>null</code> if neither is accepted
+	 */
+	public static String getContentEncoding(String acceptEncoding) {
+		if (StringUtils.isBlank(acceptEncoding)) {
+			return null;
+		}
+		Boolean gzip = null, deflate = null;
+		boolean any = false;
+		for (String token : StringUtils.split(acceptEncoding.toLowerCase(Locale.ENGLISH), ',')) {
+			String coding = StringUtils.substringBefore(token, ";").trim();
+			boolean accepted = isAccepted(token);
+			if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+				gzip = accepted || Boolean.TRUE.equals(gzip);
+			} else if (DEFLATE.equals(coding)) {
+				deflate = accepted || Boolean.TRUE.equals(deflate);
+			} else if ("*".equals(coding)) {
+				any = accepted;
+			}
+		}
+		if (gzip == null ? any : gzip) {
+			return GZIP;
+		} else if (deflate == null ? any : deflate) {
+			return DEFLATE;
+		}
+		return null;
+	}
+
+	/**
+	 * Internal method to check if the quality value of an Accept-Encoding token is larger then zero
+	 * 
+	 * @param token the Accept-Encoding token
+	 * @return <code>true</code> if accepted
+	 */
+	private static boolean isAccepted(String token) {
+		String quality = StringUtils.substringAfter(token, "q=").trim();
+		if (StringUtils.isBlank(quality)) {
+			return true;
+		}
+		try {
+			return Float.parseFloat(quality) > 0F;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Finish the response by writing the buffered body or the remainder of the compressed body
+	 * 
+	 * @throws IOException in case of write errors
+	 */
+	public void finish() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		if (outputStream != null) {
+			outputStream.finish();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setStatus(int status) {
+		checkStatus(status);
+		super.setStatus(status);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("deprecation")
+	public void setStatus(int status, String message) {
+		checkStatus(status);
+		super.setStatus(status, message);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setHeader(String name, String value) {
+		if (checkHeader(name)) {
+			super.setHeader(name, value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addHeader(String name, String value) {
+		if (checkHeader(name)) {
+			super.addHeader(name, value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setIntHeader(String name, int value) {
+		if (checkHeader(name)) {
+			super.setIntHeader(name, value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addIntHeader(String name, int value) {
+		if (checkHeader(name)) {
+			super.addIntHeader(name, value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setContentLength(int length) {
+		if (!compressible) {
+			super.setContentLength(length);
+		}
+		// Otherwise the content length is set when the body is written, if it is not compressed
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (writer != null) {
+			throw new IllegalStateException("getWriter() has already been called on this response");
+		}
+		return getCompressingOutputStream();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (writer == null) {
+			if (outputStream != null) {
+				throw new IllegalStateException("getOutputStream() has already been called on this response");
+			}
+			writer = new PrintWriter(new OutputStreamWriter(getCompressingOutputStream(), getCharacterEncoding()));
+		}
+		return writer;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void flushBuffer() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		if (outputStream != null) {
+			outputStream.flush();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resetBuffer() {
+		super.resetBuffer();
+		if (outputStream != null) {
+			outputStream.resetBuffer();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void reset() {
+		super.reset();
+		if (outputStream != null) {
+			outputStream.resetBuffer();
+		}
+	}
+
+	/**
+	 * Internal method to get the wrapped {@link HttpServletResponse}
+	 * 
+	 * @return the wrapped {@link HttpServletResponse}
+	 */
+	private HttpServletResponse getWrappedResponse() {
+		return (HttpServletResponse) getResponse();
+	}
+
+	/**
+	 * Internal method to get the {@link CompressingServletOutputStream}
+	 * 
+	 * @return the {@link CompressingServletOutputStream}
+	 */
+	private CompressingServletOutputStream getCompressingOutputStream() {
+		if (outputStream == null) {
+			outputStream = new CompressingServletOutputStream();
+		}
+		return outputStream;
+	}
+
+	/**
+	 * Internal method to disable compression for partial and empty responses
+	 * 
+	 * @param status the status of the response
+	 */
+	private void checkStatus(int status) {
+		if (status == SC_PARTIAL_CONTENT || status == SC_NO_CONTENT || status == SC_NOT_MODIFIED) {
+			compressible = false;
+		}
+	}
+
+	/**
+	 * Internal method to disable compression for partial and already encoded responses
+	 * 
+	 * @param name the name of the header that is set
+	 * @return <code>true</code> if the header may be set on the wrapped response
+	 */
+	private boolean checkHeader(String name) {
+		if ("Content-Range".equalsIgnoreCase(name) || "Content-Encoding".equalsIgnoreCase(name)) {
+			compressible = false;
+		} else if ("Content-Length".equalsIgnoreCase(name) && compressible) {
+			// The content length is set when the body is written, if it is not compressed
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * {@link ServletOutputStream} that buffers the body until the threshold is exceeded and compresses it after
+	 * that
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 * 
+	 * @since 4.5.0
+	 */
+	private class CompressingServletOutputStream extends ServletOutputStream {
+
+		private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		private OutputStream output;
+		private Deflater deflater;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (output == null) {
+				if (buffer.size() + len <= threshold || len == 0) {
+					buffer.write(b, off, len);
+					return;
+				}
+				startOutput(compressible);
+			}
+			output.write(b, off, len);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void flush() throws IOException {
+			// Buffered content is kept until the threshold is exceeded or the response is finished
+			if (output != null) {
+				output.flush();
+			}
+		}
+
+		/**
+		 * Reset the buffered content, if the output is not started yet
+		 */
+		public void resetBuffer() {
+			if (output == null) {
+				buffer.reset();
+			}
+		}
+
+		/**
+		 * Finish the output
+		 * 
+		 * @throws IOException in case of write errors
+		 */
+		public void finish() throws IOException {
+			if (output == null) {
+				// The body didn't exceed the threshold, write it uncompressed
+				getWrappedResponse().setContentLength(buffer.size());
+				startOutput(false);
+			}
+			if (output instanceof DeflaterOutputStream) {
+				((DeflaterOutputStream) output).finish();
+			}
+			output.flush();
+			if (deflater != null) {
+				deflater.end();
+			}
+		}
+
+		/**
+		 * Internal method to start writing to the wrapped response
+		 * 
+		 * @param compress flag whether to compress the output or not
+		 * @throws IOException in case of write errors
+		 */
+		private void startOutput(boolean compress) throws IOException {
+			OutputStream wrapped = getWrappedResponse().getOutputStream();
+			if (compress) {
+				getWrappedResponse().setHeader("Content-Encoding", contentEncoding);
+				getWrappedResponse().addHeader("Vary", "Accept-Encoding");
+				deflater = new Deflater(level, GZIP.equals(contentEncoding));
+				if (GZIP.equals(contentEncoding)) {
+					output = new GZIPOutputStream(wrapped) {
+
+						{
+							// Replace the default deflater with the one using the configured level
+							def.end();
+							def = deflater;
+						}
+
+					};
+				} else {
+					output = new DeflaterOutputStream(wrapped, deflater);
+				}
+			} else {
+				output = wrapped;
+			}
+			buffer.writeTo(output);
+			buffer = null;
+		}
+
+	}
+
+}
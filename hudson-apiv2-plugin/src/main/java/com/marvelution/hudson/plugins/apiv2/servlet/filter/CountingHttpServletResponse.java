@@ -0,0 +1,169 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.servlet.filter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * {@link HttpServletResponseWrapper} implementation that counts the number of bytes written to the response body
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class CountingHttpServletResponse extends HttpServletResponseWrapper {
+
+	private CountingServletOutputStream outputStream;
+	private PrintWriter writer;
+	private long byteCount = 0L;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param response the {@link HttpServletResponse} to wrap
+	 */
+	public CountingHttpServletResponse(HttpServletResponse response) {
+		super(response);
+	}
+
+	/**
+	 * Getter for the number of bytes written to the response body
+	 * 
+	 * @return the number of bytes written
+	 */
+	public long getByteCount() {
+		if (writer != null) {
+			writer.flush();
+		}
+		return byteCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (writer != null) {
+			throw new IllegalStateException("getWriter() has already been called on this response");
+		}
+		return getCountingOutputStream();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (writer == null) {
+			if (outputStream != null) {
+				throw new IllegalStateException("getOutputStream() has already been called on this response");
+			}
+			writer = new PrintWriter(new OutputStreamWriter(getCountingOutputStream(), getCharacterEncoding()));
+		}
+		return writer;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void flushBuffer() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		super.flushBuffer();
+	}
+
+	/**
+	 * Internal method to get the {@link CountingServletOutputStream}
+	 * 
+	 * @return the {@link CountingServletOutputStream}
+	 * @throws IOException in case the wrapped {@link ServletOutputStream} cannot be obtained
+	 */
+	private CountingServletOutputStream getCountingOutputStream() throws IOException {
+		if (outputStream == null) {
+			outputStream = new CountingServletOutputStream(getResponse().getOutputStream());
+		}
+		return outputStream;
+	}
+
+	/**
+	 * {@link ServletOutputStream} that counts the bytes written to the wrapped {@link ServletOutputStream}
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 * 
+	 * @since 4.5.0
+	 */
+	private class CountingServletOutputStream extends ServletOutputStream {
+
+		private final ServletOutputStream output;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param output the {@link ServletOutputStream} to wrap
+		 */
+		public CountingServletOutputStream(ServletOutputStream output) {
+			this.output = output;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(int b) throws IOException {
+			output.write(b);
+			byteCount++;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			output.write(b, off, len);
+			byteCount += len;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void flush() throws IOException {
+			output.flush();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void close() throws IOException {
+			output.close();
+		}
+
+	}
+
+}
@@ -73,6 +73,34 @@ public class HudsonAPIV2FilterConfig implements FilterConfig {
 		return initParams.getProperty(paramName);
 	}
 
+	/**
+	 * Get an init parameter as an int
+	 * 
+	 * @param paramName the name of the parameter
+	 * @param defaultValue the value to return in case the parameter is not set or not a number
+	 * @return the int value
+	 * @since 4.5.0
+	 */
+	public int getIntInitParameter(String paramName, int defaultValue) {
+		return (int) getLongInitParameter(paramName, defaultValue);
+	}
+
+	/**
+	 * Get an init parameter as a long
+	 * 
+	 * @param paramName the name of the parameter
+	 * @param defaultValue the value to return in case the parameter is not set or not a number
+	 * @return the long value
+	 * @since 4.5.0
+	 */
+	public long getLongInitParameter(String paramName, long defaultValue) {
+		try {
+			return Long.parseLong(initParams.getProperty(paramName, String.valueOf(defaultValue)).trim());
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -20,6 +20,9 @@
 package com.marvelution.hudson.plugins.apiv2.servlet.filter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,8 +42,11 @@ import org.apache.wink.common.internal.runtime.RuntimeDelegateImpl;
 import org.apache.wink.server.internal.servlet.RestFilter;
 import org.apache.wink.server.internal.servlet.RestServlet;
 
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.metrics.Metrics;
 import com.marvelution.hudson.plugins.apiv2.resources.impl.BaseRestResource;
 import com.marvelution.hudson.plugins.apiv2.servlet.HudsonAPIV2ServletConfig;
+import com.marvelution.hudson.plugins.apiv2.servlet.filter.AdmissionController.RequestClass;
 
 /**
  * Custom implementation of the {@link RestFilter}
@@ -52,9 +58,21 @@ import com.marvelution.hudson.plugins.apiv2.servlet.HudsonAPIV2ServletConfig;
 public class HudsonAPIV2ServletFilter extends RestFilter {
 
 	private static final Logger LOGGER = Logger.getLogger(HudsonAPIV2ServletFilter.class.getName());
+	private static final Set<String> KNOWN_METHODS = new HashSet<String>(Arrays.asList("GET", "HEAD", "POST", "PUT",
+		"DELETE", "OPTIONS"));
 
 	private RestServlet restServlet;
 
+	private BatchRequestHandler batchRequestHandler;
+
+	private AdmissionController admissionController;
+
+	private boolean compressionEnabled;
+
+	private int compressionThreshold;
+
+	private int compressionLevel;
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -64,6 +82,13 @@ public class HudsonAPIV2ServletFilter extends RestFilter {
 			final HudsonAPIV2FilterConfig restFilterConfig = new HudsonAPIV2FilterConfig(filterConfig);
 			restServlet = new HudsonRestServletForFilter(restFilterConfig);
 			restServlet.init(new HudsonAPIV2ServletConfig(restFilterConfig));
+			admissionController = new AdmissionController(restFilterConfig);
+			batchRequestHandler = new BatchRequestHandler(restServlet, admissionController, restFilterConfig);
+			compressionEnabled = Boolean.valueOf(restFilterConfig.getInitParameter("apiv2.compression.enabled"));
+			compressionThreshold = restFilterConfig.getIntInitParameter("apiv2.compression.threshold", 1024);
+			compressionLevel = restFilterConfig.getIntInitParameter("apiv2.compression.level", 6);
+			APIv2Plugin.getPermissionCache().setTimeToLive(
+				restFilterConfig.getLongInitParameter("apiv2.permission.cache.ttl", 0L));
 		} catch (IOException e) {
 			LOGGER.log(Level.SEVERE, "Failed to create HudsonRestFilterConfig", e);
 			throw new ServletException("Failed to create HudsonRestFilterConfig", e);
@@ -76,6 +101,7 @@ public class HudsonAPIV2ServletFilter extends RestFilter {
 	@Override
 	public void destroy() {
 		LOGGER.log(Level.FINE, "Destroying RestFilter {}", this);
+		batchRequestHandler.destroy();
 		restServlet.destroy();
 	}
 
@@ -96,18 +122,24 @@ public class HudsonAPIV2ServletFilter extends RestFilter {
 				requestUri = requestUri.substring(1);
 			}
 			LOGGER.log(Level.FINE, "Got a request from URI: " + requestUri + " with Accept Header: " + servletRequest.getHeader("Accept"));
+			boolean batchRequest = batchRequestHandler.isBatchRequest(requestUri);
 			// Make sure it is a REST call
-			if (StringUtils.isNotBlank(requestUri) && requestUri.startsWith(BaseRestResource.BASE_REST_URI)) {
+			if (batchRequest || (StringUtils.isNotBlank(requestUri)
+					&& requestUri.startsWith(BaseRestResource.BASE_REST_URI))) {
 				validateRuntimeDelegate();
-				LOGGER.log(Level.FINE, "Got a REST request, forwarding it to the Wink RestFilter");
-				FilteredHttpServletResponse servletResponse =
-					new FilteredHttpServletResponse((HttpServletResponse) response);
-				restServlet.service(servletRequest, servletResponse);
-				if ((!(servletResponse.isCommitted())) && (servletResponse.getStatusCode() == 404)) {
-					LOGGER.log(Level.FINE, "Filter " + this.getClass().getName()
-						+ " did not match a resource so letting request continue on FilterChain");
-					servletResponse.setStatus(200);
-					filterChain.doFilter(request, response);
+				RequestClass requestClass = admissionController.getRequestClass(requestUri, servletRequest);
+				if (!admissionController.acquire(requestClass)) {
+					admissionController.reject((HttpServletResponse) response);
+					return;
+				}
+				try {
+					if (batchRequest) {
+						serviceBatchRequest(requestUri, servletRequest, (HttpServletResponse) response);
+					} else {
+						serviceRestRequest(requestUri, servletRequest, (HttpServletResponse) response, filterChain);
+					}
+				} finally {
+					admissionController.release(requestClass);
 				}
 			// Otherwise forward the request to the next Filter in the chain
 			} else {
@@ -122,6 +154,133 @@ public class HudsonAPIV2ServletFilter extends RestFilter {
 		}
 	}
 
+	/**
+	 * Internal method to service a batch request using the {@link BatchRequestHandler}
+	 * 
+	 * @param requestUri the request URI, without the context path and leading slash
+	 * @param request the {@link HttpServletRequest}
+	 * @param response the {@link HttpServletResponse}
+	 * @throws IOException in case of errors reading the request or writing the response
+	 */
+	private void serviceBatchRequest(String requestUri, HttpServletRequest request, HttpServletResponse response)
+					throws IOException {
+		// Batch requests are split into sub-requests by the BatchRequestHandler
+		LOGGER.log(Level.FINE, "Got a batch REST request, forwarding it to the BatchRequestHandler");
+		long start = System.nanoTime();
+		CountingHttpServletResponse countingResponse = new CountingHttpServletResponse(response);
+		HttpServletResponse restResponse = getRestResponse(request, countingResponse);
+		APIv2Plugin.getPermissionCache().beginRequest();
+		try {
+			batchRequestHandler.handle(request, restResponse);
+			finishRestResponse(restResponse);
+		} finally {
+			APIv2Plugin.getPermissionCache().endRequest();
+			recordRequestMetrics(requestUri, request.getMethod(), start, countingResponse);
+		}
+	}
+
+	/**
+	 * Internal method to service a REST request using the Wink {@link RestServlet}
+	 * 
+	 * @param requestUri the request URI, without the context path and leading slash
+	 * @param request the {@link HttpServletRequest}
+	 * @param response the {@link HttpServletResponse}
+	 * @param filterChain the {@link FilterChain} to continue if the request doesn't match a resource
+	 * @throws IOException in case of errors reading the request or writing the response
+	 * @throws ServletException in case of errors servicing the request
+	 */
+	private void serviceRestRequest(String requestUri, HttpServletRequest request, HttpServletResponse response,
+					FilterChain filterChain) throws IOException, ServletException {
+		LOGGER.log(Level.FINE, "Got a REST request, forwarding it to the Wink RestFilter");
+		long start = System.nanoTime();
+		CountingHttpServletResponse countingResponse = new CountingHttpServletResponse(response);
+		HttpServletResponse restResponse = getRestResponse(request, countingResponse);
+		FilteredHttpServletResponse servletResponse = new FilteredHttpServletResponse(restResponse);
+		// Permission checks are cached for the duration of the request
+		APIv2Plugin.getPermissionCache().beginRequest();
+		boolean matched = true;
+		try {
+			restServlet.service(request, servletResponse);
+			if ((!(servletResponse.isCommitted())) && (servletResponse.getStatusCode() == 404)) {
+				matched = false;
+			} else {
+				finishRestResponse(restResponse);
+			}
+		} finally {
+			APIv2Plugin.getPermissionCache().endRequest();
+			// Requests that failed are measured as well, only requests passed on to the FilterChain are not
+			if (matched) {
+				recordRequestMetrics(requestUri, request.getMethod(), start, countingResponse);
+			}
+		}
+		if (!matched) {
+			LOGGER.log(Level.FINE, "Filter " + this.getClass().getName()
+				+ " did not match a resource so letting request continue on FilterChain");
+			servletResponse.setStatus(200);
+			filterChain.doFilter(request, response);
+		}
+	}
+
+	/**
+	 * Internal method to get the {@link HttpServletResponse} the REST response is written to.
+	 * If compression is enabled and accepted by the client then the response is wrapped in a
+	 * {@link CompressingHttpServletResponse}
+	 * 
+	 * @param request the {@link HttpServletRequest}
+	 * @param response the original {@link HttpServletResponse}
+	 * @return the {@link HttpServletResponse} to write the REST response to
+	 */
+	private HttpServletResponse getRestResponse(HttpServletRequest request, HttpServletResponse response) {
+		if (compressionEnabled) {
+			String contentEncoding =
+				CompressingHttpServletResponse.getContentEncoding(request.getHeader("Accept-Encoding"));
+			if (contentEncoding != null) {
+				LOGGER.log(Level.FINE, "Client accepts " + contentEncoding + " compressed responses");
+				return new CompressingHttpServletResponse(response, contentEncoding, compressionThreshold,
+					compressionLevel);
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * Internal method to finish the REST response
+	 * 
+	 * @param response the {@link HttpServletResponse} returned by
+	 *        {@link #getRestResponse(HttpServletRequest, HttpServletResponse)}
+	 * @throws IOException in case of write errors
+	 */
+	private void finishRestResponse(HttpServletResponse response) throws IOException {
+		if (response instanceof CompressingHttpServletResponse) {
+			((CompressingHttpServletResponse) response).finish();
+		}
+	}
+
+	/**
+	 * Internal method to record the latency and response size of a REST request in the {@link Metrics}
+	 * 
+	 * @param requestUri the request URI, without the context path and leading slash
+	 * @param method the HTTP method of the request, unknown methods are recorded as <code>other</code>
+	 * @param start the {@link System#nanoTime()} at the start of the request
+	 * @param response the {@link CountingHttpServletResponse} of the request
+	 */
+	private void recordRequestMetrics(String requestUri, String method, long start,
+					CountingHttpServletResponse response) {
+		// Use the first path segment after the base URI as resource name to keep the number of metrics bounded
+		String resource = StringUtils.substringBefore(
+			StringUtils.removeStart(StringUtils.removeStart(requestUri, BaseRestResource.BASE_REST_URI), "/"), "/");
+		if (StringUtils.isBlank(resource)) {
+			resource = BaseRestResource.BASE_REST_URI;
+		}
+		// Only use the known HTTP methods as label, clients can send any method name
+		if (!KNOWN_METHODS.contains(method)) {
+			method = "other";
+		}
+		Metrics.observeDuration("apiv2_request_duration_seconds", start, "resource", resource, "method", method);
+		Metrics.observeSize("apiv2_response_size_bytes", response.getByteCount(), "resource", resource, "method",
+			method);
+	}
+
 	/**
 	 * Internal method to validate that the correct {@link RuntimeDelegate} is loaded for the Wink application
 	 */
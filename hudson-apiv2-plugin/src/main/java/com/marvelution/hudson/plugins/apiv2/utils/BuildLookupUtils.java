@@ -0,0 +1,106 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import hudson.model.Job;
+import hudson.model.Run;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Helper class to lookup {@link Run} objects of a {@link Job} without iterating over all the builds of the job.
+ * 
+ * Builds of a {@link Job} are numbered in the order they were started, so the build timestamps increase with the
+ * build number. This allows a binary search over the build numbers to locate the boundaries of a time range, which
+ * only touches the probed builds and the builds within the range.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * @since 4.5.0
+ */
+public final class BuildLookupUtils {
+
+	/**
+	 * Get all the {@link Run} objects of the given {@link Job} that started within the given time range
+	 * 
+	 * @param job the {@link Job} to get the builds from
+	 * @param from the start of the time range (inclusive)
+	 * @param to the end of the time range (inclusive)
+	 * @return the {@link List} of {@link Run} objects, newest first, may be empty but never <code>null</code>
+	 */
+	public static List<Run<?, ?>> getBuildsBetween(Job<?, ?> job, long from, long to) {
+		List<Run<?, ?>> builds = Lists.newArrayList();
+		Run<?, ?> build = getLatestBuildBefore(job, to);
+		while (build != null && build.getTimeInMillis() >= from) {
+			builds.add(build);
+			build = build.getPreviousBuild();
+		}
+		return builds;
+	}
+
+	/**
+	 * Get all the {@link Run} objects of the given {@link Job} that started after the given time
+	 * 
+	 * @param job the {@link Job} to get the builds from
+	 * @param from the start of the time range (inclusive)
+	 * @return the {@link List} of {@link Run} objects, newest first, may be empty but never <code>null</code>
+	 */
+	public static List<Run<?, ?>> getBuildsAfter(Job<?, ?> job, long from) {
+		return getBuildsBetween(job, from, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Get the latest {@link Run} of the given {@link Job} that started on or before the given time.
+	 * Performs a binary search over the build numbers so only O(log n) builds are loaded
+	 * 
+	 * @param job the {@link Job} to get the build from
+	 * @param time the time the build must have started on or before
+	 * @return the {@link Run}, may be <code>null</code> if there is no such build
+	 */
+	public static Run<?, ?> getLatestBuildBefore(Job<?, ?> job, long time) {
+		Run<?, ?> last = job.getLastBuild();
+		if (last == null || last.getTimeInMillis() <= time) {
+			return last;
+		}
+		Run<?, ?> first = job.getFirstBuild();
+		if (first == null || first.getTimeInMillis() > time) {
+			return null;
+		}
+		Run<?, ?> candidate = first;
+		int low = first.getNumber() + 1;
+		int high = last.getNumber() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			// Build numbers may have gaps, so get the nearest build with a number equal or lower then mid
+			Run<?, ?> probe = job.getNearestOldBuild(mid);
+			if (probe == null || probe.getNumber() < low) {
+				low = mid + 1;
+			} else if (probe.getTimeInMillis() <= time) {
+				candidate = probe;
+				low = mid + 1;
+			} else {
+				high = probe.getNumber() - 1;
+			}
+		}
+		return candidate;
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import java.lang.reflect.Method;
+import java.util.regex.Pattern;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+
+import hudson.scm.ChangeLogSet;
+import hudson.scm.ChangeLogSet.Entry;
+
+/**
+ * Helper class to get the SCM revision ids of change set entries.
+ * 
+ * Hudson doesn't have a generic way to get the revision of a {@link Entry}, so the revision is looked up by the
+ * getters the SCM implementations provide, like getCommitId() of newer cores, getRevision() of Subversion, getId()
+ * of Git and getNode() of Mercurial.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * @since 4.5.0
+ */
+public final class ChangeSetUtils {
+
+	/**
+	 * The length of the compact form of hash based revision ids, like the abbreviated hashes of Git
+	 */
+	public static final int COMPACT_REVISION_LENGTH = 12;
+
+	private static final String[] REVISION_GETTERS = { "getCommitId", "getRevision", "getId", "getNode" };
+
+	private static final Pattern HASH_REVISION_PATTERN = Pattern.compile("[0-9a-fA-F]{" + (COMPACT_REVISION_LENGTH + 1)
+		+ ",}");
+
+	/**
+	 * Private constructor for utility class
+	 */
+	private ChangeSetUtils() {
+	}
+
+	/**
+	 * Get the compact revision id of the given change set {@link Entry}
+	 * 
+	 * @param entry the change set {@link Entry}
+	 * @return the compact revision id, <code>null</code> if the SCM of the entry doesn't expose a revision
+	 */
+	public static String getRevision(Entry entry) {
+		for (String getter : REVISION_GETTERS) {
+			try {
+				Method method = entry.getClass().getMethod(getter);
+				Object revision = method.invoke(entry);
+				if (revision != null && revision.toString().length() > 0) {
+					return compactRevision(revision.toString());
+				}
+			} catch (Exception e) {
+				// The SCM doesn't have this getter, try the next one
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the compact form of a revision id, hash based ids are abbreviated, other ids are returned as is
+	 * 
+	 * @param revision the revision id
+	 * @return the compact revision id
+	 */
+	public static String compactRevision(String revision) {
+		if (HASH_REVISION_PATTERN.matcher(revision).matches()) {
+			return revision.substring(0, COMPACT_REVISION_LENGTH).toLowerCase();
+		}
+		return revision;
+	}
+
+	/**
+	 * Get the compact revision ids of the given change set per JIRA issue key found in the commit messages
+	 * 
+	 * @param changeSet the {@link ChangeLogSet}
+	 * @param keyPattern the {@link Pattern} of the JIRA issue keys
+	 * @return the {@link SetMultimap} of issue key to revision ids, in the order of the change set
+	 */
+	public static SetMultimap<String, String> getRevisionsByIssueKey(ChangeLogSet<? extends Entry> changeSet,
+					Pattern keyPattern) {
+		SetMultimap<String, String> revisions = LinkedHashMultimap.create();
+		for (Entry entry : changeSet) {
+			String revision = getRevision(entry);
+			if (revision != null) {
+				for (String key : JiraKeyUtils.getJiraIssueKeysFromText(entry.getMsg(), keyPattern)) {
+					revisions.put(key, revision);
+				}
+			}
+		}
+		return revisions;
+	}
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import org.apache.commons.lang.StringUtils;
+
+import hudson.console.ConsoleNote;
+import hudson.console.PlainTextConsoleOutputStream;
+
+/**
+ * Utility class for serving (parts of) console log files, with or without their {@link ConsoleNote} annotations
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class ConsoleLogUtils {
+
+	private static final int TAIL_BUFFER_SIZE = 8192;
+
+	/**
+	 * Parse a HTTP Range header. Only single byte ranges are supported, other ranges are ignored in which case the
+	 * complete log should be served
+	 * 
+	 * @param range the Range header, may be <code>null</code>
+	 * @param length the length of the log
+	 * @return the <code>[start, end)</code> of the range, <code>null</code> if the range is to be ignored, or an
+	 * 			empty array if the range cannot be satisfied
+	 */
+	public static long[] parseRange(String range, long length) {
+		if (StringUtils.isBlank(range) || !range.trim().startsWith("bytes=") || range.indexOf(',') > -1) {
+			return null;
+		}
+		String spec = StringUtils.substringAfter(range.trim(), "bytes=").trim();
+		String first = StringUtils.substringBefore(spec, "-").trim();
+		String last = StringUtils.substringAfter(spec, "-").trim();
+		try {
+			long start, end;
+			if (first.length() == 0) {
+				// A suffix range, the last n bytes of the log
+				long suffix = Long.parseLong(last);
+				if (suffix <= 0L) {
+					return new long[0];
+				}
+				start = Math.max(0L, length - suffix);
+				end = length;
+			} else {
+				start = Long.parseLong(first);
+				end = last.length() == 0 ? length : Math.min(length, Long.parseLong(last) + 1L);
+				if (end <= start) {
+					return start >= length ? new long[0] : null;
+				}
+			}
+			return start < length ? new long[] { start, end } : new long[0];
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Get the offset of the last lines of a log, reading backwards in blocks from the end of the log
+	 * 
+	 * @param channel the {@link FileChannel} of the log
+	 * @param length the length of the log
+	 * @param lines the number of lines to get
+	 * @return the offset of the first of the last lines
+	 * @throws IOException in case of read errors
+	 */
+	public static long getTailOffset(FileChannel channel, long length, int lines) throws IOException {
+		if (lines <= 0 || length == 0L) {
+			return length;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(TAIL_BUFFER_SIZE);
+		long position = length;
+		// A line break at the very end of the log terminates the last line, it doesn't start a new one
+		buffer.limit(1);
+		channel.read(buffer, length - 1L);
+		int found = buffer.get(0) == '\n' ? -1 : 0;
+		while (position > 0L) {
+			int size = (int) Math.min(TAIL_BUFFER_SIZE, position);
+			position -= size;
+			buffer.clear().limit(size);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, position + buffer.position()) < 0) {
+					break;
+				}
+			}
+			for (int index = buffer.position() - 1; index >= 0; index--) {
+				if (buffer.get(index) == '\n' && ++found == lines) {
+					return position + index + 1L;
+				}
+			}
+		}
+		return 0L;
+	}
+
+	/**
+	 * Get the end of the last complete line in a region of a log, reading backwards in blocks from the end of the
+	 * region
+	 * 
+	 * @param channel the {@link FileChannel} of the log
+	 * @param start the offset of the region
+	 * @param end the end of the region, exclusive
+	 * @return the offset after the last line break in the region, or the start if the region has no line break
+	 * @throws IOException in case of read errors
+	 */
+	public static long getLastLineEnd(FileChannel channel, long start, long end) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(TAIL_BUFFER_SIZE);
+		long position = end;
+		while (position > start) {
+			int size = (int) Math.min(TAIL_BUFFER_SIZE, position - start);
+			position -= size;
+			buffer.clear().limit(size);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, position + buffer.position()) < 0) {
+					break;
+				}
+			}
+			for (int index = buffer.position() - 1; index >= 0; index--) {
+				if (buffer.get(index) == '\n') {
+					return position + index + 1L;
+				}
+			}
+		}
+		return start;
+	}
+
+	/**
+	 * Transfer a region of a file to an {@link OutputStream}
+	 * 
+	 * @param channel the {@link FileChannel} to transfer from
+	 * @param start the offset of the region
+	 * @param end the end of the region, exclusive
+	 * @param output the {@link OutputStream} to transfer to
+	 * @throws IOException in case of read or write errors
+	 */
+	public static void transfer(FileChannel channel, long start, long end, OutputStream output) throws IOException {
+		WritableByteChannel target = Channels.newChannel(output);
+		long position = start;
+		while (position < end) {
+			long transferred = channel.transferTo(position, end - position, target);
+			if (transferred <= 0L) {
+				// The log was truncated while transferring it
+				break;
+			}
+			position += transferred;
+		}
+		output.flush();
+	}
+
+	/**
+	 * {@link StreamingOutput} implementation to transfer a region of a log file, optionally without its
+	 * {@link ConsoleNote} annotations
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 *
+	 * @since 4.5.0
+	 */
+	public static class LogRegionOutput implements StreamingOutput {
+
+		private final File log;
+		private final long start;
+		private final long end;
+		private final boolean stripNotes;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param log the log {@link File}
+		 * @param start the offset of the region
+		 * @param end the end of the region, exclusive
+		 * @param stripNotes flag to remove the {@link ConsoleNote} annotations, if <code>false</code> the bytes of the
+		 * 			region are written unchanged
+		 */
+		public LogRegionOutput(File log, long start, long end, boolean stripNotes) {
+			this.log = log;
+			this.start = start;
+			this.end = end;
+			this.stripNotes = stripNotes;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(OutputStream output) throws IOException {
+			FileInputStream input = new FileInputStream(log);
+			try {
+				if (!stripNotes) {
+					transfer(input.getChannel(), start, end, output);
+					return;
+				}
+				PlainTextConsoleOutputStream plainText = new PlainTextConsoleOutputStream(output);
+				transfer(input.getChannel(), start, end, plainText);
+				// Write the last line of the region, even if it is not terminated by a line break
+				plainText.forceEol();
+				output.flush();
+			} finally {
+				input.close();
+			}
+		}
+
+	}
+
+}
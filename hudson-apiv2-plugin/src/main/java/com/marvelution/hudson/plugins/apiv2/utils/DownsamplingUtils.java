@@ -0,0 +1,130 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Helper class to downsample a series of points to a smaller number of points that keeps the visual shape of the
+ * series, using the Largest-Triangle-Three-Buckets algorithm by Sveinn Steinarsson.
+ * 
+ * The first and last points are always kept. The points in between are divided over buckets, and from each bucket
+ * the point is selected that forms the largest triangle with the point selected from the previous bucket and the
+ * average of the points in the next bucket.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * @since 4.5.0
+ */
+public final class DownsamplingUtils {
+
+	/**
+	 * Accessor for the coordinates of a point in a series
+	 * 
+	 * @param <T> the point type
+	 */
+	public interface Coordinates<T> {
+
+		/**
+		 * Get the X coordinate of the given point, the series must be ordered by this coordinate
+		 * 
+		 * @param point the point
+		 * @return the X coordinate
+		 */
+		double getX(T point);
+
+		/**
+		 * Get the Y coordinate of the given point
+		 * 
+		 * @param point the point
+		 * @return the Y coordinate
+		 */
+		double getY(T point);
+
+	}
+
+	/**
+	 * Private constructor for utility class
+	 */
+	private DownsamplingUtils() {
+	}
+
+	/**
+	 * Downsample the given points using the Largest-Triangle-Three-Buckets algorithm
+	 * 
+	 * @param <T> the point type
+	 * @param points the {@link List} of points ordered by their X coordinate
+	 * @param threshold the number of points to downsample to
+	 * @param coordinates the {@link Coordinates} accessor of the points
+	 * @return the downsampled {@link List} of points, or the given points if there are no more than the threshold
+	 */
+	public static <T> List<T> largestTriangleThreeBuckets(List<T> points, int threshold,
+					Coordinates<T> coordinates) {
+		if (threshold >= points.size() || threshold <= 0) {
+			return points;
+		} else if (threshold < 3) {
+			// Only the first and last points fit
+			List<T> sampled = Lists.newArrayList(points.get(0));
+			if (threshold == 2) {
+				sampled.add(points.get(points.size() - 1));
+			}
+			return sampled;
+		}
+		List<T> sampled = Lists.newArrayListWithCapacity(threshold);
+		double bucketSize = (double) (points.size() - 2) / (threshold - 2);
+		int selected = 0;
+		sampled.add(points.get(selected));
+		for (int bucket = 0; bucket < threshold - 2; bucket++) {
+			// The average of the next bucket, the last point is the next bucket of the last bucket
+			int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+			int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, points.size());
+			double averageX = 0D, averageY = 0D;
+			for (int index = nextStart; index < nextEnd; index++) {
+				averageX += coordinates.getX(points.get(index));
+				averageY += coordinates.getY(points.get(index));
+			}
+			averageX /= nextEnd - nextStart;
+			averageY /= nextEnd - nextStart;
+			// Select the point of the current bucket with the largest triangle
+			int start = (int) Math.floor(bucket * bucketSize) + 1;
+			int end = nextStart;
+			double selectedX = coordinates.getX(points.get(selected));
+			double selectedY = coordinates.getY(points.get(selected));
+			double maxArea = -1D;
+			int maxIndex = start;
+			for (int index = start; index < end; index++) {
+				double x = coordinates.getX(points.get(index));
+				double y = coordinates.getY(points.get(index));
+				double area = Math.abs((selectedX - averageX) * (y - selectedY) - (selectedX - x)
+					* (averageY - selectedY));
+				if (area > maxArea) {
+					maxArea = area;
+					maxIndex = index;
+				}
+			}
+			selected = maxIndex;
+			sampled.add(points.get(selected));
+		}
+		sampled.add(points.get(points.size() - 1));
+		return sampled;
+	}
+
+}
@@ -0,0 +1,315 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.TestCaseResult;
+
+/**
+ * Streaming reader for the test reports stored with a build. The reports are read using StAX and only the test
+ * cases that are in the requested page are kept, so the memory used doesn't depend on the number of test cases in
+ * the reports. Supported are the <code>junitResult.xml</code> file Hudson stores for JUnit reports and the
+ * <code>testng-results.xml</code> files of TestNG.
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class TestReportReader {
+
+	/**
+	 * Status of test cases that passed
+	 */
+	public static final String PASSED = "passed";
+
+	/**
+	 * Status of test cases that failed
+	 */
+	public static final String FAILED = "failed";
+
+	/**
+	 * Status of test cases that were skipped
+	 */
+	public static final String SKIPPED = "skipped";
+
+	private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+
+	static {
+		// Test reports are local files written by Hudson, but there is no need for external entities
+		FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+	}
+
+	private final String status;
+	private final String className;
+	private final String testName;
+	private final int offset;
+	private final int count;
+	private final List<TestCaseResult> testCases = Lists.newArrayList();
+	private int matched = 0;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param status the status to filter on, {@link #PASSED}, {@link #FAILED} or {@link #SKIPPED}, may be
+	 * 			<code>null</code>
+	 * @param className the class name or package to filter on, may be <code>null</code>
+	 * @param testName the test name to filter on, may be <code>null</code>
+	 * @param offset the number of matching test cases to skip
+	 * @param count the maximum number of matching test cases to keep
+	 */
+	public TestReportReader(String status, String className, String testName, int offset, int count) {
+		this.status = StringUtils.isBlank(status) ? null : status.toLowerCase();
+		this.className = StringUtils.isBlank(className) ? null : className;
+		this.testName = StringUtils.isBlank(testName) ? null : testName;
+		this.offset = Math.max(0, offset);
+		this.count = Math.max(0, count);
+	}
+
+	/**
+	 * Read the test cases from a <code>junitResult.xml</code> file
+	 * 
+	 * @param input the {@link InputStream} of the file
+	 * @throws XMLStreamException in case the file cannot be parsed
+	 */
+	public void readJUnitResult(InputStream input) throws XMLStreamException {
+		XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+		try {
+			while (reader.hasNext()) {
+				if (reader.next() == XMLStreamConstants.START_ELEMENT && "case".equals(reader.getLocalName())) {
+					readJUnitCase(reader);
+				}
+			}
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Read a single <code>case</code> element, the reader must be positioned at its start
+	 * 
+	 * @param reader the {@link XMLStreamReader}
+	 * @throws XMLStreamException in case the case cannot be parsed
+	 */
+	private void readJUnitCase(XMLStreamReader reader) throws XMLStreamException {
+		Map<String, String> fields = Maps.newHashMap();
+		boolean error = false;
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			String field = reader.getLocalName();
+			if ("errorStackTrace".equals(field) || "errorDetails".equals(field)) {
+				error = true;
+				if (isInPage()) {
+					fields.put(field, reader.getElementText());
+				} else {
+					skipElement(reader);
+				}
+			} else if ("duration".equals(field) || "className".equals(field) || "testName".equals(field)
+				|| "skipped".equals(field)) {
+				fields.put(field, reader.getElementText());
+			} else {
+				// stdout, stderr and the like are not part of the TestCaseResult
+				skipElement(reader);
+			}
+		}
+		String caseStatus;
+		if (Boolean.parseBoolean(fields.get("skipped"))) {
+			caseStatus = SKIPPED;
+		} else if (error) {
+			caseStatus = FAILED;
+		} else {
+			caseStatus = PASSED;
+		}
+		TestCaseResult testCase = accept(fields.get("className"), fields.get("testName"), caseStatus);
+		if (testCase != null) {
+			testCase.setDuration(parseFloat(fields.get("duration")));
+			testCase.setErrorStackTrace(fields.get("errorStackTrace"));
+			testCase.setErrorDetails(fields.get("errorDetails"));
+		}
+	}
+
+	/**
+	 * Read the test cases from a <code>testng-results.xml</code> file, configuration methods are ignored
+	 * 
+	 * @param input the {@link InputStream} of the file
+	 * @throws XMLStreamException in case the file cannot be parsed
+	 */
+	public void readTestNGResults(InputStream input) throws XMLStreamException {
+		XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+		try {
+			String currentClass = null;
+			while (reader.hasNext()) {
+				if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+					continue;
+				} else if ("class".equals(reader.getLocalName())) {
+					currentClass = reader.getAttributeValue(null, "name");
+				} else if ("test-method".equals(reader.getLocalName())) {
+					readTestNGMethod(reader, currentClass);
+				}
+			}
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Read a single <code>test-method</code> element, the reader must be positioned at its start
+	 * 
+	 * @param reader the {@link XMLStreamReader}
+	 * @param currentClass the name of the class the method is in
+	 * @throws XMLStreamException in case the method cannot be parsed
+	 */
+	private void readTestNGMethod(XMLStreamReader reader, String currentClass) throws XMLStreamException {
+		if (Boolean.parseBoolean(reader.getAttributeValue(null, "is-config"))) {
+			skipElement(reader);
+			return;
+		}
+		String methodStatus = reader.getAttributeValue(null, "status");
+		String caseStatus;
+		if ("SKIP".equals(methodStatus)) {
+			caseStatus = SKIPPED;
+		} else if ("FAIL".equals(methodStatus)) {
+			caseStatus = FAILED;
+		} else {
+			caseStatus = PASSED;
+		}
+		TestCaseResult testCase = accept(currentClass, reader.getAttributeValue(null, "name"), caseStatus);
+		if (testCase == null) {
+			skipElement(reader);
+			return;
+		}
+		testCase.setDuration(parseFloat(reader.getAttributeValue(null, "duration-ms")) / 1000F);
+		int depth = 1;
+		while (depth > 0) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				if ("message".equals(reader.getLocalName())) {
+					testCase.setErrorDetails(StringUtils.trim(reader.getElementText()));
+				} else if ("full-stacktrace".equals(reader.getLocalName())) {
+					testCase.setErrorStackTrace(StringUtils.trim(reader.getElementText()));
+				} else {
+					depth++;
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Check a test case against the filters, and create the {@link TestCaseResult} if it is in the requested page
+	 * 
+	 * @param caseClassName the class name of the test case
+	 * @param caseTestName the name of the test case
+	 * @param caseStatus the status of the test case
+	 * @return the {@link TestCaseResult} added to the page, <code>null</code> if the test case doesn't match or is
+	 * 			outside the page
+	 */
+	private TestCaseResult accept(String caseClassName, String caseTestName, String caseStatus) {
+		if ((status != null && !status.equals(caseStatus))
+			|| (className != null && !className.equals(caseClassName)
+				&& !StringUtils.startsWith(caseClassName, className + "."))
+			|| (testName != null && !testName.equals(caseTestName))) {
+			return null;
+		}
+		boolean inPage = isInPage();
+		matched++;
+		if (!inPage) {
+			return null;
+		}
+		TestCaseResult testCase = new TestCaseResult();
+		testCase.setClassName(caseClassName);
+		testCase.setTestName(caseTestName);
+		testCase.setSkipped(SKIPPED.equals(caseStatus));
+		testCases.add(testCase);
+		return testCase;
+	}
+
+	/**
+	 * Check if the next matching test case is in the requested page
+	 * 
+	 * @return <code>true</code> if the next match is in the page
+	 */
+	private boolean isInPage() {
+		return matched >= offset && matched < offset + count;
+	}
+
+	/**
+	 * Skip the current element and all its children without keeping their text
+	 * 
+	 * @param reader the {@link XMLStreamReader} positioned at the start of the element
+	 * @throws XMLStreamException in case the element cannot be parsed
+	 */
+	private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Parse a float, returning <code>0</code> for missing or invalid values
+	 * 
+	 * @param value the value to parse
+	 * @return the float value
+	 */
+	private float parseFloat(String value) {
+		try {
+			return value == null ? 0F : Float.parseFloat(value.trim().replace(",", ""));
+		} catch (NumberFormatException e) {
+			return 0F;
+		}
+	}
+
+	/**
+	 * Getter for the test cases in the requested page
+	 * 
+	 * @return the {@link List} of {@link TestCaseResult}s
+	 */
+	public List<TestCaseResult> getTestCases() {
+		return testCases;
+	}
+
+	/**
+	 * Getter for the number of test cases that matched the filters
+	 * 
+	 * @return the number of matching test cases, including those outside the page
+	 */
+	public int getMatched() {
+		return matched;
+	}
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.warmup;
+
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import org.acegisecurity.Authentication;
+import org.acegisecurity.context.SecurityContextHolder;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.dozer.utils.DozerUtils;
+import com.marvelution.hudson.plugins.apiv2.resources.model.HudsonSystem;
+import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.Job;
+import com.marvelution.hudson.plugins.apiv2.resources.providers.FastInfosetProvider;
+
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.model.Hudson;
+import hudson.security.ACL;
+
+/**
+ * Warm-up of the expensive, lazily initialized, parts of the REST APIs so the first request after a restart doesn't
+ * have to pay for them. The warm-up is executed in the background in two phases:
+ * <ol>
+ * <li>When the plugin starts, the Dozer mapper is initialized and the {@link javax.xml.bind.JAXBContext} objects of
+ * all the models are created</li>
+ * <li>Once all the jobs are loaded, one build of every job type is mapped and marshalled</li>
+ * </ol>
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class WarmUp {
+
+	/**
+	 * The model classes of which the JAXB contexts are created, all the models created by the ObjectFactories and
+	 * the {@link HudsonSystem}
+	 */
+	public static final Class<?>[] MODEL_CLASSES = getModelClasses(new Class<?>[] {
+		com.marvelution.hudson.plugins.apiv2.resources.model.ObjectFactory.class,
+		com.marvelution.hudson.plugins.apiv2.resources.model.activity.ObjectFactory.class,
+		com.marvelution.hudson.plugins.apiv2.resources.model.build.ObjectFactory.class,
+		com.marvelution.hudson.plugins.apiv2.resources.model.job.ObjectFactory.class,
+		com.marvelution.hudson.plugins.apiv2.resources.model.view.ObjectFactory.class }, HudsonSystem.class);
+
+	private static final Logger LOGGER = Logger.getLogger(WarmUp.class.getName());
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "APIv2 Warm-up");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			return thread;
+		}
+
+	});
+	private final Map<String, Long> durations = new ConcurrentHashMap<String, Long>();
+	private volatile long startTime = -1L;
+	private volatile boolean ready = false;
+
+	/**
+	 * Internal method to get the model classes created by the given ObjectFactories
+	 * 
+	 * @param objectFactories the ObjectFactory classes
+	 * @param models additional model classes that are not created by the ObjectFactories
+	 * @return the model classes
+	 */
+	private static Class<?>[] getModelClasses(Class<?>[] objectFactories, Class<?>... models) {
+		Set<Class<?>> classes = new LinkedHashSet<Class<?>>();
+		for (Class<?> model : models) {
+			classes.add(model);
+		}
+		for (Class<?> objectFactory : objectFactories) {
+			for (Method method : objectFactory.getDeclaredMethods()) {
+				if (method.getName().startsWith("create") && Model.class.isAssignableFrom(method.getReturnType())) {
+					classes.add(method.getReturnType());
+				}
+			}
+		}
+		return classes.toArray(new Class<?>[classes.size()]);
+	}
+
+	/**
+	 * Start the first phase of the warm-up: initialize the mapper and create the JAXB contexts
+	 */
+	public void start() {
+		startTime = System.nanoTime();
+		LOGGER.log(Level.FINE, "Starting the APIv2 warm-up");
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {
+				long start = System.nanoTime();
+				DozerUtils.initMapper();
+				durations.put("mapper", System.nanoTime() - start);
+				start = System.nanoTime();
+				for (Class<?> type : MODEL_CLASSES) {
+					try {
+						FastInfosetProvider.getJAXBContext(type);
+					} catch (JAXBException e) {
+						LOGGER.log(Level.WARNING, "Failed to create the JAXBContext for " + type.getName(), e);
+					}
+				}
+				durations.put("jaxb", System.nanoTime() - start);
+			}
+
+		});
+	}
+
+	/**
+	 * Start the second phase of the warm-up: map and marshal a build of each job type.
+	 * After this phase the REST APIs are reported as ready.
+	 */
+	public void warmUpMappings() {
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {
+				long start = System.nanoTime();
+				Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+				SecurityContextHolder.getContext().setAuthentication(ACL.SYSTEM);
+				try {
+					mapSampleBuilds();
+				} finally {
+					SecurityContextHolder.getContext().setAuthentication(auth);
+				}
+				durations.put("mappings", System.nanoTime() - start);
+				durations.put("total", System.nanoTime() - startTime);
+				ready = true;
+				LOGGER.info("APIv2 warm-up completed in "
+					+ TimeUnit.NANOSECONDS.toMillis(durations.get("total")) + "ms");
+			}
+
+		});
+		executor.shutdown();
+	}
+
+	/**
+	 * Stop the warm-up, phases that are still running are interrupted
+	 */
+	public void stop() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Getter for the ready state
+	 * 
+	 * @return <code>true</code> if all the warm-up phases completed
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * Getter for the durations of the completed warm-up phases
+	 * 
+	 * @return the {@link Map} of phase names to the duration in nanoseconds
+	 */
+	public Map<String, Long> getDurations() {
+		return new TreeMap<String, Long>(durations);
+	}
+
+	/**
+	 * Internal method to map and marshal the last build of the first job of every job type.
+	 * Only one build per job type is loaded from disk.
+	 */
+	private void mapSampleBuilds() {
+		Set<Class<?>> jobTypes = new HashSet<Class<?>>();
+		OutputStream output = new OutputStream() {
+
+			@Override
+			public void write(int b) {
+				// Only the marshalling is warmed up, the output is discarded
+			}
+
+		};
+		for (hudson.model.Job<?, ?> job : Hudson.getInstance().getAllItems(hudson.model.Job.class)) {
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			if (job.getLastBuild() == null || !jobTypes.add(job.getClass())) {
+				continue;
+			}
+			try {
+				LOGGER.log(Level.FINE, "Warming up the mapping of " + job.getClass().getName() + " builds");
+				Job mappedJob = DozerUtils.getMapper().map(job, Job.class, DozerUtils.NAMEONLY_MAP_ID);
+				FastInfosetProvider.getJAXBContext(Job.class).createMarshaller().marshal(mappedJob, output);
+				Build mappedBuild = DozerUtils.getMapper().map(job.getLastBuild(), Build.class);
+				FastInfosetProvider.getJAXBContext(Build.class).createMarshaller().marshal(mappedBuild, output);
+			} catch (Exception e) {
+				LOGGER.log(Level.WARNING, "Failed to warm-up the mapping of " + job.getClass().getName(), e);
+			}
+		}
+	}
+
+	/**
+	 * Hudson initializer method to start the second warm-up phase after all the jobs are loaded
+	 */
+	@Initializer(after = InitMilestone.JOB_LOADED)
+	public static void warmUpAfterJobsLoaded() {
+		WarmUp warmUp = APIv2Plugin.getWarmUp();
+		if (warmUp != null) {
+			warmUp.warmUpMappings();
+		}
+	}
+
+}
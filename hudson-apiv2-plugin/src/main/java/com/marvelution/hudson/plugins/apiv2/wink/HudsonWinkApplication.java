@@ -31,6 +31,10 @@ import java.util.jar.JarFile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import net.java.sezpoz.Index;
+import net.java.sezpoz.IndexError;
+import net.java.sezpoz.IndexItem;
+
 import org.apache.wink.common.WinkApplication;
 import org.apache.wink.common.annotations.Parent;
 import org.apache.wink.common.internal.registry.metadata.ProviderMetadataCollector;
@@ -61,32 +65,75 @@ public class HudsonWinkApplication extends WinkApplication {
 	public Set<Class<?>> getClasses() {
 		if (jaxRSClasses == null) {
 			jaxRSClasses = new HashSet<Class<?>>();
-			final Set<Class<?>> classes = new HashSet<Class<?>>();
-			for (String resourcePackageName : DEFAULT_APPLICATION_RESOURCE_PACKAGES) {
+			final long start = System.currentTimeMillis();
+			Set<Class<?>> classes = getClassesFromIndex();
+			if (classes.isEmpty()) {
+				LOGGER.warning("No compile-time index of REST Resource/Provider classes found, scanning the classpath");
+				classes = getClassesFromClasspath();
+			}
+			processClasses(classes);
+			LOGGER.info("Loaded " + jaxRSClasses.size() + " REST Resource/Provider classes in "
+				+ (System.currentTimeMillis() - start) + "ms");
+		}
+		return jaxRSClasses;
+	}
+
+	/**
+	 * Get all the classes that are listed in the compile-time {@link WinkApplicationClass} index
+	 * 
+	 * @return {@link Set} of {@link Class} objects, empty if the index is not available
+	 * @since 4.5.0
+	 */
+	private Set<Class<?>> getClassesFromIndex() {
+		final Set<Class<?>> classes = new HashSet<Class<?>>();
+		final ClassLoader classLoader = HudsonPluginUtils.getPluginClassloader();
+		try {
+			for (IndexItem<WinkApplicationClass, Object> item : Index.load(WinkApplicationClass.class, Object.class,
+					classLoader)) {
 				try {
-					Enumeration<URL> resources = HudsonPluginUtils.getPluginClassloader().getResources(resourcePackageName.replace(".", "/"));
-					while (resources.hasMoreElements()) {
-						URL resource = resources.nextElement();
-						if (resource.getProtocol().equalsIgnoreCase("jar")) {
-							// Load resources from the JAR file
-							JarURLConnection connection = (JarURLConnection) resource.openConnection();
-							LOGGER.info("Loading classes from JAR file: " + resource.toString());
-							classes.addAll(getClassesFromJarFile(connection.getJarFile(), resourcePackageName));
-						} else if (resource.getProtocol().equalsIgnoreCase("file")) {
-							// Load resources form File system
-							LOGGER.info("Loading classes from Classpath Package: " + resource.toString());
-							classes.addAll(getClassesFromPackage(new File(resource.getFile()), resourcePackageName));
-						} else {
-							LOGGER.info("Skipping resource [" + resource.toString() + "]; Unsupport resource protocol");
-						}
+					classes.add(Class.forName(item.className(), true, classLoader));
+					LOGGER.log(Level.FINE, "Loaded indexed Resource: " + item.className());
+				} catch (ClassNotFoundException e) {
+					LOGGER.log(Level.SEVERE, "Failed to load indexed REST Resource: " + item.className(), e);
+				}
+			}
+		} catch (IndexError e) {
+			LOGGER.log(Level.WARNING, "Failed to read the REST Resource/Provider index", e);
+			classes.clear();
+		}
+		return classes;
+	}
+
+	/**
+	 * Get all the classes in the {@link #DEFAULT_APPLICATION_RESOURCE_PACKAGES} by scanning the plugin classpath
+	 * 
+	 * @return {@link Set} of {@link Class} objects
+	 * @since 4.5.0
+	 */
+	private Set<Class<?>> getClassesFromClasspath() {
+		final Set<Class<?>> classes = new HashSet<Class<?>>();
+		for (String resourcePackageName : DEFAULT_APPLICATION_RESOURCE_PACKAGES) {
+			try {
+				Enumeration<URL> resources = HudsonPluginUtils.getPluginClassloader().getResources(resourcePackageName.replace(".", "/"));
+				while (resources.hasMoreElements()) {
+					URL resource = resources.nextElement();
+					if (resource.getProtocol().equalsIgnoreCase("jar")) {
+						// Load resources from the JAR file
+						JarURLConnection connection = (JarURLConnection) resource.openConnection();
+						LOGGER.info("Loading classes from JAR file: " + resource.toString());
+						classes.addAll(getClassesFromJarFile(connection.getJarFile(), resourcePackageName));
+					} else if (resource.getProtocol().equalsIgnoreCase("file")) {
+						// Load resources form File system
+						LOGGER.info("Loading classes from Classpath Package: " + resource.toString());
+						classes.addAll(getClassesFromPackage(new File(resource.getFile()), resourcePackageName));
+					} else {
+						LOGGER.info("Skipping resource [" + resource.toString() + "]; Unsupport resource protocol");
 					}
-				} catch (IOException e) {
 				}
+			} catch (IOException e) {
 			}
-			processClasses(classes);
-			LOGGER.info("Loaded all REST Resource/Provider classes");
 		}
-		return jaxRSClasses;
+		return classes;
 	}
 
 	/**
@@ -0,0 +1,226 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.actions;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import hudson.model.AbstractBuild;
+import hudson.model.Action;
+import hudson.model.User;
+import hudson.scm.ChangeLogSet;
+import hudson.scm.ChangeLogSet.Entry;
+import hudson.tasks.test.AbstractTestResultAction;
+import hudson.tasks.test.AggregatedTestResultAction;
+
+import org.junit.Test;
+import org.jvnet.hudson.test.HudsonTestCase;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.google.common.collect.Sets;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+
+/**
+ * Testcase for {@link BuildDigest}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class BuildDigestTest extends HudsonTestCase {
+
+	private AbstractBuild build;
+
+	private List<Action> actions;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		actions = new CopyOnWriteArrayList<Action>();
+		build = mock(AbstractBuild.class);
+		when(build.getFullDisplayName()).thenReturn("free-style #1");
+		when(build.getActions()).thenReturn(actions);
+		ChangeLogSet changeSet = mock(ChangeLogSet.class);
+		when(changeSet.iterator()).thenAnswer(new Answer<Object>() {
+
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				return Arrays.asList(createEntry("ABC-1 Fixed the build"),
+					createEntry("Merged ABC-2 and DEF-3 into the trunk"), createEntry("No issue")).iterator();
+			}
+
+		});
+		doReturn(changeSet).when(build).getChangeSet();
+		User culprit = mock(User.class);
+		when(culprit.getId()).thenReturn("alice");
+		doReturn(Collections.singleton(culprit)).when(build).getCulprits();
+	}
+
+	/**
+	 * Test creating a digest of a build with test results
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testCreateDigest() throws Exception {
+		AbstractTestResultAction testResultAction = mock(AbstractTestResultAction.class);
+		when(testResultAction.getTotalCount()).thenReturn(10);
+		when(testResultAction.getFailCount()).thenReturn(2);
+		when(testResultAction.getSkipCount()).thenReturn(1);
+		doReturn(testResultAction).when(build).getTestResultAction();
+		BuildDigest digest = BuildDigest.createDigest(build);
+		assertThat(digest.hasTestResults(), is(true));
+		assertThat(digest.getTotalTests(), is(10));
+		assertThat(digest.getFailedTests(), is(2));
+		assertThat(digest.getSkippedTests(), is(1));
+		assertThat(digest.getIssueKeys(), is(Sets.newHashSet("ABC-1", "ABC-2", "DEF-3")));
+		assertThat(digest.getIssueKeyRegex(), is(APIv2Plugin.getIssuesCache().getIssueKeyRegex()));
+		assertThat(digest.getCulprits(), is(Collections.singleton("alice")));
+		assertThat(digest.getChangeLogSize(), is(3));
+	}
+
+	/**
+	 * Test creating a digest of a build with aggregated test results, these are not digested
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testCreateDigestAggregatedTestResults() throws Exception {
+		AggregatedTestResultAction testResultAction = mock(AggregatedTestResultAction.class);
+		when(testResultAction.getTotalCount()).thenReturn(10);
+		doReturn(testResultAction).when(build).getTestResultAction();
+		BuildDigest digest = BuildDigest.createDigest(build);
+		assertThat(digest.hasTestResults(), is(false));
+		assertThat(digest.getTotalTests(), is(0));
+	}
+
+	/**
+	 * Test that a recorded digest is used as is
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testGetRecordedDigest() throws Exception {
+		BuildDigest recorded = createDigest(APIv2Plugin.getIssuesCache().getIssueKeyRegex());
+		when(build.getAction(BuildDigest.class)).thenReturn(recorded);
+		assertThat(BuildDigest.getDigest(build), sameInstance(recorded));
+		verify(build, never()).getChangeSet();
+		verify(build, never()).save();
+	}
+
+	/**
+	 * Test that the digest of a completed build without one is created and stored in the background
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testGetDigestBackfill() throws Exception {
+		BuildDigest digest = BuildDigest.getDigest(build);
+		assertThat(digest.getIssueKeys(), is(Sets.newHashSet("ABC-1", "ABC-2", "DEF-3")));
+		verify(build, timeout(5000)).save();
+		verify(build).addAction(digest);
+	}
+
+	/**
+	 * Test that a digest is not stored again if the build already has one recorded using the same issue key pattern
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testStoreDigestRecorded() throws Exception {
+		BuildDigest recorded = createDigest(APIv2Plugin.getIssuesCache().getIssueKeyRegex());
+		when(build.getAction(BuildDigest.class)).thenReturn(recorded);
+		BuildDigest.storeDigest(build, BuildDigest.createDigest(build));
+		verify(build, never()).addAction(any(Action.class));
+		verify(build, never()).save();
+	}
+
+	/**
+	 * Test that the digest of a build that is still building is not stored
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testGetDigestBuilding() throws Exception {
+		when(build.isBuilding()).thenReturn(true);
+		BuildDigest digest = BuildDigest.getDigest(build);
+		assertThat(digest.getChangeLogSize(), is(3));
+		verify(build, never()).addAction(any(Action.class));
+		verify(build, never()).save();
+	}
+
+	/**
+	 * Test that the issue keys are recomputed once the issue key pattern is changed
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testGetDigestIssueKeyPatternChanged() throws Exception {
+		BuildDigest recorded = createDigest("\\b(OLD-[0-9]+)\\b");
+		actions.add(recorded);
+		when(build.getAction(BuildDigest.class)).thenReturn(recorded);
+		BuildDigest digest = BuildDigest.getDigest(build);
+		assertThat(digest, not(sameInstance(recorded)));
+		assertThat(digest.getIssueKeys(), is(Sets.newHashSet("ABC-1", "ABC-2", "DEF-3")));
+		assertThat(digest.getIssueKeyRegex(), is(APIv2Plugin.getIssuesCache().getIssueKeyRegex()));
+		// The other data of the digest is kept as is
+		assertThat(digest.getTotalTests(), is(5));
+		assertThat(digest.getCulprits(), is(Collections.singleton("bob")));
+		verify(build, timeout(5000)).save();
+		verify(build).addAction(digest);
+		assertThat(actions.contains(recorded), is(false));
+		verify(build, never()).getCulprits();
+	}
+
+	/**
+	 * Internal method to create a recorded {@link BuildDigest}
+	 * 
+	 * @param issueKeyRegex the issue key pattern of the digest
+	 * @return the {@link BuildDigest}
+	 */
+	private BuildDigest createDigest(String issueKeyRegex) {
+		return new BuildDigest(true, 5, 0, 0, Collections.singleton("OLD-1"), issueKeyRegex,
+			Collections.singleton("bob"), 3);
+	}
+
+	/**
+	 * Internal method to create a change log {@link Entry}
+	 * 
+	 * @param message the commit message
+	 * @return the {@link Entry}
+	 */
+	private static Entry createEntry(String message) {
+		Entry entry = mock(Entry.class);
+		when(entry.getMsg()).thenReturn(message);
+		return entry;
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link CacheBackfill}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class CacheBackfillTest {
+
+	private CacheBackfill backfill;
+
+	/**
+	 * Setup the {@link CacheBackfill} for the tests
+	 */
+	@Before
+	public void setup() {
+		backfill = new CacheBackfill();
+	}
+
+	/**
+	 * Stop the {@link CacheBackfill} after the tests
+	 */
+	@After
+	public void tearDown() {
+		backfill.stop();
+	}
+
+	/**
+	 * Test {@link CacheBackfill#schedule(String, Runnable)} of tasks with the same key
+	 * 
+	 * @throws Exception in case of test failures
+	 */
+	@Test
+	public void testSchedule() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger executions = new AtomicInteger();
+		Runnable task = new Runnable() {
+
+			@Override
+			public void run() {
+				executions.incrementAndGet();
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+		};
+		assertTrue(backfill.schedule("job#1", task));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(backfill.isPending("job#1"));
+		assertFalse(backfill.schedule("job#1", task));
+		release.countDown();
+		final CountDownLatch done = new CountDownLatch(1);
+		assertTrue(backfill.schedule("job#2", new Runnable() {
+
+			@Override
+			public void run() {
+				done.countDown();
+			}
+
+		}));
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertFalse(backfill.isPending("job#1"));
+		assertEquals(1, executions.get());
+	}
+
+	/**
+	 * Test that a failing task doesn't stop the {@link CacheBackfill}
+	 * 
+	 * @throws Exception in case of test failures
+	 */
+	@Test
+	public void testFailingTask() throws Exception {
+		assertTrue(backfill.schedule("failing", new Runnable() {
+
+			@Override
+			public void run() {
+				throw new IllegalStateException("failed");
+			}
+
+		}));
+		final CountDownLatch done = new CountDownLatch(1);
+		assertTrue(backfill.schedule("next", new Runnable() {
+
+			@Override
+			public void run() {
+				done.countDown();
+			}
+
+		}));
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertFalse(backfill.isPending("failing"));
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.cache.build;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Result;
+
+/**
+ * Testcase for {@link BuildSummariesCache}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class BuildSummariesCacheTest {
+
+	private BuildSummariesCache cache;
+
+	/**
+	 * Setup the {@link BuildSummariesCache} for the tests
+	 */
+	@Before
+	public void setup() {
+		cache = new BuildSummariesCache();
+		cache.put(new BuildSummary("folder/core", 1, Result.FAILED, 1000L, 10L));
+		cache.put(new BuildSummary("folder/core", 2, Result.SUCCESSFUL, 2000L, 20L));
+		cache.put(new BuildSummary("other", 1, Result.UNSTABLE, 3000L, 30L));
+	}
+
+	/**
+	 * Test {@link BuildSummariesCache#get(String, int)}
+	 */
+	@Test
+	public void testGet() {
+		assertEquals(3, cache.size());
+		assertEquals(Result.SUCCESSFUL, cache.get("folder/core", 2).getResult());
+		assertNull(cache.get("folder/core", 3));
+		assertNull(cache.get("unknown", 1));
+	}
+
+	/**
+	 * Test {@link BuildSummariesCache#remove(String, int)} and {@link BuildSummariesCache#removeJob(String)}
+	 */
+	@Test
+	public void testRemove() {
+		cache.remove("folder/core", 1);
+		assertNull(cache.get("folder/core", 1));
+		assertEquals(2, cache.size());
+		cache.removeJob("folder");
+		assertNull(cache.get("folder/core", 2));
+		assertEquals(1, cache.size());
+	}
+
+	/**
+	 * Test {@link BuildSummariesCache#renameJob(String, String)}
+	 */
+	@Test
+	public void testRenameJob() {
+		cache.renameJob("folder", "renamed");
+		assertNull(cache.get("folder/core", 1));
+		assertEquals("renamed/core", cache.get("renamed/core", 1).getJob());
+		assertEquals(3, cache.size());
+	}
+
+	/**
+	 * Test {@link BuildSummariesCache#put(BuildSummary)} and {@link BuildSummariesCache#isRetained(String, int)}
+	 * once a job holds {@link BuildSummariesCache#MAX_BUILDS_PER_JOB} builds
+	 */
+	@Test
+	public void testMaxBuildsPerJob() {
+		for (int number = 1; number <= BuildSummariesCache.MAX_BUILDS_PER_JOB + 10; number++) {
+			cache.put(new BuildSummary("large", number, Result.SUCCESSFUL, number * 1000L, 10L));
+		}
+		assertEquals(BuildSummariesCache.MAX_BUILDS_PER_JOB + 3, cache.size());
+		assertNull(cache.get("large", 10));
+		assertNotNull(cache.get("large", 11));
+		assertNotNull(cache.get("large", BuildSummariesCache.MAX_BUILDS_PER_JOB + 10));
+		assertFalse(cache.isRetained("large", 5));
+		assertTrue(cache.isRetained("large", BuildSummariesCache.MAX_BUILDS_PER_JOB + 11));
+		assertTrue(cache.isRetained("other", 5));
+		assertTrue(cache.isRetained("unknown", 1));
+	}
+
+	/**
+	 * Test {@link BuildSummary#toBuild()}
+	 */
+	@Test
+	public void testToBuild() {
+		Build build = cache.get("other", 1).toBuild();
+		assertEquals("other", build.getJobName());
+		assertEquals(1, build.getBuildNumber());
+		assertEquals(Result.UNSTABLE, build.getResult());
+		assertEquals(3000L, build.getTimestamp());
+		assertEquals(30L, build.getDuration());
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.cache.issue;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link IssuesCache}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class IssuesCacheTest {
+
+	private IssuesCache cache;
+
+	/**
+	 * Setup the {@link IssuesCache} for the tests
+	 */
+	@Before
+	public void setup() {
+		cache = new IssuesCache();
+		cache.add(new IssueCache(new IssueKey("PROJ", 1), "core", 1, 1000L));
+		cache.add(new IssueCache(new IssueKey("PROJ", 2), "core", 1, 1000L));
+		cache.add(new IssueCache(new IssueKey("PROJ", 1), "core", 2, 2000L));
+		cache.add(new IssueCache(new IssueKey("PROJ", 3), "web", 1, 3000L));
+		cache.add(new IssueCache(new IssueKey("OTHER", 1), "web", 2, 4000L));
+	}
+
+	/**
+	 * Test {@link IssuesCache#getMostRecent(String, com.google.common.base.Predicate, long, int)}
+	 */
+	@Test
+	public void testGetMostRecent() {
+		List<IssueCache> recent = cache.getMostRecent("PROJ", null, 0L, 0);
+		assertEquals(4, recent.size());
+		assertEquals("web", recent.get(0).getJob());
+		assertEquals(2, recent.get(1).getBuild());
+		recent = cache.getMostRecent("PROJ", null, 0L, 2);
+		assertEquals(2, recent.size());
+		assertEquals(3000L, recent.get(0).getTimestamp());
+		assertEquals(2000L, recent.get(1).getTimestamp());
+		recent = cache.getMostRecent("PROJ", null, 1000L, 3);
+		// Both issues of build core #1 are returned
+		assertEquals(4, recent.size());
+		recent = cache.getMostRecent("PROJ", IssueCachePredicates.isRelatedToHudsonJob("core"), 1500L, 0);
+		assertEquals(1, recent.size());
+		assertTrue(cache.getMostRecent("UNKNOWN", null, 0L, 0).isEmpty());
+	}
+
+	/**
+	 * Test {@link IssuesCache#getMostRecentOfIssue(String, com.google.common.base.Predicate, long, int)}
+	 */
+	@Test
+	public void testGetMostRecentOfIssue() {
+		List<IssueCache> recent = cache.getMostRecentOfIssue("PROJ-1", null, 0L, 0);
+		assertEquals(2, recent.size());
+		assertEquals(2, recent.get(0).getBuild());
+		recent = cache.getMostRecentOfIssue("PROJ-1", null, 0L, 1);
+		assertEquals(1, recent.size());
+		assertEquals(2000L, recent.get(0).getTimestamp());
+		assertTrue(cache.getMostRecentOfIssue("PROJ-1", null, 2500L, 0).isEmpty());
+		assertTrue(cache.getMostRecentOfIssue("PROJ-9", null, 0L, 0).isEmpty());
+	}
+
+	/**
+	 * Test {@link IssuesCache#setTimestamp(String, int, long)} of entries cached before the timestamp was recorded
+	 */
+	@Test
+	public void testSetTimestamp() {
+		cache.add(new IssueCache(new IssueKey("PROJ", 1), "core", 3, 0L, new String[] { "aaaa" }));
+		assertEquals(Collections.singleton(3), cache.getBuildsWithoutTimestamp().get("core"));
+		// Entries without a timestamp are considered older than all the others
+		assertEquals(3, cache.getMostRecentOfIssue("PROJ-1", null, 0L, 0).get(2).getBuild());
+		cache.setTimestamp("core", 3, 5000L);
+		assertTrue(cache.getBuildsWithoutTimestamp().isEmpty());
+		assertEquals(6, cache.size());
+		IssueCache entry = cache.getMostRecentOfIssue("PROJ-1", null, 0L, 1).get(0);
+		assertEquals(3, entry.getBuild());
+		assertEquals(5000L, entry.getTimestamp());
+		assertEquals("aaaa", entry.getRevisions()[0]);
+		assertEquals(3, cache.getMostRecent("PROJ", null, 4500L, 0).get(0).getBuild());
+	}
+
+	/**
+	 * Test that the index is kept up to date when {@link IssueCache} objects are removed
+	 */
+	@Test
+	public void testRemoveFromIndex() {
+		cache.removeAll(Collections.singleton(new IssueCache(new IssueKey("PROJ", 3), "web", 1, 3000L)));
+		assertEquals(4, cache.size());
+		List<IssueCache> recent = cache.getMostRecent("PROJ", null, 0L, 1);
+		assertEquals("core", recent.get(0).getJob());
+		assertEquals(2, recent.get(0).getBuild());
+		cache.clear();
+		assertTrue(cache.getMostRecent("PROJ", null, 0L, 0).isEmpty());
+	}
+
+	/**
+	 * Test {@link IssuesCache#getCommits(String, com.google.common.base.Predicate)}
+	 */
+	@Test
+	public void testGetCommits() {
+		cache.add(new IssueCache(new IssueKey("PROJ", 4), "core", 3, 5000L, new String[] { "bbbb", "cccc" }));
+		cache.add(new IssueCache(new IssueKey("PROJ", 4), "core", 4, 6000L, new String[] { "dddd" }));
+		cache.add(new IssueCache(new IssueKey("PROJ", 4), "web", 3, 4500L, new String[] { "aaaa", "bbbb" }));
+		Map<String, IssueCache> commits = cache.getCommits("PROJ-4", null);
+		assertEquals(4, commits.size());
+		assertEquals("[aaaa, bbbb, cccc, dddd]", commits.keySet().toString());
+		assertEquals("web", commits.get("bbbb").getJob());
+		assertEquals(3, commits.get("cccc").getBuild());
+		assertEquals(4, commits.get("dddd").getBuild());
+		commits = cache.getCommits("PROJ-4", IssueCachePredicates.isRelatedToHudsonJob("core"));
+		assertEquals(3, commits.size());
+		assertEquals("core", commits.get("bbbb").getJob());
+		assertTrue(cache.getCommits("PROJ-1", null).isEmpty());
+		assertTrue(cache.getCommits("PROJ-99", null).isEmpty());
+		cache.remove(new IssueCache(new IssueKey("PROJ", 4), "web", 3, 4500L));
+		assertEquals(3, cache.getCommits("PROJ-4", null).size());
+		assertEquals("core", cache.getCommits("PROJ-4", null).get("bbbb").getJob());
+	}
+
+	/**
+	 * Test {@link IssuesCache#getFirstBuilds(String, com.google.common.base.Predicate)}
+	 */
+	@Test
+	public void testGetFirstBuilds() {
+		cache.add(new IssueCache(new IssueKey("PROJ", 1), "web", 5, 5000L));
+		cache.add(new IssueCache(new IssueKey("PROJ", 1), "web", 3, 4500L));
+		Map<String, IssueCache> firstBuilds = cache.getFirstBuilds("PROJ-1", null);
+		assertEquals(2, firstBuilds.size());
+		assertEquals(1, firstBuilds.get("core").getBuild());
+		assertEquals(1000L, firstBuilds.get("core").getTimestamp());
+		assertEquals(3, firstBuilds.get("web").getBuild());
+		assertEquals(1, cache.getFirstBuilds("PROJ-1", IssueCachePredicates.isRelatedToHudsonJob("web")).size());
+		assertTrue(cache.getFirstBuilds("PROJ-99", null).isEmpty());
+		// Deleting the first build makes the next build of the job the first
+		cache.remove(new IssueCache(new IssueKey("PROJ", 1), "core", 1, 1000L));
+		assertEquals(2, cache.getFirstBuilds("PROJ-1", null).get("core").getBuild());
+		cache.removeAll(Collections.singleton(new IssueCache(new IssueKey("PROJ", 1), "core", 2, 2000L)));
+		assertFalse(cache.getFirstBuilds("PROJ-1", null).containsKey("core"));
+		// Deleting a later build doesn't change the first build
+		cache.remove(new IssueCache(new IssueKey("PROJ", 1), "web", 5, 5000L));
+		assertEquals(3, cache.getFirstBuilds("PROJ-1", null).get("web").getBuild());
+		cache.remove(new IssueCache(new IssueKey("PROJ", 1), "web", 3, 4500L));
+		assertTrue(cache.getFirstBuilds("PROJ-1", null).isEmpty());
+	}
+
+	/**
+	 * Test {@link IssuesCache#getBuildEntries(String, int)}, {@link IssuesCache#getJobEntries(String)} and
+	 * {@link IssuesCache#removeBuild(String, int)}
+	 */
+	@Test
+	public void testBuildIndex() {
+		assertEquals(2, cache.getBuildEntries("core", 1).size());
+		assertEquals(1, cache.getBuildEntries("core", 2).size());
+		assertTrue(cache.getBuildEntries("core", 3).isEmpty());
+		assertTrue(cache.getBuildEntries("unknown", 1).isEmpty());
+		assertEquals(3, cache.getJobEntries("core").size());
+		assertEquals(2, cache.getJobEntries("web").size());
+		cache.removeBuild("core", 1);
+		assertEquals(3, cache.size());
+		assertTrue(cache.getBuildEntries("core", 1).isEmpty());
+		assertEquals(1, cache.getJobEntries("core").size());
+		assertEquals(2, cache.getFirstBuilds("PROJ-1", null).get("core").getBuild());
+		assertTrue(cache.getCommits("PROJ-2", null).isEmpty());
+		cache.removeBuild("core", 3);
+		assertEquals(3, cache.size());
+		cache.removeAll(cache.getJobEntries("web"));
+		assertEquals(1, cache.size());
+		assertTrue(cache.getJobEntries("web").isEmpty());
+		assertTrue(cache.getMostRecent("OTHER", null, 0L, 0).isEmpty());
+	}
+
+}
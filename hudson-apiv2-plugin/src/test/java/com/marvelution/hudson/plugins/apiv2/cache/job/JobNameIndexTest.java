@@ -0,0 +1,133 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.job;
+
+import static org.junit.Assert.*;
+
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+
+/**
+ * Testcase for {@link JobNameIndex}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class JobNameIndexTest {
+
+	private JobNameIndex index;
+
+	/**
+	 * Setup the {@link JobNameIndex} for the tests
+	 */
+	@Before
+	public void setup() {
+		index = new JobNameIndex();
+		index.add("core", "folder/core");
+		index.add("core", "other/core");
+		index.add("folder", "folder");
+		index.add("com.marvelution$api", "folder/maven/com.marvelution$api");
+	}
+
+	/**
+	 * Test {@link JobNameIndex#getFullNames(String)}
+	 */
+	@Test
+	public void testGetFullNames() {
+		assertEquals(2, index.getFullNames("core").size());
+		assertTrue(index.getFullNames("core").contains("folder/core"));
+		assertTrue(index.getFullNames("core").contains("other/core"));
+		assertTrue(index.getFullNames("unknown").isEmpty());
+	}
+
+	/**
+	 * Test {@link JobNameIndex#remove(String)}
+	 */
+	@Test
+	public void testRemove() {
+		index.remove("folder");
+		assertEquals(1, index.size());
+		assertTrue(index.getFullNames("core").contains("other/core"));
+		assertTrue(index.getFullNames("com.marvelution$api").isEmpty());
+	}
+
+	/**
+	 * Test {@link JobNameIndex#rename(String, String)}
+	 */
+	@Test
+	public void testRename() {
+		index.rename("folder", "renamed");
+		assertEquals(4, index.size());
+		assertTrue(index.getFullNames("folder").isEmpty());
+		assertTrue(index.getFullNames("renamed").contains("renamed"));
+		assertTrue(index.getFullNames("core").contains("renamed/core"));
+		assertTrue(index.getFullNames("com.marvelution$api").contains("renamed/maven/com.marvelution$api"));
+		assertTrue(index.suggest("fold", 10, Predicates.<String>alwaysTrue()).isEmpty());
+		assertEquals(3, index.suggest("ren", 10, Predicates.<String>alwaysTrue()).size());
+	}
+
+	/**
+	 * Test {@link JobNameIndex#suggest(String, int, Predicate)}
+	 */
+	@Test
+	public void testSuggest() {
+		Set<String> suggestions = index.suggest("CO", 10, Predicates.<String>alwaysTrue());
+		assertEquals(3, suggestions.size());
+		assertTrue(suggestions.contains("folder/core"));
+		assertTrue(suggestions.contains("other/core"));
+		assertTrue(suggestions.contains("folder/maven/com.marvelution$api"));
+		assertEquals(1, index.suggest("api", 10, Predicates.<String>alwaysTrue()).size());
+		assertEquals(3, index.suggest("folder", 10, Predicates.<String>alwaysTrue()).size());
+		assertEquals(2, index.suggest("folder", 2, Predicates.<String>alwaysTrue()).size());
+		assertEquals(1, index.suggest("folder/c", 10, Predicates.<String>alwaysTrue()).size());
+		assertTrue(index.suggest("unknown", 10, Predicates.<String>alwaysTrue()).isEmpty());
+		suggestions = index.suggest("core", 10, new Predicate<String>() {
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public boolean apply(String fullName) {
+				return fullName.startsWith("other");
+			}
+
+		});
+		assertEquals(1, suggestions.size());
+		assertTrue(suggestions.contains("other/core"));
+	}
+
+	/**
+	 * Test {@link JobNameIndex#suggest(String, int, Predicate)} after a {@link JobNameIndex#remove(String)}
+	 */
+	@Test
+	public void testSuggestAfterRemove() {
+		index.remove("folder");
+		assertEquals(1, index.suggest("co", 10, Predicates.<String>alwaysTrue()).size());
+		assertTrue(index.suggest("fo", 10, Predicates.<String>alwaysTrue()).isEmpty());
+		assertTrue(index.suggest("api", 10, Predicates.<String>alwaysTrue()).isEmpty());
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.cache.job;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Result;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatus;
+
+/**
+ * Testcase for {@link JobStatusesCache}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class JobStatusesCacheTest {
+
+	private JobStatusesCache cache;
+
+	/**
+	 * Setup the {@link JobStatusesCache} for the tests
+	 */
+	@Before
+	public void setup() {
+		cache = new JobStatusesCache();
+		cache.put(new JobStatusCache("folder", 0, null, 0L, 0L, 100, false));
+		cache.put(new JobStatusCache("folder/core", 2, Result.SUCCESSFUL, 2000L, 20L, 80, false));
+		cache.put(new JobStatusCache("other", 1, Result.FAILED, 3000L, 30L, 0, true));
+	}
+
+	/**
+	 * Test {@link JobStatusesCache#remove(String)} and {@link JobStatusesCache#removeJob(String)}
+	 */
+	@Test
+	public void testRemove() {
+		cache.remove("folder");
+		assertNull(cache.get("folder"));
+		assertNotNull(cache.get("folder/core"));
+		assertEquals(2, cache.size());
+		cache.put(new JobStatusCache("folder", 0, null, 0L, 0L, 100, false));
+		cache.removeJob("folder");
+		assertNull(cache.get("folder/core"));
+		assertEquals(1, cache.size());
+	}
+
+	/**
+	 * Test {@link JobStatusesCache#renameJob(String, String)}
+	 */
+	@Test
+	public void testRenameJob() {
+		cache.renameJob("folder", "renamed");
+		assertNull(cache.get("folder/core"));
+		assertEquals("renamed/core", cache.get("renamed/core").getJob());
+		assertEquals(80, cache.get("renamed/core").getHealthScore());
+		assertEquals(3, cache.size());
+	}
+
+	/**
+	 * Test {@link JobStatusCache#toJobStatus()}
+	 */
+	@Test
+	public void testToJobStatus() {
+		JobStatus status = cache.get("other").toJobStatus();
+		assertEquals("other", status.getJobName());
+		assertEquals(1, status.getLastBuildNumber());
+		assertEquals(Result.FAILED, status.getLastResult());
+		assertEquals(3000L, status.getLastBuildTimestamp());
+		assertEquals(30L, status.getLastDuration());
+		assertEquals(0, status.getHealthScore());
+		assertTrue(status.isBuilding());
+	}
+
+}
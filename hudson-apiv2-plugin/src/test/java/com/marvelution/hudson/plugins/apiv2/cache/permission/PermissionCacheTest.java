@@ -0,0 +1,136 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.cache.permission;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import hudson.model.Item;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link PermissionCache}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class PermissionCacheTest {
+
+	private PermissionCache cache;
+
+	private Item item;
+
+	/**
+	 * Setup the {@link PermissionCache} and a mocked {@link Item}
+	 */
+	@Before
+	public void setUp() {
+		cache = new PermissionCache();
+		item = mock(Item.class);
+		when(item.getFullName()).thenReturn("folder/job");
+		when(item.hasPermission(Item.READ)).thenReturn(true);
+	}
+
+	/**
+	 * Make sure no request scope is left behind
+	 */
+	@After
+	public void tearDown() {
+		cache.endRequest();
+	}
+
+	/**
+	 * Test that permissions are checked every time outside a request when the cross-request cache is disabled
+	 */
+	@Test
+	public void testNoCaching() {
+		assertTrue(cache.hasPermission(item, Item.READ));
+		assertTrue(cache.hasPermission(item, Item.READ));
+		verify(item, times(2)).hasPermission(Item.READ);
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Test that a permission is checked only once within a request
+	 */
+	@Test
+	public void testRequestScope() {
+		cache.beginRequest();
+		assertTrue(cache.hasPermission(item, Item.READ));
+		assertTrue(cache.hasPermission(item, Item.READ));
+		verify(item, times(1)).hasPermission(Item.READ);
+		cache.endRequest();
+		assertTrue(cache.hasPermission(item, Item.READ));
+		verify(item, times(2)).hasPermission(Item.READ);
+	}
+
+	/**
+	 * Test that a request scope can be shared with other threads
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testJoinRequest() throws Exception {
+		cache.beginRequest();
+		assertTrue(cache.hasPermission(item, Item.READ));
+		final Map<String, Boolean> scope = cache.getRequestScope();
+		final boolean[] granted = new boolean[1];
+		Thread thread = new Thread() {
+
+			@Override
+			public void run() {
+				cache.joinRequest(scope);
+				try {
+					granted[0] = cache.hasPermission(item, Item.READ);
+				} finally {
+					cache.endRequest();
+				}
+			}
+
+		};
+		thread.start();
+		thread.join();
+		assertTrue(granted[0]);
+		verify(item, times(1)).hasPermission(Item.READ);
+	}
+
+	/**
+	 * Test the cross-request cache and its invalidation
+	 */
+	@Test
+	public void testTimeToLive() {
+		cache.setTimeToLive(60000L);
+		assertTrue(cache.hasPermission(item, Item.READ));
+		assertTrue(cache.hasPermission(item, Item.READ));
+		verify(item, times(1)).hasPermission(Item.READ);
+		assertEquals(1, cache.size());
+		cache.invalidate();
+		assertEquals(0, cache.size());
+		assertTrue(cache.hasPermission(item, Item.READ));
+		verify(item, times(2)).hasPermission(Item.READ);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.cache.statistics;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Testcase for {@link DurationSketch} and {@link JobStatisticsCache}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class DurationSketchTest {
+
+	/**
+	 * Test that the quantiles of {@link DurationSketch} are within the relative accuracy
+	 */
+	@Test
+	public void testQuantileAccuracy() {
+		Random random = new Random(42L);
+		DurationSketch sketch = new DurationSketch();
+		long[] durations = new long[10000];
+		for (int index = 0; index < durations.length; index++) {
+			durations[index] = 1000L + (long) (random.nextDouble() * 3600000L);
+			sketch.add(durations[index]);
+		}
+		Arrays.sort(durations);
+		assertEquals(durations.length, sketch.getCount());
+		for (double quantile : new double[] { 0.5D, 0.9D, 0.99D }) {
+			long expected = durations[(int) Math.floor(quantile * (durations.length - 1))];
+			long actual = sketch.getQuantile(quantile);
+			assertTrue(quantile + " " + expected + " " + actual,
+				Math.abs(actual - expected) <= expected * DurationSketch.RELATIVE_ACCURACY + 1);
+		}
+		assertTrue(sketch.getBucketCount() < 1000);
+	}
+
+	/**
+	 * Test that merging sketches gives the same result as one sketch of all the durations
+	 */
+	@Test
+	public void testMerge() {
+		DurationSketch all = new DurationSketch();
+		DurationSketch first = new DurationSketch();
+		DurationSketch second = new DurationSketch();
+		for (long duration = 0L; duration < 5000L; duration += 7L) {
+			all.add(duration);
+			first.add(duration);
+			all.add(duration * 3L);
+			second.add(duration * 3L);
+		}
+		first.merge(second);
+		assertEquals(all.getCount(), first.getCount());
+		assertEquals(all.getBucketCount(), first.getBucketCount());
+		for (double quantile : new double[] { 0D, 0.5D, 0.9D, 0.99D, 1D }) {
+			assertEquals(all.getQuantile(quantile), first.getQuantile(quantile));
+		}
+	}
+
+	/**
+	 * Test the rolling failure counter of {@link JobStatisticsCache}
+	 */
+	@Test
+	public void testRecentFailedBuilds() {
+		JobStatisticsCache statistics = new JobStatisticsCache();
+		for (int index = 0; index < JobStatisticsCache.RECENT_BUILDS; index++) {
+			statistics.add(100L, true);
+		}
+		assertEquals(JobStatisticsCache.RECENT_BUILDS, statistics.getRecentFailedBuilds());
+		for (int index = 0; index < 16; index++) {
+			statistics.add(100L, false);
+		}
+		assertEquals(JobStatisticsCache.RECENT_BUILDS, statistics.getRecentBuilds());
+		assertEquals(JobStatisticsCache.RECENT_BUILDS - 16, statistics.getRecentFailedBuilds());
+		assertEquals(JobStatisticsCache.RECENT_BUILDS + 16, statistics.getBuilds());
+		assertEquals(JobStatisticsCache.RECENT_BUILDS, statistics.getFailedBuilds());
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.cache.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.FlakyTest;
+
+/**
+ * Testcase for {@link FlakyTestsCache} and {@link TestHistoryCache}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class FlakyTestsCacheTest {
+
+	private static final Set<String> NONE = Collections.emptySet();
+
+	private FlakyTestsCache cache;
+
+	/**
+	 * Setup the {@link FlakyTestsCache} for the tests
+	 */
+	@Before
+	public void setup() {
+		cache = new FlakyTestsCache();
+	}
+
+	/**
+	 * Test the history, flips and failed builds of a test case
+	 */
+	@Test
+	public void testHistory() {
+		cache.record("job", 1, NONE);
+		assertEquals(0, cache.size());
+		cache.record("job", 2, Sets.newHashSet("a.Test.flaky"));
+		cache.record("job", 3, NONE);
+		cache.record("job", 4, Sets.newHashSet("a.Test.flaky", "a.Test.broken"));
+		cache.record("job", 5, Sets.newHashSet("a.Test.broken"));
+		TestHistoryCache flaky = cache.get("job", "a.Test.flaky");
+		assertEquals("FPFP", flaky.getHistory());
+		assertEquals(3, flaky.getFlips());
+		assertEquals(1D, flaky.getFlipRate(), 0.0001D);
+		assertEquals(2, flaky.getFailures());
+		assertEquals(2, flaky.getFirstFailedBuild());
+		assertEquals(4, flaky.getLastFailedBuild());
+		TestHistoryCache broken = cache.get("job", "a.Test.broken");
+		assertEquals("FF", broken.getHistory());
+		assertEquals(0, broken.getFlips());
+	}
+
+	/**
+	 * Test that test cases are no longer tracked once their last failure drops out of the history
+	 */
+	@Test
+	public void testEviction() {
+		cache.record("job", 1, Sets.newHashSet("a.Test.once"));
+		for (int build = 2; build <= TestHistoryCache.HISTORY_SIZE; build++) {
+			cache.record("job", build, NONE);
+		}
+		assertEquals(TestHistoryCache.HISTORY_SIZE, cache.get("job", "a.Test.once").getBuilds());
+		assertEquals(1, cache.get("job", "a.Test.once").getFlips());
+		cache.record("job", TestHistoryCache.HISTORY_SIZE + 1, NONE);
+		assertNull(cache.get("job", "a.Test.once"));
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Test the flips over a full history
+	 */
+	@Test
+	public void testFullHistoryFlips() {
+		for (int build = 1; build <= TestHistoryCache.HISTORY_SIZE * 2; build++) {
+			cache.record("job", build, build % 2 == 0 ? Sets.newHashSet("a.Test.flaky") : NONE);
+		}
+		TestHistoryCache flaky = cache.get("job", "a.Test.flaky");
+		assertEquals(TestHistoryCache.HISTORY_SIZE, flaky.getBuilds());
+		assertEquals(TestHistoryCache.HISTORY_SIZE - 1, flaky.getFlips());
+		assertEquals(TestHistoryCache.HISTORY_SIZE / 2, flaky.getFailures());
+	}
+
+	/**
+	 * Test the ranking of flaky tests across jobs
+	 */
+	@Test
+	public void testGetFlakyTests() {
+		for (int build = 1; build <= 8; build++) {
+			cache.record("folder/job", build, build % 2 == 0 ? Sets.newHashSet("a.Test.flaky") : NONE);
+			cache.record("other", build, build % 4 == 0 ? Sets.newHashSet("b.Test.lessFlaky") : NONE);
+		}
+		List<FlakyTest> flakyTests = cache.getFlakyTests(Sets.newHashSet("folder/job", "other"), 2, 10);
+		assertEquals(2, flakyTests.size());
+		assertEquals("a.Test.flaky", flakyTests.get(0).getTestName());
+		assertEquals("folder/job", flakyTests.get(0).getJobName());
+		assertEquals("b.Test.lessFlaky", flakyTests.get(1).getTestName());
+		assertEquals(1, cache.getFlakyTests(Sets.newHashSet("folder/job", "other"), 2, 1).size());
+		assertEquals(0, cache.getFlakyTests(Sets.newHashSet("other"), 4, 10).size());
+		cache.renameJob("folder", "renamed");
+		assertEquals(1, cache.getFlakyTests(cache.getJobsWithin("renamed"), 2, 10).size());
+		cache.removeJob("renamed");
+		assertEquals(1, cache.size());
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.cache.trend;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Result;
+
+/**
+ * Testcase for {@link TrendsCache}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class TrendsCacheTest {
+
+	private TrendsCache cache;
+
+	/**
+	 * Setup the {@link TrendsCache} for the tests
+	 */
+	@Before
+	public void setup() {
+		cache = new TrendsCache();
+		cache.put("job", createPoint(5));
+		cache.put("job", createPoint(6));
+	}
+
+	/**
+	 * Test {@link TrendsCache#putAll(String, List)}
+	 */
+	@Test
+	public void testPutAll() {
+		assertFalse(cache.isComplete("job"));
+		cache.putAll("job", Lists.newArrayList(createPoint(1), createPoint(2), createPoint(5)));
+		assertTrue(cache.isComplete("job"));
+		List<TrendPointCache> points = cache.get("job");
+		assertEquals(4, points.size());
+		assertEquals(1, points.get(0).getNumber());
+		assertEquals(6, points.get(3).getNumber());
+	}
+
+	/**
+	 * Internal method to create a {@link TrendPointCache}
+	 * 
+	 * @param number the build number
+	 * @return the {@link TrendPointCache}
+	 */
+	private TrendPointCache createPoint(int number) {
+		return new TrendPointCache(number, number * 1000L, 10L, Result.SUCCESSFUL, 0, 0, 0);
+	}
+
+}
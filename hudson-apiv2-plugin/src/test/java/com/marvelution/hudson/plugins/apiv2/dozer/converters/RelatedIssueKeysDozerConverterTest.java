@@ -0,0 +1,63 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.dozer.converters;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import hudson.model.AbstractBuild;
+
+import org.junit.Test;
+import org.jvnet.hudson.test.HudsonTestCase;
+
+import com.google.common.collect.Sets;
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.actions.BuildDigest;
+
+/**
+ * Testcase for {@link RelatedIssueKeysDozerConverter}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@SuppressWarnings("rawtypes")
+public class RelatedIssueKeysDozerConverterTest extends HudsonTestCase {
+
+	/**
+	 * Test that the issue keys are taken from the {@link BuildDigest} without loading the change log
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testConvertToUsingDigest() throws Exception {
+		AbstractBuild build = mock(AbstractBuild.class);
+		when(build.getAction(BuildDigest.class)).thenReturn(new BuildDigest(false, 0, 0, 0,
+			Sets.newHashSet("ABC-1", "DEF-2"), APIv2Plugin.getIssuesCache().getIssueKeyRegex(),
+			Collections.<String> emptySet(), 2));
+		RelatedIssueKeysDozerConverter converter = new RelatedIssueKeysDozerConverter();
+		assertThat(converter.convertTo(build, null), is((Object) Sets.newHashSet("ABC-1", "DEF-2")));
+		verify(build, never()).getChangeSet();
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.dozer.converters;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import hudson.model.AbstractBuild;
+import hudson.tasks.test.AbstractTestResultAction;
+
+import org.dozer.Mapper;
+import org.junit.Test;
+import org.jvnet.hudson.test.HudsonTestCase;
+
+import com.marvelution.hudson.plugins.apiv2.APIv2Plugin;
+import com.marvelution.hudson.plugins.apiv2.actions.BuildDigest;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.TestResult;
+
+/**
+ * Testcase for {@link TestResultsDozerConverter}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@SuppressWarnings("rawtypes")
+public class TestResultsDozerConverterTest extends HudsonTestCase {
+
+	/**
+	 * Test that the test counts are taken from the {@link BuildDigest} if there are no failed tests, without loading
+	 * the test reports
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testConvertToWithoutFailedTests() throws Exception {
+		AbstractBuild build = mockBuild(10, 0, 2);
+		Mapper mapper = mock(Mapper.class);
+		TestResultsDozerConverter converter = new TestResultsDozerConverter();
+		converter.setMapper(mapper);
+		TestResult testResult = converter.convertTo(build, null);
+		assertThat(testResult.getTotal(), is(10));
+		assertThat(testResult.getFailed(), is(0));
+		assertThat(testResult.getSkipped(), is(2));
+		verify(build, never()).getTestResultAction();
+		verifyZeroInteractions(mapper);
+	}
+
+	/**
+	 * Test that the test reports are mapped if the {@link BuildDigest} has failed tests
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testConvertToWithFailedTests() throws Exception {
+		AbstractBuild build = mockBuild(10, 3, 0);
+		AbstractTestResultAction testResultAction = mock(AbstractTestResultAction.class);
+		doReturn(testResultAction).when(build).getTestResultAction();
+		TestResult mapped = new TestResult();
+		Mapper mapper = mock(Mapper.class);
+		when(mapper.map(testResultAction, TestResult.class)).thenReturn(mapped);
+		TestResultsDozerConverter converter = new TestResultsDozerConverter();
+		converter.setMapper(mapper);
+		assertThat(converter.convertTo(build, null), is(mapped));
+	}
+
+	/**
+	 * Internal method to mock an {@link AbstractBuild} with a {@link BuildDigest} holding the given test counts
+	 * 
+	 * @param totalTests the total number of tests
+	 * @param failedTests the number of failed tests
+	 * @param skippedTests the number of skipped tests
+	 * @return the mocked {@link AbstractBuild}
+	 */
+	private AbstractBuild mockBuild(int totalTests, int failedTests, int skippedTests) {
+		AbstractBuild build = mock(AbstractBuild.class);
+		when(build.getAction(BuildDigest.class)).thenReturn(new BuildDigest(true, totalTests, failedTests,
+			skippedTests, Collections.<String> emptySet(), APIv2Plugin.getIssuesCache().getIssueKeyRegex(),
+			Collections.<String> emptySet(), 0));
+		return build;
+	}
+
+}
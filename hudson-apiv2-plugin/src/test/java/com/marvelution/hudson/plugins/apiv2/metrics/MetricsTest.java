@@ -0,0 +1,91 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.metrics;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link Metrics}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class MetricsTest {
+
+	/**
+	 * Reset the metrics after each test
+	 */
+	@After
+	public void tearDown() {
+		Metrics.clear();
+	}
+
+	/**
+	 * Test the Prometheus text format of a counter
+	 */
+	@Test
+	public void testCounter() {
+		Metrics.increment("apiv2_test_total", "result", "hit");
+		Metrics.increment("apiv2_test_total", "result", "hit");
+		Metrics.increment("apiv2_test_total", "result", "miss");
+		StringBuilder output = new StringBuilder();
+		Metrics.write(output);
+		assertEquals("# TYPE apiv2_test_total counter\n" + "apiv2_test_total{result=\"hit\"} 2\n"
+			+ "apiv2_test_total{result=\"miss\"} 1\n", output.toString());
+	}
+
+	/**
+	 * Test the Prometheus text format of a histogram
+	 */
+	@Test
+	public void testHistogram() {
+		Metrics.observeSize("apiv2_test_bytes", 100L, "resource", "jobs");
+		Metrics.observeSize("apiv2_test_bytes", 1024L, "resource", "jobs");
+		Metrics.observeSize("apiv2_test_bytes", 20000000L, "resource", "jobs");
+		StringBuilder output = new StringBuilder();
+		Metrics.write(output);
+		String metrics = output.toString();
+		assertTrue(metrics.startsWith("# TYPE apiv2_test_bytes histogram\n"));
+		assertTrue(metrics.contains("apiv2_test_bytes_bucket{resource=\"jobs\",le=\"256\"} 1\n"));
+		assertTrue(metrics.contains("apiv2_test_bytes_bucket{resource=\"jobs\",le=\"1024\"} 2\n"));
+		assertTrue(metrics.contains("apiv2_test_bytes_bucket{resource=\"jobs\",le=\"16777216\"} 2\n"));
+		assertTrue(metrics.contains("apiv2_test_bytes_bucket{resource=\"jobs\",le=\"+Inf\"} 3\n"));
+		assertTrue(metrics.contains("apiv2_test_bytes_sum{resource=\"jobs\"} 20001124\n"));
+		assertTrue(metrics.contains("apiv2_test_bytes_count{resource=\"jobs\"} 3\n"));
+	}
+
+	/**
+	 * Test the cache hit ratio
+	 */
+	@Test
+	public void testCacheHitRatio() {
+		assertTrue(Double.isNaN(Metrics.getCacheHitRatio(Metrics.ISSUES_CACHE)));
+		Metrics.observeCacheLookup(Metrics.ISSUES_CACHE, System.nanoTime(), true);
+		Metrics.observeCacheLookup(Metrics.ISSUES_CACHE, System.nanoTime(), true);
+		Metrics.observeCacheLookup(Metrics.ISSUES_CACHE, System.nanoTime(), true);
+		Metrics.observeCacheLookup(Metrics.ISSUES_CACHE, System.nanoTime(), false);
+		assertEquals(0.75D, Metrics.getCacheHitRatio(Metrics.ISSUES_CACHE), 0D);
+	}
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.providers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+import javax.xml.bind.JAXBContext;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.xc.JaxbAnnotationIntrospector;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Builds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Result;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.State;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.MediaTypeUtils;
+
+/**
+ * Benchmark comparing the payload size and decode time of the {@link FastInfosetProvider} against the XML and JSON
+ * representations of the same {@link Builds} model. The benchmark is not a testcase so it is not executed by the
+ * surefire plugin, execute it using the {@link #main(String[])} method with the test class-path, optionally passing
+ * the number of builds and the number of decode iterations
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class FastInfosetBenchmark {
+
+	private static final int DEFAULT_BUILDS = 500;
+
+	private static final int DEFAULT_ITERATIONS = 50;
+
+	private final Builds builds;
+
+	private final int iterations;
+
+	private final JAXBContext context;
+
+	private final ObjectMapper mapper;
+
+	private final FastInfosetProvider provider;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param builds the number of builds in the benchmarked {@link Builds} model
+	 * @param iterations the number of times each encoding is decoded
+	 * @throws Exception in case the encoders cannot be created
+	 */
+	public FastInfosetBenchmark(int builds, int iterations) throws Exception {
+		this.builds = createBuilds(builds);
+		this.iterations = iterations;
+		context = FastInfosetProvider.getJAXBContext(Builds.class);
+		mapper = new ObjectMapper();
+		mapper.getSerializationConfig().setAnnotationIntrospector(new JaxbAnnotationIntrospector());
+		mapper.getDeserializationConfig().setAnnotationIntrospector(new JaxbAnnotationIntrospector());
+		provider = new FastInfosetProvider();
+	}
+
+	/**
+	 * Create the {@link Builds} model used by the benchmark and by the {@link FastInfosetProviderTest}
+	 * 
+	 * @param count the number of builds
+	 * @return the {@link Builds}
+	 */
+	public static Builds createBuilds(int count) {
+		Builds builds = new Builds();
+		for (int number = 1; number <= count; number++) {
+			Build build = new Build(number);
+			build.setJobName("marvelution-jira-hudson-integration");
+			build.setJobUrl("job/marvelution-jira-hudson-integration/");
+			build.setUrl("job/marvelution-jira-hudson-integration/" + number + "/");
+			build.setTimestamp(1300000000000L + number * 60000L);
+			build.setDuration(45000L + number);
+			build.setResult(number % 5 == 0 ? Result.FAILED : Result.SUCCESSFUL);
+			build.setState(State.COMPLETED);
+			build.setRelatedIssueKeys(Arrays.asList("MARVJIRAHUDSON-" + number, "MARVJIRAHUDSON-" + (number + 1)));
+			builds.add(build);
+		}
+		return builds;
+	}
+
+	/**
+	 * Execute the benchmark and report the payload size and average decode time of the three encodings
+	 * 
+	 * @throws Exception in case of encoding or decoding errors
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void run() throws Exception {
+		ByteArrayOutputStream xml = new ByteArrayOutputStream();
+		context.createMarshaller().marshal(builds, xml);
+		ByteArrayOutputStream json = new ByteArrayOutputStream();
+		mapper.writeValue(json, builds);
+		ByteArrayOutputStream fastInfoset = new ByteArrayOutputStream();
+		provider.writeTo(builds, Builds.class, Builds.class, new Annotation[0], null, null, fastInfoset);
+		long xmlTime = 0L, jsonTime = 0L, fastInfosetTime = 0L;
+		// The first round warms up the decoders, only the second round is reported
+		for (int round = 0; round < 2; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; i++) {
+				verify((Builds) context.createUnmarshaller().unmarshal(new ByteArrayInputStream(xml.toByteArray())));
+			}
+			xmlTime = System.nanoTime() - start;
+			start = System.nanoTime();
+			for (int i = 0; i < iterations; i++) {
+				verify(mapper.readValue(new ByteArrayInputStream(json.toByteArray()), Builds.class));
+			}
+			jsonTime = System.nanoTime() - start;
+			start = System.nanoTime();
+			for (int i = 0; i < iterations; i++) {
+				verify((Builds) provider.readFrom((Class) Builds.class, Builds.class, new Annotation[0], null, null,
+					new ByteArrayInputStream(fastInfoset.toByteArray())));
+			}
+			fastInfosetTime = System.nanoTime() - start;
+		}
+		System.out.println("Encoding of " + builds.size() + " builds, average decode time of " + iterations
+			+ " runs");
+		report("application/xml", xml.size(), xmlTime);
+		report("application/json", json.size(), jsonTime);
+		report(MediaTypeUtils.APPLICATION_FASTINFOSET, fastInfoset.size(), fastInfosetTime);
+	}
+
+	/**
+	 * Internal method to verify that a decoded model holds all the builds
+	 * 
+	 * @param decoded the decoded {@link Builds}
+	 */
+	private void verify(Builds decoded) {
+		if (decoded.size() != builds.size()) {
+			throw new IllegalStateException("Decoded " + decoded.size() + " of the " + builds.size() + " builds");
+		}
+	}
+
+	/**
+	 * Internal method to report the results of an encoding
+	 * 
+	 * @param mediaType the media type of the encoding
+	 * @param size the payload size in bytes
+	 * @param time the total decode time in nanoseconds
+	 */
+	private void report(String mediaType, int size, long time) {
+		System.out.println(String.format("  %-28s %8d bytes %8d us", mediaType, size, time / iterations / 1000L));
+	}
+
+	/**
+	 * Execute the benchmark
+	 * 
+	 * @param args optionally the number of builds and the number of decode iterations
+	 * @throws Exception in case of errors
+	 */
+	public static void main(String[] args) throws Exception {
+		int builds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BUILDS;
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+		new FastInfosetBenchmark(builds, iterations).run();
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.resources.providers;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+
+import javax.xml.bind.JAXBContext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Builds;
+
+/**
+ * Testcase for {@link FastInfosetProvider}, the payload size and decode time compared to XML and JSON are measured by
+ * the {@link FastInfosetBenchmark}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class FastInfosetProviderTest {
+
+	private static final int BUILDS = 100;
+
+	private Builds builds;
+
+	private FastInfosetProvider provider;
+
+	/**
+	 * Setup the {@link Builds} model and the {@link FastInfosetProvider}
+	 */
+	@Before
+	public void setUp() {
+		builds = FastInfosetBenchmark.createBuilds(BUILDS);
+		provider = new FastInfosetProvider();
+	}
+
+	/**
+	 * Test that the Fast Infoset payload is smaller then the XML payload of the same model
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testPayloadSize() throws Exception {
+		JAXBContext context = FastInfosetProvider.getJAXBContext(Builds.class);
+		ByteArrayOutputStream xml = new ByteArrayOutputStream();
+		context.createMarshaller().marshal(builds, xml);
+		ByteArrayOutputStream fastInfoset = new ByteArrayOutputStream();
+		provider.writeTo(builds, Builds.class, Builds.class, new Annotation[0], null, null, fastInfoset);
+		assertTrue("Fast Infoset payload is not smaller then the XML payload", fastInfoset.size() < xml.size());
+	}
+
+	/**
+	 * Test that a written model can be read again
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Test
+	public void testWriteAndRead() throws Exception {
+		ByteArrayOutputStream fastInfoset = new ByteArrayOutputStream();
+		provider.writeTo(builds, Builds.class, Builds.class, new Annotation[0], null, null, fastInfoset);
+		Builds decoded = (Builds) provider.readFrom((Class) Builds.class, Builds.class, new Annotation[0], null, null,
+			new ByteArrayInputStream(fastInfoset.toByteArray()));
+		assertEquals(BUILDS, decoded.size());
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.resources.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Testcase for {@link IssueKeysBodyUtils}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class IssueKeysBodyUtilsTest {
+
+	/**
+	 * Test encoding a sparse set of keys, these are not worth a bitmap
+	 */
+	@Test
+	public void testEncodePlainKeys() {
+		String body =
+			IssueKeysBodyUtils.encode(Arrays.asList("MARVJIRAHUDSON-1", "MARVADMIN", "MARVJIRAHUDSON-1200"));
+		assertEquals("MARVADMIN\nMARVJIRAHUDSON-1\nMARVJIRAHUDSON-1200\n", body);
+		assertEquals(Arrays.asList("MARVADMIN", "MARVJIRAHUDSON-1", "MARVJIRAHUDSON-1200"),
+			IssueKeysBodyUtils.decode(body));
+	}
+
+	/**
+	 * Test encoding a large set of keys of a single project as a bitmap
+	 */
+	@Test
+	public void testEncodeBitmap() {
+		List<String> keys = new ArrayList<String>();
+		for (int number = 1; number <= 2000; number += 2) {
+			keys.add("MARVJIRAHUDSON-" + number);
+		}
+		String body = IssueKeysBodyUtils.encode(keys);
+		assertTrue(body.startsWith("MARVJIRAHUDSON:"));
+		assertTrue(body.length() < 400);
+		assertEquals(keys, IssueKeysBodyUtils.decode(body));
+	}
+
+	/**
+	 * Test decoding a body with windows line endings and blank lines
+	 */
+	@Test
+	public void testDecode() {
+		assertEquals(Arrays.asList("MARVJIRAHUDSON-1", "MARVJIRAHUDSON-2", "MARVADMIN-1"),
+			IssueKeysBodyUtils.decode("MARVJIRAHUDSON:Bg==\r\n\r\nMARVADMIN-1\r\n"));
+		assertTrue(IssueKeysBodyUtils.decode(null).isEmpty());
+	}
+
+}
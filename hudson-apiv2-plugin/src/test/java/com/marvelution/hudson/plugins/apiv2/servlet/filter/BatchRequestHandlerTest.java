@@ -0,0 +1,124 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.servlet.filter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import java.net.URL;
+
+import net.sf.json.JSONObject;
+import net.sf.json.JSONSerializer;
+
+import org.apache.commons.lang.StringUtils;
+import org.junit.Test;
+import org.jvnet.hudson.test.HudsonTestCase;
+import org.jvnet.hudson.test.recipes.TestData;
+import org.jvnet.hudson.test.recipes.TestData.DataSet;
+import org.mortbay.jetty.HttpStatus;
+
+import com.gargoylesoftware.htmlunit.FailingHttpStatusCodeException;
+import com.gargoylesoftware.htmlunit.HttpMethod;
+import com.gargoylesoftware.htmlunit.Page;
+import com.gargoylesoftware.htmlunit.WebRequestSettings;
+
+/**
+ * {@link HudsonTestCase} implementation to test the /apiv2/batch requests handled by the {@link BatchRequestHandler}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class BatchRequestHandlerTest extends HudsonTestCase {
+
+	private static final String CRLF = "\r\n";
+
+	/**
+	 * Test the multipart response of a apiv2/batch POST request
+	 * 
+	 * @throws Exception in case of error
+	 */
+	@Test
+	@TestData(DataSet.ANONYMOUS_READ_ONLY_WITH_JOBS)
+	public void testBatchRequest() throws Exception {
+		WebClient client = createWebClient();
+		WebRequestSettings settings = new WebRequestSettings(new URL(client.getContextPath() + "apiv2/batch"),
+			HttpMethod.POST);
+		settings.setRequestBody("/apiv2/plugin/version\n\n/apiv2/views?name=All\n/job/free-style/\n");
+		Page page = client.getPage(settings);
+		String contentType = page.getWebResponse().getResponseHeaderValue("Content-Type");
+		assertThat(contentType.startsWith("multipart/mixed; boundary="), is(true));
+		String boundary = StringUtils.substringAfter(contentType, "boundary=");
+		String content = page.getWebResponse().getContentAsString();
+		assertThat(content.endsWith("--" + boundary + "--" + CRLF), is(true));
+		String[] parts = StringUtils.splitByWholeSeparator(StringUtils.substringBeforeLast(content,
+			"--" + boundary + "--"), "--" + boundary + CRLF);
+		// The blank line is skipped and the parts are in the same order as the sub-requests
+		assertThat(parts.length, is(3));
+		JSONObject json = (JSONObject) JSONSerializer.toJSON(assertPart(parts[0], "/apiv2/plugin/version",
+			HttpStatus.ORDINAL_200_OK));
+		assertThat(json.has("hudsonVersion"), is(true));
+		json = (JSONObject) JSONSerializer.toJSON(assertPart(parts[1], "/apiv2/views?name=All",
+			HttpStatus.ORDINAL_200_OK));
+		assertThat(json.getString("name"), is("All"));
+		// Only APIv2 requests are allowed as sub-request
+		assertThat(assertPart(parts[2], "/job/free-style/", HttpStatus.ORDINAL_400_Bad_Request), is(""));
+	}
+
+	/**
+	 * Test that only POST requests are accepted by the apiv2/batch resource
+	 * 
+	 * @throws Exception in case of error
+	 */
+	@Test
+	@TestData(DataSet.ANONYMOUS_READ_ONLY_WITH_JOBS)
+	public void testBatchGetRequest() throws Exception {
+		WebClient client = createWebClient();
+		client.setPrintContentOnFailingStatusCode(false);
+		try {
+			client.getPage(new URL(client.getContextPath() + "apiv2/batch"));
+			fail("This test should throw a FailingHttpStatusCodeException");
+		} catch (FailingHttpStatusCodeException e) {
+			assertThat(e.getStatusCode(), is(HttpStatus.ORDINAL_405_Method_Not_Allowed));
+		}
+	}
+
+	/**
+	 * Internal method to assert the headers of a single part of the batch response
+	 * 
+	 * @param part the part to assert
+	 * @param url the expected Content-Location
+	 * @param status the expected Status
+	 * @return the body of the part
+	 * @throws Exception in case of error
+	 */
+	private String assertPart(String part, String url, int status) throws Exception {
+		String headers = StringUtils.substringBefore(part, CRLF + CRLF);
+		String body = StringUtils.removeEnd(StringUtils.substringAfter(part, CRLF + CRLF), CRLF);
+		assertThat(headers.contains("Content-Location: " + url + CRLF), is(true));
+		assertThat(headers.contains("Status: " + status + CRLF), is(true));
+		assertThat(headers.endsWith("Content-Length: " + body.getBytes("UTF-8").length), is(true));
+		if (body.length() > 0) {
+			assertThat(headers.contains("Content-Type: application/json"), is(true));
+		}
+		return body;
+	}
+
+}
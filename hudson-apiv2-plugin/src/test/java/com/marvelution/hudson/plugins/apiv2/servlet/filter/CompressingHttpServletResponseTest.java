@@ -0,0 +1,355 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.servlet.filter;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link CompressingHttpServletResponse}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class CompressingHttpServletResponseTest {
+
+	private static final int THRESHOLD = 1024;
+
+	private RecordingHttpServletResponse response;
+
+	/**
+	 * Setup the {@link RecordingHttpServletResponse} that is wrapped
+	 */
+	@Before
+	public void setUp() {
+		response = new RecordingHttpServletResponse();
+	}
+
+	/**
+	 * Test that a body that doesn't exceed the threshold is buffered and written uncompressed with its length
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testBelowThreshold() throws Exception {
+		CompressingHttpServletResponse compressing = createResponse(CompressingHttpServletResponse.GZIP, 6);
+		byte[] body = createBody(THRESHOLD);
+		compressing.setContentLength(body.length);
+		compressing.getOutputStream().write(body, 0, 10);
+		compressing.getOutputStream().write(body, 10, body.length - 10);
+		compressing.flushBuffer();
+		// Nothing is written to the wrapped response until the response is finished
+		assertThat(response.output, nullValue());
+		assertThat(response.contentLength, is(-1));
+		compressing.finish();
+		assertThat(response.getHeader("Content-Encoding"), nullValue());
+		assertThat(response.contentLength, is(body.length));
+		assertThat(response.getBody(), is(body));
+	}
+
+	/**
+	 * Test that a body that exceeds the threshold is compressed and its Content-Length is not sent
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testAboveThreshold() throws Exception {
+		CompressingHttpServletResponse compressing = createResponse(CompressingHttpServletResponse.GZIP, 6);
+		byte[] body = createBody(THRESHOLD * 10);
+		compressing.setContentLength(body.length);
+		compressing.setHeader("Content-Length", String.valueOf(body.length));
+		compressing.addIntHeader("Content-Length", body.length);
+		compressing.getOutputStream().write(body, 0, THRESHOLD);
+		assertThat(response.output, nullValue());
+		compressing.getOutputStream().write(body, THRESHOLD, body.length - THRESHOLD);
+		compressing.finish();
+		assertThat(response.getHeader("Content-Encoding"), is("gzip"));
+		assertThat(response.getHeader("Vary"), is("Accept-Encoding"));
+		assertThat(response.getHeader("Content-Length"), nullValue());
+		assertThat(response.contentLength, is(-1));
+		byte[] compressed = response.getBody();
+		assertThat(compressed.length < body.length, is(true));
+		assertThat(read(new GZIPInputStream(new ByteArrayInputStream(compressed))), is(body));
+	}
+
+	/**
+	 * Test that the body written using the writer is compressed as well
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testWriter() throws Exception {
+		CompressingHttpServletResponse compressing = createResponse(CompressingHttpServletResponse.DEFLATE, 6);
+		byte[] body = createBody(THRESHOLD * 10);
+		compressing.getWriter().write(new String(body, "UTF-8"));
+		compressing.finish();
+		assertThat(response.getHeader("Content-Encoding"), is("deflate"));
+		assertThat(read(new InflaterInputStream(new ByteArrayInputStream(response.getBody()))), is(body));
+	}
+
+	/**
+	 * Test that partial, no content and not modified responses pass through uncompressed
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testStatusPassThrough() throws Exception {
+		byte[] body = createBody(THRESHOLD * 10);
+		for (int status : new int[] { HttpServletResponse.SC_PARTIAL_CONTENT, HttpServletResponse.SC_NO_CONTENT,
+			HttpServletResponse.SC_NOT_MODIFIED }) {
+			setUp();
+			CompressingHttpServletResponse compressing = createResponse(CompressingHttpServletResponse.GZIP, 6);
+			compressing.setStatus(status);
+			compressing.setContentLength(body.length);
+			compressing.getOutputStream().write(body);
+			compressing.finish();
+			assertThat(response.status, is(status));
+			assertThat(response.getHeader("Content-Encoding"), nullValue());
+			assertThat(response.contentLength, is(body.length));
+			assertThat(response.getBody(), is(body));
+		}
+	}
+
+	/**
+	 * Test that ranged and already encoded responses pass through uncompressed
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testHeaderPassThrough() throws Exception {
+		byte[] body = createBody(THRESHOLD * 10);
+		CompressingHttpServletResponse compressing = createResponse(CompressingHttpServletResponse.GZIP, 6);
+		compressing.setHeader("Content-Range", "bytes 0-" + (body.length - 1) + "/*");
+		compressing.setHeader("Content-Length", String.valueOf(body.length));
+		compressing.getOutputStream().write(body);
+		compressing.finish();
+		assertThat(response.getHeader("Content-Encoding"), nullValue());
+		assertThat(response.getHeader("Content-Length"), is(String.valueOf(body.length)));
+		assertThat(response.getBody(), is(body));
+		setUp();
+		compressing = createResponse(CompressingHttpServletResponse.GZIP, 6);
+		compressing.setHeader("Content-Encoding", "identity");
+		compressing.getOutputStream().write(body);
+		compressing.finish();
+		assertThat(response.getHeader("Content-Encoding"), is("identity"));
+		assertThat(response.getBody(), is(body));
+	}
+
+	/**
+	 * Test the parsing of the Accept-Encoding header, including the quality values
+	 */
+	@Test
+	public void testGetContentEncoding() {
+		assertThat(CompressingHttpServletResponse.getContentEncoding(null), nullValue());
+		assertThat(CompressingHttpServletResponse.getContentEncoding(""), nullValue());
+		assertThat(CompressingHttpServletResponse.getContentEncoding("identity"), nullValue());
+		assertThat(CompressingHttpServletResponse.getContentEncoding("gzip"), is("gzip"));
+		assertThat(CompressingHttpServletResponse.getContentEncoding("x-gzip"), is("gzip"));
+		assertThat(CompressingHttpServletResponse.getContentEncoding("deflate"), is("deflate"));
+		assertThat(CompressingHttpServletResponse.getContentEncoding("GZIP, Deflate"), is("gzip"));
+		assertThat(CompressingHttpServletResponse.getContentEncoding("*"), is("gzip"));
+		assertThat(CompressingHttpServletResponse.getContentEncoding("gzip;q=0.5, deflate;q=1.0"), is("gzip"));
+		assertThat(CompressingHttpServletResponse.getContentEncoding("gzip; q=0, deflate"), is("deflate"));
+		assertThat(CompressingHttpServletResponse.getContentEncoding("gzip;q=0.000, deflate;q=0"), nullValue());
+		assertThat(CompressingHttpServletResponse.getContentEncoding("gzip;q=abc"), nullValue());
+		assertThat(CompressingHttpServletResponse.getContentEncoding("*;q=0"), nullValue());
+		// An explicitly refused coding is not accepted by the wildcard
+		assertThat(CompressingHttpServletResponse.getContentEncoding("gzip;q=0, *"), is("deflate"));
+		assertThat(CompressingHttpServletResponse.getContentEncoding("*, gzip;q=0, deflate;q=0"), nullValue());
+	}
+
+	/**
+	 * Test that the default deflater of the {@link java.util.zip.GZIPOutputStream} is replaced by the one using the
+	 * configured compression level
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testGzipCompressionLevel() throws Exception {
+		byte[] body = createBody(THRESHOLD * 64);
+		CompressingHttpServletResponse compressing = createResponse(CompressingHttpServletResponse.GZIP, 1);
+		compressing.getOutputStream().write(body);
+		compressing.finish();
+		byte[] fastest = response.getBody();
+		setUp();
+		compressing = createResponse(CompressingHttpServletResponse.GZIP, 9);
+		compressing.getOutputStream().write(body);
+		compressing.finish();
+		byte[] best = response.getBody();
+		assertThat(best.length < fastest.length, is(true));
+		assertThat(read(new GZIPInputStream(new ByteArrayInputStream(fastest))), is(body));
+		assertThat(read(new GZIPInputStream(new ByteArrayInputStream(best))), is(body));
+	}
+
+	/**
+	 * Internal method to create a {@link CompressingHttpServletResponse} wrapping the {@link #response}
+	 * 
+	 * @param contentEncoding the content encoding
+	 * @param level the compression level
+	 * @return the {@link CompressingHttpServletResponse}
+	 */
+	private CompressingHttpServletResponse createResponse(String contentEncoding, int level) {
+		return new CompressingHttpServletResponse(response, contentEncoding, THRESHOLD, level);
+	}
+
+	/**
+	 * Internal method to create a compressible body
+	 * 
+	 * @param length the length of the body
+	 * @return the body bytes
+	 * @throws IOException in case of errors
+	 */
+	private byte[] createBody(int length) throws IOException {
+		StringBuilder body = new StringBuilder();
+		for (int line = 0; body.length() < length; line++) {
+			body.append("{\"build\":").append(line).append(",\"duration\":").append((line * 7919) % 104729)
+				.append("}\n");
+		}
+		return body.substring(0, length).getBytes("UTF-8");
+	}
+
+	/**
+	 * Internal method to read all the bytes from the given {@link InputStream}
+	 * 
+	 * @param input the {@link InputStream} to read
+	 * @return the bytes read
+	 * @throws IOException in case of errors
+	 */
+	private byte[] read(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = input.read(buffer)) > -1) {
+			output.write(buffer, 0, read);
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * {@link HttpServletResponseWrapper} that records the status, headers and body written to it
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 *
+	 * @since 4.5.0
+	 */
+	private static class RecordingHttpServletResponse extends HttpServletResponseWrapper {
+
+		private final Map<String, String> headers = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+		private int status = SC_OK;
+		private int contentLength = -1;
+		private ByteArrayOutputStream output;
+
+		/**
+		 * Constructor
+		 */
+		public RecordingHttpServletResponse() {
+			super(mock(HttpServletResponse.class));
+		}
+
+		/**
+		 * Getter for the body written
+		 * 
+		 * @return the body bytes
+		 */
+		public byte[] getBody() {
+			return output == null ? new byte[0] : output.toByteArray();
+		}
+
+		/**
+		 * Getter for a header value
+		 * 
+		 * @param name the header name
+		 * @return the value, may be <code>null</code>
+		 */
+		public String getHeader(String name) {
+			return headers.get(name);
+		}
+
+		@Override
+		public String getCharacterEncoding() {
+			return "UTF-8";
+		}
+
+		@Override
+		public void setStatus(int status) {
+			this.status = status;
+		}
+
+		@Override
+		public void setContentLength(int contentLength) {
+			this.contentLength = contentLength;
+		}
+
+		@Override
+		public void setHeader(String name, String value) {
+			headers.put(name, value);
+		}
+
+		@Override
+		public void addHeader(String name, String value) {
+			headers.put(name, value);
+		}
+
+		@Override
+		public void setIntHeader(String name, int value) {
+			headers.put(name, String.valueOf(value));
+		}
+
+		@Override
+		public void addIntHeader(String name, int value) {
+			headers.put(name, String.valueOf(value));
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			if (output == null) {
+				output = new ByteArrayOutputStream();
+			}
+			return new ServletOutputStream() {
+
+				@Override
+				public void write(int b) throws IOException {
+					output.write(b);
+				}
+
+			};
+		}
+
+	}
+
+}
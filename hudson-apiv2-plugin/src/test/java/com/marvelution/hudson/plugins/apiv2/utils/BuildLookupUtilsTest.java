@@ -0,0 +1,165 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import hudson.model.Job;
+import hudson.model.Run;
+
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link BuildLookupUtils}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class BuildLookupUtilsTest {
+
+	/**
+	 * Build numbers of the mocked {@link Job}, with gaps between them
+	 */
+	private static final int[] NUMBERS = { 1, 2, 3, 5, 8, 9, 12 };
+
+	private Job job;
+
+	private TreeMap<Integer, Run> builds;
+
+	/**
+	 * Setup a mocked {@link Job} with builds that started at 1000 times their build number
+	 */
+	@Before
+	public void setUp() {
+		job = mock(Job.class);
+		builds = new TreeMap<Integer, Run>();
+		Run previous = null;
+		for (int number : NUMBERS) {
+			Run build = mock(Run.class);
+			when(build.getNumber()).thenReturn(number);
+			when(build.getTimeInMillis()).thenReturn(number * 1000L);
+			when(build.getPreviousBuild()).thenReturn(previous);
+			builds.put(number, build);
+			previous = build;
+		}
+		when(job.getFirstBuild()).thenReturn(builds.firstEntry().getValue());
+		when(job.getLastBuild()).thenReturn(builds.lastEntry().getValue());
+		for (int number = builds.firstKey(); number <= builds.lastKey(); number++) {
+			when(job.getNearestOldBuild(number)).thenReturn(builds.floorEntry(number).getValue());
+		}
+	}
+
+	/**
+	 * Test that the latest build before a time is found when the build numbers have gaps
+	 */
+	@Test
+	public void testGetLatestBuildBeforeWithGaps() {
+		assertSame(builds.get(1), BuildLookupUtils.getLatestBuildBefore(job, 1000L));
+		assertSame(builds.get(3), BuildLookupUtils.getLatestBuildBefore(job, 4999L));
+		assertSame(builds.get(5), BuildLookupUtils.getLatestBuildBefore(job, 5000L));
+		assertSame(builds.get(5), BuildLookupUtils.getLatestBuildBefore(job, 7999L));
+		assertSame(builds.get(9), BuildLookupUtils.getLatestBuildBefore(job, 11999L));
+		for (long time = 1000L; time < 13000L; time += 250L) {
+			assertSame("time " + time, builds.floorEntry((int) (time / 1000L)).getValue(),
+				BuildLookupUtils.getLatestBuildBefore(job, time));
+		}
+	}
+
+	/**
+	 * Test that there is no build before the first build of the job
+	 */
+	@Test
+	public void testGetLatestBuildBeforeFirstBuild() {
+		assertNull(BuildLookupUtils.getLatestBuildBefore(job, 999L));
+		assertNull(BuildLookupUtils.getLatestBuildBefore(job, 0L));
+	}
+
+	/**
+	 * Test that the last build is returned for a time after the last build of the job
+	 */
+	@Test
+	public void testGetLatestBuildBeforeAfterLastBuild() {
+		assertSame(builds.get(12), BuildLookupUtils.getLatestBuildBefore(job, 12000L));
+		assertSame(builds.get(12), BuildLookupUtils.getLatestBuildBefore(job, Long.MAX_VALUE));
+	}
+
+	/**
+	 * Test that there is no build before any time for a job without builds
+	 */
+	@Test
+	public void testGetLatestBuildBeforeWithoutBuilds() {
+		Job empty = mock(Job.class);
+		assertNull(BuildLookupUtils.getLatestBuildBefore(empty, Long.MAX_VALUE));
+		assertTrue(BuildLookupUtils.getBuildsBetween(empty, 0L, Long.MAX_VALUE).isEmpty());
+	}
+
+	/**
+	 * Test that both bounds of the time range are inclusive and the builds are returned newest first
+	 */
+	@Test
+	public void testGetBuildsBetween() {
+		assertBuilds(BuildLookupUtils.getBuildsBetween(job, 3000L, 9000L), 9, 8, 5, 3);
+		assertBuilds(BuildLookupUtils.getBuildsBetween(job, 3001L, 8999L), 8, 5);
+		assertBuilds(BuildLookupUtils.getBuildsBetween(job, 5000L, 5000L), 5);
+		assertBuilds(BuildLookupUtils.getBuildsBetween(job, 0L, Long.MAX_VALUE), 12, 9, 8, 5, 3, 2, 1);
+	}
+
+	/**
+	 * Test that time ranges without builds return an empty list
+	 */
+	@Test
+	public void testGetBuildsBetweenWithoutBuilds() {
+		assertBuilds(BuildLookupUtils.getBuildsBetween(job, 4000L, 4999L));
+		assertBuilds(BuildLookupUtils.getBuildsBetween(job, 0L, 999L));
+		assertBuilds(BuildLookupUtils.getBuildsBetween(job, 12001L, Long.MAX_VALUE));
+		assertBuilds(BuildLookupUtils.getBuildsBetween(job, 9000L, 3000L));
+	}
+
+	/**
+	 * Test that builds started on or after the given time are returned
+	 */
+	@Test
+	public void testGetBuildsAfter() {
+		assertBuilds(BuildLookupUtils.getBuildsAfter(job, 8001L), 12, 9);
+		assertBuilds(BuildLookupUtils.getBuildsAfter(job, 12000L), 12);
+		assertBuilds(BuildLookupUtils.getBuildsAfter(job, 0L), 12, 9, 8, 5, 3, 2, 1);
+	}
+
+	/**
+	 * Internal method to assert the builds in the given {@link List} match the given build numbers
+	 * 
+	 * @param actual the {@link List} of {@link Run} objects
+	 * @param numbers the expected build numbers, in order
+	 */
+	private void assertBuilds(List<Run<?, ?>> actual, int... numbers) {
+		assertEquals(numbers.length, actual.size());
+		for (int index = 0; index < numbers.length; index++) {
+			assertSame(builds.get(numbers[index]), actual.get(index));
+		}
+	}
+
+}
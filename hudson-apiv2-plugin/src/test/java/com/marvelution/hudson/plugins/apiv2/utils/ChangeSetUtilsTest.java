@@ -0,0 +1,46 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Testcase for {@link ChangeSetUtils}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class ChangeSetUtilsTest {
+
+	/**
+	 * Test {@link ChangeSetUtils#compactRevision(String)}
+	 */
+	@Test
+	public void testCompactRevision() {
+		assertEquals("9fceb02d0ae5", ChangeSetUtils.compactRevision("9fceb02d0ae598e95dc970b74767f19372d61af8"));
+		assertEquals("9fceb02d0ae5", ChangeSetUtils.compactRevision("9FCEB02D0AE598E95DC970B74767F19372D61AF8"));
+		assertEquals("9fceb02d0ae5", ChangeSetUtils.compactRevision("9fceb02d0ae5"));
+		assertEquals("12345", ChangeSetUtils.compactRevision("12345"));
+		assertEquals("1.2.3.4", ChangeSetUtils.compactRevision("1.2.3.4"));
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+
+import org.junit.Test;
+
+import hudson.MarkupText;
+import hudson.console.ConsoleAnnotator;
+import hudson.console.ConsoleNote;
+
+/**
+ * Testcase for {@link ConsoleLogUtils}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class ConsoleLogUtilsTest {
+
+	/**
+	 * Test {@link ConsoleLogUtils#parseRange(String, long)}
+	 */
+	@Test
+	public void testParseRange() {
+		assertNull(ConsoleLogUtils.parseRange(null, 100L));
+		assertNull(ConsoleLogUtils.parseRange("items=0-10", 100L));
+		assertNull(ConsoleLogUtils.parseRange("bytes=0-10,20-30", 100L));
+		assertNull(ConsoleLogUtils.parseRange("bytes=a-b", 100L));
+		assertRange(ConsoleLogUtils.parseRange("bytes=0-9", 100L), 0L, 10L);
+		assertRange(ConsoleLogUtils.parseRange("bytes=90-", 100L), 90L, 100L);
+		assertRange(ConsoleLogUtils.parseRange("bytes=90-200", 100L), 90L, 100L);
+		assertRange(ConsoleLogUtils.parseRange("bytes=-20", 100L), 80L, 100L);
+		assertRange(ConsoleLogUtils.parseRange("bytes=-200", 100L), 0L, 100L);
+		assertEquals(0, ConsoleLogUtils.parseRange("bytes=100-", 100L).length);
+		assertEquals(0, ConsoleLogUtils.parseRange("bytes=-0", 100L).length);
+		assertNull(ConsoleLogUtils.parseRange("bytes=20-10", 100L));
+	}
+
+	/**
+	 * Test {@link ConsoleLogUtils#getTailOffset(java.nio.channels.FileChannel, long, int)}
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testGetTailOffset() throws Exception {
+		assertTail("line 1\nline 2\nline 3\n", 2, "line 2\nline 3\n");
+		assertTail("line 1\nline 2\nline 3", 2, "line 2\nline 3");
+		assertTail("line 1\nline 2\nline 3\n", 5, "line 1\nline 2\nline 3\n");
+		assertTail("line 1\nline 2\nline 3\n", 0, "");
+		StringBuilder log = new StringBuilder();
+		for (int line = 0; line < 10000; line++) {
+			log.append("This is line ").append(line).append('\n');
+		}
+		assertTail(log.toString(), 2, "This is line 9998\nThis is line 9999\n");
+		assertTail(log.toString(), 1001, log.substring(log.indexOf("This is line 8999\n")));
+	}
+
+	/**
+	 * Test {@link ConsoleLogUtils#transfer(java.nio.channels.FileChannel, long, long, java.io.OutputStream)}
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testTransfer() throws Exception {
+		File file = createLog("0123456789");
+		try {
+			RandomAccessFile log = new RandomAccessFile(file, "r");
+			try {
+				ByteArrayOutputStream output = new ByteArrayOutputStream();
+				ConsoleLogUtils.transfer(log.getChannel(), 2L, 6L, output);
+				assertEquals("2345", output.toString("UTF-8"));
+			} finally {
+				log.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Test {@link ConsoleLogUtils#getLastLineEnd(java.nio.channels.FileChannel, long, long)}
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testGetLastLineEnd() throws Exception {
+		StringBuilder content = new StringBuilder();
+		for (int line = 0; line < 10000; line++) {
+			content.append("This is line ").append(line).append('\n');
+		}
+		content.append("Incomplete line");
+		File file = createLog(content.toString());
+		try {
+			RandomAccessFile log = new RandomAccessFile(file, "r");
+			try {
+				long length = file.length();
+				long lineEnd = length - "Incomplete line".length();
+				assertEquals(lineEnd, ConsoleLogUtils.getLastLineEnd(log.getChannel(), 0L, length));
+				assertEquals(lineEnd, ConsoleLogUtils.getLastLineEnd(log.getChannel(), 0L, lineEnd));
+				assertEquals(lineEnd, ConsoleLogUtils.getLastLineEnd(log.getChannel(), lineEnd, length));
+				assertEquals(5L, ConsoleLogUtils.getLastLineEnd(log.getChannel(), 5L, 10L));
+			} finally {
+				log.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Test {@link ConsoleLogUtils.LogRegionOutput#write(java.io.OutputStream)} removes the {@link ConsoleNote}
+	 * annotations, or writes the region unchanged if it doesn't strip them
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testLogRegionOutput() throws Exception {
+		String content = "Started by " + new TestNote().encode() + "user\nBuilding " + new TestNote().encode()
+			+ "free-style";
+		File file = createLog(content);
+		try {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			new ConsoleLogUtils.LogRegionOutput(file, 0L, file.length(), true).write(output);
+			assertEquals("Started by user\nBuilding free-style", output.toString("UTF-8"));
+			output.reset();
+			new ConsoleLogUtils.LogRegionOutput(file, content.indexOf("Building"), file.length(), true).write(output);
+			assertEquals("Building free-style", output.toString("UTF-8"));
+			output.reset();
+			new ConsoleLogUtils.LogRegionOutput(file, 3L, file.length() - 3L, false).write(output);
+			assertEquals(content.substring(3, content.length() - 3), output.toString("UTF-8"));
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Helper method to assert the last lines of a log
+	 * 
+	 * @param content the content of the log
+	 * @param lines the number of lines to get
+	 * @param expected the expected last lines
+	 * @throws Exception in case of errors
+	 */
+	private void assertTail(String content, int lines, String expected) throws Exception {
+		File file = createLog(content);
+		try {
+			RandomAccessFile log = new RandomAccessFile(file, "r");
+			try {
+				long offset = ConsoleLogUtils.getTailOffset(log.getChannel(), file.length(), lines);
+				assertEquals(expected, content.substring((int) offset));
+			} finally {
+				log.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Helper method to assert a byte range
+	 * 
+	 * @param range the range to check
+	 * @param start the expected start
+	 * @param end the expected end
+	 */
+	private void assertRange(long[] range, long start, long end) {
+		assertNotNull(range);
+		assertEquals(start, range[0]);
+		assertEquals(end, range[1]);
+	}
+
+	/**
+	 * Helper method to create a temporary log file
+	 * 
+	 * @param content the content of the log
+	 * @return the log {@link File}
+	 * @throws Exception in case of errors
+	 */
+	private File createLog(String content) throws Exception {
+		File file = File.createTempFile("console", ".log");
+		FileOutputStream output = new FileOutputStream(file);
+		try {
+			output.write(content.getBytes("UTF-8"));
+		} finally {
+			output.close();
+		}
+		return file;
+	}
+
+	/**
+	 * {@link ConsoleNote} used to annotate the test logs
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 *
+	 * @since 4.5.0
+	 */
+	@SuppressWarnings("rawtypes")
+	public static class TestNote extends ConsoleNote {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public ConsoleAnnotator annotate(Object context, MarkupText text, int charPos) {
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.marvelution.hudson.plugins.apiv2.utils.DownsamplingUtils.Coordinates;
+
+/**
+ * Testcase for {@link DownsamplingUtils}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class DownsamplingUtilsTest {
+
+	private static final Coordinates<double[]> COORDINATES = new Coordinates<double[]>() {
+
+		@Override
+		public double getX(double[] point) {
+			return point[0];
+		}
+
+		@Override
+		public double getY(double[] point) {
+			return point[1];
+		}
+
+	};
+
+	private List<double[]> points;
+
+	/**
+	 * Setup a flat series of 1000 points with a single spike
+	 */
+	@Before
+	public void setup() {
+		points = new ArrayList<double[]>();
+		for (int x = 0; x < 1000; x++) {
+			points.add(new double[] { x, x == 500 ? 100D : 1D });
+		}
+	}
+
+	/**
+	 * Test that the series is downsampled to the threshold and keeps the first, last and spike points
+	 */
+	@Test
+	public void testLargestTriangleThreeBuckets() {
+		List<double[]> sampled = DownsamplingUtils.largestTriangleThreeBuckets(points, 50, COORDINATES);
+		assertEquals(50, sampled.size());
+		assertSame(points.get(0), sampled.get(0));
+		assertSame(points.get(999), sampled.get(49));
+		assertTrue(sampled.contains(points.get(500)));
+		for (int index = 1; index < sampled.size(); index++) {
+			assertTrue(sampled.get(index - 1)[0] < sampled.get(index)[0]);
+		}
+	}
+
+	/**
+	 * Test that series smaller than the threshold are not downsampled
+	 */
+	@Test
+	public void testSmallSeries() {
+		assertSame(points, DownsamplingUtils.largestTriangleThreeBuckets(points, 1000, COORDINATES));
+		assertSame(points, DownsamplingUtils.largestTriangleThreeBuckets(points, 0, COORDINATES));
+		assertEquals(2, DownsamplingUtils.largestTriangleThreeBuckets(points, 2, COORDINATES).size());
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.marvelution.hudson.plugins.apiv2.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.TestCaseResult;
+
+/**
+ * Testcase for {@link TestReportReader}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class TestReportReaderTest {
+
+	private static final String JUNIT_RESULT = "<result><suites><suite><name>com.example.FooTest</name>"
+		+ "<stdout>lots of output</stdout><cases>"
+		+ "<case><duration>0.5</duration><className>com.example.FooTest</className><testName>testPass</testName>"
+		+ "<skipped>false</skipped><failedSince>0</failedSince></case>"
+		+ "<case><duration>1.5</duration><className>com.example.FooTest</className><testName>testFail</testName>"
+		+ "<skipped>false</skipped><errorStackTrace>java.lang.AssertionError</errorStackTrace>"
+		+ "<errorDetails>expected</errorDetails><failedSince>3</failedSince></case>"
+		+ "<case><duration>0</duration><className>com.example.FooTest</className><testName>testSkip</testName>"
+		+ "<skipped>true</skipped></case>"
+		+ "</cases></suite><suite><name>com.example.sub.BarTest</name><cases>"
+		+ "<case><duration>0.1</duration><className>com.example.sub.BarTest</className><testName>testFail</testName>"
+		+ "<skipped>false</skipped><errorStackTrace>java.lang.NullPointerException</errorStackTrace></case>"
+		+ "</cases></suite></suites><duration>2.1</duration></result>";
+
+	private static final String TESTNG_RESULTS = "<testng-results skipped=\"0\" failed=\"1\" total=\"2\" passed=\"1\">"
+		+ "<suite name=\"Suite\"><test name=\"Test\"><class name=\"com.example.NgTest\">"
+		+ "<test-method status=\"PASS\" is-config=\"true\" name=\"setUp\" duration-ms=\"3\"/>"
+		+ "<test-method status=\"PASS\" name=\"testPass\" duration-ms=\"250\"/>"
+		+ "<test-method status=\"FAIL\" name=\"testFail\" duration-ms=\"1000\"><exception class=\"java.lang.Error\">"
+		+ "<message><![CDATA[ boom ]]></message><full-stacktrace><![CDATA[java.lang.Error: boom]]></full-stacktrace>"
+		+ "</exception></test-method></class></test></suite></testng-results>";
+
+	/**
+	 * Test reading all the test cases of a <code>junitResult.xml</code>
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testReadJUnitResult() throws Exception {
+		TestReportReader reader = new TestReportReader(null, null, null, 0, 100);
+		reader.readJUnitResult(toStream(JUNIT_RESULT));
+		assertEquals(4, reader.getMatched());
+		assertEquals(4, reader.getTestCases().size());
+		TestCaseResult failed = reader.getTestCases().get(1);
+		assertEquals("com.example.FooTest.testFail", failed.getTestCaseName());
+		assertEquals(1.5F, failed.getDuration(), 0.001F);
+		assertEquals("java.lang.AssertionError", failed.getErrorStackTrace());
+		assertEquals("expected", failed.getErrorDetails());
+		assertTrue(reader.getTestCases().get(2).isSkipped());
+	}
+
+	/**
+	 * Test the status, class and name filters
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testFilters() throws Exception {
+		TestReportReader reader = new TestReportReader(TestReportReader.FAILED, null, null, 0, 100);
+		reader.readJUnitResult(toStream(JUNIT_RESULT));
+		assertEquals(2, reader.getMatched());
+		reader = new TestReportReader(null, "com.example.sub", null, 0, 100);
+		reader.readJUnitResult(toStream(JUNIT_RESULT));
+		assertEquals(1, reader.getMatched());
+		assertEquals("com.example.sub.BarTest", reader.getTestCases().get(0).getClassName());
+		reader = new TestReportReader(null, "com.example.Foo", null, 0, 100);
+		reader.readJUnitResult(toStream(JUNIT_RESULT));
+		assertEquals(0, reader.getMatched());
+		reader = new TestReportReader("passed", "com.example.FooTest", "testPass", 0, 100);
+		reader.readJUnitResult(toStream(JUNIT_RESULT));
+		assertEquals(1, reader.getMatched());
+	}
+
+	/**
+	 * Test that only the requested page is kept while all matches are counted
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testPaging() throws Exception {
+		TestReportReader reader = new TestReportReader(null, null, null, 1, 2);
+		reader.readJUnitResult(toStream(JUNIT_RESULT));
+		reader.readTestNGResults(toStream(TESTNG_RESULTS));
+		assertEquals(6, reader.getMatched());
+		assertEquals(2, reader.getTestCases().size());
+		assertEquals("testFail", reader.getTestCases().get(0).getTestName());
+		assertEquals("testSkip", reader.getTestCases().get(1).getTestName());
+	}
+
+	/**
+	 * Test reading the test methods of a <code>testng-results.xml</code>
+	 * 
+	 * @throws Exception in case of errors
+	 */
+	@Test
+	public void testReadTestNGResults() throws Exception {
+		TestReportReader reader = new TestReportReader(null, null, null, 0, 100);
+		reader.readTestNGResults(toStream(TESTNG_RESULTS));
+		assertEquals(2, reader.getMatched());
+		TestCaseResult failed = reader.getTestCases().get(1);
+		assertEquals("com.example.NgTest.testFail", failed.getTestCaseName());
+		assertEquals(1F, failed.getDuration(), 0.001F);
+		assertEquals("boom", failed.getErrorDetails());
+		assertEquals("java.lang.Error: boom", failed.getErrorStackTrace());
+		reader = new TestReportReader(TestReportReader.FAILED, null, null, 0, 100);
+		reader.readTestNGResults(toStream(TESTNG_RESULTS));
+		assertEquals(1, reader.getMatched());
+	}
+
+	/**
+	 * Helper method to create an {@link InputStream} of a report
+	 * 
+	 * @param report the report content
+	 * @return the {@link InputStream}
+	 * @throws Exception in case of errors
+	 */
+	private InputStream toStream(String report) throws Exception {
+		return new ByteArrayInputStream(report.getBytes("UTF-8"));
+	}
+
+}
@@ -19,14 +19,16 @@
 
 package com.marvelution.hudson.plugins.apiv2.client;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
+import com.marvelution.hudson.plugins.apiv2.client.connectors.ConnectionException;
 import com.marvelution.hudson.plugins.apiv2.client.connectors.Connector;
 import com.marvelution.hudson.plugins.apiv2.client.connectors.ConnectorFactory;
 import com.marvelution.hudson.plugins.apiv2.client.connectors.ConnectorResponse;
+import com.marvelution.hudson.plugins.apiv2.client.services.BatchQuery;
 import com.marvelution.hudson.plugins.apiv2.client.services.ListableQuery;
 import com.marvelution.hudson.plugins.apiv2.client.services.Query;
 import com.marvelution.hudson.plugins.apiv2.client.unmarshallers.Unmarshallers;
@@ -90,8 +92,8 @@ public class HudsonClient {
 		ConnectorResponse response = connector.execute(query);
 		if (response != null) {
 			try {
-				Unmarshaller unmarshaller = Unmarshallers.forModel(query.getModelClass());
-				return (MODEL) unmarshaller.unmarshal(response.getResponseAsStream());
+				return (MODEL) Unmarshallers.unmarshal(query.getModelClass(), response.getResponseAsStream(),
+					response.getContentType());
 			} catch (JAXBException e) {
 				throw new ClientException("Failed to unmarshal Hudson response. Original Request: "
 						+ query.getUrl(), e, response);
@@ -115,8 +117,8 @@ public class HudsonClient {
 		ConnectorResponse response = connector.execute(query);
 		if (response != null) {
 			try {
-				Unmarshaller unmarshaller = Unmarshallers.forModel(query.getListableModelClass());
-				return (LISTMODEL) unmarshaller.unmarshal(response.getResponseAsStream());
+				return (LISTMODEL) Unmarshallers.unmarshal(query.getListableModelClass(),
+					response.getResponseAsStream(), response.getContentType());
 			} catch (JAXBException e) {
 				throw new ClientException("Failed to unmarshal Hudson response. Original Request: "
 						+ query.getUrl(), e, response);
@@ -125,6 +127,56 @@ public class HudsonClient {
 		return null;
 	}
 
+	/**
+	 * Method to find the {@link Model} objects of multiple {@link Query} objects in a single request.
+	 * The queries are executed concurrently by the Hudson server using the <code>/apiv2/batch</code> endpoint.
+	 * 
+	 * @param queries the {@link List} of {@link Query} objects to execute, only GET queries are supported
+	 * @return the {@link List} of {@link Model} responses from the Hudson server in the same order as the queries,
+	 *         the entry of a query that failed is <code>null</code>, the whole list may be <code>null</code> in case
+	 *         of connection errors
+	 * @throws ClientException in case of unmarshalling exceptions
+	 * @since 4.5.0
+	 */
+	public List<Model> findBatch(List<? extends Query<?>> queries) throws ClientException {
+		if (queries.isEmpty()) {
+			return new ArrayList<Model>();
+		}
+		BatchQuery batch = BatchQuery.createForQueries(queries);
+		ConnectorResponse response = connector.execute(batch);
+		if (response != null) {
+			List<ConnectorResponse> parts;
+			try {
+				parts = response.getMultipartResponses();
+			} catch (ConnectionException e) {
+				throw new ClientException("Failed to parse the Hudson batch response. Original Request: "
+					+ batch.getUrl(), e, response);
+			}
+			List<Model> models = new ArrayList<Model>();
+			for (int index = 0; index < batch.getQueries().size(); index++) {
+				Query<?> query = batch.getQueries().get(index);
+				ConnectorResponse part = index < parts.size() ? parts.get(index) : null;
+				if (part == null || part.getStatusCode() < 200 || part.getStatusCode() >= 300) {
+					models.add(null);
+					continue;
+				}
+				Class<? extends Model> modelClass = query.getModelClass();
+				if (query instanceof ListableQuery<?, ?>) {
+					modelClass = ((ListableQuery<?, ?>) query).getListableModelClass();
+				}
+				try {
+					models.add((Model) Unmarshallers.unmarshal(modelClass, part.getResponseAsStream(),
+						part.getContentType()));
+				} catch (JAXBException e) {
+					throw new ClientException("Failed to unmarshal Hudson response. Original Request: "
+						+ query.getUrl(), e, part);
+				}
+			}
+			return models;
+		}
+		return null;
+	}
+
 	/**
 	 * Static method to create a {@link HudsonClient} for the unsecured host base-url given using a
 	 * Commons-HttpClient version 3 connector
@@ -31,6 +31,11 @@ public interface Connector {
 
 	int TIMEOUT_MS = 30000;
 
+	/**
+	 * The content encodings the connectors can decode
+	 */
+	String ACCEPT_ENCODING = "gzip, deflate";
+
 	/**
 	 * Method to execute a {@link Query} for a specific {@link Model} identified by the MODEL type
 	 * 
@@ -25,8 +25,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.StringUtils;
 
 /**
  * Response Object that is returned by a {@link Connector}
@@ -37,6 +42,7 @@ public final class ConnectorResponse {
 
 	private int statusCode;
 	private String reasonPhrase;
+	private String contentType;
 	private ByteArrayOutputStream outputStream;
 
 	/**
@@ -75,6 +81,26 @@ public final class ConnectorResponse {
 		this.reasonPhrase = reasonPhrase;
 	}
 
+	/**
+	 * Getter for contentType
+	 * 
+	 * @return the contentType, may be <code>null</code>
+	 * @since 4.5.0
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Setter for contentType
+	 * 
+	 * @param contentType the contentType to set
+	 * @since 4.5.0
+	 */
+	public void setContentType(String contentType) {
+		this.contentType = contentType;
+	}
+
 	/**
 	 * Copy the given {@link InputStream} response
 	 * 
@@ -90,6 +116,25 @@ public final class ConnectorResponse {
 		}
 	}
 
+	/**
+	 * Copy the given {@link InputStream} response, decoding it using the given content encoding
+	 * 
+	 * @param input the {@link InputStream} to copy
+	 * @param contentEncoding the content encoding of the response, may be <code>null</code>
+	 * @throws IOException in case of errors during the decoding or copying
+	 * @since 4.5.0
+	 */
+	public void setResponseAsStream(InputStream input, String contentEncoding) throws IOException {
+		String encoding = StringUtils.trimToEmpty(contentEncoding);
+		if ("gzip".equalsIgnoreCase(encoding) || "x-gzip".equalsIgnoreCase(encoding)) {
+			setResponseAsStream(new GZIPInputStream(input));
+		} else if ("deflate".equalsIgnoreCase(encoding)) {
+			setResponseAsStream(new InflaterInputStream(input));
+		} else {
+			setResponseAsStream(input);
+		}
+	}
+
 	/**
 	 * Get the response as a {@link InputStream}
 	 * 
@@ -108,4 +153,84 @@ public final class ConnectorResponse {
 		return new InputStreamReader(getResponseAsStream());
 	}
 
+	/**
+	 * Split a <code>multipart/mixed</code> response into the {@link ConnectorResponse} objects of the parts.
+	 * The status code of each part is taken from its <code>Status</code> header.
+	 * 
+	 * @return the {@link List} of {@link ConnectorResponse} parts
+	 * @throws ConnectionException in case the response is not a multipart response
+	 * @since 4.5.0
+	 */
+	public List<ConnectorResponse> getMultipartResponses() throws ConnectionException {
+		String boundary = StringUtils.substringBefore(StringUtils.substringAfter(contentType, "boundary="), ";");
+		if (StringUtils.isBlank(boundary)) {
+			throw new ConnectionException("The response is not a multipart response");
+		}
+		try {
+			byte[] bytes = outputStream.toByteArray();
+			byte[] delimiter = ("--" + StringUtils.strip(boundary.trim(), "\"")).getBytes("US-ASCII");
+			byte[] headerEnd = "\r\n\r\n".getBytes("US-ASCII");
+			List<ConnectorResponse> parts = new ArrayList<ConnectorResponse>();
+			int position = indexOf(bytes, delimiter, 0);
+			while (position > -1) {
+				position += delimiter.length;
+				if (position + 1 < bytes.length && bytes[position] == '-' && bytes[position + 1] == '-') {
+					// Reached the close delimiter
+					break;
+				}
+				int bodyStart = indexOf(bytes, headerEnd, position);
+				if (bodyStart < 0) {
+					break;
+				}
+				ConnectorResponse part = new ConnectorResponse();
+				int length = -1;
+				String headers = new String(bytes, position, bodyStart - position, "UTF-8").trim();
+				for (String header : StringUtils.split(headers, "\r\n")) {
+					String name = StringUtils.substringBefore(header, ":").trim();
+					String value = StringUtils.substringAfter(header, ":").trim();
+					if ("Status".equalsIgnoreCase(name)) {
+						part.setStatusCode(Integer.parseInt(StringUtils.substringBefore(value, " ")));
+					} else if ("Content-Type".equalsIgnoreCase(name)) {
+						part.setContentType(value);
+					} else if ("Content-Length".equalsIgnoreCase(name)) {
+						length = Integer.parseInt(value);
+					}
+				}
+				bodyStart += headerEnd.length;
+				if (length < 0) {
+					// No Content-Length header, the body ends at the CRLF before the next delimiter
+					length = Math.max(0, indexOf(bytes, delimiter, bodyStart) - 2 - bodyStart);
+				}
+				part.setResponseAsStream(new ByteArrayInputStream(bytes, bodyStart, length));
+				parts.add(part);
+				position = indexOf(bytes, delimiter, bodyStart + length);
+			}
+			return parts;
+		} catch (IOException e) {
+			throw new ConnectionException("Failed to parse the multipart response", e);
+		} catch (NumberFormatException e) {
+			throw new ConnectionException("Failed to parse the multipart response", e);
+		}
+	}
+
+	/**
+	 * Internal method to locate a byte sequence within a byte array
+	 * 
+	 * @param bytes the byte array to search in
+	 * @param sequence the byte sequence to locate
+	 * @param from the index to start searching from
+	 * @return the index of the sequence, <code>-1</code> if not found
+	 */
+	private static int indexOf(byte[] bytes, byte[] sequence, int from) {
+		outer: for (int index = Math.max(0, from); index <= bytes.length - sequence.length; index++) {
+			for (int offset = 0; offset < sequence.length; offset++) {
+				if (bytes[index + offset] != sequence[offset]) {
+					continue outer;
+				}
+			}
+			return index;
+		}
+		return -1;
+	}
+
 }
@@ -36,6 +36,8 @@ import org.apache.commons.httpclient.ProxyHost;
 import org.apache.commons.httpclient.UsernamePasswordCredentials;
 import org.apache.commons.httpclient.auth.AuthScope;
 import org.apache.commons.httpclient.methods.GetMethod;
+import org.apache.commons.httpclient.methods.PostMethod;
+import org.apache.commons.httpclient.methods.StringRequestEntity;
 import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
 import org.apache.commons.httpclient.util.URIUtil;
 import org.apache.commons.lang.StringUtils;
@@ -190,12 +192,13 @@ public class HttpClient3Connector implements Connector {
 	 */
 	@Override
 	public <MODEL extends Model> ConnectorResponse execute(Query<MODEL> query) {
-		GetMethod method = null;
+		HttpMethod method = null;
 		String url = null;
 		try {
 			url = server.getHost() + URIUtil.encodeQuery(query.getUrl());
-			method = new GetMethod(url);
+			method = createMethod(query, url);
 			method.setRequestHeader("Accept", query.getAcceptHeader());
+			method.setRequestHeader("Accept-Encoding", ACCEPT_ENCODING);
 			httpClient.executeMethod(method);
 			return getConnectorResponseFromMethod(method);
 		} catch (HttpException e) {
@@ -209,6 +212,31 @@ public class HttpClient3Connector implements Connector {
 		return null;
 	}
 
+	/**
+	 * Internal method to create the {@link HttpMethod} for the given {@link Query}
+	 * 
+	 * @param <MODEL> the {@link Model} that is requested in the {@link Query}
+	 * @param query the {@link Query} to create the method for
+	 * @param url the encoded url of the method
+	 * @return the {@link HttpMethod}
+	 * @throws IOException in case the data of the query cannot be encoded
+	 */
+	private <MODEL extends Model> HttpMethod createMethod(Query<MODEL> query, String url) throws IOException {
+		switch (query.getQueryType()) {
+		case POST:
+			PostMethod post = new PostMethod(url);
+			Object data = query.getData();
+			if (data != null) {
+				post.setRequestEntity(new StringRequestEntity(data.toString(), query.getContentType(), "UTF-8"));
+			}
+			return post;
+		case GET:
+			return new GetMethod(url);
+		default:
+			throw new ConnectionException("Unsupported query type " + query.getQueryType());
+		}
+	}
+
 	/**
 	 * Internal method to convert a {@link HttpMethod} into a {@link ConnectorResponse}
 	 * 
@@ -220,8 +248,15 @@ public class HttpClient3Connector implements Connector {
 		ConnectorResponse response = new ConnectorResponse();
 		response.setStatusCode(method.getStatusCode());
 		response.setReasonPhrase(method.getStatusText());
+		if (method.getResponseHeader("Content-Type") != null) {
+			response.setContentType(method.getResponseHeader("Content-Type").getValue());
+		}
 		try {
-			response.setResponseAsStream(method.getResponseBodyAsStream());
+			String contentEncoding = null;
+			if (method.getResponseHeader("Content-Encoding") != null) {
+				contentEncoding = method.getResponseHeader("Content-Encoding").getValue();
+			}
+			response.setResponseAsStream(method.getResponseBodyAsStream(), contentEncoding);
 		} catch (IOException e) {
 			throw new ConnectionException("Failed to copy the response stream", e);
 		}
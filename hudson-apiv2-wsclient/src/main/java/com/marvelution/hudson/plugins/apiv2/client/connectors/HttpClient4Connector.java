@@ -41,6 +41,9 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.StringEntity;
 import org.apache.http.client.protocol.ClientContext;
 import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.DefaultHttpClient;
@@ -80,15 +83,15 @@ public class HttpClient4Connector implements Connector {
 	@Override
 	public <MODEL extends Model> ConnectorResponse execute(Query<MODEL> query) {
 		DefaultHttpClient client = createClient();
-		HttpGet get = createGetMethod(query);
 		try {
+			HttpRequestBase request = createMethod(query);
 			HttpResponse response;
 			if (localContext != null) {
 				log.debug("Executing the query: " + query.getUrl() + " using the localContext with the credentials");
-				response = client.execute(get, localContext);
+				response = client.execute(request, localContext);
 			} else {
 				log.debug("Executing the query: " + query.getUrl());
-				response = client.execute(get);
+				response = client.execute(request);
 			}
 			HttpEntity entity = response.getEntity();
 			if (entity != null) {
@@ -103,18 +106,37 @@ public class HttpClient4Connector implements Connector {
 	}
 
 	/**
-	 * Method to create a {@link HttpGet}
+	 * Method to create a {@link HttpGet} or {@link HttpPost} depending on the {@link Query} type
 	 * 
 	 * @param <MODEL> the {@link Model} that is requested in the {@link Query}
 	 * @param query the {@link Query} to execute
-	 * @return the {@link HttpGet} object
+	 * @return the {@link HttpRequestBase} object
+	 * @throws IOException in case the data of the query cannot be encoded
 	 */
-	private <MODEL extends Model> HttpGet createGetMethod(Query<MODEL> query) {
-		HttpGet get = new HttpGet(server.getHost() + query.getUrl());
-		get.setHeader("Accept", query.getAcceptHeader());
-		get.getParams().setParameter("http.connection.timeout", TIMEOUT_MS);
-		get.getParams().setParameter("http.socket.timeout", TIMEOUT_MS);
-		return get;
+	private <MODEL extends Model> HttpRequestBase createMethod(Query<MODEL> query) throws IOException {
+		HttpRequestBase request;
+		switch (query.getQueryType()) {
+		case POST:
+			HttpPost post = new HttpPost(server.getHost() + query.getUrl());
+			Object data = query.getData();
+			if (data != null) {
+				StringEntity entity = new StringEntity(data.toString(), "UTF-8");
+				entity.setContentType(query.getContentType() + "; charset=UTF-8");
+				post.setEntity(entity);
+			}
+			request = post;
+			break;
+		case GET:
+			request = new HttpGet(server.getHost() + query.getUrl());
+			break;
+		default:
+			throw new ConnectionException("Unsupported query type " + query.getQueryType());
+		}
+		request.setHeader("Accept", query.getAcceptHeader());
+		request.setHeader("Accept-Encoding", ACCEPT_ENCODING);
+		request.getParams().setParameter("http.connection.timeout", TIMEOUT_MS);
+		request.getParams().setParameter("http.socket.timeout", TIMEOUT_MS);
+		return request;
 	}
 
 	/**
@@ -183,8 +205,15 @@ public class HttpClient4Connector implements Connector {
 		ConnectorResponse response = new ConnectorResponse();
 		response.setStatusCode(httpResponse.getStatusLine().getStatusCode());
 		response.setReasonPhrase(httpResponse.getStatusLine().getReasonPhrase());
+		if (httpResponse.getEntity().getContentType() != null) {
+			response.setContentType(httpResponse.getEntity().getContentType().getValue());
+		}
 		try {
-			response.setResponseAsStream(httpResponse.getEntity().getContent());
+			String contentEncoding = null;
+			if (httpResponse.getEntity().getContentEncoding() != null) {
+				contentEncoding = httpResponse.getEntity().getContentEncoding().getValue();
+			}
+			response.setResponseAsStream(httpResponse.getEntity().getContent(), contentEncoding);
 		} catch (Exception e) {
 			throw new ConnectionException("Failed to copy the response stream", e);
 		}
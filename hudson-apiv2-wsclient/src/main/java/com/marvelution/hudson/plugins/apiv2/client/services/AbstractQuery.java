@@ -21,7 +21,9 @@ package com.marvelution.hudson.plugins.apiv2.client.services;
 
 import org.apache.commons.codec.EncoderException;
 
+import com.marvelution.hudson.plugins.apiv2.client.unmarshallers.Unmarshallers;
 import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.MediaTypeUtils;
 
 /**
  * Abstract {@link Query} implementation
@@ -49,7 +51,7 @@ public abstract class AbstractQuery<MODEL extends Model> implements Query<MODEL>
 	 * {@inheritDoc}
 	 */
 	@Override
-	public final QueryType getQueryType() {
+	public QueryType getQueryType() {
 		return type;
 	}
 
@@ -70,11 +72,24 @@ public abstract class AbstractQuery<MODEL extends Model> implements Query<MODEL>
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getContentType() {
+		// Default implementation for the Queries. Data is send as plain text unless specified otherwise
+		return "text/plain";
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public String getAcceptHeader() {
+		if (Unmarshallers.isFastInfosetSupported()) {
+			// Prefer the compact binary encoding, but let servers without it fall back to plain XML
+			return MediaTypeUtils.APPLICATION_FASTINFOSET + ", application/xml;q=0.9";
+		}
 		return "application/xml";
 	}
 
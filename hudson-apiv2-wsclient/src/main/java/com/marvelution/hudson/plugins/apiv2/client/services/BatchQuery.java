@@ -0,0 +1,94 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.client.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+
+/**
+ * {@link Query} implementation to execute multiple {@link Query} objects in a single request
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class BatchQuery extends AbstractQuery<Model> {
+
+	private final List<Query<?>> queries;
+
+	/**
+	 * Private constructor to force the use of the static method below
+	 * 
+	 * @param queries the {@link Query} objects to execute
+	 */
+	private BatchQuery(List<? extends Query<?>> queries) {
+		super(Model.class, QueryType.POST);
+		this.queries = Collections.unmodifiableList(new ArrayList<Query<?>>(queries));
+	}
+
+	/**
+	 * Getter for the {@link Query} objects within this batch
+	 * 
+	 * @return the {@link List} of {@link Query} objects
+	 */
+	public List<Query<?>> getQueries() {
+		return queries;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T getData() {
+		final StringBuilder data = new StringBuilder();
+		for (Query<?> query : queries) {
+			data.append(query.getUrl()).append("\n");
+		}
+		return (T) data.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getSpecificUrl() {
+		return "batch";
+	}
+
+	/**
+	 * Method to create a {@link BatchQuery} for the given {@link Query} objects
+	 * 
+	 * @param queries the {@link Query} objects to execute in one request, only GET queries are supported
+	 * @return the {@link BatchQuery}
+	 */
+	public static BatchQuery createForQueries(List<? extends Query<?>> queries) {
+		for (Query<?> query : queries) {
+			if (query.getQueryType() != QueryType.GET) {
+				throw new IllegalArgumentException("Only GET queries can be executed in a batch");
+			}
+		}
+		return new BatchQuery(queries);
+	}
+
+}
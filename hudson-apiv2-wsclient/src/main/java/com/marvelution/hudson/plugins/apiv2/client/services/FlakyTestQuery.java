@@ -0,0 +1,128 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.client.services;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.FlakyTest;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.FlakyTests;
+
+/**
+ * {@link Query} implementation for the ranked {@link FlakyTests} of jobs and views
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class FlakyTestQuery extends AbstractListableQuery<FlakyTest, FlakyTests> {
+
+	private String jobName;
+	private String viewName;
+	private String[] jobNames;
+	private int minFlips = 2;
+	private int limit = 25;
+
+	/**
+	 * Private constructor to force the use of the static methods below
+	 */
+	private FlakyTestQuery() {
+		super(FlakyTest.class, FlakyTests.class, QueryType.GET);
+	}
+
+	/**
+	 * Setter for minFlips
+	 * 
+	 * @param minFlips the minimum number of times the outcome of a test must have changed
+	 * @return this {@link FlakyTestQuery}
+	 */
+	public FlakyTestQuery setMinFlips(int minFlips) {
+		this.minFlips = minFlips;
+		return this;
+	}
+
+	/**
+	 * Setter for limit
+	 * 
+	 * @param limit the maximum number of tests to get
+	 * @return this {@link FlakyTestQuery}
+	 */
+	public FlakyTestQuery setLimit(int limit) {
+		this.limit = limit;
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getSpecificUrl() {
+		final StringBuilder url = new StringBuilder();
+		url.append("flaky");
+		if (jobName != null) {
+			url.append("/").append(urlEncode(jobName)).append("?");
+		} else {
+			url.append("?");
+			if (viewName != null) {
+				addUrlParameter(url, "view", viewName);
+			}
+			if (jobNames != null) {
+				addUrlParameter(url, "job", jobNames);
+			}
+		}
+		addUrlParameter(url, "minFlips", Integer.valueOf(minFlips));
+		addUrlParameter(url, "limit", Integer.valueOf(limit));
+		return url.toString();
+	}
+
+	/**
+	 * Method to create a {@link FlakyTestQuery} to get the flaky tests of a single job
+	 * 
+	 * @param jobName the name of the job
+	 * @return the {@link FlakyTestQuery}
+	 */
+	public static FlakyTestQuery createForJob(String jobName) {
+		FlakyTestQuery query = new FlakyTestQuery();
+		query.jobName = jobName;
+		return query;
+	}
+
+	/**
+	 * Method to create a {@link FlakyTestQuery} to get the flaky tests of all the jobs in a view
+	 * 
+	 * @param viewName the name of the view
+	 * @return the {@link FlakyTestQuery}
+	 */
+	public static FlakyTestQuery createForView(String viewName) {
+		FlakyTestQuery query = new FlakyTestQuery();
+		query.viewName = viewName;
+		return query;
+	}
+
+	/**
+	 * Method to create a {@link FlakyTestQuery} to get the flaky tests of the given jobs
+	 * 
+	 * @param jobNames the names of the jobs
+	 * @return the {@link FlakyTestQuery}
+	 */
+	public static FlakyTestQuery createForJobs(String... jobNames) {
+		FlakyTestQuery query = new FlakyTestQuery();
+		query.jobNames = jobNames;
+		return query;
+	}
+
+}
@@ -34,6 +34,8 @@ public class JobQuery extends AbstractListableQuery<Job, Jobs> {
 	private String name = null;
 	private JobQueryType type;
 	private boolean includeAllBuilds = false;
+	private String prefix = null;
+	private int limit = 20;
 
 	/**
 	 * Private constructor to force the use of the static method below
@@ -67,6 +69,50 @@ public class JobQuery extends AbstractListableQuery<Job, Jobs> {
 		return this;
 	}
 
+	/**
+	 * Getter for the prefix
+	 * 
+	 * @return the prefix
+	 * @since 4.5.0
+	 */
+	public String getPrefix() {
+		return prefix;
+	}
+
+	/**
+	 * Setter for the prefix
+	 * 
+	 * @param prefix the prefix to set
+	 * @return this {@link JobQuery}
+	 * @since 4.5.0
+	 */
+	private JobQuery setPrefix(String prefix) {
+		this.prefix = prefix;
+		return this;
+	}
+
+	/**
+	 * Getter for the limit
+	 * 
+	 * @return the limit
+	 * @since 4.5.0
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Setter for the limit
+	 * 
+	 * @param limit the limit to set
+	 * @return this {@link JobQuery}
+	 * @since 4.5.0
+	 */
+	private JobQuery setLimit(int limit) {
+		this.limit = limit;
+		return this;
+	}
+
 	/**
 	 * Getter for type
 	 * 
@@ -96,6 +142,12 @@ public class JobQuery extends AbstractListableQuery<Job, Jobs> {
 			}
 		} else if (JobQueryType.ALL.equals(getType())) {
 			url.append("/all?");
+		} else if (JobQueryType.SUGGEST.equals(getType())) {
+			url.append("/suggest?");
+			if (prefix != null) {
+				addUrlParameter(url, "prefix", prefix);
+			}
+			addUrlParameter(url, "limit", limit);
 		}
 		if (includeAllBuilds) {
 			addUrlParameter(url, "includeAllBuilds", true);
@@ -155,13 +207,26 @@ public class JobQuery extends AbstractListableQuery<Job, Jobs> {
 		return new JobQuery(JobQueryType.ALL, includeAllBuilds);
 	}
 
+	/**
+	 * Method to create a {@link JobQuery} that will result in a {@link List} of {@link Job} objects, with minimal
+	 * {@link Job} data, of which the name or one of the name segments starts with the given prefix
+	 * 
+	 * @param prefix the prefix of the Job names, case insensitive
+	 * @param limit the maximum number of {@link Job} objects to return
+	 * @return the {@link JobQuery}
+	 * @since 4.5.0
+	 */
+	public static JobQuery createForJobSuggestions(String prefix, int limit) {
+		return new JobQuery(JobQueryType.SUGGEST, false).setPrefix(prefix).setLimit(limit);
+	}
+
 	/**
 	 * Enumeration of the different Joq QueryTypes supported
 	 * 
 	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
 	 */
 	private static enum JobQueryType {
-		SPECIFIC, LIST, ALL, STATUS, NAME_ONLY;
+		SPECIFIC, LIST, ALL, STATUS, NAME_ONLY, SUGGEST;
 	}
 
 }
@@ -60,6 +60,14 @@ public interface Query<MODEL extends Model> {
 	 */
 	<T> T getData();
 
+	/**
+	 * Get the content type of the data of the query, usually used in POST and PUT queries
+	 * 
+	 * @return the content type of the data
+	 * @since 4.5.0
+	 */
+	String getContentType();
+
 	/**
 	 * Getter for the Accept header
 	 * 
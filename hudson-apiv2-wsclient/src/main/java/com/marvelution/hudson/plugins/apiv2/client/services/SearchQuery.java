@@ -19,6 +19,7 @@
 
 package com.marvelution.hudson.plugins.apiv2.client.services;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.apache.commons.lang.StringUtils;
@@ -27,6 +28,13 @@ import com.marvelution.hudson.plugins.apiv2.resources.model.ListableModel;
 import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Build;
 import com.marvelution.hudson.plugins.apiv2.resources.model.build.Builds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueBuilds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueCommit;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueCommits;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueFirstBuild;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssueFirstBuilds;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.IssuesBuilds;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.IssueKeysBodyUtils;
 
 /**
  * Base SearchQuery implementation
@@ -36,6 +44,13 @@ import com.marvelution.hudson.plugins.apiv2.resources.model.build.Builds;
 public abstract class SearchQuery<MODEL extends Model, LISTMODEL extends ListableModel<MODEL>>
 		extends AbstractListableQuery<MODEL, LISTMODEL> {
 
+	/**
+	 * The maximum length of the key parameters in a GET query, searches for more keys are POSTed
+	 * 
+	 * @since 4.5.0
+	 */
+	public static final int MAX_GET_KEYS_LENGTH = 2048;
+
 	/**
 	 * Constructor
 	 * 
@@ -71,6 +86,25 @@ public abstract class SearchQuery<MODEL extends Model, LISTMODEL extends Listabl
 	 */
 	protected abstract void addParameters(StringBuilder url);
 
+	/**
+	 * Internal method to check if the given keys are too long to add as URL parameters
+	 * 
+	 * @param keys the keys to check
+	 * @return <code>true</code> if the keys must be POSTed
+	 * @since 4.5.0
+	 */
+	protected static boolean isPostRequired(String[] keys) {
+		int length = 0;
+		for (String key : keys) {
+			// Every key is added as key[]=<key>&
+			length += key.length() + 7;
+			if (length > MAX_GET_KEYS_LENGTH) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Build {@link SearchQuery} implementation that searches by Issue keys
 	 * 
@@ -82,6 +116,9 @@ public abstract class SearchQuery<MODEL extends Model, LISTMODEL extends Listabl
 
 		private String[] keys;
 		private String job;
+		private boolean summary = false;
+		private int limit = 0;
+		private long since = 0L;
 
 		/**
 		 * Constructor
@@ -95,6 +132,96 @@ public abstract class SearchQuery<MODEL extends Model, LISTMODEL extends Listabl
 			this.job = job;
 		}
 
+		/**
+		 * Getter for summary
+		 * 
+		 * @return the summary flag
+		 * @since 4.5.0
+		 */
+		public boolean isSummary() {
+			return summary;
+		}
+
+		/**
+		 * Setter for summary, if set only the job name, number, result, timestamp and duration of the builds are
+		 * returned, which Hudson can serve without loading the builds from disk
+		 * 
+		 * @param summary the summary flag to set
+		 * @return this {@link IssueSearchQuery}
+		 * @since 4.5.0
+		 */
+		public IssueSearchQuery setSummary(boolean summary) {
+			this.summary = summary;
+			return this;
+		}
+
+		/**
+		 * Getter for limit
+		 * 
+		 * @return the maximum number of builds to get
+		 * @since 4.5.0
+		 */
+		public int getLimit() {
+			return limit;
+		}
+
+		/**
+		 * Setter for limit, only the given number of most recent builds are returned
+		 * 
+		 * @param limit the maximum number of builds to get, <code>0</code> for all the builds
+		 * @return this {@link IssueSearchQuery}
+		 * @since 4.5.0
+		 */
+		public IssueSearchQuery setLimit(int limit) {
+			this.limit = limit;
+			return this;
+		}
+
+		/**
+		 * Getter for since
+		 * 
+		 * @return the timestamp the builds must be started on or after
+		 * @since 4.5.0
+		 */
+		public long getSince() {
+			return since;
+		}
+
+		/**
+		 * Setter for since, only the builds started on or after the given timestamp are returned
+		 * 
+		 * @param since the timestamp, <code>0</code> for all the builds
+		 * @return this {@link IssueSearchQuery}
+		 * @since 4.5.0
+		 */
+		public IssueSearchQuery setSince(long since) {
+			this.since = since;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public QueryType getQueryType() {
+			if (isPostRequired(keys)) {
+				return QueryType.POST;
+			}
+			return super.getQueryType();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getData() {
+			if (isPostRequired(keys)) {
+				return (T) IssueKeysBodyUtils.encode(Arrays.asList(keys));
+			}
+			return null;
+		}
+
 		/**
 		 * {@inheritDoc}
 		 */
@@ -103,6 +230,183 @@ public abstract class SearchQuery<MODEL extends Model, LISTMODEL extends Listabl
 			return "issues";
 		}
 
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void addParameters(StringBuilder url) {
+			if (!isPostRequired(keys)) {
+				addUrlParameter(url, "key", keys);
+			}
+			if (StringUtils.isNotBlank(job)) {
+				addUrlParameter(url, "jobname", job);
+			}
+			if (summary) {
+				addUrlParameter(url, "summary", Boolean.TRUE);
+			}
+			if (limit > 0) {
+				addUrlParameter(url, "limit", Integer.valueOf(limit));
+			}
+			if (since > 0L) {
+				addUrlParameter(url, "since", Long.valueOf(since));
+			}
+		}
+
+	}
+
+	/**
+	 * Build {@link SearchQuery} implementation that searches by Issue keys and returns the builds grouped by the
+	 * issue key they are related to
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 *
+	 * @since 4.5.0
+	 */
+	public static class IssueGroupedSearchQuery extends SearchQuery<IssueBuilds, IssuesBuilds> {
+
+		private String[] keys;
+		private String job;
+		private boolean summary = false;
+		private boolean latestPerJob = false;
+
+		/**
+		 * Constructor
+		 *
+		 * @param keys the issue and/or project keys to search for
+		 * @param job the job name to limit the search within, may be <code>null</code>
+		 */
+		protected IssueGroupedSearchQuery(String[] keys, String job) {
+			super(IssueBuilds.class, IssuesBuilds.class);
+			this.keys = keys;
+			this.job = job;
+		}
+
+		/**
+		 * Getter for summary
+		 * 
+		 * @return the summary flag
+		 */
+		public boolean isSummary() {
+			return summary;
+		}
+
+		/**
+		 * Setter for summary, if set only the job name, number, result, timestamp and duration of the builds are
+		 * returned, which Hudson can serve without loading the builds from disk
+		 * 
+		 * @param summary the summary flag to set
+		 * @return this {@link IssueGroupedSearchQuery}
+		 */
+		public IssueGroupedSearchQuery setSummary(boolean summary) {
+			this.summary = summary;
+			return this;
+		}
+
+		/**
+		 * Getter for latestPerJob
+		 * 
+		 * @return the latestPerJob flag
+		 */
+		public boolean isLatestPerJob() {
+			return latestPerJob;
+		}
+
+		/**
+		 * Setter for latestPerJob, if set only the latest build of each job is returned per issue
+		 * 
+		 * @param latestPerJob the latestPerJob flag to set
+		 * @return this {@link IssueGroupedSearchQuery}
+		 */
+		public IssueGroupedSearchQuery setLatestPerJob(boolean latestPerJob) {
+			this.latestPerJob = latestPerJob;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public QueryType getQueryType() {
+			if (isPostRequired(keys)) {
+				return QueryType.POST;
+			}
+			return super.getQueryType();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getData() {
+			if (isPostRequired(keys)) {
+				return (T) IssueKeysBodyUtils.encode(Arrays.asList(keys));
+			}
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected String getSearchMethod() {
+			return "issues/grouped";
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void addParameters(StringBuilder url) {
+			if (!isPostRequired(keys)) {
+				addUrlParameter(url, "key", keys);
+			}
+			if (StringUtils.isNotBlank(job)) {
+				addUrlParameter(url, "jobname", job);
+			}
+			if (summary) {
+				addUrlParameter(url, "summary", Boolean.TRUE);
+			}
+			if (latestPerJob) {
+				addUrlParameter(url, "latestPerJob", Boolean.TRUE);
+			}
+		}
+
+	}
+
+	/**
+	 * {@link SearchQuery} implementation that gets the commits related to Issue keys, with the build each commit was
+	 * first seen in
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 *
+	 * @since 4.5.0
+	 */
+	public static class IssueCommitSearchQuery extends SearchQuery<IssueCommit, IssueCommits> {
+
+		private String[] keys;
+		private String job;
+
+		/**
+		 * Constructor
+		 *
+		 * @param keys the issue keys to get the commits of
+		 * @param job the job name to limit the search within, may be <code>null</code>
+		 */
+		protected IssueCommitSearchQuery(String[] keys, String job) {
+			super(IssueCommit.class, IssueCommits.class);
+			this.keys = keys;
+			this.job = job;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected String getSearchMethod() {
+			return "commits";
+		}
+
 		/**
 		 * {@inheritDoc}
 		 */
@@ -116,6 +420,76 @@ public abstract class SearchQuery<MODEL extends Model, LISTMODEL extends Listabl
 
 	}
 
+	/**
+	 * {@link SearchQuery} implementation that gets the first build of each job that contained the Issue keys
+	 * 
+	 * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+	 *
+	 * @since 4.5.0
+	 */
+	public static class IssueFirstBuildSearchQuery extends SearchQuery<IssueFirstBuild, IssueFirstBuilds> {
+
+		private String[] keys;
+		private String job;
+
+		/**
+		 * Constructor
+		 *
+		 * @param keys the issue keys to get the first builds of
+		 * @param job the job name to limit the search within, may be <code>null</code>
+		 */
+		protected IssueFirstBuildSearchQuery(String[] keys, String job) {
+			super(IssueFirstBuild.class, IssueFirstBuilds.class);
+			this.keys = keys;
+			this.job = job;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public QueryType getQueryType() {
+			if (isPostRequired(keys)) {
+				return QueryType.POST;
+			}
+			return super.getQueryType();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getData() {
+			if (isPostRequired(keys)) {
+				return (T) IssueKeysBodyUtils.encode(Arrays.asList(keys));
+			}
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected String getSearchMethod() {
+			return "first";
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void addParameters(StringBuilder url) {
+			if (!isPostRequired(keys)) {
+				addUrlParameter(url, "key", keys);
+			}
+			if (StringUtils.isNotBlank(job)) {
+				addUrlParameter(url, "jobname", job);
+			}
+		}
+
+	}
+
 	/**
 	 * Method to create a {@link IssueSearchQuery} that will search in all the builds
 	 * 
@@ -160,4 +534,54 @@ public abstract class SearchQuery<MODEL extends Model, LISTMODEL extends Listabl
 		return new IssueSearchQuery(query.toArray(new String[query.size()]), jobName);
 	}
 
+	/**
+	 * Method to create a {@link IssueGroupedSearchQuery} that will search in all the builds
+	 * 
+	 * @param query the query {@link String} {@link Collection} to search for
+	 * @return the {@link IssueGroupedSearchQuery}
+	 * @since 4.5.0
+	 */
+	public static IssueGroupedSearchQuery createForGroupedIssueSearch(Collection<String> query) {
+		return createForGroupedIssueSearch(query, null);
+	}
+
+	/**
+	 * Method to create a {@link IssueGroupedSearchQuery} that will search in all the builds of a specific Hudson Job
+	 * given by name
+	 * 
+	 * @param query the query {@link String} {@link Collection} to search for
+	 * @param jobName the Job name of the specific Hudson job, may be <code>null</code>
+	 * @return the {@link IssueGroupedSearchQuery}
+	 * @since 4.5.0
+	 */
+	public static IssueGroupedSearchQuery createForGroupedIssueSearch(Collection<String> query, String jobName) {
+		return new IssueGroupedSearchQuery(query.toArray(new String[query.size()]), jobName);
+	}
+
+	/**
+	 * Method to create a {@link IssueCommitSearchQuery} that will get the commits of the given issues
+	 * 
+	 * @param issueKeys the issue keys {@link String} {@link Collection} to get the commits of
+	 * @param jobName the Job name of the specific Hudson job, may be <code>null</code>
+	 * @return the {@link IssueCommitSearchQuery}
+	 * @since 4.5.0
+	 */
+	public static IssueCommitSearchQuery createForIssueCommitSearch(Collection<String> issueKeys, String jobName) {
+		return new IssueCommitSearchQuery(issueKeys.toArray(new String[issueKeys.size()]), jobName);
+	}
+
+	/**
+	 * Method to create a {@link IssueFirstBuildSearchQuery} that will get the first build of each job that contained
+	 * the given issues, large batches of issue keys are POSTed
+	 * 
+	 * @param issueKeys the issue keys {@link String} {@link Collection} to get the first builds of
+	 * @param jobName the Job name of the specific Hudson job, may be <code>null</code>
+	 * @return the {@link IssueFirstBuildSearchQuery}
+	 * @since 4.5.0
+	 */
+	public static IssueFirstBuildSearchQuery createForIssueFirstBuildSearch(Collection<String> issueKeys,
+					String jobName) {
+		return new IssueFirstBuildSearchQuery(issueKeys.toArray(new String[issueKeys.size()]), jobName);
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.client.services;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatistics;
+
+/**
+ * {@link Query} implementation for the merged {@link JobStatistics} of jobs, views and groups of jobs
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class StatisticsQuery extends AbstractQuery<JobStatistics> {
+
+	private String jobName;
+	private String viewName;
+	private String group;
+	private String[] jobNames;
+
+	/**
+	 * Private constructor to force the use of the static methods below
+	 */
+	private StatisticsQuery() {
+		super(JobStatistics.class, QueryType.GET);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getSpecificUrl() {
+		final StringBuilder url = new StringBuilder();
+		url.append("statistics");
+		if (jobName != null) {
+			url.append("/").append(urlEncode(jobName));
+		} else {
+			url.append("?");
+			if (viewName != null) {
+				addUrlParameter(url, "view", viewName);
+			}
+			if (group != null) {
+				addUrlParameter(url, "group", group);
+			}
+			if (jobNames != null) {
+				addUrlParameter(url, "job", jobNames);
+			}
+		}
+		return url.toString();
+	}
+
+	/**
+	 * Method to create a {@link StatisticsQuery} to get the statistics of a single job
+	 * 
+	 * @param jobName the name of the job
+	 * @return the {@link StatisticsQuery}
+	 */
+	public static StatisticsQuery createForJob(String jobName) {
+		StatisticsQuery query = new StatisticsQuery();
+		query.jobName = jobName;
+		return query;
+	}
+
+	/**
+	 * Method to create a {@link StatisticsQuery} to get the merged statistics of all the jobs in a view
+	 * 
+	 * @param viewName the name of the view
+	 * @return the {@link StatisticsQuery}
+	 */
+	public static StatisticsQuery createForView(String viewName) {
+		StatisticsQuery query = new StatisticsQuery();
+		query.viewName = viewName;
+		return query;
+	}
+
+	/**
+	 * Method to create a {@link StatisticsQuery} to get the merged statistics of a group of jobs, like a Maven
+	 * module set and its modules
+	 * 
+	 * @param group the full name of the group
+	 * @return the {@link StatisticsQuery}
+	 */
+	public static StatisticsQuery createForGroup(String group) {
+		StatisticsQuery query = new StatisticsQuery();
+		query.group = group;
+		return query;
+	}
+
+	/**
+	 * Method to create a {@link StatisticsQuery} to get the merged statistics of the given jobs
+	 * 
+	 * @param jobNames the names of the jobs
+	 * @return the {@link StatisticsQuery}
+	 */
+	public static StatisticsQuery createForJobs(String... jobNames) {
+		StatisticsQuery query = new StatisticsQuery();
+		query.jobNames = jobNames;
+		return query;
+	}
+
+}
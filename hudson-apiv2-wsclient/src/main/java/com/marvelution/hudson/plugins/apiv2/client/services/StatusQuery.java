@@ -0,0 +1,94 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.client.services;
+
+import java.util.Collection;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatus;
+import com.marvelution.hudson.plugins.apiv2.resources.model.job.JobStatuses;
+
+/**
+ * {@link Query} implementation for {@link JobStatus} objects
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class StatusQuery extends AbstractListableQuery<JobStatus, JobStatuses> {
+
+	private String viewName = null;
+	private String[] jobNames = new String[0];
+
+	/**
+	 * Private constructor to force the use of the static methods below
+	 * 
+	 * @param viewName the name of the view, may be <code>null</code>
+	 * @param jobNames the names of the jobs
+	 */
+	private StatusQuery(String viewName, String[] jobNames) {
+		super(JobStatus.class, JobStatuses.class, QueryType.GET);
+		this.viewName = viewName;
+		this.jobNames = jobNames;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getSpecificUrl() {
+		final StringBuilder url = new StringBuilder();
+		url.append("status?");
+		if (viewName != null) {
+			addUrlParameter(url, "view", viewName);
+		}
+		addUrlParameter(url, "job", jobNames);
+		return url.toString();
+	}
+
+	/**
+	 * Method to create a {@link StatusQuery} to get the status of all the jobs in a view
+	 * 
+	 * @param viewName the name of the view
+	 * @return the {@link StatusQuery}
+	 */
+	public static StatusQuery createForView(String viewName) {
+		return new StatusQuery(viewName, new String[0]);
+	}
+
+	/**
+	 * Method to create a {@link StatusQuery} to get the status of the given jobs
+	 * 
+	 * @param jobNames the names of the jobs
+	 * @return the {@link StatusQuery}
+	 */
+	public static StatusQuery createForJobs(Collection<String> jobNames) {
+		return new StatusQuery(null, jobNames.toArray(new String[jobNames.size()]));
+	}
+
+	/**
+	 * Method to create a {@link StatusQuery} to get the status of all the jobs on the Hudson server
+	 * 
+	 * @return the {@link StatusQuery}
+	 */
+	public static StatusQuery createForAllJobs() {
+		return new StatusQuery(null, new String[0]);
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.client.services;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.TestCaseResult;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.TestCaseResults;
+
+/**
+ * {@link Query} implementation for a page of the {@link TestCaseResult}s of a build
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class TestCaseQuery extends AbstractListableQuery<TestCaseResult, TestCaseResults> {
+
+	/**
+	 * Status of test cases that passed
+	 */
+	public static final String PASSED = "passed";
+
+	/**
+	 * Status of test cases that failed
+	 */
+	public static final String FAILED = "failed";
+
+	/**
+	 * Status of test cases that were skipped
+	 */
+	public static final String SKIPPED = "skipped";
+
+	private final String jobName;
+	private final int buildNumber;
+	private String status;
+	private String className;
+	private String testName;
+	private int offset = 0;
+	private int count = 100;
+
+	/**
+	 * Private constructor to force the use of the static methods below
+	 * 
+	 * @param jobName the name of the job
+	 * @param buildNumber the number of the build
+	 */
+	private TestCaseQuery(String jobName, int buildNumber) {
+		super(TestCaseResult.class, TestCaseResults.class, QueryType.GET);
+		this.jobName = jobName;
+		this.buildNumber = buildNumber;
+	}
+
+	/**
+	 * Setter for status
+	 * 
+	 * @param status the status of the test cases to get, see {@link #PASSED}, {@link #FAILED} and {@link #SKIPPED}
+	 * @return this {@link TestCaseQuery}
+	 */
+	public TestCaseQuery setStatus(String status) {
+		this.status = status;
+		return this;
+	}
+
+	/**
+	 * Setter for className
+	 * 
+	 * @param className the class name or package name of the test cases to get
+	 * @return this {@link TestCaseQuery}
+	 */
+	public TestCaseQuery setClassName(String className) {
+		this.className = className;
+		return this;
+	}
+
+	/**
+	 * Setter for testName
+	 * 
+	 * @param testName the name of the test cases to get
+	 * @return this {@link TestCaseQuery}
+	 */
+	public TestCaseQuery setTestName(String testName) {
+		this.testName = testName;
+		return this;
+	}
+
+	/**
+	 * Setter for offset
+	 * 
+	 * @param offset the number of matching test cases to skip
+	 * @return this {@link TestCaseQuery}
+	 */
+	public TestCaseQuery setOffset(int offset) {
+		this.offset = offset;
+		return this;
+	}
+
+	/**
+	 * Setter for count
+	 * 
+	 * @param count the number of test cases to get, the server returns at most 1000
+	 * @return this {@link TestCaseQuery}
+	 */
+	public TestCaseQuery setCount(int count) {
+		this.count = count;
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getSpecificUrl() {
+		final StringBuilder url = new StringBuilder();
+		url.append("builds/").append(urlEncode(jobName)).append("/").append(buildNumber).append("/tests?");
+		if (status != null) {
+			addUrlParameter(url, "status", status);
+		}
+		if (className != null) {
+			addUrlParameter(url, "class", className);
+		}
+		if (testName != null) {
+			addUrlParameter(url, "name", testName);
+		}
+		addUrlParameter(url, "offset", Integer.valueOf(offset));
+		addUrlParameter(url, "count", Integer.valueOf(count));
+		return url.toString();
+	}
+
+	/**
+	 * Method to create a {@link TestCaseQuery} to get the test cases of a build
+	 * 
+	 * @param jobName the name of the job
+	 * @param buildNumber the number of the build
+	 * @return the {@link TestCaseQuery}
+	 */
+	public static TestCaseQuery createForBuild(String jobName, int buildNumber) {
+		return new TestCaseQuery(jobName, buildNumber);
+	}
+
+	/**
+	 * Method to create a {@link TestCaseQuery} to get the failed test cases of a build
+	 * 
+	 * @param jobName the name of the job
+	 * @param buildNumber the number of the build
+	 * @return the {@link TestCaseQuery}
+	 */
+	public static TestCaseQuery createForFailedTests(String jobName, int buildNumber) {
+		return new TestCaseQuery(jobName, buildNumber).setStatus(FAILED);
+	}
+
+}
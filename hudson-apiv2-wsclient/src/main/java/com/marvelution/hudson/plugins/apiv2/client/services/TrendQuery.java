@@ -0,0 +1,128 @@
+/*
+ * Licensed to Marvelution under one or more contributor license 
+ * agreements.  See the NOTICE file distributed with this work 
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.client.services;
+
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.Trend;
+import com.marvelution.hudson.plugins.apiv2.resources.model.build.TrendPoint;
+
+/**
+ * {@link Query} implementation for the build {@link Trend} of a job
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ * 
+ * @since 4.5.0
+ */
+public class TrendQuery extends AbstractListableQuery<TrendPoint, Trend> {
+
+	/**
+	 * Downsample the trend using the build durations
+	 */
+	public static final String DURATION_METRIC = "duration";
+
+	/**
+	 * Downsample the trend using the total number of tests
+	 */
+	public static final String TESTS_METRIC = "tests";
+
+	/**
+	 * Downsample the trend using the number of failed tests
+	 */
+	public static final String FAILED_METRIC = "failed";
+
+	private final String jobName;
+	private int points = 0;
+	private String metric = DURATION_METRIC;
+
+	/**
+	 * Private constructor to force the use of the static method below
+	 * 
+	 * @param jobName the name of the job
+	 */
+	private TrendQuery(String jobName) {
+		super(TrendPoint.class, Trend.class, QueryType.GET);
+		this.jobName = jobName;
+	}
+
+	/**
+	 * Getter for points
+	 * 
+	 * @return the maximum number of points
+	 */
+	public int getPoints() {
+		return points;
+	}
+
+	/**
+	 * Setter for points, the trend is downsampled on the server if it holds more points
+	 * 
+	 * @param points the maximum number of points, <code>0</code> for all the points
+	 * @return this {@link TrendQuery}
+	 */
+	public TrendQuery setPoints(int points) {
+		this.points = points;
+		return this;
+	}
+
+	/**
+	 * Getter for metric
+	 * 
+	 * @return the metric used to downsample the trend
+	 */
+	public String getMetric() {
+		return metric;
+	}
+
+	/**
+	 * Setter for metric
+	 * 
+	 * @param metric the metric used to downsample the trend, see {@link #DURATION_METRIC}, {@link #TESTS_METRIC}
+	 * 			and {@link #FAILED_METRIC}
+	 * @return this {@link TrendQuery}
+	 */
+	public TrendQuery setMetric(String metric) {
+		this.metric = metric;
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getSpecificUrl() {
+		final StringBuilder url = new StringBuilder();
+		url.append("trends/").append(urlEncode(jobName)).append("?");
+		if (points > 0) {
+			addUrlParameter(url, "points", Integer.valueOf(points));
+			addUrlParameter(url, "metric", metric);
+		}
+		return url.toString();
+	}
+
+	/**
+	 * Method to create a {@link TrendQuery} to get the build trend of a job
+	 * 
+	 * @param jobName the name of the job
+	 * @return the {@link TrendQuery}
+	 */
+	public static TrendQuery createForJob(String jobName) {
+		return new TrendQuery(jobName);
+	}
+
+}
@@ -19,11 +19,19 @@
 
 package com.marvelution.hudson.plugins.apiv2.client.unmarshallers;
 
+import java.io.InputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 
+import org.apache.commons.lang.StringUtils;
+
 import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.MediaTypeUtils;
+import com.sun.xml.fastinfoset.stax.StAXDocumentParser;
 
 /**
  * Utility class for getting an {@link Unmarshaller} for a given {@link Model}
@@ -32,6 +40,11 @@ import com.marvelution.hudson.plugins.apiv2.resources.model.Model;
  */
 public final class Unmarshallers {
 
+	private static final ConcurrentMap<Class<? extends Model>, JAXBContext> CONTEXTS =
+		new ConcurrentHashMap<Class<? extends Model>, JAXBContext>();
+
+	private static Boolean fastInfosetSupported;
+
 	/**
 	 * Method to get an {@link Unmarshaller} for the given {@link Model} object
 	 * 
@@ -52,16 +65,60 @@ public final class Unmarshallers {
 	 * @throws JAXBException in case of exceptions
 	 */
 	public static Unmarshaller forModel(Class<? extends Model> model) throws JAXBException {
-		JAXBContext context;
-		try {
-			context = JAXBContext.newInstance(model);
-		} catch (JAXBException e) {
-			// OK there is a class-loader issue
-			// Try loading the JAXBContext using the package name for the Model class
-			// This will use the ObjectFactory class within the package
-			context = JAXBContext.newInstance(model.getPackage().getName(), model.getClassLoader());
+		JAXBContext context = CONTEXTS.get(model);
+		if (context == null) {
+			try {
+				context = JAXBContext.newInstance(model);
+			} catch (JAXBException e) {
+				// OK there is a class-loader issue
+				// Try loading the JAXBContext using the package name for the Model class
+				// This will use the ObjectFactory class within the package
+				context = JAXBContext.newInstance(model.getPackage().getName(), model.getClassLoader());
+			}
+			CONTEXTS.putIfAbsent(model, context);
 		}
 		return context.createUnmarshaller();
 	}
 
+	/**
+	 * Method to unmarshal the given {@link InputStream} to the given {@link Model} {@link Class}.
+	 * The content type is used to select the decoder, {@link MediaTypeUtils#APPLICATION_FASTINFOSET} streams are
+	 * decoded using the Fast Infoset parser, all other streams are considered plain XML.
+	 * 
+	 * @param model the model {@link Class} to unmarshal
+	 * @param stream the {@link InputStream} to unmarshal
+	 * @param contentType the content type of the stream, may be <code>null</code>
+	 * @return the unmarshalled {@link Object}
+	 * @throws JAXBException in case of exceptions
+	 * @since 4.5.0
+	 */
+	public static Object unmarshal(Class<? extends Model> model, InputStream stream, String contentType)
+					throws JAXBException {
+		Unmarshaller unmarshaller = forModel(model);
+		if (StringUtils.startsWithIgnoreCase(StringUtils.trimToEmpty(contentType),
+			MediaTypeUtils.APPLICATION_FASTINFOSET)) {
+			return unmarshaller.unmarshal(new StAXDocumentParser(stream));
+		}
+		return unmarshaller.unmarshal(stream);
+	}
+
+	/**
+	 * Check if the Fast Infoset decoder is available on the class-path
+	 * 
+	 * @return <code>true</code> if Fast Infoset responses can be decoded
+	 * @since 4.5.0
+	 */
+	public static boolean isFastInfosetSupported() {
+		if (fastInfosetSupported == null) {
+			try {
+				Class.forName("com.sun.xml.fastinfoset.stax.StAXDocumentParser", false,
+					Unmarshallers.class.getClassLoader());
+				fastInfosetSupported = Boolean.TRUE;
+			} catch (Throwable e) {
+				fastInfosetSupported = Boolean.FALSE;
+			}
+		}
+		return fastInfosetSupported.booleanValue();
+	}
+
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to Marvelution under one or more contributor license
+ * agreements.  See the NOTICE file distributed with this work
+ * for additional information regarding copyright ownership.
+ * Marvelution licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.marvelution.hudson.plugins.apiv2.client.connectors;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link ConnectorResponse}
+ * 
+ * @author <a href="mailto:markrekveld@marvelution.com">Mark Rekveld</a>
+ *
+ * @since 4.5.0
+ */
+public class ConnectorResponseTest {
+
+	/**
+	 * Test {@link ConnectorResponse#getMultipartResponses()}
+	 * 
+	 * @throws Exception in case of test errors
+	 */
+	@Test
+	public void testGetMultipartResponses() throws Exception {
+		String body = "--batch\r\n"
+			+ "Content-Location: /apiv2/plugin/version\r\n"
+			+ "Status: 200\r\n"
+			+ "Content-Type: application/xml\r\n"
+			+ "Content-Length: 9\r\n"
+			+ "\r\n"
+			+ "<version>\r\n"
+			+ "--batch\r\n"
+			+ "Content-Location: /apiv2/jobs?name=Unknown\r\n"
+			+ "Status: 404\r\n"
+			+ "Content-Length: 0\r\n"
+			+ "\r\n"
+			+ "\r\n"
+			+ "--batch--\r\n";
+		ConnectorResponse response = new ConnectorResponse();
+		response.setContentType("multipart/mixed; boundary=batch");
+		response.setResponseAsStream(new ByteArrayInputStream(body.getBytes("UTF-8")));
+		List<ConnectorResponse> parts = response.getMultipartResponses();
+		assertEquals(2, parts.size());
+		assertEquals(200, parts.get(0).getStatusCode());
+		assertEquals("application/xml", parts.get(0).getContentType());
+		assertEquals("<version>", IOUtils.toString(parts.get(0).getResponseAsStream()));
+		assertEquals(404, parts.get(1).getStatusCode());
+		assertEquals("", IOUtils.toString(parts.get(1).getResponseAsStream()));
+	}
+
+	/**
+	 * Test {@link ConnectorResponse#getMultipartResponses()} on a none multipart response
+	 * 
+	 * @throws Exception in case of test errors
+	 */
+	@Test(expected = ConnectionException.class)
+	public void testGetMultipartResponsesNoMultipart() throws Exception {
+		ConnectorResponse response = new ConnectorResponse();
+		response.setContentType("application/xml");
+		response.setResponseAsStream(new ByteArrayInputStream("<version/>".getBytes("UTF-8")));
+		response.getMultipartResponses();
+	}
+
+}
@@ -21,11 +21,16 @@ package com.marvelution.hudson.plugins.apiv2.client.services;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 
+import com.marvelution.hudson.plugins.apiv2.client.services.SearchQuery.IssueGroupedSearchQuery;
 import com.marvelution.hudson.plugins.apiv2.client.services.SearchQuery.IssueSearchQuery;
+import com.marvelution.hudson.plugins.apiv2.resources.utils.IssueKeysBodyUtils;
 
 /**
  * Testcase for {@link SearchQuery}
@@ -57,4 +62,53 @@ public class SearchQueryTest {
 			query.getUrl());
 	}
 
+	/**
+	 * Test {@link IssueSearchQuery#setSummary(boolean)}
+	 */
+	@Test
+	public void testSummarySearchQuery() {
+		IssueSearchQuery query =
+			SearchQuery.createForIssueSearch(Collections.singletonList("MARVJIRAHUDSON-201")).setSummary(true);
+		assertEquals("/apiv2/search/issues?key[]=MARVJIRAHUDSON-201&summary=true&", query.getUrl());
+	}
+
+	/**
+	 * Test {@link IssueSearchQuery#setLimit(int)} and {@link IssueSearchQuery#setSince(long)}
+	 */
+	@Test
+	public void testLimitedSearchQuery() {
+		IssueSearchQuery query =
+			SearchQuery.createForIssueSearch(Collections.singletonList("MARVJIRAHUDSON")).setLimit(10).setSince(1000L);
+		assertEquals("/apiv2/search/issues?key[]=MARVJIRAHUDSON&limit=10&since=1000&", query.getUrl());
+	}
+
+	/**
+	 * Test that large key sets are POSTed
+	 */
+	@Test
+	public void testPostSearchQuery() {
+		List<String> keys = new ArrayList<String>();
+		for (int number = 1; number <= 2000; number++) {
+			keys.add("MARVJIRAHUDSON-" + number);
+		}
+		IssueSearchQuery query = SearchQuery.createForIssueSearch(keys).setSummary(true);
+		assertEquals(QueryType.POST, query.getQueryType());
+		assertEquals("/apiv2/search/issues?summary=true&", query.getUrl());
+		String data = query.getData();
+		assertTrue(data.startsWith("MARVJIRAHUDSON:"));
+		assertEquals(keys, IssueKeysBodyUtils.decode(data));
+		assertEquals(QueryType.GET, SearchQuery.createForIssueSearch(keys.subList(0, 10)).getQueryType());
+	}
+
+	/**
+	 * Test the grouped by issue search query
+	 */
+	@Test
+	public void testGroupedSearchQuery() {
+		IssueGroupedSearchQuery query = SearchQuery.createForGroupedIssueSearch(Arrays.asList("MARVJIRAHUDSON-1",
+			"MARVJIRAHUDSON-2"), "Test").setSummary(true).setLatestPerJob(true);
+		assertEquals("/apiv2/search/issues/grouped?key[]=MARVJIRAHUDSON-1&key[]=MARVJIRAHUDSON-2&jobname=Test&"
+			+ "summary=true&latestPerJob=true&", query.getUrl());
+	}
+
 }
@@ -90,6 +90,29 @@ public class HudsonServerRestResource {
 		}
 	}
 
+	/**
+	 * Helper method to get the Jobs configured on a {@link HudsonServer} with the given Id of which the name, or one
+	 * of its name segments, starts with the given prefix
+	 * 
+	 * @param serverId the {@link HudsonServer} Id
+	 * @param prefix the Job name prefix
+	 * @param limit the maximum number of Jobs to return
+	 * @return the {@link Jobs}
+	 * @throws ClientException in case of {@link HudsonClient} communication issues
+	 * @since 4.5.0
+	 */
+	@GET
+	@Path("{serverId}/suggestJobs")
+	public Jobs suggestJobs(@PathParam("serverId") Integer serverId, @QueryParam("prefix") String prefix,
+					@QueryParam("limit") @DefaultValue("20") int limit) throws ClientException {
+		if (serverManager.hasServer(serverId)) {
+			final HudsonClient client = clientFactory.create(serverManager.getServer(serverId));
+			return client.findAll(JobQuery.createForJobSuggestions(prefix, limit));
+		} else {
+			throw new NoSuchServerException(serverId);
+		}
+	}
+
 	/**
 	 * Helper method to get the {@link Job} data of a Hudson Job via its {@link HudsonAssociation} Id
 	 * 
@@ -68,6 +68,16 @@ public class QueryWrapper implements Query<WrapperModel> {
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * The wrapped proxy requests are always GET requests without data, so the content type is never sent
+	 */
+	@Override
+	public String getContentType() {
+		return "text/plain";
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
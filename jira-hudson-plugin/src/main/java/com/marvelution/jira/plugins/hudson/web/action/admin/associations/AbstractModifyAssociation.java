@@ -110,13 +110,6 @@ public abstract class AbstractModifyAssociation extends AbstractHudsonProjectAdm
 	 */
 	public abstract Collection<KeyValuePair> getExtraHiddenInput();
 
-	/**
-	 * Getter for the Job Options available on the Hudson Server
-	 * 
-	 * @return the {@link Collection} of {@link String} options
-	 */
-	public abstract Collection<String> getJobOptions();
-
 	/**
 	 * Getter for associationId
 	 * 
@@ -80,12 +80,4 @@ public class AddAssociation extends AbstractModifyAssociation {
 		return null;
 	}
 
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Collection<String> getJobOptions() {
-		return null;
-	}
-
 }
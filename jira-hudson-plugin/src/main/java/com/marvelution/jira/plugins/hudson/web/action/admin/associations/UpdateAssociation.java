@@ -24,13 +24,8 @@ import java.util.Collection;
 
 import org.apache.commons.lang.StringUtils;
 
-import com.marvelution.hudson.plugins.apiv2.client.ClientException;
-import com.marvelution.hudson.plugins.apiv2.client.HudsonClient;
-import com.marvelution.hudson.plugins.apiv2.client.services.JobQuery;
-import com.marvelution.hudson.plugins.apiv2.resources.model.job.Job;
 import com.marvelution.jira.plugins.hudson.services.associations.HudsonAssociation;
 import com.marvelution.jira.plugins.hudson.services.associations.HudsonAssociationManager;
-import com.marvelution.jira.plugins.hudson.services.servers.HudsonClientFactory;
 import com.marvelution.jira.plugins.hudson.services.servers.HudsonServer;
 import com.marvelution.jira.plugins.hudson.services.servers.HudsonServerManager;
 import com.marvelution.jira.plugins.hudson.web.action.admin.KeyValuePair;
@@ -46,7 +41,6 @@ public class UpdateAssociation extends AbstractModifyAssociation {
 
 	private static final long serialVersionUID = 1L;
 
-	private final HudsonClientFactory clientFactory;
 	private HudsonAssociation association;
 	private int associationId;
 
@@ -55,12 +49,9 @@ public class UpdateAssociation extends AbstractModifyAssociation {
 	 * 
 	 * @param serverManager the {@link HudsonServerManager} implementation
 	 * @param associationManager the {@link HudsonAssociationManager} implementation
-	 * @param clientFactory the {@link HudsonClientFactory} implementation
 	 */
-	protected UpdateAssociation(HudsonServerManager serverManager, HudsonAssociationManager associationManager,
-								HudsonClientFactory clientFactory) {
+	protected UpdateAssociation(HudsonServerManager serverManager, HudsonAssociationManager associationManager) {
 		super(serverManager, associationManager);
-		this.clientFactory = clientFactory;
 	}
 
 	/**
@@ -99,24 +90,6 @@ public class UpdateAssociation extends AbstractModifyAssociation {
 		return new ArrayList<KeyValuePair>();
 	}
 
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Collection<String> getJobOptions() {
-		HudsonClient client = clientFactory.create(serverManager.getServer(getHudsonId()));
-		Collection<String> options = new ArrayList<String>();
-		try {
-			for (Job job : client.findAll(JobQuery.createForJobList(true, false))) {
-				options.add(job.getName());
-			}
-		} catch (ClientException e) {
-			// TODO Improve on this
-			options.add(e.getMessage());
-		}
-		return options;
-	}
-
 	/**
 	 * {@inheritDoc}
 	 */